@@ -466,6 +466,13 @@ public final class GeneralTimestamp<C>
 
     }
 
+    @Override
+    public long getLong(ChronoElement<Long> element) {
+
+        return (element.isDateElement() ? this.toDate0().getLong(element) : this.time.getLong(element));
+
+    }
+
     @Override
     public <V> V getMinimum(ChronoElement<V> element) {
 
@@ -153,6 +153,13 @@ final class LongElement
 
     }
 
+    @Override
+    protected boolean isSingleton() {
+
+        return true; // exists only once per name in PlainTime
+
+    }
+
     /**
      * <p>Erzeugt ein neues Uhrzeitelement ohne Formatsymbol. </p>
      *
@@ -40,6 +40,8 @@ import net.time4j.engine.Converter;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FlagElement;
+import net.time4j.engine.IntElementRule;
+import net.time4j.engine.LongElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.ThreetenAdapter;
@@ -2707,7 +2709,7 @@ public final class Moment
     }
 
     private static enum LongElement
-        implements ChronoElement<Long>, ElementRule<Moment, Long> {
+        implements ChronoElement<Long>, LongElementRule<Moment> {
 
         //~ Statische Felder/Initialisierungen ----------------------------
 
@@ -2781,6 +2783,13 @@ public final class Moment
 
         }
 
+        @Override
+        public long getLong(Moment context) {
+
+            return context.getPosixTime();
+
+        }
+
         @Override
         public Long getMinimum(Moment context) {
 
@@ -2801,12 +2810,17 @@ public final class Moment
             Long value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.longValue()));
 
-            long val = value.longValue();
-            return ((val >= MIN_LIMIT) && (val <= MAX_LIMIT));
+        }
+
+        @Override
+        public boolean isValid(
+            Moment context,
+            long value
+        ) {
+
+            return ((value >= MIN_LIMIT) && (value <= MAX_LIMIT));
 
         }
 
@@ -2821,10 +2835,18 @@ public final class Moment
                 throw new IllegalArgumentException("Missing elapsed seconds.");
             }
 
-            return Moment.of(
-                value.longValue(),
-                context.getNanosecond(),
-                TimeScale.POSIX);
+            return this.withValue(context, value.longValue(), lenient);
+
+        }
+
+        @Override
+        public Moment withValue(
+            Moment context,
+            long value,
+            boolean lenient
+        ) {
+
+            return Moment.of(value, context.getNanosecond(), TimeScale.POSIX);
 
         }
 
@@ -2845,7 +2867,7 @@ public final class Moment
     }
 
     private static enum IntElement
-        implements ChronoElement<Integer>, ElementRule<Moment, Integer> {
+        implements ChronoElement<Integer>, IntElementRule<Moment> {
 
         //~ Statische Felder/Initialisierungen ----------------------------
 
@@ -2919,6 +2941,13 @@ public final class Moment
 
         }
 
+        @Override
+        public int getInt(Moment context) {
+
+            return context.getNanosecond();
+
+        }
+
         @Override
         public Integer getMinimum(Moment context) {
 
@@ -2939,12 +2968,17 @@ public final class Moment
             Integer value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
+
+        }
+
+        @Override
+        public boolean isValid(
+            Moment context,
+            int value
+        ) {
 
-            int val = value.intValue();
-            return ((val >= 0) && (val < MRD));
+            return ((value >= 0) && (value < MRD));
 
         }
 
@@ -2959,15 +2993,26 @@ public final class Moment
                 throw new IllegalArgumentException("Missing fraction value.");
             }
 
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
+        @Override
+        public Moment withValue(
+            Moment context,
+            int value,
+            boolean lenient
+        ) {
+
             if (LeapSeconds.getInstance().isEnabled()) {
                 return Moment.of(
                     context.getElapsedTime(TimeScale.UTC),
-                    value.intValue(),
+                    value,
                     TimeScale.UTC);
             } else {
                 return Moment.of(
                     context.getPosixTime(),
-                    value.intValue(),
+                    value,
                     TimeScale.POSIX);
             }
 
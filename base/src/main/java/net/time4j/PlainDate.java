@@ -176,6 +176,36 @@ public final class PlainDate
     static final PlainDate MAX =
         new PlainDate(GregorianMath.MAX_YEAR, 12, 31, Weekday.FRIDAY);
 
+    // optionaler Cache kanonischer Instanzen, lazy gefüllt (null = abgeschaltet)
+    private static final int INTERNED_MIN_YEAR;
+    private static final int INTERNED_MAX_YEAR;
+    private static final PlainDate[] INTERNED;
+
+    static {
+        int years = 0;
+        String property = System.getProperty("net.time4j.cache.dates");
+
+        if (property != null) {
+            try {
+                years = Math.min(Math.max(0, Integer.parseInt(property.trim())), 500);
+            } catch (NumberFormatException nfe) {
+                // use default
+            }
+        }
+
+        if (years > 0) {
+            long mjd = Math.floorDiv(System.currentTimeMillis(), 86400000L) + 40587;
+            int current = GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+            INTERNED_MIN_YEAR = current - years;
+            INTERNED_MAX_YEAR = current + years;
+            INTERNED = new PlainDate[(2 * years + 1) * 372];
+        } else {
+            INTERNED_MIN_YEAR = 0;
+            INTERNED_MAX_YEAR = -1;
+            INTERNED = null;
+        }
+    }
+
     /** Entspricht dem Jahr {@code -999999999}. */
     static final Integer MIN_YEAR =
         Integer.valueOf(GregorianMath.MIN_YEAR);
@@ -1961,7 +1991,7 @@ public final class PlainDate
 
         PlainDate date = (
             (this.weekday == null)
-            ? new PlainDate(this.year, this.month, this.dayOfMonth, old)
+            ? PlainDate.create(this.year, this.month, this.dayOfMonth, old, false)
             : this);
 
         if (old == dayOfWeek) {
@@ -2282,7 +2312,21 @@ public final class PlainDate
             GregorianMath.checkDate(year, month, dayOfMonth);
         }
 
-        // TODO: konfigurierbaren Cache einbauen?
+        if ((year >= INTERNED_MIN_YEAR) && (year <= INTERNED_MAX_YEAR) && (INTERNED != null)) {
+            int index = (year - INTERNED_MIN_YEAR) * 372 + (month - 1) * 31 + dayOfMonth - 1;
+            PlainDate date = INTERNED[index];
+            if (date == null) {
+                // benign race: immutable instances with final fields only
+                Weekday wd = (
+                    (weekday == null)
+                    ? Weekday.valueOf(GregorianMath.getDayOfWeek(year, month, dayOfMonth))
+                    : weekday);
+                date = new PlainDate(year, month, dayOfMonth, wd);
+                INTERNED[index] = date;
+            }
+            return date;
+        }
+
         return new PlainDate(year, month, dayOfMonth, weekday);
 
     }
@@ -37,6 +37,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
 import net.time4j.engine.IntElementRule;
+import net.time4j.engine.LongElementRule;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.ThreetenAdapter;
 import net.time4j.engine.TimeAxis;
@@ -182,6 +183,25 @@ public final class PlainTime
         }
     }
 
+    // optionaler Cache kanonischer Instanzen, lazy gefüllt (null = abgeschaltet)
+    private static final PlainTime[] INTERNED;
+    private static final boolean INTERNED_SECONDS;
+
+    static {
+        String mode = System.getProperty("net.time4j.cache.times", "none").trim();
+
+        if (mode.equals("seconds")) {
+            INTERNED = new PlainTime[86400];
+            INTERNED_SECONDS = true;
+        } else if (mode.equals("minutes")) {
+            INTERNED = new PlainTime[1440];
+            INTERNED_SECONDS = false;
+        } else {
+            INTERNED = null;
+            INTERNED_SECONDS = false;
+        }
+    }
+
     /** Minimalwert. */
     static final PlainTime MIN = HOURS[0];
 
@@ -1001,11 +1021,11 @@ public final class PlainTime
                 ClockUnit.MILLIS)
             .appendElement(
                 MICRO_OF_DAY,
-                new LongElementRule(MICRO_OF_DAY, 0, 86400000000L),
+                new LongValueRule(MICRO_OF_DAY, 0, 86400000000L),
                 ClockUnit.MICROS)
             .appendElement(
                 NANO_OF_DAY,
-                new LongElementRule(NANO_OF_DAY, 0, 86400000000000L),
+                new LongValueRule(NANO_OF_DAY, 0, 86400000000000L),
                 ClockUnit.NANOS)
             .appendElement(
                 DECIMAL_HOUR,
@@ -1045,17 +1065,7 @@ public final class PlainTime
         super();
 
         if (validating) {
-            checkHour(hour);
-            checkMinute(minute);
-            checkSecond(second);
-            checkNano(nanosecond);
-
-            if (
-                (hour == 24)
-                && ((minute | second | nanosecond) != 0)
-            ) {
-                throw new IllegalArgumentException("T24:00:00 exceeded.");
-            }
+            check(hour, minute, second, nanosecond);
         }
 
         this.hour = (byte) hour;
@@ -1181,7 +1191,7 @@ public final class PlainTime
             return PlainTime.of(hour);
         }
 
-        return new PlainTime(hour, minute, 0, 0, true);
+        return PlainTime.of(hour, minute, 0, 0, true);
 
     }
 
@@ -1215,7 +1225,7 @@ public final class PlainTime
             return PlainTime.of(hour);
         }
 
-        return new PlainTime(hour, minute, second, 0, true);
+        return PlainTime.of(hour, minute, second, 0, true);
 
     }
 
@@ -1884,10 +1894,45 @@ public final class PlainTime
             }
         }
 
+        if ((INTERNED != null) && (nanosecond == 0) && (INTERNED_SECONDS || (second == 0))) {
+            if (validating) {
+                check(hour, minute, second, nanosecond);
+            }
+            int index = (INTERNED_SECONDS ? (hour * 3600 + minute * 60 + second) : (hour * 60 + minute));
+            PlainTime time = INTERNED[index];
+            if (time == null) {
+                // benign race: immutable instances with final fields only
+                time = new PlainTime(hour, minute, second, 0, false);
+                INTERNED[index] = time;
+            }
+            return time;
+        }
+
         return new PlainTime(hour, minute, second, nanosecond, validating);
 
     }
 
+    private static void check(
+        int hour,
+        int minute,
+        int second,
+        int nanosecond
+    ) {
+
+        checkHour(hour);
+        checkMinute(minute);
+        checkSecond(second);
+        checkNano(nanosecond);
+
+        if (
+            (hour == 24)
+            && ((minute | second | nanosecond) != 0)
+        ) {
+            throw new IllegalArgumentException("T24:00:00 exceeded.");
+        }
+
+    }
+
     private static void fill(
         Map<String, Object> map,
         ChronoElement<?> element
@@ -2933,8 +2978,8 @@ public final class PlainTime
 
     }
 
-    private static class LongElementRule
-        implements ElementRule<PlainTime, Long> {
+    private static class LongValueRule
+        implements LongElementRule<PlainTime> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -2944,7 +2989,7 @@ public final class PlainTime
 
         //~ Konstruktoren -------------------------------------------------
 
-        LongElementRule(
+        LongValueRule(
             ChronoElement<Long> element,
             long min,
             long max
@@ -2962,16 +3007,19 @@ public final class PlainTime
         @Override
         public Long getValue(PlainTime context) {
 
-            long ret;
+            return Long.valueOf(this.getLong(context));
+
+        }
+
+        @Override
+        public long getLong(PlainTime context) {
 
             if (this.element == MICRO_OF_DAY) {
-                ret = (context.getNanoOfDay() / KILO);
+                return (context.getNanoOfDay() / KILO);
             } else { // NANO_OF_DAY
-                ret = context.getNanoOfDay();
+                return context.getNanoOfDay();
             }
 
-            return Long.valueOf(ret);
-
         }
 
         @Override
@@ -2983,19 +3031,30 @@ public final class PlainTime
 
             if (value == null) {
                 throw new IllegalArgumentException("Missing element value.");
-            } else if (lenient) {
-                return this.withValueInLenientMode(context, value.longValue());
+            }
+
+            return this.withValue(context, value.longValue(), lenient);
+
+        }
+
+        @Override
+        public PlainTime withValue(
+            PlainTime context,
+            long value,
+            boolean lenient
+        ) {
+
+            if (lenient) {
+                return this.withValueInLenientMode(context, value);
             } else if (!this.isValid(context, value)) {
                 throw new IllegalArgumentException(
                     "Value out of range: " + value);
             }
 
-            long v = value.longValue();
-
             if (this.element == MICRO_OF_DAY) {
-                return PlainTime.createFromMicros(v, context.nano % KILO);
+                return PlainTime.createFromMicros(value, context.nano % KILO);
             } else { // NANO_OF_DAY
-                return PlainTime.createFromNanos(v);
+                return PlainTime.createFromNanos(value);
             }
 
         }
@@ -3006,18 +3065,20 @@ public final class PlainTime
             Long value
         ) {
 
-            if (value == null) {
-                return false;
-            } else if (
-                (this.element == MICRO_OF_DAY)
-                && (value.longValue() == this.max)
-            ) {
+            return ((value != null) && this.isValid(context, value.longValue()));
+
+        }
+
+        @Override
+        public boolean isValid(
+            PlainTime context,
+            long value
+        ) {
+
+            if ((this.element == MICRO_OF_DAY) && (value == this.max)) {
                 return ((context.nano % KILO) == 0);
             } else {
-                return (
-                    (this.min <= value.longValue())
-                    && (value.longValue() <= this.max)
-                );
+                return ((this.min <= value) && (value <= this.max));
             }
 
         }
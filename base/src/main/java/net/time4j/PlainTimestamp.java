@@ -38,6 +38,7 @@ import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FlagElement;
 import net.time4j.engine.IntElementRule;
+import net.time4j.engine.LongElementRule;
 import net.time4j.engine.Normalizer;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.ThreetenAdapter;
@@ -350,11 +351,11 @@ public final class PlainTimestamp
                     MILLIS)
                 .appendElement(
                     MICRO_OF_DAY,
-                    FieldRule.of(MICRO_OF_DAY),
+                    new LongFieldRule(MICRO_OF_DAY),
                     MICROS)
                 .appendElement(
                     NANO_OF_DAY,
-                    FieldRule.of(NANO_OF_DAY),
+                    new LongFieldRule(NANO_OF_DAY),
                     NANOS)
                 .appendElement(
                     DECIMAL_HOUR,
@@ -1937,6 +1938,85 @@ public final class PlainTimestamp
 
     }
 
+    private static class LongFieldRule
+        extends FieldRule<Long>
+        implements LongElementRule<PlainTimestamp> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private LongFieldRule(ChronoElement<Long> element) {
+            super(element);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getLong(PlainTimestamp context) {
+
+            if (this.element.isDateElement()) {
+                return context.date.getLong(this.element);
+            } else if (this.element.isTimeElement()) {
+                return context.time.getLong(this.element);
+            }
+
+            throw new ChronoException(
+                "Missing rule for: " + this.element.name());
+
+        }
+
+        @Override
+        public boolean isValid(
+            PlainTimestamp context,
+            long value
+        ) {
+
+            if (this.element.isDateElement()) {
+                return context.date.isValid(this.element, value);
+            } else if (this.element.isTimeElement()) {
+                long min = this.element.getDefaultMinimum().longValue();
+                long max = this.element.getDefaultMaximum().longValue();
+                return ((min <= value) && (max >= value));
+            }
+
+            throw new ChronoException(
+                "Missing rule for: " + this.element.name());
+
+        }
+
+        @Override
+        public PlainTimestamp withValue(
+            PlainTimestamp context,
+            long value,
+            boolean lenient
+        ) {
+
+            if (value == this.getLong(context)) {
+                return context;
+            } else if (lenient) { // nur auf numerischen Elementen definiert
+                IsoUnit unit = ENGINE.getBaseUnit(this.element);
+                long amount = MathUtils.safeSubtract(value, this.getLong(context));
+                return context.plus(amount, unit);
+            } else if (this.element.isDateElement()) {
+                PlainDate date = context.date.with(this.element, value);
+                return PlainTimestamp.of(date, context.time);
+            } else if (this.element.isTimeElement()) {
+                long min = this.element.getDefaultMinimum().longValue();
+                long max = this.element.getDefaultMaximum().longValue();
+                if ((min > value) || (max < value)) {
+                    throw new IllegalArgumentException("Out of range: " + value);
+                }
+                PlainTime time = context.time.with(this.element, value);
+                return PlainTimestamp.of(context.date, time);
+            }
+
+            throw new ChronoException(
+                "Missing rule for: " + this.element.name());
+
+        }
+
+    }
+
     private static class DecimalRule
         extends FieldRule<BigDecimal> {
 
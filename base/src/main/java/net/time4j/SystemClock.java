@@ -31,6 +31,7 @@ import net.time4j.tz.Timezone;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -51,6 +52,13 @@ public final class SystemClock
     private static final int MIO = 1000000;
     private static final int MRD = MIO * 1000;
 
+    private static final int MODE_STANDARD = 0;
+    private static final int MODE_MONOTONIC = 1;
+    private static final int MODE_HIGH_RESOLUTION = 2;
+    private static final int MODE_COARSE = 3;
+
+    private static final Clock PLATFORM_CLOCK = Clock.systemUTC();
+
     private static final TickProvider PROVIDER;
     private static final boolean MONOTON_MODE;
 
@@ -90,7 +98,7 @@ public final class SystemClock
      * f&uuml;r Zeitspr&uuml;nge und manuelle Verstellungen der Betriebssystem-Uhr empfindlich ist, so
      * da&szlig; keine Garantie f&uuml;r eine monoton ablaufende Zeit gegeben werden kann. </p>
      */
-    public static final SystemClock INSTANCE = new SystemClock(false, calibrate());
+    public static final SystemClock INSTANCE = new SystemClock(MODE_STANDARD, calibrate());
 
     /**
      * <p>Monotonic clock based on the best available clock of the underlying operating system. </p>
@@ -116,22 +124,77 @@ public final class SystemClock
      * @see     TickProvider#getNanos()
      * @since   3.2/4.1
      */
-    public static final SystemClock MONOTONIC = new SystemClock(true, calibrate());
+    public static final SystemClock MONOTONIC = new SystemClock(MODE_MONOTONIC, calibrate());
+
+    /**
+     * <p>Wall clock with the full resolution of the platform instant source
+     * {@code java.time.Clock.systemUTC()}. </p>
+     *
+     * <p>In contrast to {@link #INSTANCE} which is limited to milliseconds unless
+     * operated in monotonic mode, this clock delivers microseconds or even nanoseconds
+     * if the platform supports it (Java 9 or later on most operating systems). Like
+     * the standard clock, it is affected by OS-triggered time jumps and user adjustments.
+     * Leap seconds are not counted. </p>
+     *
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Wanduhr mit der vollen Aufl&ouml;sung der Plattform-Zeitquelle
+     * {@code java.time.Clock.systemUTC()}. </p>
+     *
+     * <p>Im Unterschied zu {@link #INSTANCE}, die au&szlig;erhalb des monotonen Modus
+     * auf Millisekunden beschr&auml;nkt ist, liefert diese Uhr Mikrosekunden oder sogar
+     * Nanosekunden, wenn die Plattform das unterst&uuml;tzt (Java 9 oder sp&auml;ter auf den
+     * meisten Betriebssystemen). Wie die Standarduhr ist sie f&uuml;r Zeitspr&uuml;nge und
+     * manuelle Verstellungen der Betriebssystem-Uhr empfindlich. Schaltsekunden werden
+     * nicht gez&auml;hlt. </p>
+     *
+     * @since   5.10
+     */
+    public static final SystemClock HIGH_RESOLUTION = new SystemClock(MODE_HIGH_RESOLUTION, 0L);
+
+    /**
+     * <p>Coarse clock which yields a cached moment updated by a single background thread. </p>
+     *
+     * <p>The current time is queried without any allocation or system call, but it can lag behind
+     * the real time by up to one update period. The background thread is a daemon thread which
+     * is only started when this clock is used for the first time. It reads the platform instant
+     * source in a period given by the system property &quot;net.time4j.systemclock.coarse.period&quot;
+     * in milliseconds (default is {@code 10}). This clock is suitable for time stamps which are
+     * requested very often but do not need high precision. </p>
+     *
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Grobe Uhr, die einen zwischengespeicherten und von einem einzigen Hintergrund-Thread
+     * aktualisierten Moment liefert. </p>
+     *
+     * <p>Die aktuelle Zeit wird ohne jede Objekterzeugung oder Systemaufruf abgefragt, kann aber
+     * der realen Zeit um bis zu eine Aktualisierungsperiode hinterherlaufen. Der Hintergrund-Thread
+     * ist ein D&auml;mon-Thread, der erst bei der ersten Benutzung dieser Uhr gestartet wird. Er liest
+     * die Plattform-Zeitquelle in einer Periode, die mit der System-Property
+     * &quot;net.time4j.systemclock.coarse.period&quot; in Millisekunden festgelegt wird (Vorgabe ist
+     * {@code 10}). Diese Uhr eignet sich f&uuml;r sehr h&auml;ufig abgefragte Zeitstempel, die keine
+     * hohe Genauigkeit brauchen. </p>
+     *
+     * @since   5.10
+     */
+    public static final SystemClock COARSE = new SystemClock(MODE_COARSE, 0L);
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private final boolean monotonic;
+    private final int mode;
     private final long offset;
 
     //~ Konstruktoren -----------------------------------------------------
 
     private SystemClock(
-        boolean monotonic,
+        int mode,
         long offset
     ) {
         super();
 
-        this.monotonic = monotonic;
+        this.mode = mode;
         this.offset = offset;
 
     }
@@ -141,7 +204,11 @@ public final class SystemClock
     @Override
     public Moment currentTime() {
 
-        if ((this.monotonic || MONOTON_MODE) && LeapSeconds.getInstance().isEnabled()) {
+        if (this.mode == MODE_COARSE) {
+            return CoarseTicker.INSTANCE.current;
+        } else if (this.mode == MODE_HIGH_RESOLUTION) {
+            return highResolution();
+        } else if (this.isMonotonic() && LeapSeconds.getInstance().isEnabled()) {
             long nanos = this.utcNanos();
             return Moment.of(Math.floorDiv(nanos, MRD), (int) Math.floorMod(nanos, MRD), TimeScale.UTC);
         } else {
@@ -168,10 +235,13 @@ public final class SystemClock
      */
     public long currentTimeInMillis() {
 
-        if (this.monotonic || MONOTON_MODE) {
+        if (this.mode >= MODE_HIGH_RESOLUTION) {
+            Moment moment = this.currentTime();
+            return Math.multiplyExact(moment.getPosixTime(), 1000) + moment.getNanosecond() / MIO;
+        } else if (this.isMonotonic()) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MIO);
+            return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MRD) / MIO;
         } else {
             return System.currentTimeMillis();
         }
@@ -208,10 +278,13 @@ public final class SystemClock
      */
     public long currentTimeInMicros() {
 
-        if (this.monotonic || MONOTON_MODE) {
+        if (this.mode >= MODE_HIGH_RESOLUTION) {
+            Moment moment = this.currentTime();
+            return Math.multiplyExact(moment.getPosixTime(), MIO) + moment.getNanosecond() / 1000;
+        } else if (this.isMonotonic()) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, 1000);
+            return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, MRD) / 1000;
         } else {
             return Math.multiplyExact(System.currentTimeMillis(), 1000);
         }
@@ -236,7 +309,11 @@ public final class SystemClock
      */
     public long realTimeInMicros() {
 
-        if (this.monotonic || MONOTON_MODE) {
+        if (this.mode >= MODE_HIGH_RESOLUTION) {
+            Moment moment = this.currentTime();
+            long utc = LeapSeconds.getInstance().enhance(moment.getPosixTime());
+            return Math.multiplyExact(utc, MIO) + moment.getNanosecond() / 1000;
+        } else if (this.isMonotonic()) {
             return Math.floorDiv(this.utcNanos(), 1000);
         } else {
             long millis = System.currentTimeMillis();
@@ -421,7 +498,7 @@ public final class SystemClock
      */
     public SystemClock recalibrated() {
 
-        return new SystemClock(this.monotonic, calibrate());
+        return new SystemClock(this.mode, calibrate());
 
     }
 
@@ -458,7 +535,7 @@ public final class SystemClock
         long instantNanos = Math.multiplyExact(utc, MRD) + time.getNanosecond(TimeScale.UTC);
         long newOffset = Math.subtractExact(instantNanos, compare);
 
-        return new SystemClock(this.monotonic, newOffset);
+        return new SystemClock(this.mode, newOffset);
 
     }
 
@@ -477,6 +554,19 @@ public final class SystemClock
 
     }
 
+    private static Moment highResolution() {
+
+        Instant instant = PLATFORM_CLOCK.instant();
+        return Moment.of(instant.getEpochSecond(), instant.getNano(), TimeScale.POSIX);
+
+    }
+
+    private boolean isMonotonic() {
+
+        return ((this.mode == MODE_MONOTONIC) || MONOTON_MODE);
+
+    }
+
     private long utcNanos() {
 
         long nanos = (MONOTON_MODE ? System.nanoTime() : PROVIDER.getNanos());
@@ -486,6 +576,44 @@ public final class SystemClock
 
     //~ Innere Klassen ----------------------------------------------------
 
+    // Lazy-Holder: der Hintergrund-Thread wird erst bei der ersten Benutzung der groben Uhr gestartet
+    private static class CoarseTicker
+        implements Runnable {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long PERIOD =
+            Math.max(1L, Long.getLong("net.time4j.systemclock.coarse.period", 10L));
+        private static final CoarseTicker INSTANCE = new CoarseTicker();
+
+        static {
+            Thread thread = new Thread(INSTANCE, "Time4J-CoarseClock");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private volatile Moment current = highResolution();
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void run() {
+
+            try {
+                while (true) {
+                    TimeUnit.MILLISECONDS.sleep(PERIOD);
+                    this.current = highResolution();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+    }
+
     private static class StdTickProvider
         implements TickProvider {
 
@@ -34,6 +34,7 @@ import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.format.Attributes;
 import net.time4j.format.CalendarText;
 import net.time4j.format.NumericalElement;
@@ -1488,7 +1489,7 @@ public final class Weekmodel
     }
 
     private static class CWRule<T extends ChronoEntity<T>>
-        implements ElementRule<T, Integer> {
+        implements IntElementRule<T> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1543,8 +1544,15 @@ public final class Weekmodel
         @Override
         public Integer getValue(T context) {
 
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(T context) {
+
             PlainDate date = context.get(CALENDAR_DATE);
-            return Integer.valueOf(this.getCalendarWeek(date));
+            return this.getCalendarWeek(date);
 
         }
 
@@ -1554,11 +1562,15 @@ public final class Weekmodel
             Integer value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
 
-            int v = value.intValue();
+        }
+
+        @Override
+        public boolean isValid(
+            T context,
+            int v
+        ) {
 
             if (
                 this.owner.isYearRelated()
@@ -1584,17 +1596,28 @@ public final class Weekmodel
             boolean lenient
         ) {
 
-            PlainDate date = context.get(CALENDAR_DATE);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing element value.");
+            }
+
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
+        @Override
+        public T withValue(
+            T context,
+            int value,
+            boolean lenient
+        ) {
 
-            if ((value == null) || (!lenient && !this.isValid(context, value))) {
+            if (!lenient && !this.isValid(context, value)) {
                 throw new IllegalArgumentException(
                     "Invalid value: " + value + " (context=" + context + ")");
             }
 
-            return context.with(
-                CALENDAR_DATE,
-                this.setCalendarWeek(date, value.intValue())
-            );
+            PlainDate date = context.get(CALENDAR_DATE);
+            return context.with(CALENDAR_DATE, this.setCalendarWeek(date, value));
 
         }
 
@@ -1757,7 +1780,7 @@ public final class Weekmodel
     }
 
     private static class BWRule<T extends ChronoEntity<T>>
-        implements ElementRule<T, Integer> {
+        implements IntElementRule<T> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1777,8 +1800,15 @@ public final class Weekmodel
         @Override
         public Integer getValue(T context) {
 
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(T context) {
+
             PlainDate date = context.get(CALENDAR_DATE);
-            return Integer.valueOf(this.getWeek(date));
+            return this.getWeek(date);
 
         }
 
@@ -1820,7 +1850,7 @@ public final class Weekmodel
             PlainDate date = context.get(CALENDAR_DATE);
             ChronoElement<Weekday> dow =
                 this.owner.getModel().localDayOfWeek();
-            int weeknum = this.getValue(context).intValue();
+            int weeknum = this.getInt(context);
 
             if (ceiling) {
                 if (weeknum >= (this.owner.isYearRelated() ? 52 : 4)) {
@@ -1854,11 +1884,16 @@ public final class Weekmodel
             Integer value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
+
+        }
+
+        @Override
+        public boolean isValid(
+            T context,
+            int v
+        ) {
 
-            int v = value.intValue();
             PlainDate date = context.get(CALENDAR_DATE);
 
             return (
@@ -1875,17 +1910,28 @@ public final class Weekmodel
             boolean lenient
         ) {
 
-            PlainDate date = context.get(CALENDAR_DATE);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing element value.");
+            }
+
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
+        @Override
+        public T withValue(
+            T context,
+            int value,
+            boolean lenient
+        ) {
 
-            if ((value == null) || (!lenient && !this.isValid(context, value))) {
+            if (!lenient && !this.isValid(context, value)) {
                 throw new IllegalArgumentException(
                     "Invalid value: " + value + " (context=" + context + ")");
             }
 
-            return context.with(
-                CALENDAR_DATE,
-                this.setWeek(date, value.intValue())
-            );
+            PlainDate date = context.get(CALENDAR_DATE);
+            return context.with(CALENDAR_DATE, this.setWeek(date, value));
 
         }
 
@@ -327,6 +327,19 @@ public final class ZonalDateTime
 
     }
 
+    @Override
+    public long getLong(ChronoElement<Long> element) {
+
+        long value = this.timestamp.getLong(element);
+
+        if (value == Long.MIN_VALUE) {
+            value = this.moment.getLong(element);
+        }
+
+        return value;
+
+    }
+
     // benutzt in ChronoFormatter/FractionProcessor
     @Override
     public <V> V getMinimum(ChronoElement<V> element) {
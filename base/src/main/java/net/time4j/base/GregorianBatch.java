@@ -0,0 +1,821 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (GregorianBatch.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.base;
+
+
+/**
+ * <p>Converts whole columns of gregorian dates between epoch days and
+ * date fields without creating any date objects. </p>
+ *
+ * <p>All epoch days of this class are counted since the UNIX epoch [1970-01-01]
+ * like {@code EpochDays.UNIX}. Note that the rest of the library mainly uses
+ * the UTC epoch [1972-01-01] instead, for example
+ * {@code PlainDate.axis().getCalendarSystem().transform(long)} or
+ * {@code CalendarDate.getDaysSinceEpochUTC()}. Such UTC epoch days must be
+ * converted by adding {@code 730}, and results must be converted back by
+ * subtracting {@code 730}. </p>
+ *
+ * <p>A packed date is an {@code int} which stores the year in the upper
+ * 23 bits, the month in the next four bits and the day of month in the
+ * lowest five bits, see {@link #packDate(int, int, int)}. Packed dates keep
+ * the chronological order when compared as signed integers, but they are
+ * limited to the years {@link #MIN_PACKED_YEAR} until {@link #MAX_PACKED_YEAR}. </p>
+ *
+ * <p>The bulk methods follow the style of {@code System.arraycopy()}
+ * and work in tight loops on primitive arrays only, using branch-free
+ * integer arithmetic which the JIT-compiler can unroll and partially vectorize.
+ * Invalid input aborts the whole call with an {@code IllegalArgumentException}
+ * which names the failing index. The output array might then be partially
+ * written. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Konvertiert ganze Spalten von gregorianischen Datumsangaben zwischen
+ * Epochentagen und Datumsfeldern, ohne Datumsobjekte zu erzeugen. </p>
+ *
+ * <p>Alle Epochentage dieser Klasse werden wie {@code EpochDays.UNIX} seit der
+ * UNIX-Epoche [1970-01-01] gez&auml;hlt. Der Rest der Bibliothek verwendet
+ * dagegen haupts&auml;chlich die UTC-Epoche [1972-01-01], zum Beispiel
+ * {@code PlainDate.axis().getCalendarSystem().transform(long)} oder
+ * {@code CalendarDate.getDaysSinceEpochUTC()}. Solche UTC-Epochentage
+ * m&uuml;ssen durch Addition von {@code 730} umgerechnet werden, und
+ * Ergebnisse durch Subtraktion von {@code 730} zur&uuml;ck. </p>
+ *
+ * <p>Ein gepacktes Datum ist ein {@code int}, das das Jahr in den oberen
+ * 23 Bits, den Monat in den n&auml;chsten vier Bits und den Tag des Monats
+ * in den untersten f&uuml;nf Bits speichert, siehe {@link #packDate(int, int, int)}.
+ * Gepackte Datumsangaben behalten die chronologische Reihenfolge, wenn sie
+ * als vorzeichenbehaftete Ganzzahlen verglichen werden, sind aber auf die
+ * Jahre {@link #MIN_PACKED_YEAR} bis {@link #MAX_PACKED_YEAR} beschr&auml;nkt. </p>
+ *
+ * <p>Die Massenmethoden folgen dem Stil von {@code System.arraycopy()} und
+ * arbeiten in engen Schleifen nur mit primitiven Arrays, wobei eine
+ * verzweigungsfreie Ganzzahlarithmetik verwendet wird, die der JIT-Compiler
+ * entrollen und teilweise vektorisieren kann. Ung&uuml;ltige Eingaben brechen
+ * den ganzen Aufruf mit einer {@code IllegalArgumentException} ab, die den
+ * fehlerhaften Index nennt. Das Ausgabe-Array kann dann teilweise beschrieben
+ * worden sein. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class GregorianBatch {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Minimum year which can be stored in a packed date (-4194304).
+     */
+    /*[deutsch]
+     * Minimale Jahreszahl, die in einem gepackten Datum gespeichert werden kann (-4194304).
+     */
+    public static final int MIN_PACKED_YEAR = -(1 << 22);
+
+    /**
+     * Maximum year which can be stored in a packed date (4194303).
+     */
+    /*[deutsch]
+     * Maximale Jahreszahl, die in einem gepackten Datum gespeichert werden kann (4194303).
+     */
+    public static final int MAX_PACKED_YEAR = (1 << 22) - 1;
+
+    // Tage zwischen [0000-03-01] und [1970-01-01]
+    private static final long SHIFT = 719468L;
+
+    // Bereichsgrenzen in Epochentagen (UNIX)
+    private static final long MIN_DAYS = daysFromCivil(GregorianMath.MIN_YEAR, 1, 1);
+    private static final long MAX_DAYS = daysFromCivil(GregorianMath.MAX_YEAR, 12, 31);
+    private static final long MIN_PACKED_DAYS = daysFromCivil(MIN_PACKED_YEAR, 1, 1);
+    private static final long MAX_PACKED_DAYS = daysFromCivil(MAX_PACKED_YEAR, 12, 31);
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private GregorianBatch() {
+        // keine Instanzierung
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Packs given date fields into a single {@code int}. </p>
+     *
+     * @param   year        proleptic iso year [{@link #MIN_PACKED_YEAR} - {@link #MAX_PACKED_YEAR}]
+     * @param   month       gregorian month (1-12)
+     * @param   dayOfMonth  day of month (1-31)
+     * @return  packed date
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    /*[deutsch]
+     * <p>Packt die angegebenen Datumsfelder in ein einziges {@code int}. </p>
+     *
+     * @param   year        proleptic iso year [{@link #MIN_PACKED_YEAR} - {@link #MAX_PACKED_YEAR}]
+     * @param   month       gregorian month (1-12)
+     * @param   dayOfMonth  day of month (1-31)
+     * @return  packed date
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    public static int packDate(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        if ((year < MIN_PACKED_YEAR) || (year > MAX_PACKED_YEAR)) {
+            throw new IllegalArgumentException("Year out of packed range: " + year);
+        }
+
+        GregorianMath.checkDate(year, month, dayOfMonth);
+        return pack(year, month, dayOfMonth);
+
+    }
+
+    /**
+     * <p>Returns the year from given packed date. </p>
+     *
+     * @param   packedDate  packed date
+     * @return  proleptic iso year
+     * @see     #packDate(int, int, int)
+     */
+    /*[deutsch]
+     * <p>Liefert das Jahr des angegebenen gepackten Datums. </p>
+     *
+     * @param   packedDate  packed date
+     * @return  proleptic iso year
+     * @see     #packDate(int, int, int)
+     */
+    public static int readYear(int packedDate) {
+
+        return (packedDate >> 9);
+
+    }
+
+    /**
+     * <p>Returns the month from given packed date. </p>
+     *
+     * @param   packedDate  packed date
+     * @return  gregorian month (1-12)
+     * @see     #packDate(int, int, int)
+     */
+    /*[deutsch]
+     * <p>Liefert den Monat des angegebenen gepackten Datums. </p>
+     *
+     * @param   packedDate  packed date
+     * @return  gregorian month (1-12)
+     * @see     #packDate(int, int, int)
+     */
+    public static int readMonth(int packedDate) {
+
+        return ((packedDate >> 5) & 0xF);
+
+    }
+
+    /**
+     * <p>Returns the day of month from given packed date. </p>
+     *
+     * @param   packedDate  packed date
+     * @return  day of month (1-31)
+     * @see     #packDate(int, int, int)
+     */
+    /*[deutsch]
+     * <p>Liefert den Tag des Monats im angegebenen gepackten Datum. </p>
+     *
+     * @param   packedDate  packed date
+     * @return  day of month (1-31)
+     * @see     #packDate(int, int, int)
+     */
+    public static int readDayOfMonth(int packedDate) {
+
+        return (packedDate & 0x1F);
+
+    }
+
+    /**
+     * <p>Converts epoch days to packed dates. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   packedDates target array of packed dates
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of the packed year range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #packDate(int, int, int)
+     */
+    /*[deutsch]
+     * <p>Konvertiert Epochentage zu gepackten Datumsangaben. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   packedDates target array of packed dates
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of the packed year range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #packDate(int, int, int)
+     */
+    public static void toPackedDates(
+        long[] epochDays,
+        int srcPos,
+        int[] packedDates,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, packedDates.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long days = epochDays[srcPos + i];
+            if ((days < MIN_PACKED_DAYS) || (days > MAX_PACKED_DAYS)) {
+                throw outOfRange(srcPos + i, days);
+            }
+            long z = days + SHIFT;
+            long era = Math.floorDiv(z, 146097);
+            int doe = (int) (z - era * 146097);
+            int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+            int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+            int mp = (5 * doy + 2) / 153;
+            int d = doy - (153 * mp + 2) / 5 + 1;
+            int m = (mp < 10) ? mp + 3 : mp - 9;
+            int y = (int) (era * 400) + yoe + ((m <= 2) ? 1 : 0);
+            packedDates[destPos + i] = pack(y, m, d);
+        }
+
+    }
+
+    /**
+     * <p>Converts packed dates to epoch days. </p>
+     *
+     * @param   packedDates source array of packed dates
+     * @param   srcPos      start index in source array
+     * @param   epochDays   target array of days since [1970-01-01]
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any packed date is invalid
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #packDate(int, int, int)
+     */
+    /*[deutsch]
+     * <p>Konvertiert gepackte Datumsangaben zu Epochentagen. </p>
+     *
+     * @param   packedDates source array of packed dates
+     * @param   srcPos      start index in source array
+     * @param   epochDays   target array of days since [1970-01-01]
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any packed date is invalid
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #packDate(int, int, int)
+     */
+    public static void fromPackedDates(
+        int[] packedDates,
+        int srcPos,
+        long[] epochDays,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(packedDates.length, srcPos, epochDays.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            int packed = packedDates[srcPos + i];
+            int y = readYear(packed);
+            int m = readMonth(packed);
+            int d = readDayOfMonth(packed);
+            if ((m < 1) || (m > 12) || (d < 1) || (d > GregorianMath.getLengthOfMonth(y, m))) {
+                throw new IllegalArgumentException(
+                    "Invalid packed date at index " + (srcPos + i) + ": " + Integer.toHexString(packed));
+            }
+            epochDays[destPos + i] = daysFromCivil(y, m, d);
+        }
+
+    }
+
+    /**
+     * <p>Converts separate columns of date fields to epoch days. </p>
+     *
+     * @param   years       source array of proleptic iso years
+     * @param   months      source array of gregorian months (1-12)
+     * @param   daysOfMonth source array of days of month (1-31)
+     * @param   srcPos      start index in all source arrays
+     * @param   epochDays   target array of days since [1970-01-01]
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any date is invalid
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    /*[deutsch]
+     * <p>Konvertiert getrennte Spalten von Datumsfeldern zu Epochentagen. </p>
+     *
+     * @param   years       source array of proleptic iso years
+     * @param   months      source array of gregorian months (1-12)
+     * @param   daysOfMonth source array of days of month (1-31)
+     * @param   srcPos      start index in all source arrays
+     * @param   epochDays   target array of days since [1970-01-01]
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any date is invalid
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    public static void toEpochDays(
+        int[] years,
+        int[] months,
+        int[] daysOfMonth,
+        int srcPos,
+        long[] epochDays,
+        int destPos,
+        int length
+    ) {
+
+        int srcLen = Math.min(years.length, Math.min(months.length, daysOfMonth.length));
+        checkBounds(srcLen, srcPos, epochDays.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            int y = years[srcPos + i];
+            int m = months[srcPos + i];
+            int d = daysOfMonth[srcPos + i];
+            if (!GregorianMath.isValid(y, m, d)) {
+                throw new IllegalArgumentException(
+                    "Invalid date at index " + (srcPos + i) + ": " + y + "-" + m + "-" + d);
+            }
+            epochDays[destPos + i] = daysFromCivil(y, m, d);
+        }
+
+    }
+
+    /**
+     * <p>Extracts the proleptic iso years from given epoch days. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   years       target array of proleptic iso years
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die proleptischen ISO-Jahre der angegebenen Epochentage. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   years       target array of proleptic iso years
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    public static void extractYears(
+        long[] epochDays,
+        int srcPos,
+        int[] years,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, years.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long days = epochDays[srcPos + i];
+            if ((days < MIN_DAYS) || (days > MAX_DAYS)) {
+                throw outOfRange(srcPos + i, days);
+            }
+            long z = days + SHIFT;
+            long era = Math.floorDiv(z, 146097);
+            int doe = (int) (z - era * 146097);
+            int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+            int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+            years[destPos + i] = (int) (era * 400) + yoe + ((doy >= 306) ? 1 : 0);
+        }
+
+    }
+
+    /**
+     * <p>Extracts the gregorian months (1-12) from given epoch days. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   months      target array of gregorian months
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die gregorianischen Monate (1-12) der angegebenen Epochentage. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   months      target array of gregorian months
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    public static void extractMonths(
+        long[] epochDays,
+        int srcPos,
+        int[] months,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, months.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long days = epochDays[srcPos + i];
+            if ((days < MIN_DAYS) || (days > MAX_DAYS)) {
+                throw outOfRange(srcPos + i, days);
+            }
+            int doy = marchDayOfYear(days);
+            int mp = (5 * doy + 2) / 153;
+            months[destPos + i] = (mp < 10) ? mp + 3 : mp - 9;
+        }
+
+    }
+
+    /**
+     * <p>Extracts the days of month (1-31) from given epoch days. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   daysOfMonth target array of days of month
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Tage des Monats (1-31) der angegebenen Epochentage. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   daysOfMonth target array of days of month
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    public static void extractDaysOfMonth(
+        long[] epochDays,
+        int srcPos,
+        int[] daysOfMonth,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, daysOfMonth.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long days = epochDays[srcPos + i];
+            if ((days < MIN_DAYS) || (days > MAX_DAYS)) {
+                throw outOfRange(srcPos + i, days);
+            }
+            int doy = marchDayOfYear(days);
+            int mp = (5 * doy + 2) / 153;
+            daysOfMonth[destPos + i] = doy - (153 * mp + 2) / 5 + 1;
+        }
+
+    }
+
+    /**
+     * <p>Extracts the quarters of year (1-4) from given epoch days. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   quarters    target array of quarters of year
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Quartale (1-4) der angegebenen Epochentage. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   quarters    target array of quarters of year
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    public static void extractQuarters(
+        long[] epochDays,
+        int srcPos,
+        int[] quarters,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, quarters.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long days = epochDays[srcPos + i];
+            if ((days < MIN_DAYS) || (days > MAX_DAYS)) {
+                throw outOfRange(srcPos + i, days);
+            }
+            int doy = marchDayOfYear(days);
+            int mp = (5 * doy + 2) / 153;
+            int m = (mp < 10) ? mp + 3 : mp - 9;
+            quarters[destPos + i] = (m + 2) / 3;
+        }
+
+    }
+
+    /**
+     * <p>Extracts the days of year (1-366) from given epoch days. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   daysOfYear  target array of days of year
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Tage des Jahres (1-366) der angegebenen Epochentage. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   daysOfYear  target array of days of year
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    public static void extractDaysOfYear(
+        long[] epochDays,
+        int srcPos,
+        int[] daysOfYear,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, daysOfYear.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long days = epochDays[srcPos + i];
+            if ((days < MIN_DAYS) || (days > MAX_DAYS)) {
+                throw outOfRange(srcPos + i, days);
+            }
+            daysOfYear[destPos + i] = dayOfYear(days);
+        }
+
+    }
+
+    /**
+     * <p>Extracts the days of week from given epoch days. </p>
+     *
+     * <p>The result is based on ISO-8601 and counts from monday (1) until
+     * sunday (7), in the same way as {@link GregorianMath#getDayOfWeek(int, int, int)}. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   daysOfWeek  target array of days of week (monday = 1, ..., sunday = 7)
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Tage der Woche der angegebenen Epochentage. </p>
+     *
+     * <p>Das Ergebnis basiert auf ISO-8601 und z&auml;hlt vom Montag (1) bis
+     * zum Sonntag (7), genauso wie {@link GregorianMath#getDayOfWeek(int, int, int)}. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   daysOfWeek  target array of days of week (monday = 1, ..., sunday = 7)
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     */
+    public static void extractDaysOfWeek(
+        long[] epochDays,
+        int srcPos,
+        int[] daysOfWeek,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, daysOfWeek.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            daysOfWeek[destPos + i] = dayOfWeek(epochDays[srcPos + i]);
+        }
+
+    }
+
+    /**
+     * <p>Extracts the ISO-8601 weeks of week-based-year (1-53) from given epoch days. </p>
+     *
+     * <p>The first week of a week-based-year is the week which contains the
+     * first thursday of the calendar year. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   weeks       target array of iso weeks
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #extractWeekBasedYears(long[], int, int[], int, int)
+     */
+    /*[deutsch]
+     * <p>Ermittelt die ISO-8601-Kalenderwochen (1-53) der angegebenen Epochentage. </p>
+     *
+     * <p>Die erste Woche eines wochenbasierten Jahres ist die Woche, die den
+     * ersten Donnerstag des Kalenderjahres enth&auml;lt. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   weeks       target array of iso weeks
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #extractWeekBasedYears(long[], int, int[], int, int)
+     */
+    public static void extractIsoWeeks(
+        long[] epochDays,
+        int srcPos,
+        int[] weeks,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, weeks.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long days = epochDays[srcPos + i];
+            if ((days < MIN_DAYS + 3) || (days > MAX_DAYS - 3)) {
+                throw outOfRange(srcPos + i, days);
+            }
+            // der Donnerstag der gleichen Woche bestimmt Jahr und Woche
+            long thursday = days - dayOfWeek(days) + 4;
+            weeks[destPos + i] = (dayOfYear(thursday) + 6) / 7;
+        }
+
+    }
+
+    /**
+     * <p>Extracts the ISO-8601 week-based-years from given epoch days. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   years       target array of week-based-years
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #extractIsoWeeks(long[], int, int[], int, int)
+     */
+    /*[deutsch]
+     * <p>Ermittelt die wochenbasierten Jahre nach ISO-8601 der angegebenen Epochentage. </p>
+     *
+     * @param   epochDays   source array of days since [1970-01-01]
+     * @param   srcPos      start index in source array
+     * @param   years       target array of week-based-years
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @throws  IllegalArgumentException if any epoch day is out of range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #extractIsoWeeks(long[], int, int[], int, int)
+     */
+    public static void extractWeekBasedYears(
+        long[] epochDays,
+        int srcPos,
+        int[] years,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(epochDays.length, srcPos, years.length, destPos, length);
+
+        for (int i = 0; i < length; i++) {
+            long days = epochDays[srcPos + i];
+            if ((days < MIN_DAYS + 3) || (days > MAX_DAYS - 3)) {
+                throw outOfRange(srcPos + i, days);
+            }
+            long thursday = days - dayOfWeek(days) + 4;
+            long z = thursday + SHIFT;
+            long era = Math.floorDiv(z, 146097);
+            int doe = (int) (z - era * 146097);
+            int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+            int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+            years[destPos + i] = (int) (era * 400) + yoe + ((doy >= 306) ? 1 : 0);
+        }
+
+    }
+
+    // Epochentage seit [1970-01-01] nach dem Algorithmus von Howard Hinnant
+    private static long daysFromCivil(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        long y = (month <= 2) ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        int yoe = (int) (y - era * 400);
+        int doy = (153 * ((month > 2) ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - SHIFT;
+
+    }
+
+    // Tag des mit dem ersten März beginnenden Jahres (0-365)
+    private static int marchDayOfYear(long days) {
+
+        long z = days + SHIFT;
+        long era = Math.floorDiv(z, 146097);
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        return doe - (365 * yoe + yoe / 4 - yoe / 100);
+
+    }
+
+    // Tag des Kalenderjahres (1-366)
+    private static int dayOfYear(long days) {
+
+        long z = days + SHIFT;
+        long era = Math.floorDiv(z, 146097);
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+
+        if (doy >= 306) { // Januar oder Februar des Folgejahres
+            return doy - 305;
+        }
+
+        // Kalenderjahr (era * 400 + yoe) mit dem Schalttag vor dem März
+        int leap = (((yoe & 3) == 0) && (((yoe % 100) != 0) || (yoe == 0))) ? 1 : 0;
+        return doy + 60 + leap;
+
+    }
+
+    // ISO-Wochentag (1-7), [1970-01-01] war ein Donnerstag
+    private static int dayOfWeek(long days) {
+
+        return (int) Math.floorMod(days + 3, 7L) + 1;
+
+    }
+
+    private static int pack(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return (year << 9) | (month << 5) | dayOfMonth;
+
+    }
+
+    private static IllegalArgumentException outOfRange(
+        int index,
+        long days
+    ) {
+
+        return new IllegalArgumentException("Epoch day out of range at index " + index + ": " + days);
+
+    }
+
+    private static void checkBounds(
+        int srcLength,
+        int srcPos,
+        int destLength,
+        int destPos,
+        int length
+    ) {
+
+        if ((length < 0) || (srcPos < 0) || (destPos < 0) || (srcPos > srcLength - length)
+            || (destPos > destLength - length)) {
+            throw new IndexOutOfBoundsException(
+                "Source: [" + srcPos + "," + length + "/" + srcLength + "], target: ["
+                + destPos + "," + length + "/" + destLength + "]");
+        }
+
+    }
+
+}
@@ -34,6 +34,7 @@ import net.time4j.tz.ZoneNameProvider;
 import net.time4j.tz.spi.MilZoneProviderSPI;
 import net.time4j.tz.spi.WinZoneProviderSPI;
 import net.time4j.tz.spi.ZoneNameProviderSPI;
+import net.time4j.tz.threeten.CompiledZoneProviderSPI;
 import net.time4j.tz.threeten.JdkZoneProviderSPI;
 
 import java.io.FileNotFoundException;
@@ -501,7 +502,11 @@ public abstract class ResourceLoader {
                 Arrays.asList(IsoTextProviderSPI.SINGLETON, new GenericTextProviderSPI()));
             map.put(
                 ZoneModelProvider.class,
-                Arrays.asList(new JdkZoneProviderSPI(), new WinZoneProviderSPI(), new MilZoneProviderSPI()));
+                Arrays.asList(
+                    new JdkZoneProviderSPI(),
+                    new CompiledZoneProviderSPI(),
+                    new WinZoneProviderSPI(),
+                    new MilZoneProviderSPI()));
             map.put(
                 ZoneNameProvider.class,
                 Collections.singletonList(new ZoneNameProviderSPI()));
@@ -40,6 +40,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.format.internal.FormatUtils;
 
 import java.io.ObjectStreamException;
@@ -562,7 +563,7 @@ public class CommonElements {
     }
 
     private static class CWRule<D extends ChronoEntity<D>>
-        implements ElementRule<D, Integer> {
+        implements IntElementRule<D> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -582,7 +583,14 @@ public class CommonElements {
         @Override
         public Integer getValue(D context) {
 
-            return Integer.valueOf(this.getCalendarWeek(context));
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(D context) {
+
+            return this.getCalendarWeek(context);
 
         }
 
@@ -606,12 +614,17 @@ public class CommonElements {
             Integer value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
 
-            int v = value.intValue();
-            return ((v >= 1) && (v <= this.getMaxCalendarWeek(context)));
+        }
+
+        @Override
+        public boolean isValid(
+            D context,
+            int value
+        ) {
+
+            return ((value >= 1) && (value <= this.getMaxCalendarWeek(context)));
 
         }
 
@@ -622,14 +635,23 @@ public class CommonElements {
             boolean lenient
         ) {
 
-            int v = value.intValue();
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
+        @Override
+        public D withValue(
+            D context,
+            int value,
+            boolean lenient
+        ) {
 
             if (!lenient && !this.isValid(context, value)) {
                 throw new IllegalArgumentException(
-                    "Invalid value: " + v + " (context=" + context + ")");
+                    "Invalid value: " + value + " (context=" + context + ")");
             }
 
-            return this.setCalendarWeek(context, v);
+            return this.setCalendarWeek(context, value);
 
         }
 
@@ -659,7 +681,7 @@ public class CommonElements {
                 if (wNext <= scaledDay) { // reference date points to next week cycle
                     try {
                         int wStart = getFirstCalendarWeekAsDay(context, 1);
-                        D corrected = context.with(EpochDays.UTC, context.get(EpochDays.UTC).longValue() + 7);
+                        D corrected = context.with(EpochDays.UTC, context.getLong(EpochDays.UTC) + 7);
                         wNext = getFirstCalendarWeekAsDay(corrected, 1) + getLengthOfYM(context, 1);
                         wCurrent = wStart;
                     } catch (RuntimeException re) {
@@ -705,14 +727,14 @@ public class CommonElements {
 
             switch (shift) {
                 case -1:
-                    long utcDays = context.get(EpochDays.UTC) - scaledDay;
+                    long utcDays = context.getLong(EpochDays.UTC) - scaledDay;
                     lastDay = context.with(EpochDays.UTC, utcDays).getInt(this.owner.dayElement);
                     return getDayOfWeek(utcDays - lastDay + 1);
                 case 0:
-                    return getDayOfWeek(context.get(EpochDays.UTC).longValue() - scaledDay + 1);
+                    return getDayOfWeek(context.getLong(EpochDays.UTC) - scaledDay + 1);
                 case 1:
                     lastDay = getMax(this.owner.dayElement, context);
-                    return getDayOfWeek(context.get(EpochDays.UTC).longValue() + lastDay + 1 - scaledDay);
+                    return getDayOfWeek(context.getLong(EpochDays.UTC) + lastDay + 1 - scaledDay);
                 default:
                     throw new AssertionError("Unexpected: " + shift);
             }
@@ -732,14 +754,14 @@ public class CommonElements {
                 case -1:
                     return getMax(
                         this.owner.dayElement,
-                        context.with(EpochDays.UTC, context.get(EpochDays.UTC).longValue() - scaledDay));
+                        context.with(EpochDays.UTC, context.getLong(EpochDays.UTC) - scaledDay));
                 case 0:
                     return getMax(this.owner.dayElement, context);
                 case 1:
                     lastDay = getMax(this.owner.dayElement, context);
                     return getMax(
                         this.owner.dayElement,
-                        context.with(EpochDays.UTC, context.get(EpochDays.UTC).longValue() + lastDay + 1 - scaledDay));
+                        context.with(EpochDays.UTC, context.getLong(EpochDays.UTC) + lastDay + 1 - scaledDay));
                 default:
                     throw new AssertionError("Unexpected: " + shift);
             }
@@ -776,7 +798,7 @@ public class CommonElements {
             if (value == old) {
                 return context;
             } else {
-                return context.with(EpochDays.UTC, context.get(EpochDays.UTC).longValue() + 7 * (value - old));
+                return context.with(EpochDays.UTC, context.getLong(EpochDays.UTC) + 7 * (value - old));
             }
 
         }
@@ -784,7 +806,7 @@ public class CommonElements {
     }
 
     private static class BWRule<D extends ChronoEntity<D>>
-        implements ElementRule<D, Integer> {
+        implements IntElementRule<D> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -804,7 +826,14 @@ public class CommonElements {
         @Override
         public Integer getValue(D context) {
 
-            return Integer.valueOf(this.getWeek(context));
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(D context) {
+
+            return this.getWeek(context);
 
         }
 
@@ -843,18 +872,18 @@ public class CommonElements {
 
             ChronoElement<Weekday> dow = new DayOfWeekElement<>(context.getClass(), this.owner.model);
             int weeknum = this.getWeek(context);
-            long utc = context.get(EpochDays.UTC).longValue();
+            long utc = context.getLong(EpochDays.UTC);
             int daynum = context.getInt(this.owner.dayElement);
 
             if (ceiling) {
                 D max = context.with(dow, context.getMaximum(dow));
-                long delta = max.get(EpochDays.UTC).longValue() - utc;
+                long delta = max.getLong(EpochDays.UTC) - utc;
                 if (context.getMaximum(this.owner.dayElement).intValue() < daynum + delta) {
                     return this.owner.dayElement;
                 }
             } else if (weeknum <= 1) {
                 D min = context.with(dow, context.getMinimum(dow));
-                long delta = utc - min.get(EpochDays.UTC).longValue();
+                long delta = utc - min.getLong(EpochDays.UTC);
                 if (context.getMinimum(this.owner.dayElement).intValue() > daynum - delta) {
                     return this.owner.dayElement;
                 }
@@ -870,28 +899,49 @@ public class CommonElements {
             Integer value
         ) {
 
+            return ((value != null) && this.isValid(context, value.intValue()));
+
+        }
+
+        @Override
+        public boolean isValid(
+            D context,
+            int value
+        ) {
+
+            return ((value >= this.getMinWeek(context)) && (value <= this.getMaxWeek(context)));
+
+        }
+
+        @Override
+        public D withValue(
+            D context,
+            Integer value,
+            boolean lenient
+        ) {
+
             if (value == null) {
-                return false;
+                throw new IllegalArgumentException(
+                    "Invalid value: " + value + " (context=" + context + ")");
             }
 
-            int v = value.intValue();
-            return ((v >= this.getMinWeek(context)) && (v <= this.getMaxWeek(context)));
+            return this.withValue(context, value.intValue(), lenient);
 
         }
 
         @Override
         public D withValue(
             D context,
-            Integer value,
+            int value,
             boolean lenient
         ) {
 
-            if ((value == null) || (!lenient && !this.isValid(context, value))) {
+            if (!lenient && !this.isValid(context, value)) {
                 throw new IllegalArgumentException(
                     "Invalid value: " + value + " (context=" + context + ")");
             }
 
-            return this.setWeek(context, value.intValue());
+            return this.setWeek(context, value);
 
         }
 
@@ -919,7 +969,7 @@ public class CommonElements {
         ) {
 
             int scaledDay = context.getInt(this.owner.dayElement);
-            Weekday wd = getDayOfWeek(context.get(EpochDays.UTC).longValue() - scaledDay + 1);
+            Weekday wd = getDayOfWeek(context.getLong(EpochDays.UTC) - scaledDay + 1);
             int dow = wd.getValue(this.owner.model);
 
             int wstart = (
@@ -959,7 +1009,7 @@ public class CommonElements {
                 return context;
             } else {
                 int delta = 7 * (value - old);
-                return context.with(EpochDays.UTC, context.get(EpochDays.UTC).longValue() + delta);
+                return context.with(EpochDays.UTC, context.getLong(EpochDays.UTC) + delta);
             }
 
         }
@@ -1101,7 +1151,7 @@ public class CommonElements {
         @Override
         public Weekday getValue(T context) {
 
-            return getDayOfWeek(context.get(EpochDays.UTC).longValue());
+            return getDayOfWeek(context.getLong(EpochDays.UTC));
 
         }
 
@@ -1117,7 +1167,7 @@ public class CommonElements {
                 min = c.getCalendarSystem().getMinimumSinceUTC();
             }
 
-            long utcDays = context.get(EpochDays.UTC).longValue();
+            long utcDays = context.getLong(EpochDays.UTC);
             int oldNum = getDayOfWeek(utcDays).getValue(this.element.model);
 
             if (utcDays + 1 - oldNum < min) {
@@ -1140,7 +1190,7 @@ public class CommonElements {
                 max = c.getCalendarSystem().getMaximumSinceUTC();
             }
 
-            long utcDays = context.get(EpochDays.UTC).longValue();
+            long utcDays = context.getLong(EpochDays.UTC);
             int oldNum = getDayOfWeek(utcDays).getValue(this.element.model);
 
             if (utcDays + 7 - oldNum > max) {
@@ -1177,7 +1227,7 @@ public class CommonElements {
             boolean lenient
         ) {
 
-            long utcDays = context.get(EpochDays.UTC).longValue();
+            long utcDays = context.getLong(EpochDays.UTC);
             Weekday current = getDayOfWeek(utcDays);
 
             if (value == current) {
@@ -48,6 +48,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -1075,7 +1076,7 @@ public final class CopticCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<CopticCalendar, Integer> {
+        implements IntElementRule<CopticCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1093,7 +1094,7 @@ public final class CopticCalendar
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public Integer getValue(CopticCalendar context) {
+        public int getInt(CopticCalendar context) {
 
             switch (this.index) {
                 case YEAR_INDEX:
@@ -1113,55 +1114,29 @@ public final class CopticCalendar
         }
 
         @Override
-        public Integer getMinimum(CopticCalendar context) {
+        public boolean isValid(
+            CopticCalendar context,
+            Integer value
+        ) {
 
-            switch (this.index) {
-                case YEAR_INDEX:
-                case DAY_OF_MONTH_INDEX:
-                case DAY_OF_YEAR_INDEX:
-                    return Integer.valueOf(1);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
-
-        }
-
-        @Override
-        public Integer getMaximum(CopticCalendar context) {
-
-            switch (this.index) {
-                case YEAR_INDEX:
-                    return 9999;
-                case DAY_OF_MONTH_INDEX:
-                    return CALSYS.getLengthOfMonth(CopticEra.ANNO_MARTYRUM, context.cyear, context.cmonth);
-                case DAY_OF_YEAR_INDEX:
-                    return CALSYS.getLengthOfYear(CopticEra.ANNO_MARTYRUM, context.cyear);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
 
         }
 
         @Override
         public boolean isValid(
             CopticCalendar context,
-            Integer value
+            int value
         ) {
 
-            if (value == null) {
-                return false;
-            }
-
-            Integer min = this.getMinimum(context);
-            Integer max = this.getMaximum(context);
-            return ((min.compareTo(value) <= 0) && (max.compareTo(value) >= 0));
+            return ((this.getMin(context) <= value) && (this.getMax(context) >= value));
 
         }
 
         @Override
         public CopticCalendar withValue(
             CopticCalendar context,
-            Integer value,
+            int value,
             boolean lenient
         ) {
 
@@ -1171,14 +1146,14 @@ public final class CopticCalendar
 
             switch (this.index) {
                 case YEAR_INDEX:
-                    int y = value.intValue();
+                    int y = value;
                     int dmax = CALSYS.getLengthOfMonth(CopticEra.ANNO_MARTYRUM, y, context.cmonth);
                     int d = Math.min(context.cdom, dmax);
                     return CopticCalendar.of(y, context.cmonth, d);
                 case DAY_OF_MONTH_INDEX:
-                    return new CopticCalendar(context.cyear, context.cmonth, value.intValue());
+                    return new CopticCalendar(context.cyear, context.cmonth, value);
                 case DAY_OF_YEAR_INDEX:
-                    int delta = value.intValue() - this.getValue(context).intValue();
+                    int delta = value - this.getInt(context);
                     return context.plus(CalendarDays.of(delta));
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
@@ -1186,6 +1161,42 @@ public final class CopticCalendar
 
         }
 
+        @Override
+        public Integer getValue(CopticCalendar context) {
+
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public Integer getMinimum(CopticCalendar context) {
+
+            return Integer.valueOf(this.getMin(context));
+
+        }
+
+        @Override
+        public Integer getMaximum(CopticCalendar context) {
+
+            return Integer.valueOf(this.getMax(context));
+
+        }
+
+        @Override
+        public CopticCalendar withValue(
+            CopticCalendar context,
+            Integer value,
+            boolean lenient
+        ) {
+
+            if (value == null) {
+                throw new IllegalArgumentException("Missing element value.");
+            }
+
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
         @Override
         public ChronoElement<?> getChildAtFloor(CopticCalendar context) {
 
@@ -1208,6 +1219,34 @@ public final class CopticCalendar
 
         }
 
+        private int getMin(CopticCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                case DAY_OF_MONTH_INDEX:
+                case DAY_OF_YEAR_INDEX:
+                    return 1;
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
+        private int getMax(CopticCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                    return 9999;
+                case DAY_OF_MONTH_INDEX:
+                    return CALSYS.getLengthOfMonth(CopticEra.ANNO_MARTYRUM, context.cyear, context.cmonth);
+                case DAY_OF_YEAR_INDEX:
+                    return CALSYS.getLengthOfYear(CopticEra.ANNO_MARTYRUM, context.cyear);
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
     }
 
     private static class MonthRule
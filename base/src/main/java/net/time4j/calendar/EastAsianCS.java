@@ -23,13 +23,13 @@ package net.time4j.calendar;
 
 import net.time4j.Moment;
 import net.time4j.PlainDate;
-import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.calendar.astro.JulianDay;
-import net.time4j.calendar.astro.MoonPhase;
 import net.time4j.engine.CalendarSystem;
 import net.time4j.engine.EpochDays;
 import net.time4j.tz.ZonalOffset;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 
 /**
  * The heart of Chinese calendar.
@@ -50,6 +50,15 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     static final double MEAN_SYNODIC_MONTH = 29.530588861;
     static final double MEAN_TROPICAL_YEAR = 365.242189;
 
+    private static final int BLOCK_SHIFT = 9; // 512 days per block of major solar terms
+    private static final long MIN_TERM_DAY = CALENDAR_REFORM_1645 - 1024;
+    private static final int TERM_BLOCKS = (int) ((MAX_LIMIT + 1024 - MIN_TERM_DAY) >> BLOCK_SHIFT) + 1;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    // lazily filled table of major solar term indices (plus one) at local midnight, zero means unknown
+    private final AtomicReferenceArray<byte[]> majorSolarTerms = new AtomicReferenceArray<>(TERM_BLOCKS);
+
     //~ Methoden ----------------------------------------------------------
 
     @Override
@@ -213,16 +222,14 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     // leap months have no major solar terms
     final boolean hasNoMajorSolarTerm(long utcDays) {
-        double jd0 = JulianDay.ofEphemerisTime(this.midnight(utcDays)).getValue();
-        int index0 = (2 + (int) Math.floor(SolarTerm.solarLongitude(jd0) / 30)) % 12;
-        double jd1 = JulianDay.ofEphemerisTime(this.midnight(this.newMoonOnOrAfter(utcDays + 1))).getValue();
-        int index1 = (2 + (int) Math.floor(SolarTerm.solarLongitude(jd1) / 30)) % 12;
+        int index0 = this.majorSolarTermIndex(utcDays);
+        int index1 = this.majorSolarTermIndex(this.newMoonOnOrAfter(utcDays + 1));
         return (index0 == index1);
     }
 
     // result in utc-days
     final long newMoonOnOrAfter(long utcDays) {
-        Moment m = MoonPhase.NEW_MOON.atOrAfter(this.midnight(utcDays));
+        Moment m = EastAsianTables.newMoonAtOrAfter(this.midnight(utcDays));
         return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
     }
 
@@ -233,10 +240,42 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     // result in utc-days
     private long newMoonBefore(long utcDays) {
-        Moment m = MoonPhase.NEW_MOON.before(this.midnight(utcDays));
+        Moment m = EastAsianTables.newMoonBefore(this.midnight(utcDays));
         return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
     }
 
+    // index of major solar term at local midnight in range 0-11, cached per calendar because of local offsets
+    private int majorSolarTermIndex(long utcDays) {
+        long pos = utcDays - MIN_TERM_DAY;
+        int block = (int) (pos >> BLOCK_SHIFT);
+
+        if ((pos < 0) || (block >= TERM_BLOCKS)) {
+            return calculateMajorSolarTermIndex(utcDays);
+        }
+
+        byte[] indices = this.majorSolarTerms.get(block);
+
+        if (indices == null) {
+            this.majorSolarTerms.compareAndSet(block, null, new byte[1 << BLOCK_SHIFT]);
+            indices = this.majorSolarTerms.get(block);
+        }
+
+        int offset = (int) (pos & ((1 << BLOCK_SHIFT) - 1));
+        int index = indices[offset] - 1;
+
+        if (index == -1) {
+            index = calculateMajorSolarTermIndex(utcDays);
+            indices[offset] = (byte) (index + 1); // concurrent calculations yield the same result
+        }
+
+        return index;
+    }
+
+    private int calculateMajorSolarTermIndex(long utcDays) {
+        double jd = JulianDay.ofEphemerisTime(this.midnight(utcDays)).getValue();
+        return (2 + (int) Math.floor(SolarTerm.solarLongitude(jd) / 30)) % 12;
+    }
+
     // count of lunations between m1 and m2
     private static long lunations(long m1, long m2) {
         return Math.round((m2 - m1) / MEAN_SYNODIC_MONTH);
@@ -296,10 +335,10 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         ZonalOffset offset = this.getOffset(utcDays);
         PlainDate date = PlainDate.of(utcDays, EpochDays.UTC);
         int year = (((date.getMonth() <= 11) || (date.getDayOfMonth() <= 15)) ? date.getYear() - 1 : date.getYear());
-        Moment winter = AstronomicalSeason.WINTER_SOLSTICE.inYear(year);
+        Moment winter = EastAsianTables.winterSolstice(year);
         PlainDate d = winter.toZonalTimestamp(offset).getCalendarDate();
         if (d.isAfter(date)) {
-            winter = AstronomicalSeason.WINTER_SOLSTICE.inYear(year - 1);
+            winter = EastAsianTables.winterSolstice(year - 1);
             d = winter.toZonalTimestamp(offset).getCalendarDate();
         }
         return d.getDaysSinceEpochUTC();
@@ -0,0 +1,164 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EastAsianTables.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.Moment;
+import net.time4j.calendar.astro.AstronomicalSeason;
+import net.time4j.calendar.astro.MoonPhase;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * <p>Lazily filled tables of new moons and winter solstices shared by all east asian calendars. </p>
+ *
+ * <p>The tables only contain moments so they are independent from the local offsets used by
+ * the different calendars. Every entry is calculated by the same astronomical methods as used
+ * without tables hence the results are identical. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class EastAsianTables {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIN_YEAR = 1640;
+    private static final int MAX_YEAR = 3000;
+
+    private static final long POSIX_LUNATION_ZERO = 947182440L; // 2000-01-06T18:14Z
+    private static final double SECONDS_PER_LUNATION = EastAsianCS.MEAN_SYNODIC_MONTH * 86400;
+
+    private static final int MIN_LUNATION = estimateLunations(-10540022400L) - 2; // 1636-01-01
+    private static final int MAX_LUNATION = estimateLunations(32529945600L); // 3000-11-01 (limit of JulianDay)
+
+    private static final AtomicReferenceArray<Moment> NEW_MOONS =
+        new AtomicReferenceArray<>(MAX_LUNATION - MIN_LUNATION + 1);
+    private static final AtomicReferenceArray<Moment> WINTER_SOLSTICES =
+        new AtomicReferenceArray<>(MAX_YEAR - MIN_YEAR + 1);
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EastAsianTables() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Equivalent to {@code AstronomicalSeason.WINTER_SOLSTICE.inYear(year)}. </p>
+     *
+     * @param   year    gregorian year
+     * @return  moment of winter solstice
+     */
+    static Moment winterSolstice(int year) {
+
+        if ((year < MIN_YEAR) || (year > MAX_YEAR)) {
+            return AstronomicalSeason.WINTER_SOLSTICE.inYear(year);
+        }
+
+        int index = year - MIN_YEAR;
+        Moment m = WINTER_SOLSTICES.get(index);
+
+        if (m == null) {
+            m = AstronomicalSeason.WINTER_SOLSTICE.inYear(year);
+            WINTER_SOLSTICES.set(index, m); // concurrent calculations yield the same result
+        }
+
+        return m;
+
+    }
+
+    /**
+     * <p>Equivalent to {@code MoonPhase.NEW_MOON.atOrAfter(moment)}. </p>
+     *
+     * @param   moment  start of search
+     * @return  moment of first new moon at or after given moment
+     */
+    static Moment newMoonAtOrAfter(Moment moment) {
+
+        int n = estimateLunations(moment.getPosixTime());
+
+        if ((n - 3 < MIN_LUNATION) || (n + 3 > MAX_LUNATION)) {
+            return MoonPhase.NEW_MOON.atOrAfter(moment);
+        }
+
+        while (newMoon(n).isBefore(moment)) {
+            n++;
+        }
+
+        while (!newMoon(n - 1).isBefore(moment)) {
+            n--;
+        }
+
+        return newMoon(n);
+
+    }
+
+    /**
+     * <p>Equivalent to {@code MoonPhase.NEW_MOON.before(moment)}. </p>
+     *
+     * @param   moment  start of search
+     * @return  moment of last new moon before given moment
+     */
+    static Moment newMoonBefore(Moment moment) {
+
+        int n = estimateLunations(moment.getPosixTime());
+
+        if ((n - 3 < MIN_LUNATION) || (n + 3 > MAX_LUNATION)) {
+            return MoonPhase.NEW_MOON.before(moment);
+        }
+
+        while (!newMoon(n).isBefore(moment)) {
+            n--;
+        }
+
+        while (newMoon(n + 1).isBefore(moment)) {
+            n++;
+        }
+
+        return newMoon(n);
+
+    }
+
+    private static Moment newMoon(int lunation) {
+
+        int index = lunation - MIN_LUNATION;
+        Moment m = NEW_MOONS.get(index);
+
+        if (m == null) {
+            m = MoonPhase.NEW_MOON.atLunation(lunation);
+            NEW_MOONS.set(index, m); // concurrent calculations yield the same result
+        }
+
+        return m;
+
+    }
+
+    // deviation from true lunation number is at most one
+    private static int estimateLunations(long posixTime) {
+
+        return (int) Math.floor((posixTime - POSIX_LUNATION_ZERO) / SECONDS_PER_LUNATION);
+
+    }
+
+}
@@ -48,6 +48,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -1195,7 +1196,7 @@ public final class EthiopianCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<EthiopianCalendar, Integer> {
+        implements IntElementRule<EthiopianCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1213,7 +1214,7 @@ public final class EthiopianCalendar
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public Integer getValue(EthiopianCalendar context) {
+        public int getInt(EthiopianCalendar context) {
 
             switch (this.index) {
                 case YEAR_INDEX:
@@ -1233,55 +1234,29 @@ public final class EthiopianCalendar
         }
 
         @Override
-        public Integer getMinimum(EthiopianCalendar context) {
+        public boolean isValid(
+            EthiopianCalendar context,
+            Integer value
+        ) {
 
-            switch (this.index) {
-                case YEAR_INDEX:
-                case DAY_OF_MONTH_INDEX:
-                case DAY_OF_YEAR_INDEX:
-                    return Integer.valueOf(1);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
-
-        }
-
-        @Override
-        public Integer getMaximum(EthiopianCalendar context) {
-
-            switch (this.index) {
-                case YEAR_INDEX:
-                    return ((context.getEra() == EthiopianEra.AMETE_ALEM) ? 15499 : 9999);
-                case DAY_OF_MONTH_INDEX:
-                    return CALSYS.getLengthOfMonth(context.getEra(), context.getYear(), context.emonth);
-                case DAY_OF_YEAR_INDEX:
-                    return CALSYS.getLengthOfYear(context.getEra(), context.getYear());
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
 
         }
 
         @Override
         public boolean isValid(
             EthiopianCalendar context,
-            Integer value
+            int value
         ) {
 
-            if (value == null) {
-                return false;
-            }
-
-            Integer min = this.getMinimum(context);
-            Integer max = this.getMaximum(context);
-            return ((min.compareTo(value) <= 0) && (max.compareTo(value) >= 0));
+            return ((this.getMin(context) <= value) && (this.getMax(context) >= value));
 
         }
 
         @Override
         public EthiopianCalendar withValue(
             EthiopianCalendar context,
-            Integer value,
+            int value,
             boolean lenient
         ) {
 
@@ -1292,14 +1267,14 @@ public final class EthiopianCalendar
             switch (this.index) {
                 case YEAR_INDEX:
                     EthiopianEra era = context.getEra();
-                    int y = value.intValue();
+                    int y = value;
                     int dmax = CALSYS.getLengthOfMonth(era, y, context.emonth);
                     int d = Math.min(context.edom, dmax);
                     return EthiopianCalendar.of(era, y, context.emonth, d);
                 case DAY_OF_MONTH_INDEX:
-                    return new EthiopianCalendar(context.mihret, context.emonth, value.intValue());
+                    return new EthiopianCalendar(context.mihret, context.emonth, value);
                 case DAY_OF_YEAR_INDEX:
-                    int delta = value.intValue() - this.getValue(context).intValue();
+                    int delta = value - this.getInt(context);
                     return context.plus(CalendarDays.of(delta));
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
@@ -1307,6 +1282,42 @@ public final class EthiopianCalendar
 
         }
 
+        @Override
+        public Integer getValue(EthiopianCalendar context) {
+
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public Integer getMinimum(EthiopianCalendar context) {
+
+            return Integer.valueOf(this.getMin(context));
+
+        }
+
+        @Override
+        public Integer getMaximum(EthiopianCalendar context) {
+
+            return Integer.valueOf(this.getMax(context));
+
+        }
+
+        @Override
+        public EthiopianCalendar withValue(
+            EthiopianCalendar context,
+            Integer value,
+            boolean lenient
+        ) {
+
+            if (value == null) {
+                throw new IllegalArgumentException("Missing element value.");
+            }
+
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
         @Override
         public ChronoElement<?> getChildAtFloor(EthiopianCalendar context) {
 
@@ -1329,6 +1340,34 @@ public final class EthiopianCalendar
 
         }
 
+        private int getMin(EthiopianCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                case DAY_OF_MONTH_INDEX:
+                case DAY_OF_YEAR_INDEX:
+                    return 1;
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
+        private int getMax(EthiopianCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                    return ((context.getEra() == EthiopianEra.AMETE_ALEM) ? 15499 : 9999);
+                case DAY_OF_MONTH_INDEX:
+                    return CALSYS.getLengthOfMonth(context.getEra(), context.getYear(), context.emonth);
+                case DAY_OF_YEAR_INDEX:
+                    return CALSYS.getLengthOfYear(context.getEra(), context.getYear());
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
     }
 
     private static class MonthRule
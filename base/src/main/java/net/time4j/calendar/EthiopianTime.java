@@ -37,6 +37,7 @@ import net.time4j.engine.ChronoUnit;
 import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.TimeAxis;
@@ -1383,16 +1384,21 @@ public final class EthiopianTime
     }
 
     private static class GeneralHourRule<T extends ChronoEntity<T>>
-        implements ElementRule<T, Integer> {
+        implements IntElementRule<T> {
 
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public Integer getValue(T context) {
+        public int getInt(T context) {
             PlainTime time = context.get(PlainTime.COMPONENT);
             return EthiopianTime.from(time).getHour();
         }
 
+        @Override
+        public Integer getValue(T context) {
+            return Integer.valueOf(this.getInt(context));
+        }
+
         @Override
         public Integer getMinimum(T context) {
             return Integer.valueOf(1);
@@ -1423,6 +1429,25 @@ public final class EthiopianTime
             return context.with(PlainTime.COMPONENT, ethio.toISO());
         }
 
+        @Override
+        public boolean isValid(
+            T context,
+            int value
+        ) {
+            return ((value >= 1) && (value <= 12));
+        }
+
+        @Override
+        public T withValue(
+            T context,
+            int value,
+            boolean lenient
+        ) {
+            PlainTime time = context.get(PlainTime.COMPONENT);
+            EthiopianTime ethio = EthiopianTime.from(time).with(ETHIOPIAN_HOUR, value);
+            return context.with(PlainTime.COMPONENT, ethio.toISO());
+        }
+
         @Override
         public ChronoElement<?> getChildAtFloor(T context) {
             return null;
@@ -1435,7 +1460,7 @@ public final class EthiopianTime
     }
 
     private static class IntegerElementRule
-        implements ElementRule<EthiopianTime, Integer> {
+        implements IntElementRule<EthiopianTime> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1453,7 +1478,7 @@ public final class EthiopianTime
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public Integer getValue(EthiopianTime context) {
+        public int getInt(EthiopianTime context) {
             switch (this.index) {
                 case ETHIOPIAN_HOUR_INDEX:
                     return context.getHour();
@@ -1468,30 +1493,43 @@ public final class EthiopianTime
             }
         }
 
+        @Override
+        public Integer getValue(EthiopianTime context) {
+            return Integer.valueOf(this.getInt(context));
+        }
+
         @Override
         public Integer getMinimum(EthiopianTime context) {
+            return Integer.valueOf(this.getMin());
+        }
+
+        @Override
+        public Integer getMaximum(EthiopianTime context) {
+            return Integer.valueOf(this.getMax());
+        }
+
+        private int getMin() {
             switch (this.index) {
                 case ETHIOPIAN_HOUR_INDEX:
-                    return Integer.valueOf(1);
+                    return 1;
                 case DIGITAL_HOUR_INDEX:
                 case MINUTE_INDEX:
                 case SECOND_INDEX:
-                    return Integer.valueOf(0);
+                    return 0;
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
             }
         }
 
-        @Override
-        public Integer getMaximum(EthiopianTime context) {
+        private int getMax() {
             switch (this.index) {
                 case ETHIOPIAN_HOUR_INDEX:
-                    return Integer.valueOf(12);
+                    return 12;
                 case DIGITAL_HOUR_INDEX:
-                    return Integer.valueOf(23);
+                    return 23;
                 case MINUTE_INDEX:
                 case SECOND_INDEX:
-                    return Integer.valueOf(59);
+                    return 59;
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
             }
@@ -1502,14 +1540,15 @@ public final class EthiopianTime
             EthiopianTime context,
             Integer value
         ) {
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
+        }
 
-            return (
-                (this.getMinimum(context).compareTo(value) <= 0)
-                && (this.getMaximum(context).compareTo(value) >= 0)
-            );
+        @Override
+        public boolean isValid(
+            EthiopianTime context,
+            int value
+        ) {
+            return ((this.getMin() <= value) && (this.getMax() >= value));
         }
 
         @Override
@@ -1522,8 +1561,15 @@ public final class EthiopianTime
                 throw new IllegalArgumentException("Missing element value.");
             }
 
-            int v = value.intValue();
+            return this.withValue(context, value.intValue(), lenient);
+        }
 
+        @Override
+        public EthiopianTime withValue(
+            EthiopianTime context,
+            int v,
+            boolean lenient
+        ) {
             switch (this.index) {
                 case ETHIOPIAN_HOUR_INDEX:
                     if (context.isDay()) {
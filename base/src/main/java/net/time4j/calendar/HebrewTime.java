@@ -43,6 +43,7 @@ import net.time4j.engine.ChronoUnit;
 import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.TimeAxis;
@@ -1138,7 +1139,7 @@ public final class HebrewTime
     }
 
     private static class IntegerElementRule
-        implements ElementRule<HebrewTime, Integer> {
+        implements IntElementRule<HebrewTime> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1156,7 +1157,7 @@ public final class HebrewTime
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public Integer getValue(HebrewTime context) {
+        public int getInt(HebrewTime context) {
             switch (this.index) {
                 case HOUR12_INDEX:
                     return context.getClockHour();
@@ -1169,28 +1170,41 @@ public final class HebrewTime
             }
         }
 
+        @Override
+        public Integer getValue(HebrewTime context) {
+            return Integer.valueOf(this.getInt(context));
+        }
+
         @Override
         public Integer getMinimum(HebrewTime context) {
+            return Integer.valueOf(this.getMin());
+        }
+
+        @Override
+        public Integer getMaximum(HebrewTime context) {
+            return Integer.valueOf(this.getMax());
+        }
+
+        private int getMin() {
             switch (this.index) {
                 case HOUR12_INDEX:
-                    return Integer.valueOf(1);
+                    return 1;
                 case HOUR23_INDEX:
                 case PART_INDEX:
-                    return Integer.valueOf(0);
+                    return 0;
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
             }
         }
 
-        @Override
-        public Integer getMaximum(HebrewTime context) {
+        private int getMax() {
             switch (this.index) {
                 case HOUR12_INDEX:
-                    return Integer.valueOf(12);
+                    return 12;
                 case HOUR23_INDEX:
-                    return Integer.valueOf(23);
+                    return 23;
                 case PART_INDEX:
-                    return Integer.valueOf(PARTS_IN_HOUR - 1);
+                    return PARTS_IN_HOUR - 1;
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
             }
@@ -1201,14 +1215,15 @@ public final class HebrewTime
             HebrewTime context,
             Integer value
         ) {
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
+        }
 
-            return (
-                (this.getMinimum(context).compareTo(value) <= 0)
-                && (this.getMaximum(context).compareTo(value) >= 0)
-            );
+        @Override
+        public boolean isValid(
+            HebrewTime context,
+            int value
+        ) {
+            return ((this.getMin() <= value) && (this.getMax() >= value));
         }
 
         @Override
@@ -1221,8 +1236,15 @@ public final class HebrewTime
                 throw new IllegalArgumentException("Missing element value.");
             }
 
-            int v = value.intValue();
+            return this.withValue(context, value.intValue(), lenient);
+        }
 
+        @Override
+        public HebrewTime withValue(
+            HebrewTime context,
+            int v,
+            boolean lenient
+        ) {
             switch (this.index) {
                 case HOUR12_INDEX:
                     if (lenient) {
@@ -48,6 +48,7 @@ import net.time4j.engine.ChronoMerger;
 import net.time4j.engine.ChronoUnit;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.ValidationElement;
 import net.time4j.engine.VariantSource;
@@ -1718,7 +1719,7 @@ public final class HijriCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<HijriCalendar, Integer> {
+        implements IntElementRule<HijriCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1736,7 +1737,7 @@ public final class HijriCalendar
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public Integer getValue(HijriCalendar context) {
+        public int getInt(HijriCalendar context) {
 
             switch (this.index) {
                 case YEAR_INDEX:
@@ -1757,59 +1758,29 @@ public final class HijriCalendar
         }
 
         @Override
-        public Integer getMinimum(HijriCalendar context) {
+        public boolean isValid(
+            HijriCalendar context,
+            Integer value
+        ) {
 
-            switch (this.index) {
-                case YEAR_INDEX:
-                    EraYearMonthDaySystem<HijriCalendar> calsys = context.getCalendarSystem();
-                    return calsys.transform(calsys.getMinimumSinceUTC()).hyear;
-                case DAY_OF_MONTH_INDEX:
-                case DAY_OF_YEAR_INDEX:
-                    return Integer.valueOf(1);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
-
-        }
-
-        @Override
-        public Integer getMaximum(HijriCalendar context) {
-
-            EraYearMonthDaySystem<HijriCalendar> calsys = context.getCalendarSystem();
-
-            switch (this.index) {
-                case YEAR_INDEX:
-                    return calsys.transform(calsys.getMaximumSinceUTC()).hyear;
-                case DAY_OF_MONTH_INDEX:
-                    return calsys.getLengthOfMonth(HijriEra.ANNO_HEGIRAE, context.hyear, context.hmonth);
-                case DAY_OF_YEAR_INDEX:
-                    return calsys.getLengthOfYear(HijriEra.ANNO_HEGIRAE, context.hyear);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
 
         }
 
         @Override
         public boolean isValid(
             HijriCalendar context,
-            Integer value
+            int value
         ) {
 
-            if (value == null) {
-                return false;
-            }
-
-            Integer min = this.getMinimum(context);
-            Integer max = this.getMaximum(context);
-            return ((min.compareTo(value) <= 0) && (max.compareTo(value) >= 0));
+            return ((this.getMin(context) <= value) && (this.getMax(context) >= value));
 
         }
 
         @Override
         public HijriCalendar withValue(
             HijriCalendar context,
-            Integer value,
+            int value,
             boolean lenient
         ) {
 
@@ -1819,14 +1790,14 @@ public final class HijriCalendar
 
             switch (this.index) {
                 case YEAR_INDEX:
-                    int y = value.intValue();
+                    int y = value;
                     int dmax = context.getCalendarSystem().getLengthOfMonth(HijriEra.ANNO_HEGIRAE, y, context.hmonth);
                     int d = Math.min(context.hdom, dmax);
                     return HijriCalendar.of(context.getVariant(), y, context.hmonth, d);
                 case DAY_OF_MONTH_INDEX:
-                    return new HijriCalendar(context.hyear, context.hmonth, value.intValue(), context.getVariant());
+                    return new HijriCalendar(context.hyear, context.hmonth, value, context.getVariant());
                 case DAY_OF_YEAR_INDEX:
-                    int delta = value.intValue() - this.getValue(context).intValue();
+                    int delta = value - this.getInt(context);
                     return context.plus(CalendarDays.of(delta));
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
@@ -1834,6 +1805,42 @@ public final class HijriCalendar
 
         }
 
+        @Override
+        public Integer getValue(HijriCalendar context) {
+
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public Integer getMinimum(HijriCalendar context) {
+
+            return Integer.valueOf(this.getMin(context));
+
+        }
+
+        @Override
+        public Integer getMaximum(HijriCalendar context) {
+
+            return Integer.valueOf(this.getMax(context));
+
+        }
+
+        @Override
+        public HijriCalendar withValue(
+            HijriCalendar context,
+            Integer value,
+            boolean lenient
+        ) {
+
+            if (value == null) {
+                throw new IllegalArgumentException("Missing element value.");
+            }
+
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
         @Override
         public ChronoElement<?> getChildAtFloor(HijriCalendar context) {
 
@@ -1856,6 +1863,38 @@ public final class HijriCalendar
 
         }
 
+        private int getMin(HijriCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                    EraYearMonthDaySystem<HijriCalendar> calsys = context.getCalendarSystem();
+                    return calsys.transform(calsys.getMinimumSinceUTC()).hyear;
+                case DAY_OF_MONTH_INDEX:
+                case DAY_OF_YEAR_INDEX:
+                    return 1;
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
+        private int getMax(HijriCalendar context) {
+
+            EraYearMonthDaySystem<HijriCalendar> calsys = context.getCalendarSystem();
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                    return calsys.transform(calsys.getMaximumSinceUTC()).hyear;
+                case DAY_OF_MONTH_INDEX:
+                    return calsys.getLengthOfMonth(HijriEra.ANNO_HEGIRAE, context.hyear, context.hmonth);
+                case DAY_OF_YEAR_INDEX:
+                    return calsys.getLengthOfYear(HijriEra.ANNO_HEGIRAE, context.hyear);
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
     }
 
     private static class MonthRule
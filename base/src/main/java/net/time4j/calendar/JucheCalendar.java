@@ -49,6 +49,7 @@ import net.time4j.engine.ChronoMerger;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -264,7 +265,7 @@ public final class JucheCalendar
                 FieldRule.of(ERA))
             .appendElement(
                 YEAR_OF_ERA,
-                FieldRule.of(YEAR_OF_ERA),
+                new IntFieldRule(YEAR_OF_ERA),
                 CalendarUnit.YEARS)
             .appendElement(
                 MONTH_OF_YEAR,
@@ -275,11 +276,11 @@ public final class JucheCalendar
                 new RelatedGregorianYearRule<>(CALSYS, DAY_OF_YEAR))
             .appendElement(
                 DAY_OF_MONTH,
-                FieldRule.of(DAY_OF_MONTH),
+                new IntFieldRule(DAY_OF_MONTH),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_YEAR,
-                FieldRule.of(DAY_OF_YEAR),
+                new IntFieldRule(DAY_OF_YEAR),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_WEEK,
@@ -897,14 +898,10 @@ public final class JucheCalendar
 
             if (this.element == ERA) {
                 result = JucheEra.JUCHE;
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                result = context.getYear();
+            } else if (Integer.class.isAssignableFrom(this.element.getType())) {
+                result = Integer.valueOf(this.getNumber(context));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 result = context.getMonth();
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                result = context.getDayOfMonth();
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                result = context.getDayOfYear();
             } else {
                 throw new ChronoException("Missing rule for: " + this.element.name());
             }
@@ -939,14 +936,10 @@ public final class JucheCalendar
 
             if (this.element == ERA) {
                 result = JucheEra.JUCHE;
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                result = Integer.valueOf(GregorianMath.MAX_YEAR - 1911);
+            } else if (Integer.class.isAssignableFrom(this.element.getType())) {
+                result = Integer.valueOf(this.getMaxNumber(context));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 result = Month.DECEMBER;
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                result = context.iso.getMaximum(PlainDate.DAY_OF_MONTH);
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                result = context.iso.getMaximum(PlainDate.DAY_OF_YEAR);
             } else {
                 throw new ChronoException("Missing rule for: " + this.element.name());
             }
@@ -987,21 +980,12 @@ public final class JucheCalendar
 
             if (this.element == ERA) {
                 return context;
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                JucheCalendar jc = JucheCalendar.of(toNumber(value), context.getMonth(), 1);
-                return jc.with(DAY_OF_MONTH, Math.min(context.getDayOfMonth(), jc.lengthOfMonth()));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 PlainDate date = context.iso.with(PlainDate.MONTH_OF_YEAR, Month.class.cast(value));
                 return new JucheCalendar(date);
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                PlainDate date = context.iso.with(PlainDate.DAY_OF_MONTH, toNumber(value));
-                return new JucheCalendar(date);
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                PlainDate date = context.iso.with(PlainDate.DAY_OF_YEAR, toNumber(value));
-                return new JucheCalendar(date);
             }
 
-            throw new ChronoException("Missing rule for: " + this.element.name());
+            return this.withNumber(context, toNumber(value));
 
         }
 
@@ -1021,6 +1005,54 @@ public final class JucheCalendar
 
         }
 
+        int getNumber(JucheCalendar context) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                return context.getYear();
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                return context.getDayOfMonth();
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                return context.getDayOfYear();
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
+        int getMaxNumber(JucheCalendar context) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                return GregorianMath.MAX_YEAR - 1911;
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                return context.lengthOfMonth();
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                return context.lengthOfYear();
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
+        JucheCalendar withNumber(
+            JucheCalendar context,
+            int value
+        ) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                JucheCalendar jc = JucheCalendar.of(value, context.getMonth(), 1);
+                return jc.with(DAY_OF_MONTH, Math.min(context.getDayOfMonth(), jc.lengthOfMonth()));
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                PlainDate date = context.iso.with(PlainDate.DAY_OF_MONTH, value);
+                return new JucheCalendar(date);
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                PlainDate date = context.iso.with(PlainDate.DAY_OF_YEAR, value);
+                return new JucheCalendar(date);
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
         private static int toNumber(Object value) {
 
             return Integer.class.cast(value).intValue();
@@ -1029,6 +1061,53 @@ public final class JucheCalendar
 
     }
 
+    private static class IntFieldRule
+        extends FieldRule<Integer>
+        implements IntElementRule<JucheCalendar> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private IntFieldRule(ChronoElement<Integer> element) {
+            super(element);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getInt(JucheCalendar context) {
+
+            return this.getNumber(context);
+
+        }
+
+        @Override
+        public boolean isValid(
+            JucheCalendar context,
+            int value
+        ) {
+
+            return ((value >= 1) && (value <= this.getMaxNumber(context)));
+
+        }
+
+        @Override
+        public JucheCalendar withValue(
+            JucheCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            if (!this.isValid(context, value)) {
+                throw new IllegalArgumentException("Out of range: " + value);
+            }
+
+            return this.withNumber(context, value);
+
+        }
+
+    }
+
     private static class JucheUnitRule
         implements UnitRule<JucheCalendar> {
 
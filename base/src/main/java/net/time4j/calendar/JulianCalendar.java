@@ -46,6 +46,7 @@ import net.time4j.engine.ChronoUnit;
 import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -1174,7 +1175,7 @@ public final class JulianCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<JulianCalendar, Integer> {
+        implements IntElementRule<JulianCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1192,7 +1193,7 @@ public final class JulianCalendar
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public Integer getValue(JulianCalendar context) {
+        public int getInt(JulianCalendar context) {
 
             switch (this.index) {
                 case YEAR_INDEX:
@@ -1212,75 +1213,45 @@ public final class JulianCalendar
         }
 
         @Override
-        public Integer getMinimum(JulianCalendar context) {
-
-            switch (this.index) {
-                case YEAR_INDEX:
-                case DAY_OF_MONTH_INDEX:
-                case DAY_OF_YEAR_INDEX:
-                    return Integer.valueOf(1);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
-
-        }
-
-        @Override
-        public Integer getMaximum(JulianCalendar context) {
+        public boolean isValid(
+            JulianCalendar context,
+            Integer value
+        ) {
 
-            switch (this.index) {
-                case YEAR_INDEX:
-                    return YMAX;
-                case DAY_OF_MONTH_INDEX:
-                    return lengthOfMonth(context.prolepticYear, context.month);
-                case DAY_OF_YEAR_INDEX:
-                    return (((context.prolepticYear % 4) == 0) ? 366 : 365);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
 
         }
 
         @Override
         public boolean isValid(
             JulianCalendar context,
-            Integer value
+            int value
         ) {
 
-            if (value == null) {
-                return false;
-            }
-
-            Integer min = this.getMinimum(context);
-            Integer max = this.getMaximum(context);
-            return ((min.compareTo(value) <= 0) && (max.compareTo(value) >= 0));
+            return ((this.getMin(context) <= value) && (this.getMax(context) >= value));
 
         }
 
         @Override
         public JulianCalendar withValue(
             JulianCalendar context,
-            Integer value,
+            int value,
             boolean lenient
         ) {
 
-            if (value == null) {
-                throw new IllegalArgumentException("Missing element value.");
-            }
-
             switch (this.index) {
                 case YEAR_INDEX:
-                    int y = value.intValue();
+                    int y = value;
                     int pYear = (context.getEra() == HistoricEra.AD) ? y : MathUtils.safeSubtract(1, y);
                     int dmax = lengthOfMonth(pYear, context.month);
                     int d = Math.min(context.dom, dmax);
                     return JulianCalendar.of(context.getEra(), y, context.month, d);
                 case DAY_OF_MONTH_INDEX:
-                    return JulianCalendar.of(context.getEra(), context.getYear(), context.month, value.intValue());
+                    return JulianCalendar.of(context.getEra(), context.getYear(), context.month, value);
                 case DAY_OF_YEAR_INDEX:
-                    int doy = value.intValue();
+                    int doy = value;
                     if ((doy >= 1) && (doy <= context.lengthOfYear())) {
-                        int delta = value.intValue() - this.getValue(context).intValue();
+                        int delta = value - this.getInt(context);
                         return context.plus(CalendarDays.of(delta));
                     } else {
                         throw new IllegalArgumentException("Invalid day of year: " + value);
@@ -1291,6 +1262,42 @@ public final class JulianCalendar
 
         }
 
+        @Override
+        public Integer getValue(JulianCalendar context) {
+
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public Integer getMinimum(JulianCalendar context) {
+
+            return Integer.valueOf(this.getMin(context));
+
+        }
+
+        @Override
+        public Integer getMaximum(JulianCalendar context) {
+
+            return Integer.valueOf(this.getMax(context));
+
+        }
+
+        @Override
+        public JulianCalendar withValue(
+            JulianCalendar context,
+            Integer value,
+            boolean lenient
+        ) {
+
+            if (value == null) {
+                throw new IllegalArgumentException("Missing element value.");
+            }
+
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
         @Override
         public ChronoElement<?> getChildAtFloor(JulianCalendar context) {
 
@@ -1313,10 +1320,38 @@ public final class JulianCalendar
 
         }
 
+        private int getMin(JulianCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                case DAY_OF_MONTH_INDEX:
+                case DAY_OF_YEAR_INDEX:
+                    return 1;
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
+        private int getMax(JulianCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                    return YMAX;
+                case DAY_OF_MONTH_INDEX:
+                    return lengthOfMonth(context.prolepticYear, context.month);
+                case DAY_OF_YEAR_INDEX:
+                    return (((context.prolepticYear % 4) == 0) ? 366 : 365);
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
     }
 
     private static class MonthRule
-        implements ElementRule<JulianCalendar, Integer> {
+        implements IntElementRule<JulianCalendar> {
 
         //~ Methoden ------------------------------------------------------
 
@@ -1327,6 +1362,13 @@ public final class JulianCalendar
 
         }
 
+        @Override
+        public int getInt(JulianCalendar context) {
+
+            return context.month;
+
+        }
+
         @Override
         public Integer getMinimum(JulianCalendar context) {
 
@@ -1347,12 +1389,17 @@ public final class JulianCalendar
             Integer value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
+
+        }
+
+        @Override
+        public boolean isValid(
+            JulianCalendar context,
+            int value
+        ) {
 
-            int m = value.intValue();
-            return ((m >= 1) && (m <= 12));
+            return ((value >= 1) && (value <= 12));
 
         }
 
@@ -1367,10 +1414,20 @@ public final class JulianCalendar
                 throw new IllegalArgumentException("Missing month.");
             }
 
-            int m = value.intValue();
-            int dmax = lengthOfMonth(context.prolepticYear, m);
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
+        @Override
+        public JulianCalendar withValue(
+            JulianCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            int dmax = lengthOfMonth(context.prolepticYear, value);
             int d = Math.min(context.dom, dmax);
-            return new JulianCalendar(context.prolepticYear, m, d);
+            return new JulianCalendar(context.prolepticYear, value, d);
 
         }
 
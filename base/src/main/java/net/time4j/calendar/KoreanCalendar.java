@@ -36,6 +36,7 @@ import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.ChronoUnit;
 import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.FormattableElement;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.ValidationElement;
@@ -928,7 +929,7 @@ public final class KoreanCalendar
     }
 
     private static class YearOfEraRule
-        implements ElementRule<KoreanCalendar, Integer> {
+        implements IntElementRule<KoreanCalendar> {
 
         //~ Methoden ------------------------------------------------------
 
@@ -952,12 +953,15 @@ public final class KoreanCalendar
             KoreanCalendar context,
             Integer value
         ) {
-            if (value == null) {
-                return false;
-            }
-            int min = this.getMinimum(context).intValue();
-            int max = this.getMaximum(context).intValue();
-            return ((value >= min) && (value <= max));
+            return ((value != null) && this.isValid(context, value.intValue()));
+        }
+
+        @Override
+        public boolean isValid(
+            KoreanCalendar context,
+            int value
+        ) {
+            return ((value >= 1645 + 2333) && (value <= 2999 + 2333));
         }
 
         @Override
@@ -968,7 +972,17 @@ public final class KoreanCalendar
         ) {
             if (value == null) {
                 throw new IllegalArgumentException("Missing year of era.");
-            } else if (this.isValid(context, value)) {
+            }
+            return this.withValue(context, value.intValue(), lenient);
+        }
+
+        @Override
+        public KoreanCalendar withValue(
+            KoreanCalendar context,
+            int value,
+            boolean lenient
+        ) {
+            if (this.isValid(context, value)) {
                 int yoe = this.getInt(context);
                 return context.plus(value - yoe, KoreanCalendar.Unit.YEARS);
             } else {
@@ -986,7 +1000,8 @@ public final class KoreanCalendar
             throw new AbstractMethodError("Never called.");
         }
 
-        private int getInt(KoreanCalendar context) {
+        @Override
+        public int getInt(KoreanCalendar context) {
             return 60 * context.getCycle() + context.getYear().getNumber() - 364;
         }
 
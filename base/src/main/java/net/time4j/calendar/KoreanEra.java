@@ -33,6 +33,7 @@ import net.time4j.engine.ChronoException;
 import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.format.Attributes;
 import net.time4j.format.CalendarText;
 import net.time4j.format.DisplayElement;
@@ -410,7 +411,12 @@ public enum KoreanEra
     }
 
     private static class GregorianYearOfEraRule
-        implements ElementRule<ChronoEntity<?>, Integer> {
+        implements IntElementRule<ChronoEntity<?>> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int MIN_YOE = GregorianMath.MIN_YEAR + 2333;
+        private static final int MAX_YOE = GregorianMath.MAX_YEAR + 2333;
 
         //~ Methoden ------------------------------------------------------
 
@@ -421,14 +427,12 @@ public enum KoreanEra
 
         @Override
         public Integer getMinimum(ChronoEntity<?> context) {
-            int r = GregorianMath.MIN_YEAR + 2333;
-            return Integer.valueOf(r);
+            return Integer.valueOf(MIN_YOE);
         }
 
         @Override
         public Integer getMaximum(ChronoEntity<?> context) {
-            int r = GregorianMath.MAX_YEAR + 2333;
-            return Integer.valueOf(r);
+            return Integer.valueOf(MAX_YOE);
         }
 
         @Override
@@ -436,12 +440,15 @@ public enum KoreanEra
             ChronoEntity<?> context,
             Integer value
         ) {
-            if (value == null) {
-                return false;
-            }
-            int min = this.getMinimum(context).intValue();
-            int max = this.getMaximum(context).intValue();
-            return ((value >= min) && (value <= max));
+            return ((value != null) && this.isValid(context, value.intValue()));
+        }
+
+        @Override
+        public boolean isValid(
+            ChronoEntity<?> context,
+            int value
+        ) {
+            return ((value >= MIN_YOE) && (value <= MAX_YOE));
         }
 
         @Override
@@ -452,7 +459,17 @@ public enum KoreanEra
         ) {
             if (value == null) {
                 throw new IllegalArgumentException("Missing year of era.");
-            } else if (this.isValid(context, value)) {
+            }
+            return this.withValue(context, value.intValue(), lenient);
+        }
+
+        @Override
+        public ChronoEntity<?> withValue(
+            ChronoEntity<?> context,
+            int value,
+            boolean lenient
+        ) {
+            if (this.isValid(context, value)) {
                 int yoe = this.getInt(context);
                 PlainDate date = context.get(PlainDate.COMPONENT);
                 date = date.plus(value - yoe, CalendarUnit.YEARS);
@@ -472,7 +489,8 @@ public enum KoreanEra
             throw new AbstractMethodError("Never called.");
         }
 
-        private int getInt(ChronoEntity<?> context) {
+        @Override
+        public int getInt(ChronoEntity<?> context) {
             return context.get(PlainDate.COMPONENT).getYear() + 2333;
         }
 
@@ -49,6 +49,7 @@ import net.time4j.engine.ChronoMerger;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -265,7 +266,7 @@ public final class MinguoCalendar
                 FieldRule.of(ERA))
             .appendElement(
                 YEAR_OF_ERA,
-                FieldRule.of(YEAR_OF_ERA),
+                new IntFieldRule(YEAR_OF_ERA),
                 CalendarUnit.YEARS)
             .appendElement(
                 MONTH_OF_YEAR,
@@ -276,11 +277,11 @@ public final class MinguoCalendar
                 new RelatedGregorianYearRule<>(CALSYS, DAY_OF_YEAR))
             .appendElement(
                 DAY_OF_MONTH,
-                FieldRule.of(DAY_OF_MONTH),
+                new IntFieldRule(DAY_OF_MONTH),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_YEAR,
-                FieldRule.of(DAY_OF_YEAR),
+                new IntFieldRule(DAY_OF_YEAR),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_WEEK,
@@ -945,14 +946,10 @@ public final class MinguoCalendar
 
             if (this.element == ERA) {
                 result = context.getEra();
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                result = context.getYear();
+            } else if (Integer.class.isAssignableFrom(this.element.getType())) {
+                result = Integer.valueOf(this.getNumber(context));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 result = context.getMonth();
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                result = context.getDayOfMonth();
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                result = context.getDayOfYear();
             } else {
                 throw new ChronoException("Missing rule for: " + this.element.name());
             }
@@ -987,18 +984,10 @@ public final class MinguoCalendar
 
             if (this.element == ERA) {
                 result = MinguoEra.ROC;
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                MinguoEra era = context.getEra();
-                result = (
-                    (era == MinguoEra.ROC)
-                        ? Integer.valueOf(GregorianMath.MAX_YEAR - 1911)
-                        : Integer.valueOf(1912 - GregorianMath.MIN_YEAR));
+            } else if (Integer.class.isAssignableFrom(this.element.getType())) {
+                result = Integer.valueOf(this.getMaxNumber(context));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 result = Month.DECEMBER;
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                result = context.iso.getMaximum(PlainDate.DAY_OF_MONTH);
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                result = context.iso.getMaximum(PlainDate.DAY_OF_YEAR);
             } else {
                 throw new ChronoException("Missing rule for: " + this.element.name());
             }
@@ -1039,21 +1028,12 @@ public final class MinguoCalendar
 
             if (this.element == ERA) {
                 return context;
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                MinguoCalendar mc = MinguoCalendar.of(context.getEra(), toNumber(value), context.getMonth(), 1);
-                return mc.with(DAY_OF_MONTH, Math.min(context.getDayOfMonth(), mc.lengthOfMonth()));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 PlainDate date = context.iso.with(PlainDate.MONTH_OF_YEAR, Month.class.cast(value));
                 return new MinguoCalendar(date);
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                PlainDate date = context.iso.with(PlainDate.DAY_OF_MONTH, toNumber(value));
-                return new MinguoCalendar(date);
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                PlainDate date = context.iso.with(PlainDate.DAY_OF_YEAR, toNumber(value));
-                return new MinguoCalendar(date);
             }
 
-            throw new ChronoException("Missing rule for: " + this.element.name());
+            return this.withNumber(context, toNumber(value));
 
         }
 
@@ -1073,6 +1053,55 @@ public final class MinguoCalendar
 
         }
 
+        int getNumber(MinguoCalendar context) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                return context.getYear();
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                return context.getDayOfMonth();
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                return context.getDayOfYear();
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
+        int getMaxNumber(MinguoCalendar context) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                MinguoEra era = context.getEra();
+                return ((era == MinguoEra.ROC) ? GregorianMath.MAX_YEAR - 1911 : 1912 - GregorianMath.MIN_YEAR);
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                return context.lengthOfMonth();
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                return context.lengthOfYear();
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
+        MinguoCalendar withNumber(
+            MinguoCalendar context,
+            int value
+        ) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                MinguoCalendar mc = MinguoCalendar.of(context.getEra(), value, context.getMonth(), 1);
+                return mc.with(DAY_OF_MONTH, Math.min(context.getDayOfMonth(), mc.lengthOfMonth()));
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                PlainDate date = context.iso.with(PlainDate.DAY_OF_MONTH, value);
+                return new MinguoCalendar(date);
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                PlainDate date = context.iso.with(PlainDate.DAY_OF_YEAR, value);
+                return new MinguoCalendar(date);
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
         private static int toNumber(Object value) {
 
             return Integer.class.cast(value).intValue();
@@ -1081,6 +1110,53 @@ public final class MinguoCalendar
 
     }
 
+    private static class IntFieldRule
+        extends FieldRule<Integer>
+        implements IntElementRule<MinguoCalendar> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private IntFieldRule(ChronoElement<Integer> element) {
+            super(element);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getInt(MinguoCalendar context) {
+
+            return this.getNumber(context);
+
+        }
+
+        @Override
+        public boolean isValid(
+            MinguoCalendar context,
+            int value
+        ) {
+
+            return ((value >= 1) && (value <= this.getMaxNumber(context)));
+
+        }
+
+        @Override
+        public MinguoCalendar withValue(
+            MinguoCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            if (!this.isValid(context, value)) {
+                throw new IllegalArgumentException("Out of range: " + value);
+            }
+
+            return this.withNumber(context, value);
+
+        }
+
+    }
+
     private static class MinguoUnitRule
         implements UnitRule<MinguoCalendar> {
 
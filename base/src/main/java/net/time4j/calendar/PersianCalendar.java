@@ -50,6 +50,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -1469,7 +1470,7 @@ public final class PersianCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<PersianCalendar, Integer> {
+        implements IntElementRule<PersianCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1487,7 +1488,7 @@ public final class PersianCalendar
         //~ Methoden ------------------------------------------------------
 
         @Override
-        public Integer getValue(PersianCalendar context) {
+        public int getInt(PersianCalendar context) {
 
             switch (this.index) {
                 case YEAR_INDEX:
@@ -1507,55 +1508,29 @@ public final class PersianCalendar
         }
 
         @Override
-        public Integer getMinimum(PersianCalendar context) {
-
-            switch (this.index) {
-                case YEAR_INDEX:
-                case DAY_OF_MONTH_INDEX:
-                case DAY_OF_YEAR_INDEX:
-                    return Integer.valueOf(1);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
-
-        }
-
-        @Override
-        public Integer getMaximum(PersianCalendar context) {
+        public boolean isValid(
+            PersianCalendar context,
+            Integer value
+        ) {
 
-            switch (this.index) {
-                case YEAR_INDEX:
-                    return 3000;
-                case DAY_OF_MONTH_INDEX:
-                    return CALSYS.getLengthOfMonth(PersianEra.ANNO_PERSICO, context.pyear, context.pmonth);
-                case DAY_OF_YEAR_INDEX:
-                    return CALSYS.getLengthOfYear(PersianEra.ANNO_PERSICO, context.pyear);
-                default:
-                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
 
         }
 
         @Override
         public boolean isValid(
             PersianCalendar context,
-            Integer value
+            int value
         ) {
 
-            if (value == null) {
-                return false;
-            }
-
-            Integer min = this.getMinimum(context);
-            Integer max = this.getMaximum(context);
-            return ((min.compareTo(value) <= 0) && (max.compareTo(value) >= 0));
+            return ((this.getMin(context) <= value) && (this.getMax(context) >= value));
 
         }
 
         @Override
         public PersianCalendar withValue(
             PersianCalendar context,
-            Integer value,
+            int value,
             boolean lenient
         ) {
 
@@ -1565,14 +1540,14 @@ public final class PersianCalendar
 
             switch (this.index) {
                 case YEAR_INDEX:
-                    int y = value.intValue();
+                    int y = value;
                     int dmax = CALSYS.getLengthOfMonth(PersianEra.ANNO_PERSICO, y, context.pmonth);
                     int d = Math.min(context.pdom, dmax);
                     return PersianCalendar.of(y, context.pmonth, d);
                 case DAY_OF_MONTH_INDEX:
-                    return new PersianCalendar(context.pyear, context.pmonth, value.intValue());
+                    return new PersianCalendar(context.pyear, context.pmonth, value);
                 case DAY_OF_YEAR_INDEX:
-                    int delta = value.intValue() - this.getValue(context).intValue();
+                    int delta = value - this.getInt(context);
                     return context.plus(CalendarDays.of(delta));
                 default:
                     throw new UnsupportedOperationException("Unknown element index: " + this.index);
@@ -1580,6 +1555,42 @@ public final class PersianCalendar
 
         }
 
+        @Override
+        public Integer getValue(PersianCalendar context) {
+
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public Integer getMinimum(PersianCalendar context) {
+
+            return Integer.valueOf(this.getMin(context));
+
+        }
+
+        @Override
+        public Integer getMaximum(PersianCalendar context) {
+
+            return Integer.valueOf(this.getMax(context));
+
+        }
+
+        @Override
+        public PersianCalendar withValue(
+            PersianCalendar context,
+            Integer value,
+            boolean lenient
+        ) {
+
+            if (value == null) {
+                throw new IllegalArgumentException("Missing element value.");
+            }
+
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
         @Override
         public ChronoElement<?> getChildAtFloor(PersianCalendar context) {
 
@@ -1602,6 +1613,34 @@ public final class PersianCalendar
 
         }
 
+        private int getMin(PersianCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                case DAY_OF_MONTH_INDEX:
+                case DAY_OF_YEAR_INDEX:
+                    return 1;
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
+        private int getMax(PersianCalendar context) {
+
+            switch (this.index) {
+                case YEAR_INDEX:
+                    return 3000;
+                case DAY_OF_MONTH_INDEX:
+                    return CALSYS.getLengthOfMonth(PersianEra.ANNO_PERSICO, context.pyear, context.pmonth);
+                case DAY_OF_YEAR_INDEX:
+                    return CALSYS.getLengthOfYear(PersianEra.ANNO_PERSICO, context.pyear);
+                default:
+                    throw new UnsupportedOperationException("Unknown element index: " + this.index);
+            }
+
+        }
+
     }
 
     private static class MonthRule
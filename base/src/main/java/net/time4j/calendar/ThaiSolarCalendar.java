@@ -49,6 +49,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -301,7 +302,7 @@ public final class ThaiSolarCalendar
                 FieldRule.of(ERA))
             .appendElement(
                 YEAR_OF_ERA,
-                FieldRule.of(YEAR_OF_ERA),
+                new IntFieldRule(YEAR_OF_ERA),
                 CalendarUnit.YEARS)
             .appendElement(
                 MONTH_OF_YEAR,
@@ -312,11 +313,11 @@ public final class ThaiSolarCalendar
                 new RelatedGregorianYearRule<>(CALSYS, DAY_OF_YEAR))
             .appendElement(
                 DAY_OF_MONTH,
-                FieldRule.of(DAY_OF_MONTH),
+                new IntFieldRule(DAY_OF_MONTH),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_YEAR,
-                FieldRule.of(DAY_OF_YEAR),
+                new IntFieldRule(DAY_OF_YEAR),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_WEEK,
@@ -1037,14 +1038,10 @@ public final class ThaiSolarCalendar
 
             if (this.element == ERA) {
                 result = context.getEra();
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                result = context.getYear();
+            } else if (Integer.class.isAssignableFrom(this.element.getType())) {
+                result = Integer.valueOf(this.getNumber(context));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 result = context.getMonth();
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                result = context.getDayOfMonth();
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                result = context.getDayOfYear();
             } else {
                 throw new ChronoException("Missing rule for: " + this.element.name());
             }
@@ -1079,14 +1076,10 @@ public final class ThaiSolarCalendar
 
             if (this.element == ERA) {
                 result = ThaiSolarEra.BUDDHIST;
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                result = Integer.valueOf(GregorianMath.MAX_YEAR + 543);
+            } else if (Integer.class.isAssignableFrom(this.element.getType())) {
+                result = Integer.valueOf(this.getMaxNumber(context));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 result = ((context.getYear() >= 2483) ? Month.DECEMBER : Month.MARCH);
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                result = Integer.valueOf(context.lengthOfMonth());
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                result = Integer.valueOf(context.lengthOfYear());
             } else {
                 throw new ChronoException("Missing rule for: " + this.element.name());
             }
@@ -1130,23 +1123,12 @@ public final class ThaiSolarCalendar
 
             if (this.element == ERA) {
                 return context;
-            } else if (this.element.equals(YEAR_OF_ERA)) {
-                ThaiSolarCalendar tsc = ThaiSolarCalendar.ofBuddhist(toNumber(value), context.getMonth(), 1);
-                return tsc.with(DAY_OF_MONTH, Math.min(context.getDayOfMonth(), tsc.lengthOfMonth()));
             } else if (this.element.equals(MONTH_OF_YEAR)) {
                 ThaiSolarCalendar tsc = ThaiSolarCalendar.ofBuddhist(context.getYear(), Month.class.cast(value), 1);
                 return tsc.with(DAY_OF_MONTH, Math.min(context.getDayOfMonth(), tsc.lengthOfMonth()));
-            } else if (this.element.equals(DAY_OF_MONTH)) {
-                PlainDate date = context.iso.with(PlainDate.DAY_OF_MONTH, toNumber(value));
-                return new ThaiSolarCalendar(date);
-            } else if (this.element.equals(DAY_OF_YEAR)) {
-                int minMonth = ((context.iso.getYear() >= 1941) ? 1 : 4);
-                ThaiSolarCalendar start = ThaiSolarCalendar.ofBuddhist(context.getYear(), minMonth, 1);
-                PlainDate date = start.iso.plus(toNumber(value) - 1, CalendarUnit.DAYS);
-                return new ThaiSolarCalendar(date);
             }
 
-            throw new ChronoException("Missing rule for: " + this.element.name());
+            return this.withNumber(context, toNumber(value));
 
         }
 
@@ -1166,6 +1148,56 @@ public final class ThaiSolarCalendar
 
         }
 
+        int getNumber(ThaiSolarCalendar context) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                return context.getYear();
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                return context.getDayOfMonth();
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                return context.getDayOfYear();
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
+        int getMaxNumber(ThaiSolarCalendar context) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                return GregorianMath.MAX_YEAR + 543;
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                return context.lengthOfMonth();
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                return context.lengthOfYear();
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
+        ThaiSolarCalendar withNumber(
+            ThaiSolarCalendar context,
+            int value
+        ) {
+
+            if (this.element.equals(YEAR_OF_ERA)) {
+                ThaiSolarCalendar tsc = ThaiSolarCalendar.ofBuddhist(value, context.getMonth(), 1);
+                return tsc.with(DAY_OF_MONTH, Math.min(context.getDayOfMonth(), tsc.lengthOfMonth()));
+            } else if (this.element.equals(DAY_OF_MONTH)) {
+                PlainDate date = context.iso.with(PlainDate.DAY_OF_MONTH, value);
+                return new ThaiSolarCalendar(date);
+            } else if (this.element.equals(DAY_OF_YEAR)) {
+                int minMonth = ((context.iso.getYear() >= 1941) ? 1 : 4);
+                ThaiSolarCalendar start = ThaiSolarCalendar.ofBuddhist(context.getYear(), minMonth, 1);
+                PlainDate date = start.iso.plus(value - 1, CalendarUnit.DAYS);
+                return new ThaiSolarCalendar(date);
+            }
+
+            throw new ChronoException("Missing rule for: " + this.element.name());
+
+        }
+
         private static int toNumber(Object value) {
 
             return Integer.class.cast(value).intValue();
@@ -1174,6 +1206,53 @@ public final class ThaiSolarCalendar
 
     }
 
+    private static class IntFieldRule
+        extends FieldRule<Integer>
+        implements IntElementRule<ThaiSolarCalendar> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private IntFieldRule(ChronoElement<Integer> element) {
+            super(element);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getInt(ThaiSolarCalendar context) {
+
+            return this.getNumber(context);
+
+        }
+
+        @Override
+        public boolean isValid(
+            ThaiSolarCalendar context,
+            int value
+        ) {
+
+            return ((value >= 1) && (value <= this.getMaxNumber(context)));
+
+        }
+
+        @Override
+        public ThaiSolarCalendar withValue(
+            ThaiSolarCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            if (!this.isValid(context, value)) {
+                throw new IllegalArgumentException("Out of range: " + value);
+            }
+
+            return this.withNumber(context, value);
+
+        }
+
+    }
+
     private static class ThaiUnitRule
         implements UnitRule<ThaiSolarCalendar> {
 
@@ -1361,11 +1361,11 @@ public final class SolarTime
         return (calculator.equals(StdSolarCalculator.SIMPLE.name()) ? TimeUnit.MINUTES : TimeUnit.SECONDS);
     }
 
-    private double geodeticAngle() {
+    double geodeticAngle() {
         return this.getCalculator().getGeodeticAngle(this.latitude, this.altitude);
     }
 
-    private double zenithAngle() {
+    double zenithAngle() {
         return this.getCalculator().getZenithAngle(this.latitude, this.altitude);
     }
 
@@ -1394,7 +1394,7 @@ public final class SolarTime
         }
     }
 
-    private CalendarDate toLMT(CalendarDate input) {
+    CalendarDate toLMT(CalendarDate input) {
         if ((this.observerZoneID == null) || (Math.abs(this.longitude) < 150.0)) {
             return input;
         }
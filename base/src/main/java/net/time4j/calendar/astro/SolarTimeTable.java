@@ -0,0 +1,943 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SolarTimeTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar.astro;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarDate;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.internal.BoundedCache;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * <p>Precomputed table of sunrise and sunset (or of the begin and end of a twilight) for
+ * one location and a range of calendar dates. </p>
+ *
+ * <p>All results are stored as primitive arrays of POSIX seconds (elapsed since
+ * [1970-01-01T00:00:00Z] without leap seconds). If the event does not happen on a given day
+ * (midnight sun or polar night) then the special value {@link #ABSENT} will be stored. </p>
+ *
+ * <p>The bulk factories compute the tables of many locations in one pass. If the calculator of a location
+ * is {@link StdSolarCalculator#NOAA} or {@link StdSolarCalculator#TIME4J} then the solar declination and
+ * the equation of time are evaluated only once per day and calculator and then shared by all locations
+ * via interpolation. The results are within one second of the single functions
+ * {@link SolarTime#sunrise()} etc. which is far below the general precision of such calculations in
+ * the range of minutes. Other calculators are evaluated day by day using the single functions. </p>
+ *
+ * <p>Example for the next year of a lighting-control service: </p>
+ *
+ * <pre>
+ *     SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0);
+ *     SolarTimeTable table = SolarTimeTable.ofYear(hamburg, 2026); // cached
+ *     long sunset = table.getSunset(PlainDate.of(2026, 3, 20));
+ *     System.out.println(Moment.of(sunset, TimeScale.POSIX));
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Vorausberechnete Tabelle von Sonnenaufgang und Sonnenuntergang (oder von Beginn und Ende einer
+ * D&auml;mmerung) f&uuml;r eine Position und einen Bereich von Kalenderdaten. </p>
+ *
+ * <p>Alle Ergebnisse werden als primitive Arrays von POSIX-Sekunden gespeichert (seit
+ * [1970-01-01T00:00:00Z] verstrichen, ohne Schaltsekunden). Findet das Ereignis an einem Tag
+ * nicht statt (Mitternachtssonne oder Polarnacht), wird der spezielle Wert {@link #ABSENT}
+ * gespeichert. </p>
+ *
+ * <p>Die Massenfabrikmethoden berechnen die Tabellen vieler Positionen in einem Durchgang. Ist der
+ * Algorithmus einer Position {@link StdSolarCalculator#NOAA} oder {@link StdSolarCalculator#TIME4J},
+ * dann werden die Sonnendeklination und die Zeitgleichung nur einmal pro Tag und Algorithmus
+ * ausgewertet und per Interpolation von allen Positionen gemeinsam genutzt. Die Ergebnisse weichen
+ * h&ouml;chstens um eine Sekunde von den einzelnen Funktionen wie {@link SolarTime#sunrise()}
+ * ab, was weit unter der allgemeinen Genauigkeit solcher Berechnungen im Minutenbereich liegt. Andere
+ * Algorithmen werden Tag f&uuml;r Tag mit Hilfe der einzelnen Funktionen ausgewertet. </p>
+ *
+ * <p>Beispiel f&uuml;r das n&auml;chste Jahr eines Dienstes zur Lichtsteuerung: </p>
+ *
+ * <pre>
+ *     SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0);
+ *     SolarTimeTable table = SolarTimeTable.ofYear(hamburg, 2026); // zwischengespeichert
+ *     long sunset = table.getSunset(PlainDate.of(2026, 3, 20));
+ *     System.out.println(Moment.of(sunset, TimeScale.POSIX));
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class SolarTimeTable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>Marks a missing event in the arrays of POSIX seconds. </p>
+     */
+    /*[deutsch]
+     * <p>Markiert ein fehlendes Ereignis in den Arrays von POSIX-Sekunden. </p>
+     */
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final SolarTime location;
+    private final Twilight twilight;
+    private final long startDay;
+    private final long[] sunrises;
+    private final long[] sunsets;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SolarTimeTable(
+        SolarTime location,
+        Twilight twilight,
+        long startDay,
+        long[] sunrises,
+        long[] sunsets
+    ) {
+        super();
+
+        this.location = location;
+        this.twilight = twilight;
+        this.startDay = startDay;
+        this.sunrises = sunrises;
+        this.sunsets = sunsets;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Computes the table of sunrise and sunset for given location and date range. </p>
+     *
+     * @param   location    geographical location
+     * @param   start       first calendar date (inclusive)
+     * @param   end         last calendar date (inclusive)
+     * @return  new table
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  net.time4j.engine.ChronoException if a date does not exist in the observer zone of the location
+     */
+    /*[deutsch]
+     * <p>Berechnet die Tabelle von Sonnenaufgang und Sonnenuntergang f&uuml;r die angegebene Position
+     * und den angegebenen Datumsbereich. </p>
+     *
+     * @param   location    geographical location
+     * @param   start       first calendar date (inclusive)
+     * @param   end         last calendar date (inclusive)
+     * @return  new table
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  net.time4j.engine.ChronoException if a date does not exist in the observer zone of the location
+     */
+    public static SolarTimeTable of(
+        SolarTime location,
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        return of(Collections.singletonList(location), start, end).get(0);
+
+    }
+
+    /**
+     * <p>Computes the table of given twilight at sunrise and sunset for given location and date range. </p>
+     *
+     * @param   location    geographical location
+     * @param   twilight    relevant definition of twilight
+     * @param   start       first calendar date (inclusive)
+     * @param   end         last calendar date (inclusive)
+     * @return  new table
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  net.time4j.engine.ChronoException if a date does not exist in the observer zone of the location
+     */
+    /*[deutsch]
+     * <p>Berechnet die Tabelle der angegebenen D&auml;mmerung zum Sonnenaufgang und Sonnenuntergang
+     * f&uuml;r die angegebene Position und den angegebenen Datumsbereich. </p>
+     *
+     * @param   location    geographical location
+     * @param   twilight    relevant definition of twilight
+     * @param   start       first calendar date (inclusive)
+     * @param   end         last calendar date (inclusive)
+     * @return  new table
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  net.time4j.engine.ChronoException if a date does not exist in the observer zone of the location
+     */
+    public static SolarTimeTable of(
+        SolarTime location,
+        Twilight twilight,
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        return of(Collections.singletonList(location), twilight, start, end).get(0);
+
+    }
+
+    /**
+     * <p>Computes the tables of sunrise and sunset for many locations and given date range in one pass. </p>
+     *
+     * @param   locations   geographical locations
+     * @param   start       first calendar date (inclusive)
+     * @param   end         last calendar date (inclusive)
+     * @return  unmodifiable list of new tables in the order of given locations
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  net.time4j.engine.ChronoException if a date does not exist in the observer zone of a location
+     */
+    /*[deutsch]
+     * <p>Berechnet die Tabellen von Sonnenaufgang und Sonnenuntergang f&uuml;r viele Positionen
+     * und den angegebenen Datumsbereich in einem Durchgang. </p>
+     *
+     * @param   locations   geographical locations
+     * @param   start       first calendar date (inclusive)
+     * @param   end         last calendar date (inclusive)
+     * @return  unmodifiable list of new tables in the order of given locations
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  net.time4j.engine.ChronoException if a date does not exist in the observer zone of a location
+     */
+    public static List<SolarTimeTable> of(
+        Collection<SolarTime> locations,
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        return compute(locations, null, start, end);
+
+    }
+
+    /**
+     * <p>Computes the tables of given twilight for many locations and given date range in one pass. </p>
+     *
+     * @param   locations   geographical locations
+     * @param   twilight    relevant definition of twilight
+     * @param   start       first calendar date (inclusive)
+     * @param   end         last calendar date (inclusive)
+     * @return  unmodifiable list of new tables in the order of given locations
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  net.time4j.engine.ChronoException if a date does not exist in the observer zone of a location
+     */
+    /*[deutsch]
+     * <p>Berechnet die Tabellen der angegebenen D&auml;mmerung f&uuml;r viele Positionen
+     * und den angegebenen Datumsbereich in einem Durchgang. </p>
+     *
+     * @param   locations   geographical locations
+     * @param   twilight    relevant definition of twilight
+     * @param   start       first calendar date (inclusive)
+     * @param   end         last calendar date (inclusive)
+     * @return  unmodifiable list of new tables in the order of given locations
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  net.time4j.engine.ChronoException if a date does not exist in the observer zone of a location
+     */
+    public static List<SolarTimeTable> of(
+        Collection<SolarTime> locations,
+        Twilight twilight,
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        return compute(locations, Objects.requireNonNull(twilight, "Missing twilight."), start, end);
+
+    }
+
+    /**
+     * <p>Obtains the cached table of sunrise and sunset for given location and gregorian year. </p>
+     *
+     * <p>If the table is not yet cached then it will be computed and stored in the cache. </p>
+     *
+     * @param   location    geographical location
+     * @param   year        gregorian year
+     * @return  cached table for the whole year
+     * @throws  IllegalArgumentException if the year is out of range
+     * @see     Cache
+     */
+    /*[deutsch]
+     * <p>Liefert die zwischengespeicherte Tabelle von Sonnenaufgang und Sonnenuntergang f&uuml;r die
+     * angegebene Position und das angegebene gregorianische Jahr. </p>
+     *
+     * <p>Ist die Tabelle noch nicht im Cache, wird sie berechnet und dort gespeichert. </p>
+     *
+     * @param   location    geographical location
+     * @param   year        gregorian year
+     * @return  cached table for the whole year
+     * @throws  IllegalArgumentException if the year is out of range
+     * @see     Cache
+     */
+    public static SolarTimeTable ofYear(
+        SolarTime location,
+        int year
+    ) {
+
+        return Cache.lookup(location, null, year);
+
+    }
+
+    /**
+     * <p>Obtains the cached table of given twilight for given location and gregorian year. </p>
+     *
+     * <p>If the table is not yet cached then it will be computed and stored in the cache. </p>
+     *
+     * @param   location    geographical location
+     * @param   twilight    relevant definition of twilight
+     * @param   year        gregorian year
+     * @return  cached table for the whole year
+     * @throws  IllegalArgumentException if the year is out of range
+     * @see     Cache
+     */
+    /*[deutsch]
+     * <p>Liefert die zwischengespeicherte Tabelle der angegebenen D&auml;mmerung f&uuml;r die
+     * angegebene Position und das angegebene gregorianische Jahr. </p>
+     *
+     * <p>Ist die Tabelle noch nicht im Cache, wird sie berechnet und dort gespeichert. </p>
+     *
+     * @param   location    geographical location
+     * @param   twilight    relevant definition of twilight
+     * @param   year        gregorian year
+     * @return  cached table for the whole year
+     * @throws  IllegalArgumentException if the year is out of range
+     * @see     Cache
+     */
+    public static SolarTimeTable ofYear(
+        SolarTime location,
+        Twilight twilight,
+        int year
+    ) {
+
+        return Cache.lookup(location, Objects.requireNonNull(twilight, "Missing twilight."), year);
+
+    }
+
+    /**
+     * <p>Yields the associated geographical location. </p>
+     *
+     * @return  SolarTime
+     */
+    /*[deutsch]
+     * <p>Liefert die zugeh&ouml;rige geographische Position. </p>
+     *
+     * @return  SolarTime
+     */
+    public SolarTime getLocation() {
+
+        return this.location;
+
+    }
+
+    /**
+     * <p>Yields the twilight definition if this table does not describe sunrise and sunset. </p>
+     *
+     * @return  optional twilight
+     */
+    /*[deutsch]
+     * <p>Liefert die D&auml;mmerungsdefinition, wenn diese Tabelle nicht Sonnenaufgang und
+     * Sonnenuntergang beschreibt. </p>
+     *
+     * @return  optional twilight
+     */
+    public Optional<Twilight> getTwilight() {
+
+        return Optional.ofNullable(this.twilight);
+
+    }
+
+    /**
+     * <p>Yields the first calendar date of this table. </p>
+     *
+     * @return  PlainDate
+     */
+    /*[deutsch]
+     * <p>Liefert das erste Kalenderdatum dieser Tabelle. </p>
+     *
+     * @return  PlainDate
+     */
+    public PlainDate getStart() {
+
+        return PlainDate.of(this.startDay, EpochDays.UTC);
+
+    }
+
+    /**
+     * <p>Yields the last calendar date of this table. </p>
+     *
+     * @return  PlainDate
+     */
+    /*[deutsch]
+     * <p>Liefert das letzte Kalenderdatum dieser Tabelle. </p>
+     *
+     * @return  PlainDate
+     */
+    public PlainDate getEnd() {
+
+        return PlainDate.of(this.startDay + this.sunrises.length - 1, EpochDays.UTC);
+
+    }
+
+    /**
+     * <p>Yields the count of days in this table. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Tage in dieser Tabelle. </p>
+     *
+     * @return  int
+     */
+    public int length() {
+
+        return this.sunrises.length;
+
+    }
+
+    /**
+     * <p>Yields the sunrise (or the begin of twilight) on given date in POSIX seconds. </p>
+     *
+     * @param   date    calendar date inside the range of this table
+     * @return  POSIX seconds or {@link #ABSENT}
+     * @throws  IllegalArgumentException if given date is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Sonnenaufgang (oder den Beginn der D&auml;mmerung) am angegebenen Tag
+     * in POSIX-Sekunden. </p>
+     *
+     * @param   date    calendar date inside the range of this table
+     * @return  POSIX seconds or {@link #ABSENT}
+     * @throws  IllegalArgumentException if given date is out of range
+     */
+    public long getSunrise(CalendarDate date) {
+
+        return this.sunrises[this.indexOf(date)];
+
+    }
+
+    /**
+     * <p>Yields the sunset (or the end of twilight) on given date in POSIX seconds. </p>
+     *
+     * @param   date    calendar date inside the range of this table
+     * @return  POSIX seconds or {@link #ABSENT}
+     * @throws  IllegalArgumentException if given date is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Sonnenuntergang (oder das Ende der D&auml;mmerung) am angegebenen Tag
+     * in POSIX-Sekunden. </p>
+     *
+     * @param   date    calendar date inside the range of this table
+     * @return  POSIX seconds or {@link #ABSENT}
+     * @throws  IllegalArgumentException if given date is out of range
+     */
+    public long getSunset(CalendarDate date) {
+
+        return this.sunsets[this.indexOf(date)];
+
+    }
+
+    /**
+     * <p>Yields a copy of all sunrises (or begins of twilight) in POSIX seconds, one for each day. </p>
+     *
+     * @return  array of POSIX seconds with {@link #ABSENT} for missing events
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller Sonnenaufg&auml;nge (oder D&auml;mmerungsbeginne) in POSIX-Sekunden,
+     * einen f&uuml;r jeden Tag. </p>
+     *
+     * @return  array of POSIX seconds with {@link #ABSENT} for missing events
+     */
+    public long[] getSunrises() {
+
+        return this.sunrises.clone();
+
+    }
+
+    /**
+     * <p>Yields a copy of all sunsets (or ends of twilight) in POSIX seconds, one for each day. </p>
+     *
+     * @return  array of POSIX seconds with {@link #ABSENT} for missing events
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller Sonnenunterg&auml;nge (oder D&auml;mmerungsenden) in POSIX-Sekunden,
+     * einen f&uuml;r jeden Tag. </p>
+     *
+     * @return  array of POSIX seconds with {@link #ABSENT} for missing events
+     */
+    public long[] getSunsets() {
+
+        return this.sunsets.clone();
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("SolarTimeTable[location=");
+        sb.append(this.location);
+        if (this.twilight != null) {
+            sb.append(",twilight=");
+            sb.append(this.twilight);
+        }
+        sb.append(",start=");
+        sb.append(this.getStart());
+        sb.append(",end=");
+        sb.append(this.getEnd());
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    private int indexOf(CalendarDate date) {
+
+        long index = date.getDaysSinceEpochUTC() - this.startDay;
+
+        if ((index < 0) || (index >= this.sunrises.length)) {
+            throw new IllegalArgumentException("Date out of range: " + date);
+        }
+
+        return (int) index;
+
+    }
+
+    private static List<SolarTimeTable> compute(
+        Collection<SolarTime> locations,
+        Twilight twilight,
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        long startDay = start.getDaysSinceEpochUTC();
+        long endDay = end.getDaysSinceEpochUTC();
+
+        if (endDay < startDay) {
+            throw new IllegalArgumentException("End is before start: " + start + "/" + end);
+        } else if (endDay - startDay >= Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Date range too long: " + start + "/" + end);
+        }
+
+        int n = (int) (endDay - startDay + 1);
+        Map<String, DaySeries> series = new HashMap<>();
+        List<SolarTimeTable> tables = new ArrayList<>(locations.size());
+
+        for (SolarTime location : locations) {
+            SolarTime.Calculator c = location.getCalculator();
+            double zenith = (
+                (twilight == null)
+                ? location.zenithAngle()
+                : 90.0 + location.geodeticAngle() + twilight.getAngle());
+            long[] sunrises = new long[n];
+            long[] sunsets = new long[n];
+
+            if ((c == StdSolarCalculator.NOAA) || (c == StdSolarCalculator.TIME4J)) {
+                // LMT-dates and local events can deviate by about one day from the input
+                StdSolarCalculator std = (StdSolarCalculator) c;
+                DaySeries ds = series.computeIfAbsent(std.name(), name -> new DaySeries(std, startDay - 3, n + 6));
+                boolean iterative = (std == StdSolarCalculator.TIME4J);
+
+                for (int i = 0; i < n; i++) {
+                    long day = location.toLMT(PlainDate.of(startDay + i, EpochDays.UTC)).getDaysSinceEpochUTC();
+                    ds.events(day, location.getLatitude(), location.getLongitude(), zenith, iterative, sunrises, sunsets, i);
+                }
+            } else {
+                for (int i = 0; i < n; i++) {
+                    CalendarDate date = location.toLMT(PlainDate.of(startDay + i, EpochDays.UTC));
+                    double lat = location.getLatitude();
+                    double lon = location.getLongitude();
+                    sunrises[i] = toPosix(c.sunrise(date, lat, lon, zenith));
+                    sunsets[i] = toPosix(c.sunset(date, lat, lon, zenith));
+                }
+            }
+
+            tables.add(new SolarTimeTable(location, twilight, startDay, sunrises, sunsets));
+        }
+
+        return Collections.unmodifiableList(tables);
+
+    }
+
+    private static long toPosix(Optional<Moment> event) {
+
+        return (event.isPresent() ? event.get().getPosixTime() : ABSENT);
+
+    }
+
+    // see SolarTime.fromLocalEvent()
+    private static Moment ofUT(double elapsed) {
+
+        long secs = (long) Math.floor(elapsed);
+        int nanos = (int) ((elapsed - secs) * 1_000_000_000);
+        TimeScale scale = TimeScale.UT;
+
+        if (!LeapSeconds.getInstance().isEnabled()) {
+            secs += (86400 * 730);
+            scale = TimeScale.POSIX;
+        }
+
+        return Moment.of(secs, nanos, scale);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Bounded cache of yearly tables used by {@code ofYear(...)}. </p>
+     *
+     * <p>The maximum count of cached tables can be configured by the system property
+     * &quot;net.time4j.astro.solar.cache.size&quot; (default is {@code 1024}, zero disables
+     * the cache). When the cache is full then the least recently used tables will be removed. </p>
+     *
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Begrenzter Cache von Jahrestabellen, der von {@code ofYear(...)} verwendet wird. </p>
+     *
+     * <p>Die maximale Anzahl der zwischengespeicherten Tabellen kann mit der System-Property
+     * &quot;net.time4j.astro.solar.cache.size&quot; konfiguriert werden (Vorgabe ist {@code 1024},
+     * null schaltet den Cache ab). Ist der Cache voll, werden die am l&auml;ngsten nicht benutzten
+     * Tabellen entfernt. </p>
+     *
+     * @since   5.10
+     */
+    public static final class Cache {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final BoundedCache<CacheKey, SolarTimeTable> ENTRIES;
+
+        static {
+            int size = 1024;
+            String property = System.getProperty("net.time4j.astro.solar.cache.size");
+
+            if (property != null) {
+                try {
+                    size = Math.max(0, Integer.parseInt(property.trim()));
+                } catch (NumberFormatException nfe) {
+                    // use default
+                }
+            }
+
+            ENTRIES = new BoundedCache<>(size);
+        }
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Cache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Sets the maximum count of cached tables. </p>
+         *
+         * @param   maximumSize     new maximum size (zero disables the cache)
+         * @throws  IllegalArgumentException if given size is negative
+         */
+        /*[deutsch]
+         * <p>Setzt die maximale Anzahl der zwischengespeicherten Tabellen. </p>
+         *
+         * @param   maximumSize     new maximum size (zero disables the cache)
+         * @throws  IllegalArgumentException if given size is negative
+         */
+        public static void setMaximumSize(int maximumSize) {
+
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("Maximum cache size must not be negative: " + maximumSize);
+            }
+
+            ENTRIES.setMaximumSize(maximumSize);
+
+        }
+
+        /**
+         * <p>Yields the maximum count of cached tables. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die maximale Anzahl der zwischengespeicherten Tabellen. </p>
+         *
+         * @return  int
+         */
+        public static int getMaximumSize() {
+
+            return ENTRIES.getMaximumSize();
+
+        }
+
+        /**
+         * <p>Yields the current count of cached tables. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der zwischengespeicherten Tabellen. </p>
+         *
+         * @return  int
+         */
+        public static int getSize() {
+
+            return ENTRIES.size();
+
+        }
+
+        /**
+         * <p>Removes all cached tables. </p>
+         */
+        /*[deutsch]
+         * <p>Entfernt alle zwischengespeicherten Tabellen. </p>
+         */
+        public static void clear() {
+
+            ENTRIES.clear();
+
+        }
+
+        static SolarTimeTable lookup(
+            SolarTime location,
+            Twilight twilight,
+            int year
+        ) {
+
+            PlainDate start = PlainDate.of(year, 1, 1);
+            PlainDate end = PlainDate.of(year, 12, 31);
+
+            if (ENTRIES.getMaximumSize() == 0) {
+                return compute(Collections.singletonList(location), twilight, start, end).get(0);
+            }
+
+            CacheKey key = new CacheKey(location, twilight, year);
+            SolarTimeTable table = ENTRIES.get(key);
+
+            if (table != null) {
+                return table;
+            }
+
+            table = compute(Collections.singletonList(location), twilight, start, end).get(0);
+            SolarTimeTable cached = ENTRIES.putIfAbsent(key, table);
+            return ((cached == null) ? table : cached); // maybe concurrently created
+
+        }
+
+    }
+
+    private static final class CacheKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final SolarTime location;
+        private final Twilight twilight;
+        private final int year;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        CacheKey(
+            SolarTime location,
+            Twilight twilight,
+            int year
+        ) {
+            super();
+
+            this.location = location;
+            this.twilight = twilight;
+            this.year = year;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof CacheKey) {
+                CacheKey that = (CacheKey) obj;
+                return (
+                    (this.year == that.year)
+                    && (this.twilight == that.twilight)
+                    && this.location.equals(that.location)
+                );
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return (this.location.hashCode() * 31 + Objects.hashCode(this.twilight)) * 31 + this.year;
+
+        }
+
+    }
+
+    // declination and equation of time sampled at the begin of every day (UT), shared by all locations
+    private static final class DaySeries {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long firstDay;
+        private final double[] jde;
+        private final double[] declination; // in radians
+        private final double[] eot; // in seconds
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DaySeries(
+            StdSolarCalculator calculator,
+            long firstDay,
+            int count
+        ) {
+            super();
+
+            this.firstDay = firstDay;
+            this.jde = new double[count];
+            this.declination = new double[count];
+            this.eot = new double[count];
+
+            for (int i = 0; i < count; i++) {
+                Moment m = ofUT((firstDay + i) * 86400.0);
+                double jd = JulianDay.getValue(m, TimeScale.TT);
+                this.jde[i] = jd;
+                this.declination[i] = Math.toRadians(calculator.declination(jd));
+                this.eot[i] = calculator.equationOfTime(jd);
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // see StdSolarCalculator.NOAA/TIME4J.event()
+        void events(
+            long day,
+            double latitude,
+            double longitude,
+            double zenith,
+            boolean iterative,
+            long[] sunrises,
+            long[] sunsets,
+            int index
+        ) {
+
+            // transit at noon in two steps, see SolarTime.fromLocalEvent()
+            double ut = day * 86400.0 + 12 * 3600 - longitude * 240;
+            double noon = ut - this.interpolate(this.eot, ut - this.interpolate(this.eot, ut));
+            Moment m = ofUT(noon);
+            double latInRad = Math.toRadians(latitude);
+            double cosZenith = Math.cos(Math.toRadians(zenith));
+            double mid = day * 86400.0 + 12 * 3600; // reference for interpolation in UT
+            double offset = noon - mid;
+
+            sunrises[index] = this.event(true, m, mid, offset, latInRad, cosZenith, iterative);
+            sunsets[index] = this.event(false, m, mid, offset, latInRad, cosZenith, iterative);
+
+        }
+
+        private long event(
+            boolean rise,
+            Moment m,
+            double mid,
+            double offset,
+            double latInRad,
+            double cosZenith,
+            boolean iterative
+        ) {
+
+            double oldH;
+            double newH = 0.0;
+            int loops = 0;
+
+            do {
+                oldH = newH;
+                newH = this.localHourAngle(rise, mid + offset + oldH, latInRad, cosZenith);
+                if (Double.isNaN(newH)) {
+                    return ABSENT;
+                }
+                loops++;
+            } while (iterative ? (Math.abs(newH - oldH) >= 15) : (loops < 2));
+
+            long secs = (long) Math.floor(newH);
+            int nanos = (int) ((newH - secs) * 1_000_000_000);
+            long posix = m.getPosixTime() + secs;
+            int sum = m.getNanosecond() + nanos;
+
+            if (sum >= 1_000_000_000) {
+                posix++;
+            }
+
+            return posix;
+
+        }
+
+        private double localHourAngle(
+            boolean rise,
+            double ut,
+            double latInRad,
+            double cosZenith
+        ) {
+
+            double decInRad = this.interpolate(this.declination, ut);
+            double cosH =
+                (cosZenith - (Math.sin(decInRad) * Math.sin(latInRad)))
+                    / (Math.cos(decInRad) * Math.cos(latInRad));
+
+            if ((Double.compare(cosH, 1.0) > 0) || (Double.compare(cosH, -1.0) < 0)) {
+                // the sun never rises or sets on this location (on the specified date)
+                return Double.NaN;
+            }
+
+            double hourAngle = Math.toDegrees(Math.acos(cosH)) * 240; // in decimal seconds
+            return (rise ? -hourAngle : hourAngle);
+
+        }
+
+        // cubic lagrange interpolation between the daily samples
+        private double interpolate(
+            double[] values,
+            double ut
+        ) {
+
+            double x = ut / 86400.0 - this.firstDay;
+            int i = Math.max(1, Math.min(values.length - 3, (int) Math.floor(x)));
+            double t = x - i;
+            double p0 = values[i - 1];
+            double p1 = values[i];
+            double p2 = values[i + 1];
+            double p3 = values[i + 2];
+
+            return (
+                -t * (t - 1) * (t - 2) / 6 * p0
+                + (t + 1) * (t - 1) * (t - 2) / 2 * p1
+                - (t + 1) * t * (t - 2) / 2 * p2
+                + (t + 1) * t * (t - 1) / 6 * p3
+            );
+
+        }
+
+    }
+
+}
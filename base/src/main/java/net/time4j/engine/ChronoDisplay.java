@@ -126,6 +126,34 @@ public interface ChronoDisplay {
 
     }
 
+    /**
+     * <p>Returns the partial value associated with given chronological element. </p>
+     *
+     * @param   element     element which has the value
+     * @return  associated element value as long primitive or {@code Long.MIN_VALUE} if not available
+     * @see     #get(ChronoElement)
+     * @see     #getInt(ChronoElement)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Fragt ein chronologisches Element nach seinem Wert als long-Primitive ab. </p>
+     *
+     * @param   element     element which has the value
+     * @return  associated element value as long primitive or {@code Long.MIN_VALUE} if not available
+     * @see     #get(ChronoElement)
+     * @see     #getInt(ChronoElement)
+     * @since   5.10
+     */
+    default long getLong(ChronoElement<Long> element) {
+
+        try {
+            return this.get(element).longValue();
+        } catch (ChronoException ex) {
+            return Long.MIN_VALUE;
+        }
+
+    }
+
     /**
      * <p>Yields the minimum value of given chronological element in the
      * current context of this object. </p>
@@ -106,6 +106,23 @@ public abstract class ChronoEntity<T extends ChronoEntity<T>>
 
     }
 
+    @Override
+    public long getLong(ChronoElement<Long> element) {
+
+        LongElementRule<T> longRule = this.getChronology().getLongRule(element);
+
+        try {
+            if (longRule == null) {
+                return this.get(element).longValue();
+            } else {
+                return longRule.getLong(this.getContext());
+            }
+        } catch (ChronoException ex) {
+            return Long.MIN_VALUE;
+        }
+
+    }
+
     @Override
     public <V> V getMinimum(ChronoElement<V> element) {
 
@@ -308,6 +325,12 @@ public abstract class ChronoEntity<T extends ChronoEntity<T>>
         long value
     ) {
 
+        LongElementRule<T> longRule = this.getChronology().getLongRule(element);
+
+        if (longRule != null) {
+            return longRule.isValid(this.getContext(), value);
+        }
+
         return this.isValid(element, Long.valueOf(value));
 
     }
@@ -430,6 +453,12 @@ public abstract class ChronoEntity<T extends ChronoEntity<T>>
         long value
     ) {
 
+        LongElementRule<T> longRule = this.getChronology().getLongRule(element);
+
+        if (longRule != null) {
+            return longRule.withValue(this.getContext(), value, element.isLenient());
+        }
+
         return this.with(element, Long.valueOf(value));
 
     }
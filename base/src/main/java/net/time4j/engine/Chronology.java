@@ -34,6 +34,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 
@@ -58,6 +60,7 @@ public class Chronology<T>
 
     private static final List<ChronoReference> CHRONOS = new CopyOnWriteArrayList<>();
     private static final ReferenceQueue<Chronology<?>> QUEUE = new ReferenceQueue<>();
+    private static final int MAX_DERIVED_RULES = 256;
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -66,6 +69,8 @@ public class Chronology<T>
     private final Map<ChronoElement<?>, ElementRule<T, ?>> ruleMap;
     private final List<ChronoExtension> extensions;
     private final Map<ChronoElement<?>, IntElementRule<T>> intRules;
+    private final Map<ChronoElement<?>, LongElementRule<T>> longRules;
+    private final ConcurrentMap<ChronoElement<?>, DerivedRule<T>> derivedRules;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -87,6 +92,8 @@ public class Chronology<T>
         this.ruleMap = Collections.emptyMap();
         this.extensions = Collections.emptyList();
         this.intRules = Collections.emptyMap();
+        this.longRules = Collections.emptyMap();
+        this.derivedRules = new ConcurrentHashMap<>();
 
     }
 
@@ -123,12 +130,15 @@ public class Chronology<T>
         this.extensions = Collections.unmodifiableList(extensions);
 
         Map<ChronoElement<?>, IntElementRule<T>> tmpRules = new HashMap<>();
+        Map<ChronoElement<?>, LongElementRule<T>> tmpLongRules = new HashMap<>();
 
         for (ChronoElement<?> element : this.ruleMap.keySet()) {
-            if ((element.getType() == Integer.class) && isSingleton(element)) {
+            if (isSingleton(element)) {
                 Object rule = this.ruleMap.get(element);
-                if (rule instanceof IntElementRule) {
+                if ((element.getType() == Integer.class) && (rule instanceof IntElementRule)) {
                     tmpRules.put(element, (IntElementRule<T>) rule);
+                } else if ((element.getType() == Long.class) && (rule instanceof LongElementRule)) {
+                    tmpLongRules.put(element, (LongElementRule<T>) rule);
                 }
             }
         }
@@ -136,6 +146,10 @@ public class Chronology<T>
         Map<ChronoElement<?>, IntElementRule<T>> intRules = new IdentityHashMap<>(tmpRules.size());
         intRules.putAll(tmpRules);
         this.intRules = intRules;
+        Map<ChronoElement<?>, LongElementRule<T>> longRules = new IdentityHashMap<>(tmpLongRules.size());
+        longRules.putAll(tmpLongRules);
+        this.longRules = longRules;
+        this.derivedRules = new ConcurrentHashMap<>();
 
     }
 
@@ -220,6 +234,7 @@ public class Chronology<T>
         } else {
             return (
                 this.isRegistered(element)
+                || (this.getCachedRule(element) != null)
                 || (this.getDerivedRule(element, false) != null)
             );
         }
@@ -478,10 +493,16 @@ public class Chronology<T>
         ElementRule<?, ?> rule = this.ruleMap.get(element);
 
         if (rule == null) {
-            rule = this.getDerivedRule(element, true);
+            rule = this.getCachedRule(element);
 
             if (rule == null) {
-                throw new RuleNotFoundException(this, element);
+                rule = this.getDerivedRule(element, true);
+
+                if (rule == null) {
+                    throw new RuleNotFoundException(this, element);
+                }
+
+                this.cacheRule(element, rule);
             }
         }
 
@@ -498,7 +519,79 @@ public class Chronology<T>
      */
     IntElementRule<T> getIntegerRule(ChronoElement<Integer> element) {
 
-        return this.intRules.get(element);
+        IntElementRule<T> rule = this.intRules.get(element);
+
+        if ((rule == null) && !this.derivedRules.isEmpty()) {
+            DerivedRule<T> derived = this.derivedRules.get(element);
+
+            if ((derived != null) && (derived.element == element)) {
+                rule = derived.intRule;
+            }
+        }
+
+        return rule;
+
+    }
+
+    /**
+     * <p>Bestimmt eine chronologische long-basierte Regel zum angegebenen Element. </p>
+     *
+     * @param   element     chronologisches Element
+     * @return  Regelobjekt oder {@code null} wenn nicht vorhanden
+     * @since   5.10
+     */
+    LongElementRule<T> getLongRule(ChronoElement<Long> element) {
+
+        LongElementRule<T> rule = this.longRules.get(element);
+
+        if ((rule == null) && !this.derivedRules.isEmpty()) {
+            DerivedRule<T> derived = this.derivedRules.get(element);
+
+            if ((derived != null) && (derived.element == element)) {
+                rule = derived.longRule;
+            }
+        }
+
+        return rule;
+
+    }
+
+    // liefert eine gemerkte abgeleitete Regel, aber nur zur selben Element-Instanz
+    private ElementRule<T, ?> getCachedRule(ChronoElement<?> element) {
+
+        DerivedRule<T> derived = this.derivedRules.get(element);
+        return (((derived != null) && (derived.element == element)) ? derived.rule : null);
+
+    }
+
+    // merkt sich eine abgeleitete Regel, falls das Element keinen fremden ClassLoader festhält
+    @SuppressWarnings("unchecked")
+    private void cacheRule(
+        ChronoElement<?> element,
+        ElementRule<?, ?> rule
+    ) {
+
+        if ((this.derivedRules.size() < MAX_DERIVED_RULES) && this.isCacheable(element)) {
+            this.derivedRules.putIfAbsent(element, new DerivedRule<>(element, (ElementRule<T, ?>) rule));
+        }
+
+    }
+
+    private boolean isCacheable(ChronoElement<?> element) {
+
+        ClassLoader loader = element.getClass().getClassLoader();
+
+        if (loader == null) {
+            return true; // bootstrap
+        }
+
+        for (ClassLoader cl = this.chronoType.getClassLoader(); cl != null; cl = cl.getParent()) {
+            if (cl == loader) {
+                return true;
+            }
+        }
+
+        return false;
 
     }
 
@@ -532,7 +625,7 @@ public class Chronology<T>
             return BasicElement.class.cast(element).isSingleton();
         }
 
-        return false;
+        return (element instanceof Enum); // Gleichheit von Enums ist immer Identität
 
     }
 
@@ -780,6 +873,40 @@ public class Chronology<T>
 
     }
 
+    // abgeleitete Regel zu genau einer Element-Instanz
+    private static class DerivedRule<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ChronoElement<?> element;
+        private final ElementRule<T, ?> rule;
+        private final IntElementRule<T> intRule;
+        private final LongElementRule<T> longRule;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        @SuppressWarnings("unchecked")
+        DerivedRule(
+            ChronoElement<?> element,
+            ElementRule<T, ?> rule
+        ) {
+            super();
+
+            this.element = element;
+            this.rule = rule;
+            this.intRule = (
+                ((element.getType() == Integer.class) && (rule instanceof IntElementRule))
+                ? (IntElementRule<T>) rule
+                : null);
+            this.longRule = (
+                ((element.getType() == Long.class) && (rule instanceof LongElementRule))
+                ? (LongElementRule<T>) rule
+                : null);
+
+        }
+
+    }
+
     // Schwache Referenz auf ein chronologisches System
     private static class ChronoReference
         extends WeakReference<Chronology<?>> {
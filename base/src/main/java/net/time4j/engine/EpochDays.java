@@ -339,7 +339,7 @@ public enum EpochDays
     //~ Innere Klassen ----------------------------------------------------
 
     private static class Rule<D extends ChronoEntity<D>>
-        implements ElementRule<D, Long> {
+        implements LongElementRule<D> {
 
         //~ Statische Felder/Initialisierungen ----------------------------
 
@@ -368,12 +368,14 @@ public enum EpochDays
         @Override
         public Long getValue(D context) {
 
-            long days =
-                this.element.transform(
-                    this.calsys.transform(context) + UTC_OFFSET,
-                    EpochDays.UNIX);
+            return Long.valueOf(this.getLong(context));
 
-            return Long.valueOf(days);
+        }
+
+        @Override
+        public long getLong(D context) {
+
+            return this.element.transform(this.calsys.transform(context) + UTC_OFFSET, EpochDays.UNIX);
 
         }
 
@@ -383,14 +385,20 @@ public enum EpochDays
             Long value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.longValue()));
+
+        }
+
+        @Override
+        public boolean isValid(
+            D context,
+            long value
+        ) {
 
             try {
                 long days =
                     Math.subtractExact(
-                        EpochDays.UNIX.transform(value.longValue(), this.element),
+                        EpochDays.UNIX.transform(value, this.element),
                         UTC_OFFSET
                     );
 
@@ -415,9 +423,20 @@ public enum EpochDays
                 throw new IllegalArgumentException("Missing epoch day value.");
             }
 
+            return this.withValue(context, value.longValue(), lenient);
+
+        }
+
+        @Override
+        public D withValue(
+            D context,
+            long value,
+            boolean lenient
+        ) {
+
             long utcDays =
                 Math.subtractExact(
-                    EpochDays.UNIX.transform(value.longValue(), this.element),
+                    EpochDays.UNIX.transform(value, this.element),
                     UTC_OFFSET
                 );
 
@@ -0,0 +1,157 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LongElementRule.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.engine;
+
+
+/**
+ * <p>Element rule with support for long-primitives. </p>
+ *
+ * <p><strong>Note:</strong> All implementations must be <i>immutable</i>. </p>
+ *
+ * @param   <T> generic type of time context compatible to {@code ChronoEntity}
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert eine Elementregel mit Unterst&uuml;tzung
+ * f&uuml;r java-long-primitives. </p>
+ *
+ * <p><strong>Hinweis:</strong> Alle Implementierungen m&uuml;ssen <i>immutable</i> sein. </p>
+ *
+ * @param   <T> generic type of time context compatible to {@code ChronoEntity}
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public interface LongElementRule<T>
+    extends ElementRule<T, Long> {
+
+    //~ Methoden ------------------------------------------------------
+
+    /**
+     * <p>Yields the current value of associated element in given
+     * chronological context. </p>
+     *
+     * <p>Will be called by {@link ChronoEntity#getLong(ChronoElement)}. </p>
+     *
+     * @param   context     time context to be evaluated
+     * @return  current element value as long-primitive
+     * @throws  ChronoException if the associated element value cannot be evaluated
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Ermittelt den aktuellen Wert des assoziierten Elements
+     * im angegebenen Zeitwertkontext. </p>
+     *
+     * <p>Wird von {@link ChronoEntity#getLong(ChronoElement)} aufgerufen. </p>
+     *
+     * @param   context     time context to be evaluated
+     * @return  current element value as long-primitive
+     * @throws  ChronoException if the associated element value cannot be evaluated
+     * @since   5.10
+     */
+    long getLong(T context);
+
+    /**
+     * <p>Queries if given value is valid for the element associated with this
+     * rule in given context. </p>
+     *
+     * <p>Will be called by {@link ChronoEntity#isValid(ChronoElement, long)}.
+     * A numerical overflow causing an {@code ArithmeticException} will usually
+     * not be checked. </p>
+     *
+     * @param   context     time context to be evaluated
+     * @param   value       candidate value to be validated
+     * @return  {@code true} if valid else {@code false}
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Ist der angegebene Wert zum mit dieser Regel assoziierten
+     * Element im angegebenen Kontext g&uuml;ltig? </p>
+     *
+     * <p>Wird von {@link ChronoEntity#isValid(ChronoElement, long)} aufgerufen.
+     * Eine numerische &Uuml;berlaufsituation im Hinblick auf eine {@code ArithmeticException}
+     * wird in der Regel nicht gepr&uuml;ft. </p>
+     *
+     * @param   context     time context to be evaluated
+     * @param   value       candidate value to be validated
+     * @return  {@code true} if valid else {@code false}
+     * @since   5.10
+     */
+    boolean isValid(
+        T context,
+        long value
+    );
+
+    /**
+     * <p>Determines the new value of the associated element in given
+     * chronological context and yields the result. </p>
+     *
+     * <p>Will be called by {@link ChronoEntity#with(ChronoElement, long)}.
+     * The lenient mode causes the tolerant interpretation of invalid
+     * values like 31st of April as 1st of May. This mode is only
+     * active if an element is either explicitly declared as lenient or if
+     * the method {@code StdOperator.setLenient()} is used. </p>
+     *
+     * @param   context     time context to be evaluated
+     * @param   value       new element value
+     * @param   lenient     leniency mode
+     * @return  changed copy of context which itself remains unaffected
+     * @throws  IllegalArgumentException if given value is out of range or
+     *          not valid dependent on the given time context
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #isValid(Object, long)
+     * @see     StdOperator#setLenient(Object, ChronoElement)
+     * @see     ChronoElement#isLenient()
+     * @see     net.time4j.ProportionalElement#setLenient(Number)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Bestimmt den neuen Wert des assoziierten Elements im
+     * angegebenen Zeitwertkontext und liefert das Ergebnis. </p>
+     *
+     * <p>Wird von {@link ChronoEntity#with(ChronoElement, long)} aufgerufen.
+     * Der Nachsichtigkeitsmodus f&uuml;hrt dazu, da&szlig; eigentlich
+     * ung&uuml;ltige Werte wie der 31. April als 1. Mai interpretiert werden.
+     * Aktiv ist dieser Modus nur bei Verwendung der einen Operator liefernden
+     * Methode {@code StdOperator.setLenient()} oder wenn das Element
+     * ausdr&uuml;cklich als nachsichtig deklariert wird. </p>
+     *
+     * @param   context     time context to be evaluated
+     * @param   value       new element value
+     * @param   lenient     leniency mode
+     * @return  changed copy of context which itself remains unaffected
+     * @throws  IllegalArgumentException if given value is out of range or
+     *          not valid dependent on the given time context
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #isValid(Object, long)
+     * @see     StdOperator#setLenient(Object, ChronoElement)
+     * @see     ChronoElement#isLenient()
+     * @see     net.time4j.ProportionalElement#setLenient(Number)
+     * @since   5.10
+     */
+    T withValue(
+        T context,
+        long value,
+        boolean lenient
+    );
+
+}
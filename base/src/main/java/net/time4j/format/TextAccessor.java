@@ -24,9 +24,12 @@ package net.time4j.format;
 import net.time4j.engine.AttributeQuery;
 
 import java.text.ParsePosition;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 
 /**
@@ -50,10 +53,13 @@ public final class TextAccessor {
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final char PROTECTED_SPACE = '\u00A0'; // ASCII-0160
+    private static final int DEFAULT_MODE = 3; // case-insensitive and smart
 
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private final Trie[] tries; // per parse mode, lazy except for the default mode
+    private volatile Constants constants;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -66,6 +72,8 @@ public final class TextAccessor {
         super();
 
         this.textForms = Collections.unmodifiableList(Arrays.asList(textForms));
+        this.tries = new Trie[4];
+        this.tries[DEFAULT_MODE] = Trie.create(this.textForms, true, true);
 
     }
 
@@ -292,7 +300,43 @@ public final class TextAccessor {
         boolean smart
     ) {
 
-        V[] enums = valueType.getEnumConstants();
+        V[] enums = this.getConstants(valueType);
+        int start = status.getIndex();
+
+        if (enums.length == this.textForms.size()) {
+            int mode = (caseInsensitive ? 1 : 0) + (smart ? 2 : 0);
+            Trie trie = this.tries[mode];
+
+            if (trie == null) {
+                trie = Trie.create(this.textForms, caseInsensitive, smart);
+                this.tries[mode] = trie; // immutable, so racy publication is harmless
+            }
+
+            long result = trie.find(parseable, start, partialCompare);
+
+            if (result >= 0) {
+                status.setIndex((int) result);
+                return enums[(int) (result >>> 32)];
+            } else if (result == Trie.NO_MATCH) {
+                status.setErrorIndex(start);
+                return null;
+            }
+        }
+
+        return this.parseLinear(parseable, status, enums, caseInsensitive, partialCompare, smart);
+
+    }
+
+    // Vergleich mit allen Textformen nacheinander, falls der Trie nicht anwendbar ist
+    private <V extends Enum<V>> V parseLinear(
+        CharSequence parseable,
+        ParsePosition status,
+        V[] enums,
+        boolean caseInsensitive,
+        boolean partialCompare,
+        boolean smart
+    ) {
+
         int len = this.textForms.size();
         int start = status.getIndex();
         int end = parseable.length();
@@ -345,7 +389,7 @@ public final class TextAccessor {
             if (smart && firstTry && (n == 5) && (s.charAt(4) == '.')) {
                 int dot = start + 3;
                 if ((pos == dot) && (dot < end) && (parseable.charAt(dot) == '.')) {
-                    alt = s.subSequence(start, dot) + ".";
+                    alt = s.substring(0, 3) + ".";
                     i--; // reset loop counter for repeating
                     continue;
                 }
@@ -377,6 +421,20 @@ public final class TextAccessor {
 
     }
 
+    @SuppressWarnings("unchecked")
+    private <V extends Enum<V>> V[] getConstants(Class<V> valueType) {
+
+        Constants c = this.constants;
+
+        if ((c == null) || (c.type != valueType)) {
+            c = new Constants(valueType, valueType.getEnumConstants());
+            this.constants = c;
+        }
+
+        return (V[]) c.values;
+
+    }
+
     private boolean compareIgnoreCase(char c1, char c2) {
 
         if (c1 >= 'a' && c1 <= 'z') {
@@ -399,4 +457,345 @@ public final class TextAccessor {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Constants {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Class<?> type;
+        private final Object[] values;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Constants(
+            Class<?> type,
+            Object[] values
+        ) {
+            super();
+
+            this.type = type;
+            this.values = values;
+
+        }
+
+    }
+
+    /**
+     * <p>Unver&auml;nderlicher Pr&auml;fixbaum aller Textformen f&uuml;r einen Parse-Modus, der
+     * das Ergebnis des linearen Vergleichs in einem Durchlauf ohne Objekterzeugung liefert. </p>
+     *
+     * <p>Im Modus ohne Ber&uuml;cksichtigung der Gro&szlig;- und Kleinschreibung werden die
+     * Zeichen so normiert, da&szlig; gleiche Schl&uuml;ssel genau den Vergleichen von
+     * {@code compareIgnoreCase()} entsprechen. Die wenigen Nicht-ASCII-Zeichen, deren
+     * Normierung ein ASCII-Zeichen ergibt, behalten als Textform ihren eigenen Schl&uuml;ssel,
+     * weil sie nur zu sich selbst passen. Als Eingabe passen sie auch zu ihrem ASCII-Partner,
+     * so da&szlig; dann beide Kindknoten gepr&uuml;ft werden. </p>
+     */
+    private static class Trie {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        static final long NO_MATCH = -1L;
+        static final long UNRESOLVED = -2L;
+
+        private static final int NONE = -1;
+        private static final int SEVERAL = -2;
+
+        // kein Trie möglich, immer linearer Vergleich
+        private static final Trie UNSUPPORTED =
+            new Trie(false, false, new int[] {0, 0}, new char[0], new int[0], new int[1], new int[1], new int[1]);
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean folded;
+        private final boolean smart;
+        private final int[] first; // index of first child per node (length = count of nodes + 1)
+        private final char[] keys; // sorted per node
+        private final int[] targets;
+        private final int[] subtree; // unique ordinal of all forms passing the node, NONE or SEVERAL
+        private final int[] full; // smallest ordinal of multi-char or empty forms ending at the node or NONE
+        private final int[] single; // unique ordinal of single-char forms ending at the node, NONE or SEVERAL
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Trie(
+            boolean folded,
+            boolean smart,
+            int[] first,
+            char[] keys,
+            int[] targets,
+            int[] subtree,
+            int[] full,
+            int[] single
+        ) {
+            super();
+
+            this.folded = folded;
+            this.smart = smart;
+            this.first = first;
+            this.keys = keys;
+            this.targets = targets;
+            this.subtree = subtree;
+            this.full = full;
+            this.single = single;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static Trie create(
+            List<String> textForms,
+            boolean caseInsensitive,
+            boolean smart
+        ) {
+
+            Node root = new Node();
+
+            for (int ordinal = 0, n = textForms.size(); ordinal < n; ordinal++) {
+                String s = textForms.get(ordinal);
+                char[] key = new char[s.length()];
+
+                for (int i = 0; i < key.length; i++) {
+                    char t = s.charAt(i);
+
+                    if (smart && (t == PROTECTED_SPACE)) {
+                        t = ' ';
+                    }
+
+                    if (caseInsensitive) {
+                        if ((t == '\u03D1') || (t == '\u03F4')) {
+                            return UNSUPPORTED; // greek theta symbols are not transitive in case-insensitive mode
+                        }
+                        key[i] = (isSpecial(t) ? t : fold(t));
+                    } else {
+                        key[i] = t;
+                    }
+                }
+
+                root.insert(key, ordinal, (key.length == 1));
+
+                // special smart procedure for handling "Sept." versus "Sep." in German
+                if (smart && (key.length == 5) && (s.charAt(4) == '.') && (key[3] != '.')) {
+                    char[] alt = {key[0], key[1], key[2], '.'};
+                    root.insert(alt, ordinal, false);
+                }
+            }
+
+            // Breitensuche: die Kinder eines Knotens liegen zusammenhängend und sortiert
+            List<Node> nodes = new ArrayList<>();
+            nodes.add(root);
+            int edges = 0;
+
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                node.id = i;
+                nodes.addAll(node.children.values());
+                edges += node.children.size();
+            }
+
+            int count = nodes.size();
+            int[] first = new int[count + 1];
+            char[] keys = new char[edges];
+            int[] targets = new int[edges];
+            int[] subtree = new int[count];
+            int[] full = new int[count];
+            int[] single = new int[count];
+            int e = 0;
+
+            for (Node node : nodes) {
+                first[node.id] = e;
+                subtree[node.id] = node.subtree;
+                full[node.id] = node.full;
+                single[node.id] = node.single;
+
+                for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                    keys[e] = child.getKey().charValue();
+                    targets[e] = child.getValue().id;
+                    e++;
+                }
+            }
+
+            first[count] = e;
+            subtree[0] = NONE; // the root does not count as match
+            return new Trie(caseInsensitive, smart, first, keys, targets, subtree, full, single);
+
+        }
+
+        /**
+         * <p>Searches the longest path of given text in this trie. </p>
+         *
+         * @param   text            text to be parsed
+         * @param   start           start position
+         * @param   partialCompare  shall the unique form with the longest common prefix be found?
+         * @return  ordinal in high 32 bits and new position in low 32 bits,
+         *          {@code NO_MATCH} or {@code UNRESOLVED}
+         */
+        long find(
+            CharSequence text,
+            int start,
+            boolean partialCompare
+        ) {
+
+            if (this == UNSUPPORTED) {
+                return UNRESOLVED;
+            }
+
+            int end = text.length();
+            int node = 0;
+            int depth = 0;
+            int best = this.full[0];
+            int bestDepth = 0;
+            int singleChar = NONE;
+
+            while (start + depth < end) {
+                char c = text.charAt(start + depth);
+
+                if (this.smart && (c == PROTECTED_SPACE)) {
+                    c = ' ';
+                }
+
+                int child;
+
+                if (this.folded) {
+                    child = this.child(node, fold(c));
+
+                    if (isSpecial(c)) {
+                        int alt = this.child(node, c);
+                        if (alt != NONE) {
+                            if (child != NONE) {
+                                return UNRESOLVED;
+                            }
+                            child = alt;
+                        }
+                    }
+                } else {
+                    child = this.child(node, c);
+                }
+
+                if (child == NONE) {
+                    break;
+                }
+
+                node = child;
+                depth++;
+
+                int f = this.full[node];
+
+                if ((f != NONE) && ((best == NONE) || (f < best))) {
+                    best = f;
+                    bestDepth = depth;
+                }
+
+                if (depth == 1) {
+                    singleChar = this.single[node];
+                }
+            }
+
+            if (partialCompare) {
+                if ((depth > 0) && (this.subtree[node] >= 0)) {
+                    return ((long) this.subtree[node] << 32) | (start + depth);
+                }
+            } else if (best != NONE) {
+                return ((long) best << 32) | (start + bestDepth);
+            } else if (singleChar >= 0) {
+                return ((long) singleChar << 32) | (start + 1);
+            }
+
+            return NO_MATCH;
+
+        }
+
+        private int child(
+            int node,
+            char key
+        ) {
+
+            int low = this.first[node];
+            int high = this.first[node + 1] - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char k = this.keys[mid];
+
+                if (k < key) {
+                    low = mid + 1;
+                } else if (k > key) {
+                    high = mid - 1;
+                } else {
+                    return this.targets[mid];
+                }
+            }
+
+            return NONE;
+
+        }
+
+        // ASCII-Buchstaben klein, sonst Kleinschreibung der Großschreibung
+        private static char fold(char c) {
+
+            if (c < 128) {
+                return (((c >= 'A') && (c <= 'Z')) ? (char) (c + 'a' - 'A') : c);
+            }
+
+            return Character.toLowerCase(Character.toUpperCase(c));
+
+        }
+
+        // Nicht-ASCII-Zeichen mit ASCII-Normierung (etwa dotless i oder Kelvin)
+        private static boolean isSpecial(char c) {
+
+            return ((c >= 128) && (fold(c) < 128));
+
+        }
+
+    }
+
+    private static class Node {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Map<Character, Node> children = new TreeMap<>();
+        private int subtree = Trie.NONE;
+        private int full = Trie.NONE;
+        private int single = Trie.NONE;
+        private int id;
+
+        //~ Methoden ------------------------------------------------------
+
+        void insert(
+            char[] key,
+            int ordinal,
+            boolean singleChar
+        ) {
+
+            Node node = this;
+
+            for (char c : key) {
+                Node next = node.children.get(Character.valueOf(c));
+
+                if (next == null) {
+                    next = new Node();
+                    node.children.put(Character.valueOf(c), next);
+                }
+
+                node = next;
+
+                if (node.subtree == Trie.NONE) {
+                    node.subtree = ordinal;
+                } else if (node.subtree != ordinal) {
+                    node.subtree = Trie.SEVERAL;
+                }
+            }
+
+            if (singleChar) {
+                node.single = ((node.single == Trie.NONE) ? ordinal : Trie.SEVERAL);
+            } else if ((node.full == Trie.NONE) || (ordinal < node.full)) {
+                node.full = ordinal;
+            }
+
+        }
+
+    }
+
 }
@@ -0,0 +1,144 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BufferAppender.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Wiederverwendbarer Adapter, der formatierten Text direkt in ein {@code char}-Array
+ * oder als ASCII-Bytes in einen {@code ByteBuffer} schreibt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class BufferAppender
+    implements Appendable {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private char[] chars = null;
+    private ByteBuffer bytes = null;
+    private int pos = 0;
+    private boolean inUse = false;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public Appendable append(CharSequence csq) {
+
+        return this.append(csq, 0, csq.length());
+
+    }
+
+    @Override
+    public Appendable append(
+        CharSequence csq,
+        int start,
+        int end
+    ) {
+
+        for (int i = start; i < end; i++) {
+            this.append(csq.charAt(i));
+        }
+
+        return this;
+
+    }
+
+    @Override
+    public Appendable append(char c) {
+
+        if (this.chars == null) {
+            if (c > 0x7F) {
+                throw new IllegalArgumentException("Not an ASCII-character: " + c);
+            }
+            this.bytes.put((byte) c);
+        } else {
+            this.chars[this.pos] = c;
+        }
+
+        this.pos++;
+        return this;
+
+    }
+
+    /**
+     * <p>Versucht, diese Instanz f&uuml;r das angegebene Array zu reservieren. </p>
+     *
+     * @param   buffer  target array
+     * @param   offset  start position in target array
+     * @return  {@code false} if this instance is already in use (nested printing) else {@code true}
+     */
+    boolean open(
+        char[] buffer,
+        int offset
+    ) {
+
+        if (this.inUse) {
+            return false;
+        } else if ((offset < 0) || (offset > buffer.length)) {
+            throw new IndexOutOfBoundsException("Offset out of range: " + offset);
+        }
+
+        this.inUse = true;
+        this.chars = buffer;
+        this.pos = offset;
+        return true;
+
+    }
+
+    /**
+     * <p>Versucht, diese Instanz f&uuml;r den angegebenen Byte-Puffer zu reservieren. </p>
+     *
+     * @param   buffer  target byte buffer
+     * @return  {@code false} if this instance is already in use (nested printing) else {@code true}
+     */
+    boolean open(ByteBuffer buffer) {
+
+        if (this.inUse) {
+            return false;
+        }
+
+        this.inUse = true;
+        this.bytes = buffer;
+        this.pos = 0;
+        return true;
+
+    }
+
+    /**
+     * <p>Gibt diese Instanz wieder frei. </p>
+     *
+     * @return  current position in char array or count of written bytes
+     */
+    int close() {
+
+        int result = this.pos;
+        this.chars = null;
+        this.bytes = null;
+        this.inUse = false;
+        return result;
+
+    }
+
+}
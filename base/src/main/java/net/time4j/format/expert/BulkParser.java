@@ -0,0 +1,493 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BulkParser.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.engine.ChronoEntity;
+
+import java.util.BitSet;
+import java.util.function.ToLongFunction;
+
+
+/**
+ * <p>Parses many cells of a large text in one call, for example all timestamps of a CSV-column. </p>
+ *
+ * <p>The cells are either given by start and end offsets or separated by a delimiter. Every cell must
+ * be matched completely by the underlying {@code ChronoFormatter} (unless it tolerates trailing characters)
+ * respective by one of the formats of the underlying {@code MultiFormatParser}. In contrast to
+ * {@code parse(CharSequence)}, failures never throw any {@code ParseException} but are reported
+ * by cell index. </p>
+ *
+ * <p>Every call uses only one parse log and one reusable character window over the original text for
+ * all cells, so no substrings are created. The parsed values per cell and the result objects are still
+ * created by the underlying parser. Instances are immutable and can be shared by many threads because
+ * every call has its own parse state. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     static final BulkParser&lt;Moment&gt; PARSER =
+ *         BulkParser.of(ChronoFormatter.ofMomentPattern(
+ *             &quot;uuuu-MM-dd HH:mm:ss&quot;, PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC));
+ *
+ *     long[] seconds = new long[count];
+ *     BitSet failures = new BitSet();
+ *     int errors = PARSER.parse(column, starts, ends, count, Moment::getPosixTime, seconds, failures);
+ * </pre>
+ *
+ * @param   <T> generic type of parsed results
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Interpretiert viele Zellen eines gro&szlig;en Texts in einem Aufruf, zum Beispiel alle
+ * Zeitstempel einer CSV-Spalte. </p>
+ *
+ * <p>Die Zellen werden entweder durch Start- und Endpositionen angegeben oder durch ein Trennzeichen
+ * getrennt. Jede Zelle mu&szlig; vom zugrundeliegenden {@code ChronoFormatter} vollst&auml;ndig
+ * erfasst werden (es sei denn, er toleriert Zeichen am Ende) bzw. von einem der Formate des
+ * zugrundeliegenden {@code MultiFormatParser}. Im Unterschied zu {@code parse(CharSequence)} werfen
+ * Fehler nie eine {@code ParseException}, sondern werden pro Zellenindex gemeldet. </p>
+ *
+ * <p>Jeder Aufruf verwendet nur ein Log und ein wiederverwendbares Zeichenfenster &uuml;ber dem
+ * urspr&uuml;nglichen Text f&uuml;r alle Zellen, so da&szlig; keine Teiltexte erzeugt werden. Die
+ * interpretierten Werte pro Zelle und die Ergebnisobjekte werden weiterhin vom zugrundeliegenden
+ * Parser erzeugt. Instanzen sind unver&auml;nderlich und k&ouml;nnen von vielen Threads gemeinsam
+ * benutzt werden, weil jeder Aufruf seinen eigenen Interpretierungszustand hat. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     static final BulkParser&lt;Moment&gt; PARSER =
+ *         BulkParser.of(ChronoFormatter.ofMomentPattern(
+ *             &quot;uuuu-MM-dd HH:mm:ss&quot;, PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC));
+ *
+ *     long[] seconds = new long[count];
+ *     BitSet failures = new BitSet();
+ *     int errors = PARSER.parse(column, starts, ends, count, Moment::getPosixTime, seconds, failures);
+ * </pre>
+ *
+ * @param   <T> generic type of parsed results
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class BulkParser<T> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final CellParser<T> delegate;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BulkParser(CellParser<T> delegate) {
+        super();
+
+        this.delegate = delegate;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a bulk parser based on given formatter. </p>
+     *
+     * @param   <T> generic type of parsed results
+     * @param   formatter   the formatter to be used for every cell
+     * @return  new bulk parser
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Massenparser auf Basis des angegebenen Formatierers. </p>
+     *
+     * @param   <T> generic type of parsed results
+     * @param   formatter   the formatter to be used for every cell
+     * @return  new bulk parser
+     */
+    public static <T> BulkParser<T> of(ChronoFormatter<T> formatter) {
+
+        return new BulkParser<>(formatter::parseCell);
+
+    }
+
+    /**
+     * <p>Creates a bulk parser based on given multi-format-parser. </p>
+     *
+     * @param   <T> generic type of parsed results
+     * @param   parser      the multi-format-parser to be used for every cell
+     * @return  new bulk parser
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Massenparser auf Basis des angegebenen {@code MultiFormatParser}. </p>
+     *
+     * @param   <T> generic type of parsed results
+     * @param   parser      the multi-format-parser to be used for every cell
+     * @return  new bulk parser
+     */
+    public static <T extends ChronoEntity<T>> BulkParser<T> of(MultiFormatParser<T> parser) {
+
+        return new BulkParser<>(parser::parseCell);
+
+    }
+
+    /**
+     * <p>Parses all cells given by offsets and passes the results to given sink. </p>
+     *
+     * @param   text        the whole text containing all cells
+     * @param   starts      start offsets of cells (inclusive)
+     * @param   ends        end offsets of cells (exclusive)
+     * @param   count       count of cells
+     * @param   sink        receiver of results and failures
+     * @return  count of failures
+     * @throws  IndexOutOfBoundsException if any offset is out of range
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle durch Positionen angegebenen Zellen und &uuml;bergibt die Ergebnisse
+     * an den angegebenen Empf&auml;nger. </p>
+     *
+     * @param   text        the whole text containing all cells
+     * @param   starts      start offsets of cells (inclusive)
+     * @param   ends        end offsets of cells (exclusive)
+     * @param   count       count of cells
+     * @param   sink        receiver of results and failures
+     * @return  count of failures
+     * @throws  IndexOutOfBoundsException if any offset is out of range
+     */
+    public int parse(
+        CharSequence text,
+        int[] starts,
+        int[] ends,
+        int count,
+        Sink<? super T> sink
+    ) {
+
+        if ((count < 0) || (count > starts.length) || (count > ends.length)) {
+            throw new IndexOutOfBoundsException("Invalid count of cells: " + count);
+        }
+
+        Window window = new Window(text);
+        ParseLog status = new ParseLog();
+        int failures = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (!this.parseCell(window, starts[i], ends[i], status, i, sink)) {
+                failures++;
+            }
+        }
+
+        return failures;
+
+    }
+
+    /**
+     * <p>Parses all cells separated by given delimiter and passes the results to given sink. </p>
+     *
+     * <p>The cell index counts from zero. A text with n delimiters has n + 1 cells. Empty cells
+     * count as failures. </p>
+     *
+     * @param   text        the whole text containing all cells
+     * @param   delimiter   separator char between cells, for example a comma or a line feed
+     * @param   sink        receiver of results and failures
+     * @return  count of failures
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle durch das angegebene Trennzeichen getrennten Zellen und &uuml;bergibt
+     * die Ergebnisse an den angegebenen Empf&auml;nger. </p>
+     *
+     * <p>Der Zellenindex z&auml;hlt ab null. Ein Text mit n Trennzeichen hat n + 1 Zellen. Leere
+     * Zellen z&auml;hlen als Fehler. </p>
+     *
+     * @param   text        the whole text containing all cells
+     * @param   delimiter   separator char between cells, for example a comma or a line feed
+     * @param   sink        receiver of results and failures
+     * @return  count of failures
+     */
+    public int parse(
+        CharSequence text,
+        char delimiter,
+        Sink<? super T> sink
+    ) {
+
+        Window window = new Window(text);
+        ParseLog status = new ParseLog();
+        int failures = 0;
+        int index = 0;
+        int start = 0;
+        int len = text.length();
+
+        for (int pos = 0; pos <= len; pos++) {
+            if ((pos == len) || (text.charAt(pos) == delimiter)) {
+                if (!this.parseCell(window, start, pos, status, index, sink)) {
+                    failures++;
+                }
+                index++;
+                start = pos + 1;
+            }
+        }
+
+        return failures;
+
+    }
+
+    /**
+     * <p>Parses all cells given by offsets and writes the results mapped to {@code long}
+     * into given array. </p>
+     *
+     * <p>The array elements of failed cells stay unchanged, and their indices are set in
+     * given bit set. </p>
+     *
+     * @param   text        the whole text containing all cells
+     * @param   starts      start offsets of cells (inclusive)
+     * @param   ends        end offsets of cells (exclusive)
+     * @param   count       count of cells
+     * @param   mapper      function which maps any result to a primitive value
+     * @param   target      array for the primitive results (starting at index zero)
+     * @param   failures    bit set which receives the indices of failed cells
+     * @return  count of failures
+     * @throws  IndexOutOfBoundsException if any offset is out of range or if the target array is too small
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle durch Positionen angegebenen Zellen und schreibt die in {@code long}
+     * umgewandelten Ergebnisse in das angegebene Array. </p>
+     *
+     * <p>Die Array-Elemente fehlerhafter Zellen bleiben unver&auml;ndert, und ihre Indexwerte
+     * werden in der angegebenen Bitmenge gesetzt. </p>
+     *
+     * @param   text        the whole text containing all cells
+     * @param   starts      start offsets of cells (inclusive)
+     * @param   ends        end offsets of cells (exclusive)
+     * @param   count       count of cells
+     * @param   mapper      function which maps any result to a primitive value
+     * @param   target      array for the primitive results (starting at index zero)
+     * @param   failures    bit set which receives the indices of failed cells
+     * @return  count of failures
+     * @throws  IndexOutOfBoundsException if any offset is out of range or if the target array is too small
+     */
+    public int parse(
+        CharSequence text,
+        int[] starts,
+        int[] ends,
+        int count,
+        ToLongFunction<? super T> mapper,
+        long[] target,
+        BitSet failures
+    ) {
+
+        if (count > target.length) {
+            throw new IndexOutOfBoundsException("Target array too small: " + target.length + " < " + count);
+        }
+
+        return this.parse(
+            text,
+            starts,
+            ends,
+            count,
+            new Sink<T>() {
+                @Override
+                public void accept(int index, T result) {
+                    target[index] = mapper.applyAsLong(result);
+                }
+                @Override
+                public void reject(int index, int errorIndex, String message) {
+                    failures.set(index);
+                }
+            }
+        );
+
+    }
+
+    private boolean parseCell(
+        Window window,
+        int start,
+        int end,
+        ParseLog status,
+        int index,
+        Sink<? super T> sink
+    ) {
+
+        if ((start < 0) || (end > window.text.length()) || (start > end)) {
+            throw new IndexOutOfBoundsException("Invalid cell " + index + ": [" + start + "," + end + ")");
+        } else if (start == end) {
+            sink.reject(index, start, "Empty cell.");
+            return false;
+        }
+
+        window.move(start, end);
+        T result = this.delegate.parseCell(window, status);
+
+        if (result == null) {
+            sink.reject(index, start + Math.max(0, status.getErrorIndex()), status.getErrorMessage());
+            return false;
+        }
+
+        sink.accept(index, result);
+        return true;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Receives the results of bulk parsing in ascending order of cell indices. </p>
+     *
+     * @param   <T> generic type of parsed results
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Empf&auml;ngt die Ergebnisse der Massenverarbeitung in aufsteigender Reihenfolge der
+     * Zellenindizes. </p>
+     *
+     * @param   <T> generic type of parsed results
+     * @since   5.10
+     */
+    @FunctionalInterface
+    public interface Sink<T> {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Receives the result of a successfully parsed cell. </p>
+         *
+         * @param   index   cell index
+         * @param   result  parsed result
+         */
+        /*[deutsch]
+         * <p>Empf&auml;ngt das Ergebnis einer erfolgreich interpretierten Zelle. </p>
+         *
+         * @param   index   cell index
+         * @param   result  parsed result
+         */
+        void accept(
+            int index,
+            T result
+        );
+
+        /**
+         * <p>Receives the failure of a cell. </p>
+         *
+         * <p>The default implementation does nothing. </p>
+         *
+         * @param   index       cell index
+         * @param   errorIndex  position of error in the whole text
+         * @param   message     error message
+         */
+        /*[deutsch]
+         * <p>Empf&auml;ngt den Fehler einer Zelle. </p>
+         *
+         * <p>Die Standardimplementierung tut nichts. </p>
+         *
+         * @param   index       cell index
+         * @param   errorIndex  position of error in the whole text
+         * @param   message     error message
+         */
+        default void reject(
+            int index,
+            int errorIndex,
+            String message
+        ) {
+            // no-op
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface CellParser<T> {
+
+        //~ Methoden ------------------------------------------------------
+
+        T parseCell(
+            CharSequence text,
+            ParseLog status
+        );
+
+    }
+
+    // verschiebbares Fenster über dem Gesamttext, vermeidet Teiltexte
+    private static class Window
+        implements CharSequence {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final CharSequence text;
+        private int start;
+        private int len;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Window(CharSequence text) {
+            super();
+
+            this.text = text;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int length() {
+
+            return this.len;
+
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            if ((index < 0) || (index >= this.len)) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+
+            return this.text.charAt(this.start + index);
+
+        }
+
+        @Override
+        public CharSequence subSequence(
+            int start,
+            int end
+        ) {
+
+            if ((start < 0) || (end > this.len) || (start > end)) {
+                throw new StringIndexOutOfBoundsException("[" + start + "," + end + ")");
+            }
+
+            return this.text.subSequence(this.start + start, this.start + end);
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.text.subSequence(this.start, this.start + this.len).toString();
+
+        }
+
+        void move(
+            int start,
+            int end
+        ) {
+
+            this.start = start;
+            this.len = end - start;
+
+        }
+
+    }
+
+}
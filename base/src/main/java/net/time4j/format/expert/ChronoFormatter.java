@@ -62,6 +62,7 @@ import net.time4j.format.RawValues;
 import net.time4j.format.TemporalFormatter;
 import net.time4j.format.TextElement;
 import net.time4j.format.TextWidth;
+import net.time4j.format.internal.BoundedCache;
 import net.time4j.history.ChronoHistory;
 import net.time4j.history.internal.HistoricAttribute;
 import net.time4j.scale.UniversalTime;
@@ -75,6 +76,7 @@ import net.time4j.tz.ZonalOffset;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.text.DateFormat;
@@ -95,6 +97,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
@@ -207,6 +210,8 @@ public final class ChronoFormatter<T>
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    private static final ThreadLocal<BufferAppender> APPENDERS = ThreadLocal.withInitial(BufferAppender::new);
+
     /**
      * <p>Special formatter for printing or parsing moments according
      * to the <a href="https://tools.ietf.org/html/rfc1123">RFC-1123-specification</a>. </p>
@@ -786,6 +791,146 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Prints given chronological entity into given buffer without collecting any element positions. </p>
+     *
+     * <p>In contrast to {@link #print(Object, Appendable, AttributeQuery)}, this method neither creates
+     * a set of element positions nor any intermediate string so it is suitable for high-throughput
+     * scenarios like logging. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Textausgabe im angegebenen Puffer, ohne Elementpositionen zu sammeln. </p>
+     *
+     * <p>Im Unterschied zu {@link #print(Object, Appendable, AttributeQuery)} erzeugt diese Methode
+     * weder eine Menge von Elementpositionen noch eine Zwischenzeichenkette und eignet sich deshalb
+     * f&uuml;r Szenarien mit hohem Durchsatz wie zum Beispiel das Protokollieren. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @since   5.10
+     */
+    public void printTo(
+        T formattable,
+        Appendable buffer
+    ) throws IOException {
+
+        ChronoDisplay display = this.display(formattable, this.globalAttributes);
+        this.print(display, buffer, this.globalAttributes, false);
+
+    }
+
+    /**
+     * <p>Prints given chronological entity directly into given char array. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target array
+     * @param   offset          start position in target array
+     * @return  count of written characters
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is out of range or the array is too small
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Textausgabe direkt im angegebenen {@code char}-Array. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target array
+     * @param   offset          start position in target array
+     * @return  count of written characters
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is out of range or the array is too small
+     * @since   5.10
+     */
+    public int printTo(
+        T formattable,
+        char[] buffer,
+        int offset
+    ) {
+
+        BufferAppender appender = APPENDERS.get();
+
+        if (!appender.open(buffer, offset)) {
+            appender = new BufferAppender(); // reentrant call
+            appender.open(buffer, offset);
+        }
+
+        try {
+            this.print(this.display(formattable, this.globalAttributes), appender, this.globalAttributes, false);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        } finally {
+            offset = appender.close() - offset;
+        }
+
+        return offset;
+
+    }
+
+    /**
+     * <p>Prints given chronological entity as sequence of ASCII-bytes directly into given byte buffer. </p>
+     *
+     * <p>The position of the byte buffer will be advanced by the count of written bytes. If
+     * the printing fails then the position of the byte buffer will be restored. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target byte buffer
+     * @return  count of written bytes
+     * @throws  IllegalArgumentException if given object is not formattable or if any non-ASCII-char is printed
+     * @throws  java.nio.BufferOverflowException if the byte buffer has not enough remaining space
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Textausgabe als Folge von ASCII-Bytes direkt im angegebenen Byte-Puffer. </p>
+     *
+     * <p>Die Position des Byte-Puffers wird um die Anzahl der geschriebenen Bytes erh&ouml;ht. Wenn
+     * die Formatierung scheitert, wird die Position des Byte-Puffers wiederhergestellt. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target byte buffer
+     * @return  count of written bytes
+     * @throws  IllegalArgumentException if given object is not formattable or if any non-ASCII-char is printed
+     * @throws  java.nio.BufferOverflowException if the byte buffer has not enough remaining space
+     * @since   5.10
+     */
+    public int printTo(
+        T formattable,
+        ByteBuffer buffer
+    ) {
+
+        BufferAppender appender = APPENDERS.get();
+
+        if (!appender.open(buffer)) {
+            appender = new BufferAppender(); // reentrant call
+            appender.open(buffer);
+        }
+
+        int start = buffer.position();
+        boolean success = false;
+
+        try {
+            this.print(this.display(formattable, this.globalAttributes), appender, this.globalAttributes, false);
+            success = true;
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        } finally {
+            appender.close();
+            if (!success) {
+                buffer.position(start);
+            }
+        }
+
+        return buffer.position() - start;
+
+    }
+
     // also directly called by CustomizedProcessor and StyleProcessor
     Set<ElementPosition> print(
         ChronoDisplay formattable,
@@ -973,6 +1118,41 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Interpretes the whole given text like {@link #parse(CharSequence)} but reports
+     * any failure only in given reused parse log. </p>
+     *
+     * @param   text        text to be parsed (typically a cell of bulk data)
+     * @param   status      reused parse log which will be reset
+     * @return  result or {@code null} if parsing does not work
+     * @see     BulkParser
+     */
+    T parseCell(
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        status.reset();
+        T result = this.parse(text, status);
+
+        if (status.isError()) {
+            return null;
+        } else if (result == null) {
+            status.setError(0, "Cannot parse: \"" + text + "\"");
+            return null;
+        }
+
+        int index = status.getPosition();
+
+        if (!this.trailing && (index < text.length())) {
+            status.setError(index, "Unparsed trailing characters: " + sub(index, text));
+            return null;
+        }
+
+        return result;
+
+    }
+
     @Override
     public T parse(
         CharSequence    text,
@@ -2248,14 +2428,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainDate> builder = new Builder<>(PlainDate.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofPattern(pattern, type, locale, PlainDate.axis());
 
     }
 
@@ -2287,14 +2460,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTime> builder = new Builder<>(PlainTime.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofPattern(pattern, type, locale, PlainTime.axis());
 
     }
 
@@ -2326,14 +2492,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTimestamp> builder = new Builder<>(PlainTimestamp.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofPattern(pattern, type, locale, PlainTimestamp.axis());
 
     }
 
@@ -2370,14 +2529,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofPattern(pattern, type, locale, Moment.axis());
 
     }
 
@@ -2418,11 +2570,10 @@ public final class ChronoFormatter<T>
         TZID tzid
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
+        ChronoFormatter<Moment> formatter = ofPattern(pattern, type, locale, Moment.axis());
 
         try {
-            return builder.build().withTimezone(tzid);
+            return formatter.withTimezone(tzid);
         } catch (IllegalStateException ise) {
             throw new IllegalArgumentException(ise);
         }
@@ -2494,14 +2645,19 @@ public final class ChronoFormatter<T>
         Chronology<T> chronology
     ) {
 
-        Builder<T> builder = new Builder<>(chronology, locale);
-        addPattern(builder, pattern, type);
+        return Cache.lookup(
+            new CacheKey(chronology, locale, pattern, type),
+            () -> {
+                Builder<T> builder = new Builder<>(chronology, locale);
+                addPattern(builder, pattern, type);
 
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+                try {
+                    return builder.build();
+                } catch (IllegalStateException ise) {
+                    throw new IllegalArgumentException(ise);
+                }
+            }
+        );
 
     }
 
@@ -2560,8 +2716,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainDate> builder = new Builder<>(PlainDate.axis(), locale);
-        return builder.addStyle(style, style).build();
+        return ofStyle(PlainDate.axis(), style, style, locale);
 
     }
 
@@ -2618,8 +2773,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTime> builder = new Builder<>(PlainTime.axis(), locale);
-        return builder.addStyle(style, style).build();
+        return ofStyle(PlainTime.axis(), style, style, locale);
 
     }
 
@@ -2682,8 +2836,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTimestamp> builder = new Builder<>(PlainTimestamp.axis(), locale);
-        return builder.addStyle(dateStyle, timeStyle).build();
+        return ofStyle(PlainTimestamp.axis(), dateStyle, timeStyle, locale);
 
     }
 
@@ -2756,8 +2909,7 @@ public final class ChronoFormatter<T>
         TZID tzid
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        return builder.addStyle(dateStyle, timeStyle).build().withTimezone(tzid);
+        return ofStyle(Moment.axis(), dateStyle, timeStyle, locale).withTimezone(tzid);
 
     }
 
@@ -2825,8 +2977,7 @@ public final class ChronoFormatter<T>
     ) {
 
         if (LocalizedPatternSupport.class.isAssignableFrom(chronology.getChronoType())) {
-            Builder<T> builder = new Builder<>(chronology, locale);
-            return builder.addStyle(style, style).build();
+            return ofStyle(chronology, style, style, locale);
         } else if (UniversalTime.class.isAssignableFrom(chronology.getChronoType())) {
             throw new UnsupportedOperationException("Timezone required, use 'ofMomentStyle()' instead.");
         } else {
@@ -3710,6 +3861,20 @@ public final class ChronoFormatter<T>
 
     }
 
+    private static <T> ChronoFormatter<T> ofStyle(
+        Chronology<T> chronology,
+        FormatStyle dateStyle,
+        FormatStyle timeStyle,
+        Locale locale
+    ) {
+
+        return Cache.lookup(
+            new CacheKey(chronology, locale, dateStyle, timeStyle),
+            () -> new Builder<>(chronology, locale).addStyle(dateStyle, timeStyle).build()
+        );
+
+    }
+
     private static <T> void addPattern(
         Builder<T> builder,
         String pattern,
@@ -4230,6 +4395,323 @@ public final class ChronoFormatter<T>
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Offers some static methods for the configuration and monitoring of the
+     * internal cache of formatters created by pattern or style. </p>
+     *
+     * <p>The factory methods {@code ofPattern()}, {@code ofDatePattern()}, {@code ofTimePattern()},
+     * {@code ofTimestampPattern()}, {@code ofMomentPattern()} and all style-based factory methods
+     * like {@code ofStyle()} consult this cache which is keyed by pattern or style, pattern type,
+     * locale and chronology. Timezones are not part of the key but applied on every call. The
+     * default maximum size is 256 formatters and can be configured by the system property
+     * &quot;net.time4j.format.cache.size&quot; (zero disables the cache). </p>
+     *
+     * @author  Meno Hochschild
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Bietet statische Methoden zur Konfiguration und &Uuml;berwachung des internen
+     * Caches von Formatierern an, die mit einem Formatmuster oder Stil erzeugt wurden. </p>
+     *
+     * <p>Die Fabrikmethoden {@code ofPattern()}, {@code ofDatePattern()}, {@code ofTimePattern()},
+     * {@code ofTimestampPattern()}, {@code ofMomentPattern()} und alle stilbasierten Fabrikmethoden
+     * wie {@code ofStyle()} fragen diesen Cache ab, dessen Schl&uuml;ssel aus Formatmuster oder Stil,
+     * Mustertyp, Sprache und Chronologie besteht. Zeitzonen sind nicht Teil des Schl&uuml;ssels,
+     * sondern werden bei jedem Aufruf angewandt. Die maximale Gr&ouml;&szlig;e betr&auml;gt
+     * standardm&auml;&szlig;ig 256 Formatierer und kann mit der System-Property
+     * &quot;net.time4j.format.cache.size&quot; konfiguriert werden (null schaltet den Cache ab). </p>
+     *
+     * @author  Meno Hochschild
+     * @since   5.10
+     */
+    public static final class Cache {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final BoundedCache<CacheKey, ChronoFormatter<?>> ENTRIES;
+        private static final LongAdder HITS = new LongAdder();
+        private static final LongAdder MISSES = new LongAdder();
+
+        static {
+            int size = 256;
+            String property = System.getProperty("net.time4j.format.cache.size");
+
+            if (property != null) {
+                try {
+                    size = Math.max(0, Integer.parseInt(property.trim()));
+                } catch (NumberFormatException nfe) {
+                    // use default
+                }
+            }
+
+            ENTRIES = new BoundedCache<>(size);
+        }
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Cache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Limits the count of cached formatters. </p>
+         *
+         * <p>If a new formatter is created and the limit is exceeded then the least recently
+         * used formatters will be evicted. The access order is tracked approximately in steps
+         * of about one millisecond. </p>
+         *
+         * @param   maximumSize     maximum count of cached formatters (zero disables the cache)
+         * @throws  IllegalArgumentException if the argument is negative
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Begrenzt die Anzahl der im Cache gehaltenen Formatierer. </p>
+         *
+         * <p>Wenn ein neuer Formatierer erzeugt und die Grenze &uuml;berschritten wird,
+         * werden die am l&auml;ngsten nicht benutzten Formatierer entfernt. Die
+         * Zugriffsreihenfolge wird ann&auml;hernd in Schritten von etwa einer
+         * Millisekunde verfolgt. </p>
+         *
+         * @param   maximumSize     maximum count of cached formatters (zero disables the cache)
+         * @throws  IllegalArgumentException if the argument is negative
+         * @since   5.10
+         */
+        public static void setMaximumSize(int maximumSize) {
+
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("Maximum formatter cache size must not be negative: " + maximumSize);
+            }
+
+            ENTRIES.setMaximumSize(maximumSize);
+
+        }
+
+        /**
+         * <p>Yields the maximum count of cached formatters. </p>
+         *
+         * @return  int (zero if the cache is disabled)
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die maximale Anzahl der im Cache gehaltenen Formatierer. </p>
+         *
+         * @return  int (zero if the cache is disabled)
+         * @since   5.10
+         */
+        public static int getMaximumSize() {
+
+            return ENTRIES.getMaximumSize();
+
+        }
+
+        /**
+         * <p>Yields the current count of cached formatters. </p>
+         *
+         * @return  int
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der im Cache gehaltenen Formatierer. </p>
+         *
+         * @return  int
+         * @since   5.10
+         */
+        public static int getSize() {
+
+            return ENTRIES.size();
+
+        }
+
+        /**
+         * <p>Yields the count of factory calls which could be served by the cache. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Fabrikaufrufe, die aus dem Cache bedient werden konnten. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getHitCount() {
+
+            return HITS.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of factory calls which had to create a new formatter. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Fabrikaufrufe, die einen neuen Formatierer erzeugen mu&szlig;ten. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getMissCount() {
+
+            return MISSES.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of formatters which were evicted due to the maximum cache size. </p>
+         *
+         * @return  long
+         * @see     #setMaximumSize(int)
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Formatierer, die wegen der maximalen Cache-Gr&ouml;&szlig;e
+         * entfernt wurden. </p>
+         *
+         * @return  long
+         * @see     #setMaximumSize(int)
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getEvictionCount() {
+
+            return ENTRIES.getEvictionCount();
+
+        }
+
+        /**
+         * <p>Removes all cached formatters. </p>
+         *
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Entfernt alle Formatierer aus dem Cache. </p>
+         *
+         * @since   5.10
+         */
+        public static void clear() {
+
+            ENTRIES.clear();
+
+        }
+
+        /**
+         * <p>Sets all cache statistics back to zero. </p>
+         *
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Setzt alle Cache-Statistiken auf null zur&uuml;ck. </p>
+         *
+         * @since   5.10
+         */
+        public static void resetStatistics() {
+
+            HITS.reset();
+            MISSES.reset();
+            ENTRIES.resetEvictionCount();
+
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> ChronoFormatter<T> lookup(
+            CacheKey key,
+            Supplier<ChronoFormatter<T>> creator
+        ) {
+
+            if (ENTRIES.getMaximumSize() == 0) {
+                return creator.get();
+            }
+
+            ChronoFormatter<?> cached = ENTRIES.get(key);
+
+            if (cached != null) {
+                HITS.increment();
+                return (ChronoFormatter<T>) cached;
+            }
+
+            MISSES.increment();
+            ChronoFormatter<T> formatter = creator.get();
+            cached = ENTRIES.putIfAbsent(key, formatter);
+
+            if (cached == null) {
+                return formatter;
+            }
+
+            return (ChronoFormatter<T>) cached; // concurrently created
+
+        }
+
+    }
+
+    private static final class CacheKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Chronology<?> chronology;
+        private final Locale locale;
+        private final Object first; // pattern or date style
+        private final Object second; // pattern type or time style
+        private final int hash;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        CacheKey(
+            Chronology<?> chronology,
+            Locale locale,
+            Object first,
+            Object second
+        ) {
+            super();
+
+            this.chronology = chronology;
+            this.locale = locale;
+            this.first = first;
+            this.second = second;
+            this.hash =
+                ((chronology.hashCode() * 31 + locale.hashCode()) * 31 + first.hashCode()) * 31 + second.hashCode();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof CacheKey) {
+                CacheKey that = (CacheKey) obj;
+                return (
+                    (this.chronology == that.chronology)
+                    && (this.hash == that.hash)
+                    && this.first.equals(that.first)
+                    && this.second.equals(that.second)
+                    && this.locale.equals(that.locale)
+                );
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return this.hash;
+
+        }
+
+    }
+
     /**
      * <p>Builder for creating a new {@code ChronoFormatter}. </p>
      *
@@ -8081,6 +8563,11 @@ s         * <p>Definiert ein Textformat f&uuml;r das angegebene Element mit
             return this.tsp.getInt(element);
         }
 
+        @Override
+        public long getLong(ChronoElement<Long> element) {
+            return this.tsp.getLong(element);
+        }
+
         @Override
         public <V> V getMinimum(ChronoElement<V> element) {
             return this.tsp.getMinimum(element);
@@ -21,6 +21,7 @@
 
 package net.time4j.format.expert;
 
+import net.time4j.PlainTime;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
@@ -144,6 +145,13 @@ final class FractionProcessor
         boolean quickPath
     ) throws IOException {
 
+        if (quickPath && (this.element == PlainTime.NANO_OF_SECOND)) {
+            int nanos = formattable.getInt(PlainTime.NANO_OF_SECOND);
+            if ((nanos >= 0) && (nanos <= MRD_MINUS_1)) {
+                return this.printNanos(nanos, formattable, buffer, attributes, positions);
+            }
+        }
+
         BigDecimal value = toDecimal(formattable.get(this.element));
         BigDecimal min = toDecimal(formattable.getMinimum(this.element));
         BigDecimal max = toDecimal(formattable.getMaximum(this.element));
@@ -234,6 +242,57 @@ final class FractionProcessor
 
     }
 
+    // primitive variant of general algorithm (without BigDecimal) for the common case of nanoseconds
+    private int printNanos(
+        int nanos,
+        ChronoDisplay formattable,
+        Appendable buffer,
+        AttributeQuery attributes,
+        Set<ElementPosition> positions
+    ) throws IOException {
+
+        int start = ((buffer instanceof CharSequence) ? ((CharSequence) buffer).length() : -1);
+        int printed = 0;
+        int outputScale;
+
+        if (nanos == 0) {
+            outputScale = this.minDigits;
+        } else {
+            int scale = 9;
+            int test = nanos;
+            while ((test % 10) == 0) {
+                test /= 10;
+                scale--;
+            }
+            outputScale = Math.min(Math.max(scale, this.minDigits), this.maxDigits);
+        }
+
+        if ((outputScale > 0) || (nanos != 0)) {
+            if (this.hasDecimalSeparator()) {
+                this.decimalSeparator.print(formattable, buffer, attributes, positions, true);
+                printed++;
+            }
+
+            int divisor = 100_000_000;
+
+            for (int i = 0; i < outputScale; i++) {
+                int digit = (nanos / divisor) % 10;
+                buffer.append((char) (this.zeroDigit + digit));
+                divisor /= 10;
+            }
+
+            printed += outputScale;
+        }
+
+        if ((start != -1) && (printed > 1) && (positions != null)) {
+            positions.add( // Zählung ohne Dezimaltrennzeichen
+                new ElementPosition(this.element, start + 1, start + printed));
+        }
+
+        return printed;
+
+    }
+
     @Override
     public void parse(
         CharSequence text,
@@ -27,15 +27,19 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.Weekmodel;
+import net.time4j.base.GregorianMath;
 import net.time4j.engine.ChronoCondition;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.Attributes;
 import net.time4j.format.Leniency;
 import net.time4j.format.NumberSystem;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.ZonalOffset;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.time.format.FormatStyle;
 import java.util.Collections;
@@ -655,6 +659,210 @@ LOOP:
 
     }
 
+    /**
+     * <p>Parses a slice of given text in the extended ISO-8601-format
+     * &quot;uuuu-MM-dd'T'HH:mm:ss[,SSSSSSSSS]{offset}&quot; to a moment. </p>
+     *
+     * <p>The canonical shape with exactly four year digits, seconds, an optional fraction
+     * of one up to nine digits and an offset in the form &quot;Z&quot; or &quot;&#x00B1;hh:mm&quot;
+     * is directly evaluated without any intermediate objects. Any other input (for example
+     * leap seconds, the hour 24 or reduced precision) is delegated to
+     * {@link #EXTENDED_DATE_TIME_OFFSET}. </p>
+     *
+     * @param   text    text containing an ISO-8601-timestamp with offset
+     * @param   offset  start index of the slice
+     * @param   length  length of the slice
+     * @return  Moment
+     * @throws  ParseException if parsing fails for any reason (error index relative to the whole text)
+     * @throws  IndexOutOfBoundsException if the slice is out of range
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert einen Ausschnitt des angegebenen Texts im <i>extended</i> ISO-8601-Format
+     * &quot;uuuu-MM-dd'T'HH:mm:ss[,SSSSSSSSS]{offset}&quot; als Moment. </p>
+     *
+     * <p>Die kanonische Form mit genau vier Jahresziffern, Sekunden, einem optionalen Bruchteil
+     * von einer bis neun Ziffern und einem Offset in der Form &quot;Z&quot; oder &quot;&#x00B1;hh:mm&quot;
+     * wird direkt ohne Zwischenobjekte ausgewertet. Jede andere Eingabe (zum Beispiel Schaltsekunden,
+     * die Stunde 24 oder verminderte Genauigkeit) wird an {@link #EXTENDED_DATE_TIME_OFFSET}
+     * delegiert. </p>
+     *
+     * @param   text    text containing an ISO-8601-timestamp with offset
+     * @param   offset  start index of the slice
+     * @param   length  length of the slice
+     * @return  Moment
+     * @throws  ParseException if parsing fails for any reason (error index relative to the whole text)
+     * @throws  IndexOutOfBoundsException if the slice is out of range
+     * @since   5.10
+     */
+    public static Moment parseMoment(
+        CharSequence text,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        checkSlice(text.length(), offset, length);
+        Moment moment = fastMoment(text, null, offset, offset + length);
+
+        if (moment == null) {
+            try {
+                moment = EXTENDED_DATE_TIME_OFFSET.parse(text.subSequence(offset, offset + length));
+            } catch (ParseException pe) {
+                throw new ParseException(pe.getMessage(), pe.getErrorOffset() + offset);
+            }
+        }
+
+        return moment;
+
+    }
+
+    /**
+     * <p>Parses a slice of given ASCII-bytes in the extended ISO-8601-format
+     * &quot;uuuu-MM-dd'T'HH:mm:ss[,SSSSSSSSS]{offset}&quot; to a moment. </p>
+     *
+     * @param   text    ASCII-bytes containing an ISO-8601-timestamp with offset
+     * @param   offset  start index of the slice
+     * @param   length  length of the slice
+     * @return  Moment
+     * @throws  ParseException if parsing fails for any reason (error index relative to the whole array)
+     * @throws  IndexOutOfBoundsException if the slice is out of range
+     * @see     #parseMoment(CharSequence, int, int)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert einen Ausschnitt der angegebenen ASCII-Bytes im <i>extended</i> ISO-8601-Format
+     * &quot;uuuu-MM-dd'T'HH:mm:ss[,SSSSSSSSS]{offset}&quot; als Moment. </p>
+     *
+     * @param   text    ASCII-bytes containing an ISO-8601-timestamp with offset
+     * @param   offset  start index of the slice
+     * @param   length  length of the slice
+     * @return  Moment
+     * @throws  ParseException if parsing fails for any reason (error index relative to the whole array)
+     * @throws  IndexOutOfBoundsException if the slice is out of range
+     * @see     #parseMoment(CharSequence, int, int)
+     * @since   5.10
+     */
+    public static Moment parseMoment(
+        byte[] text,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        checkSlice(text.length, offset, length);
+        Moment moment = fastMoment(null, text, offset, offset + length);
+
+        if (moment == null) {
+            try {
+                moment = EXTENDED_DATE_TIME_OFFSET.parse(new String(text, offset, length, StandardCharsets.US_ASCII));
+            } catch (ParseException pe) {
+                throw new ParseException(pe.getMessage(), pe.getErrorOffset() + offset);
+            }
+        }
+
+        return moment;
+
+    }
+
+    /**
+     * <p>Parses a slice of given text in the extended ISO-8601-format
+     * &quot;uuuu-MM-dd'T'HH:mm:ss[,SSSSSSSSS]&quot; to a timestamp. </p>
+     *
+     * <p>The canonical shape with exactly four year digits, seconds and an optional fraction
+     * of one up to nine digits is directly evaluated. Any other input is delegated to
+     * {@link #EXTENDED_DATE_TIME}. </p>
+     *
+     * @param   text    text containing an ISO-8601-timestamp
+     * @param   offset  start index of the slice
+     * @param   length  length of the slice
+     * @return  PlainTimestamp
+     * @throws  ParseException if parsing fails for any reason (error index relative to the whole text)
+     * @throws  IndexOutOfBoundsException if the slice is out of range
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert einen Ausschnitt des angegebenen Texts im <i>extended</i> ISO-8601-Format
+     * &quot;uuuu-MM-dd'T'HH:mm:ss[,SSSSSSSSS]&quot; als Zeitstempel. </p>
+     *
+     * <p>Die kanonische Form mit genau vier Jahresziffern, Sekunden und einem optionalen Bruchteil
+     * von einer bis neun Ziffern wird direkt ausgewertet. Jede andere Eingabe wird an
+     * {@link #EXTENDED_DATE_TIME} delegiert. </p>
+     *
+     * @param   text    text containing an ISO-8601-timestamp
+     * @param   offset  start index of the slice
+     * @param   length  length of the slice
+     * @return  PlainTimestamp
+     * @throws  ParseException if parsing fails for any reason (error index relative to the whole text)
+     * @throws  IndexOutOfBoundsException if the slice is out of range
+     * @since   5.10
+     */
+    public static PlainTimestamp parseTimestamp(
+        CharSequence text,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        checkSlice(text.length(), offset, length);
+        PlainTimestamp tsp = fastTimestamp(text, null, offset, offset + length);
+
+        if (tsp == null) {
+            try {
+                tsp = EXTENDED_DATE_TIME.parse(text.subSequence(offset, offset + length));
+            } catch (ParseException pe) {
+                throw new ParseException(pe.getMessage(), pe.getErrorOffset() + offset);
+            }
+        }
+
+        return tsp;
+
+    }
+
+    /**
+     * <p>Parses a slice of given ASCII-bytes in the extended ISO-8601-format
+     * &quot;uuuu-MM-dd'T'HH:mm:ss[,SSSSSSSSS]&quot; to a timestamp. </p>
+     *
+     * @param   text    ASCII-bytes containing an ISO-8601-timestamp
+     * @param   offset  start index of the slice
+     * @param   length  length of the slice
+     * @return  PlainTimestamp
+     * @throws  ParseException if parsing fails for any reason (error index relative to the whole array)
+     * @throws  IndexOutOfBoundsException if the slice is out of range
+     * @see     #parseTimestamp(CharSequence, int, int)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert einen Ausschnitt der angegebenen ASCII-Bytes im <i>extended</i> ISO-8601-Format
+     * &quot;uuuu-MM-dd'T'HH:mm:ss[,SSSSSSSSS]&quot; als Zeitstempel. </p>
+     *
+     * @param   text    ASCII-bytes containing an ISO-8601-timestamp
+     * @param   offset  start index of the slice
+     * @param   length  length of the slice
+     * @return  PlainTimestamp
+     * @throws  ParseException if parsing fails for any reason (error index relative to the whole array)
+     * @throws  IndexOutOfBoundsException if the slice is out of range
+     * @see     #parseTimestamp(CharSequence, int, int)
+     * @since   5.10
+     */
+    public static PlainTimestamp parseTimestamp(
+        byte[] text,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        checkSlice(text.length, offset, length);
+        PlainTimestamp tsp = fastTimestamp(null, text, offset, offset + length);
+
+        if (tsp == null) {
+            try {
+                tsp = EXTENDED_DATE_TIME.parse(new String(text, offset, length, StandardCharsets.US_ASCII));
+            } catch (ParseException pe) {
+                throw new ParseException(pe.getMessage(), pe.getErrorOffset() + offset);
+            }
+        }
+
+        return tsp;
+
+    }
+
     private static ChronoFormatter<PlainDate> calendarFormat(boolean extended) {
 
         ChronoFormatter.Builder<PlainDate> builder =
@@ -980,6 +1188,240 @@ LOOP:
 
     }
 
+    private static void checkSlice(
+        int size,
+        int offset,
+        int length
+    ) {
+
+        if ((offset < 0) || (length < 0) || (offset > size - length)) {
+            throw new IndexOutOfBoundsException(
+                "Invalid slice: offset=" + offset + ", length=" + length + ", size=" + size);
+        }
+
+    }
+
+    // canonical shape: uuuu-MM-ddTHH:mm:ss[,S{1-9}](Z|+hh:mm|-hh:mm), null means fallback
+    private static Moment fastMoment(
+        CharSequence cs,
+        byte[] bytes,
+        int start,
+        int end
+    ) {
+
+        int pos = fractionEnd(cs, bytes, start + 19, end);
+
+        if (pos == -1) {
+            return null;
+        }
+
+        int offsetSeconds;
+        int len = end - pos;
+
+        if ((len == 1) && (charAt(cs, bytes, pos) == 'Z')) {
+            offsetSeconds = 0;
+        } else if (len == 6) {
+            int sign = charAt(cs, bytes, pos);
+            int hours = twoDigits(cs, bytes, pos + 1);
+            int minutes = twoDigits(cs, bytes, pos + 4);
+            if (
+                ((sign != '+') && (sign != '-'))
+                || (charAt(cs, bytes, pos + 3) != ':')
+                || (hours < 0)
+                || (hours > 17)
+                || (minutes < 0)
+                || (minutes > 59)
+            ) {
+                return null;
+            }
+            offsetSeconds = hours * 3600 + minutes * 60;
+            if (sign == '-') {
+                offsetSeconds = -offsetSeconds;
+            }
+        } else {
+            return null;
+        }
+
+        long localSeconds = localSeconds(cs, bytes, start);
+
+        if (localSeconds == Long.MIN_VALUE) {
+            return null;
+        }
+
+        int nanos = nanos(cs, bytes, start + 20, pos);
+        return Moment.of(localSeconds - offsetSeconds, nanos, TimeScale.POSIX);
+
+    }
+
+    // canonical shape: uuuu-MM-ddTHH:mm:ss[,S{1-9}], null means fallback
+    private static PlainTimestamp fastTimestamp(
+        CharSequence cs,
+        byte[] bytes,
+        int start,
+        int end
+    ) {
+
+        if (fractionEnd(cs, bytes, start + 19, end) != end) {
+            return null;
+        }
+
+        long localSeconds = localSeconds(cs, bytes, start);
+
+        if (localSeconds == Long.MIN_VALUE) {
+            return null;
+        }
+
+        long days = Math.floorDiv(localSeconds, 86400);
+        int secondOfDay = (int) (localSeconds - days * 86400);
+
+        return PlainTimestamp.of(
+            PlainDate.of(days, EpochDays.UNIX),
+            PlainTime.of(
+                secondOfDay / 3600,
+                (secondOfDay / 60) % 60,
+                secondOfDay % 60,
+                nanos(cs, bytes, start + 20, end)));
+
+    }
+
+    // local elapsed seconds since 1970-01-01T00:00 or Long.MIN_VALUE if not canonical
+    private static long localSeconds(
+        CharSequence cs,
+        byte[] bytes,
+        int start
+    ) {
+
+        int century = twoDigits(cs, bytes, start);
+        int yearOfCentury = twoDigits(cs, bytes, start + 2);
+        int month = twoDigits(cs, bytes, start + 5);
+        int day = twoDigits(cs, bytes, start + 8);
+        int hour = twoDigits(cs, bytes, start + 11);
+        int minute = twoDigits(cs, bytes, start + 14);
+        int second = twoDigits(cs, bytes, start + 17);
+
+        if ((century < 0) || (yearOfCentury < 0)) {
+            return Long.MIN_VALUE;
+        }
+
+        int year = century * 100 + yearOfCentury;
+
+        if (
+            (charAt(cs, bytes, start + 4) != '-')
+            || (charAt(cs, bytes, start + 7) != '-')
+            || (charAt(cs, bytes, start + 10) != 'T')
+            || (charAt(cs, bytes, start + 13) != ':')
+            || (charAt(cs, bytes, start + 16) != ':')
+            || (hour < 0)
+            || (hour > 23)
+            || (minute < 0)
+            || (minute > 59)
+            || (second < 0)
+            || (second > 59) // leap seconds are left to the full formatter
+            || (month < 1)
+            || (day < 1)
+            || !GregorianMath.isValid(year, month, day)
+        ) {
+            return Long.MIN_VALUE;
+        }
+
+        long days = EpochDays.UNIX.transform(GregorianMath.toMJD(year, month, day), EpochDays.MODIFIED_JULIAN_DATE);
+        return days * 86400 + hour * 3600 + minute * 60 + second;
+
+    }
+
+    // end index of optional fraction starting at given position or -1 if not canonical
+    private static int fractionEnd(
+        CharSequence cs,
+        byte[] bytes,
+        int pos,
+        int end
+    ) {
+
+        if (pos > end) {
+            return -1;
+        } else if (pos == end) {
+            return pos;
+        }
+
+        int c = charAt(cs, bytes, pos);
+
+        if ((c != '.') && (c != ',')) {
+            return pos;
+        }
+
+        int i = pos + 1;
+
+        while ((i < end) && (i - pos <= 9)) {
+            c = charAt(cs, bytes, i);
+            if ((c < '0') || (c > '9')) {
+                break;
+            }
+            i++;
+        }
+
+        int digits = i - pos - 1;
+
+        if ((digits == 0) || ((digits == 9) && (i < end) && isDigit(charAt(cs, bytes, i)))) {
+            return -1;
+        }
+
+        return i;
+
+    }
+
+    private static int nanos(
+        CharSequence cs,
+        byte[] bytes,
+        int start,
+        int end
+    ) {
+
+        int nanos = 0;
+        int factor = 100_000_000;
+
+        for (int i = start; i < end; i++) {
+            nanos += (charAt(cs, bytes, i) - '0') * factor;
+            factor /= 10;
+        }
+
+        return nanos;
+
+    }
+
+    // -1 if not two ascii digits
+    private static int twoDigits(
+        CharSequence cs,
+        byte[] bytes,
+        int pos
+    ) {
+
+        int c1 = charAt(cs, bytes, pos);
+        int c2 = charAt(cs, bytes, pos + 1);
+
+        if (isDigit(c1) && isDigit(c2)) {
+            return (c1 - '0') * 10 + (c2 - '0');
+        }
+
+        return -1;
+
+    }
+
+    private static boolean isDigit(int c) {
+
+        return ((c >= '0') && (c <= '9'));
+
+    }
+
+    private static int charAt(
+        CharSequence cs,
+        byte[] bytes,
+        int index
+    ) {
+
+        return ((bytes == null) ? cs.charAt(index) : (bytes[index] & 0xFF));
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static class NonZeroCondition
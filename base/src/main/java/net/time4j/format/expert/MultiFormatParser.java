@@ -193,6 +193,40 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Interpretes the whole given text like {@link #parse(CharSequence)} but reports
+     * any failure only in given reused parse log. </p>
+     *
+     * @param   text        text to be parsed (typically a cell of bulk data)
+     * @param   status      reused parse log which will be reset
+     * @return  result or {@code null} if parsing does not work
+     * @see     BulkParser
+     */
+    T parseCell(
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        for (int i = 0; i < this.parsers.length; i++) {
+            status.reset(); // initialization
+
+            // use the default global attributes of every single parser
+            T parsed = this.parsers[i].parse(text, status);
+
+            if ((parsed != null) && !status.isError()) {
+                if (this.parsers[i].isToleratingTrailingChars() || (status.getPosition() == text.length())) {
+                    return parsed;
+                }
+            }
+
+        }
+
+        status.reset();
+        status.setError(text.length(), "Not matched by any format: " + text);
+        return null;
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting
      * at the specified position in parse log. </p>
@@ -249,8 +249,11 @@ class NumberProcessor<V>
                 x = Math.abs(v);
                 count = length(x);
             } else if (type == Long.class) {
-                V value = formattable.get(this.element);
-                long v = Long.class.cast(value).longValue();
+                ChronoElement<Long> longElement = (ChronoElement<Long>) this.element;
+                long v = formattable.getLong(longElement);
+                if (v == Long.MIN_VALUE) { // nicht verfügbar oder tatsächlich minimal
+                    v = formattable.get(longElement).longValue();
+                }
                 negative = (v < 0);
                 digits = (
                     (v == Long.MIN_VALUE)
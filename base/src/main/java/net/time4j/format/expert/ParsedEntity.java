@@ -22,6 +22,7 @@
 package net.time4j.format.expert;
 
 import net.time4j.engine.ChronoElement;
+import net.time4j.engine.ChronoException;
 import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.Chronology;
 import net.time4j.tz.TZID;
@@ -79,6 +80,37 @@ abstract class ParsedEntity<T extends ParsedEntity<T>>
 
     }
 
+    @Override
+    public boolean isValid(
+        ChronoElement<Long> element,
+        long value
+    ) {
+
+        return this.isValid(element, Long.valueOf(value));
+
+    }
+
+    @Override
+    public T with(
+        ChronoElement<Long> element,
+        long value
+    ) {
+
+        return this.with(element, Long.valueOf(value));
+
+    }
+
+    @Override
+    public long getLong(ChronoElement<Long> element) {
+
+        try {
+            return this.get(element).longValue();
+        } catch (ChronoException ex) {
+            return Long.MIN_VALUE;
+        }
+
+    }
+
     @Override
     public <V> V getMinimum(ChronoElement<V> element) {
 
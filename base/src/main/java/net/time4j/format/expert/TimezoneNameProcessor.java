@@ -28,12 +28,21 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.FlagElement;
 import net.time4j.format.Attributes;
 import net.time4j.format.Leniency;
+import net.time4j.format.internal.BoundedCache;
+import net.time4j.format.internal.ZoneNameIndex;
+import net.time4j.format.internal.ZoneNameIndexCompiler;
 import net.time4j.tz.NameStyle;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,8 +51,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -57,11 +64,30 @@ final class TimezoneNameProcessor
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final ConcurrentMap<Locale, TZNames> CACHE_ABBREVIATIONS = new ConcurrentHashMap<>();
-    private static final ConcurrentMap<Locale, TZNames> CACHE_ZONENAMES = new ConcurrentHashMap<>();
-    private static final int MAX = 25; // maximum size of cache
+    private static final Path INDEX_PATH; // directory of precompiled zone name indices
+    private static final BoundedCache<Locale, TZNames> CACHE_ABBREVIATIONS;
+    private static final BoundedCache<Locale, TZNames> CACHE_ZONENAMES;
     private static final String DEFAULT_PROVIDER = "DEFAULT";
 
+    static {
+        int size = 100;
+        String property = System.getProperty("net.time4j.format.tz.names.cache.size");
+
+        if (property != null) {
+            try {
+                size = Math.max(0, Integer.parseInt(property.trim()));
+            } catch (NumberFormatException nfe) {
+                // use default
+            }
+        }
+
+        String path = System.getProperty("net.time4j.format.tz.names.path");
+
+        CACHE_ABBREVIATIONS = new BoundedCache<>(size); // maximum count of locales per cache
+        CACHE_ZONENAMES = new BoundedCache<>(size);
+        INDEX_PATH = (((path == null) || path.isEmpty()) ? null : Paths.get(path));
+    }
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final boolean abbreviated;
@@ -225,44 +251,62 @@ final class TimezoneNameProcessor
 
         Locale lang = (quickPath ? this.locale : attributes.get(Attributes.LANGUAGE, Locale.ROOT));
         Leniency leniency = (quickPath ? this.lenientMode : attributes.get(Attributes.LENIENCY, Leniency.SMART));
-        String key = this.extractRelevantKey(text, start, len);
-
         // fallback-case (fixed offset)
-        if (key.startsWith("GMT") || key.startsWith("UT")) {
+        if (startsWith(text, start, len, "GMT") || startsWith(text, start, len, "UT")) {
             this.fallback.parse(text, status, attributes, parsedResult, quickPath);
             return;
         }
 
         // Zeitzonennamen im Cache suchen und ggf. Cache füllen
-        ConcurrentMap<Locale, TZNames> cache = (this.abbreviated ? CACHE_ABBREVIATIONS : CACHE_ZONENAMES);
+        BoundedCache<Locale, TZNames> cache = (this.abbreviated ? CACHE_ABBREVIATIONS : CACHE_ZONENAMES);
         TZNames tzNames = cache.get(lang);
 
         if (tzNames == null) {
-            ZoneLabels stdNames = this.createZoneNames(lang, false);
-            ZoneLabels dstNames = this.createZoneNames(lang, true);
-            tzNames = new TZNames(stdNames, dstNames);
+            tzNames = this.createZoneNames(lang);
 
-            if (cache.size() < MAX) {
-                TZNames tmp = cache.putIfAbsent(lang, tzNames);
+            if (cache.getMaximumSize() > 0) {
+                TZNames cached = cache.putIfAbsent(lang, tzNames);
 
-                if (tmp != null) {
-                    tzNames = tmp;
+                if (cached != null) {
+                    tzNames = cached; // concurrently created
                 }
             }
         }
 
         // prefix-matching of tz names
-        List<TZID> stdZones = new ArrayList<>();
-        List<TZID> dstZones = new ArrayList<>();
-        int[] lenbuf = new int[2];
-        tzNames.search(text.subSequence(0, len), start, stdZones, dstZones, lenbuf);
+        int stdEntry = tzNames.stdNames.match(text, start, len);
+        int dstEntry = tzNames.dstNames.match(text, start, len);
+        int stdLen = ((stdEntry == -1) ? 0 : tzNames.stdNames.getLength(stdEntry));
+        int dstLen = ((dstEntry == -1) ? 0 : tzNames.dstNames.getLength(dstEntry));
+
+        if (dstLen > stdLen) {
+            stdEntry = -1;
+        } else if (dstLen < stdLen) {
+            dstEntry = -1;
+        }
 
+        // quick path without any allocation if the name is unique
+        if ((stdEntry == -1) != (dstEntry == -1)) {
+            boolean dst = (stdEntry == -1);
+            ZoneNameIndex index = (dst ? tzNames.dstNames : tzNames.stdNames);
+            int entry = (dst ? dstEntry : stdEntry);
+
+            if (index.getZoneCount(entry) == 1) {
+                parsedResult.put(TimezoneElement.TIMEZONE_ID, index.getZone(entry, 0));
+                parsedResult.put(FlagElement.DAYLIGHT_SAVING, Boolean.valueOf(dst));
+                status.setPosition(start + (dst ? dstLen : stdLen));
+                return;
+            }
+        }
+
+        List<TZID> stdZones = tzNames.stdNames.getZones(stdEntry);
+        List<TZID> dstZones = tzNames.dstNames.getZones(dstEntry);
         int sum = stdZones.size() + dstZones.size();
 
         if (sum == 0) {
             status.setError(
                 start,
-                "\"" + key + "\" does not match any known timezone name.");
+                "\"" + this.extractRelevantKey(text, start, len) + "\" does not match any known timezone name.");
             return;
         }
 
@@ -324,7 +368,7 @@ final class TimezoneNameProcessor
             status.setError(
                 start,
                 "Time zone name \""
-                    + key
+                    + this.extractRelevantKey(text, start, len)
                     + "\" not found among preferred timezones in locale "
                     + lang
                     + ", candidates=" + candidates);
@@ -356,11 +400,14 @@ final class TimezoneNameProcessor
         if ((zones.size() == 1) || leniency.isLax()) {
             parsedResult.put(TimezoneElement.TIMEZONE_ID, zones.get(0));
             parsedResult.put(FlagElement.DAYLIGHT_SAVING, Boolean.valueOf(daylightSaving));
-            status.setPosition(lenbuf[daylightSaving ? 1 : 0]);
+            status.setPosition(start + (daylightSaving ? dstLen : stdLen));
         } else {
             status.setError(
                 start,
-                "Time zone name is not unique: \"" + key + "\" in " + toString(zones));
+                "Time zone name is not unique: \""
+                    + this.extractRelevantKey(text, start, len)
+                    + "\" in "
+                    + toString(zones));
         }
 
     }
@@ -473,25 +520,48 @@ final class TimezoneNameProcessor
 
     }
 
-    private ZoneLabels createZoneNames(
-        Locale locale,
-        boolean daylightSaving
+    private TZNames createZoneNames(Locale locale) {
+
+        if (INDEX_PATH != null) {
+            Path path = INDEX_PATH.resolve(ZoneNameIndexCompiler.getFileName(locale));
+
+            if (Files.isReadable(path)) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    ZoneNameIndex[] indices = ZoneNameIndex.read(buffer, locale, this.abbreviated);
+                    return new TZNames(indices[0], indices[1]);
+                } catch (IOException | IllegalStateException ex) {
+                    System.err.println("Warning: Zone name index not usable: " + path + " (" + ex.getMessage() + ")");
+                }
+            }
+        }
+
+        return new TZNames(
+            ZoneNameIndex.create(locale, this.getStyle(false)),
+            ZoneNameIndex.create(locale, this.getStyle(true)));
+
+    }
+
+    private static boolean startsWith(
+        CharSequence text,
+        int offset,
+        int len,
+        String prefix
     ) {
 
-        ZoneLabels.Node node = null;
-        NameStyle style = this.getStyle(daylightSaving);
+        int n = prefix.length();
 
-        for (TZID tzid : Timezone.getAvailableIDs()) {
-            String tzName = Timezone.getDisplayName(tzid, style, locale);
+        if (offset + n > len) {
+            return false;
+        }
 
-            if (tzName.equals(tzid.canonical())) {
-                continue; // registrierte NameProvider haben nichts gefunden!
+        for (int i = 0; i < n; i++) {
+            if (text.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
             }
-
-            node = ZoneLabels.insert(node, tzName, tzid);
         }
 
-        return new ZoneLabels(node);
+        return true;
 
     }
 
@@ -623,14 +693,14 @@ final class TimezoneNameProcessor
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private final ZoneLabels stdNames;
-        private final ZoneLabels dstNames;
+        private final ZoneNameIndex stdNames;
+        private final ZoneNameIndex dstNames;
 
         //~ Konstruktoren -------------------------------------------------
 
         TZNames(
-            ZoneLabels stdNames,
-            ZoneLabels dstNames
+            ZoneNameIndex stdNames,
+            ZoneNameIndex dstNames
         ) {
             super();
 
@@ -639,35 +709,6 @@ final class TimezoneNameProcessor
 
         }
 
-        //~ Methoden ------------------------------------------------------
-
-        void search(
-            CharSequence text,
-            int offset,
-            List<TZID> stdZones,
-            List<TZID> dstZones,
-            int[] lenbuf
-        ) {
-
-            String stdKey = this.stdNames.longestPrefixOf(text, offset);
-            int stdLen = stdKey.length();
-            lenbuf[0] = offset + stdLen;
-
-            String dstKey = this.dstNames.longestPrefixOf(text, offset);
-            int dstLen = dstKey.length();
-            lenbuf[1] = offset + dstLen;
-
-            if (dstLen > stdLen) {
-                dstZones.addAll(this.dstNames.find(dstKey));
-            } else if (dstLen < stdLen) {
-                stdZones.addAll(this.stdNames.find(stdKey));
-            } else if (stdLen > 0) {
-                stdZones.addAll(this.stdNames.find(stdKey));
-                dstZones.addAll(this.dstNames.find(dstKey));
-            }
-
-        }
-
     }
 
 }
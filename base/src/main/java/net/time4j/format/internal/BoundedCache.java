@@ -0,0 +1,355 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BoundedCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Threadsafe cache with a maximum size which evicts the least recently
+ * used entries first. </p>
+ *
+ * <p>The access order is tracked approximately in steps of about one
+ * millisecond so that a cache hit does not write to shared memory more
+ * than once per step. Eviction scans all entries and is therefore only
+ * suitable for small caches with rare insertions. If the maximum size is
+ * {@code Integer.MAX_VALUE} then the access order is not tracked at all. </p>
+ *
+ * <p>This class is intended for internal use by Time4J only. </p>
+ *
+ * @param   <K> type of keys
+ * @param   <V> type of values
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Threadsicherer Cache mit einer maximalen Gr&ouml;&szlig;e, der zuerst die
+ * am l&auml;ngsten nicht benutzten Eintr&auml;ge entfernt. </p>
+ *
+ * <p>Die Zugriffsreihenfolge wird ann&auml;hernd in Schritten von etwa einer
+ * Millisekunde verfolgt, so da&szlig; ein Treffer h&ouml;chstens einmal pro
+ * Schritt in gemeinsamen Speicher schreibt. Das Entfernen durchl&auml;uft alle
+ * Eintr&auml;ge und eignet sich daher nur f&uuml;r kleine Caches mit seltenen
+ * Einf&uuml;gungen. Ist die maximale Gr&ouml;&szlig;e {@code Integer.MAX_VALUE},
+ * wird die Zugriffsreihenfolge gar nicht verfolgt. </p>
+ *
+ * <p>Diese Klasse ist nur f&uuml;r die interne Verwendung in Time4J gedacht. </p>
+ *
+ * @param   <K> type of keys
+ * @param   <V> type of values
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class BoundedCache<K, V> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final LongAdder evictions = new LongAdder();
+    private volatile int maxSize;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new empty cache. </p>
+     *
+     * @param   maximumSize     maximum count of entries
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen leeren Cache. </p>
+     *
+     * @param   maximumSize     maximum count of entries
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    public BoundedCache(int maximumSize) {
+        super();
+
+        checkSize(maximumSize);
+        this.maxSize = maximumSize;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the cached value for given key and marks it as recently used. </p>
+     *
+     * @param   key     cache key
+     * @return  cached value or {@code null} if not found
+     */
+    /*[deutsch]
+     * <p>Liefert den zwischengespeicherten Wert zum angegebenen Schl&uuml;ssel
+     * und markiert ihn als k&uuml;rzlich benutzt. </p>
+     *
+     * @param   key     cache key
+     * @return  cached value or {@code null} if not found
+     */
+    public V get(K key) {
+
+        Entry<V> entry = this.entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (this.maxSize < Integer.MAX_VALUE) {
+            entry.touch();
+        }
+
+        return entry.value;
+
+    }
+
+    /**
+     * <p>Stores given value unless there is already a value for given key. </p>
+     *
+     * <p>If the maximum size is exceeded afterwards then the least recently
+     * used entries will be evicted. </p>
+     *
+     * @param   key     cache key
+     * @param   value   new value
+     * @return  previous value or {@code null} if given value was stored
+     */
+    /*[deutsch]
+     * <p>Speichert den angegebenen Wert, wenn es zum Schl&uuml;ssel noch keinen
+     * Wert gibt. </p>
+     *
+     * <p>Wird danach die maximale Gr&ouml;&szlig;e &uuml;berschritten, werden
+     * die am l&auml;ngsten nicht benutzten Eintr&auml;ge entfernt. </p>
+     *
+     * @param   key     cache key
+     * @param   value   new value
+     * @return  previous value or {@code null} if given value was stored
+     */
+    public V putIfAbsent(
+        K key,
+        V value
+    ) {
+
+        Entry<V> entry = this.entries.putIfAbsent(key, new Entry<>(value));
+
+        if (entry != null) {
+            return entry.value;
+        } else if (this.entries.size() > this.maxSize) {
+            this.evict();
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Removes the entry for given key only if it is mapped to given value. </p>
+     *
+     * @param   key     cache key
+     * @param   value   expected value
+     * @return  {@code true} if removed else {@code false}
+     */
+    /*[deutsch]
+     * <p>Entfernt den Eintrag zum Schl&uuml;ssel nur dann, wenn er den angegebenen
+     * Wert hat. </p>
+     *
+     * @param   key     cache key
+     * @param   value   expected value
+     * @return  {@code true} if removed else {@code false}
+     */
+    public boolean remove(
+        K key,
+        V value
+    ) {
+
+        Entry<V> entry = this.entries.get(key);
+        return ((entry != null) && entry.value.equals(value) && this.entries.remove(key, entry));
+
+    }
+
+    /**
+     * <p>Removes all entries. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Eintr&auml;ge. </p>
+     */
+    public void clear() {
+
+        this.entries.clear();
+
+    }
+
+    /**
+     * <p>Yields the current count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.entries.size();
+
+    }
+
+    /**
+     * <p>Yields the maximum count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die maximale Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    public int getMaximumSize() {
+
+        return this.maxSize;
+
+    }
+
+    /**
+     * <p>Sets the maximum count of entries and evicts the least recently used
+     * entries if necessary. </p>
+     *
+     * @param   maximumSize     new maximum count of entries
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    /*[deutsch]
+     * <p>Setzt die maximale Anzahl der Eintr&auml;ge und entfernt bei Bedarf
+     * die am l&auml;ngsten nicht benutzten Eintr&auml;ge. </p>
+     *
+     * @param   maximumSize     new maximum count of entries
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    public void setMaximumSize(int maximumSize) {
+
+        checkSize(maximumSize);
+        this.maxSize = maximumSize;
+        this.evict();
+
+    }
+
+    /**
+     * <p>Yields the count of entries which were evicted due to the maximum size. </p>
+     *
+     * @return  long
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Eintr&auml;ge, die wegen der maximalen
+     * Gr&ouml;&szlig;e entfernt wurden. </p>
+     *
+     * @return  long
+     */
+    public long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    /**
+     * <p>Sets the eviction count back to zero. </p>
+     */
+    /*[deutsch]
+     * <p>Setzt die Anzahl der entfernten Eintr&auml;ge auf null zur&uuml;ck. </p>
+     */
+    public void resetEvictionCount() {
+
+        this.evictions.reset();
+
+    }
+
+    // removes the least recently used entries until the maximum size is respected
+    private void evict() {
+
+        int max = this.maxSize;
+
+        while (this.entries.size() > max) {
+            Map.Entry<K, Entry<V>> victim = null;
+
+            for (Map.Entry<K, Entry<V>> e : this.entries.entrySet()) {
+                if ((victim == null) || (e.getValue().lastAccess < victim.getValue().lastAccess)) {
+                    victim = e;
+                }
+            }
+
+            if (victim == null) {
+                break;
+            } else if (this.entries.remove(victim.getKey(), victim.getValue())) {
+                this.evictions.increment();
+            }
+        }
+
+    }
+
+    private static void checkSize(int maximumSize) {
+
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum cache size must not be negative: " + maximumSize);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Entry<V> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final V value;
+        private volatile long lastAccess;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(V value) {
+            super();
+
+            this.value = value;
+            this.lastAccess = tick();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // avoids needless writes to the shared volatile field if accessed within the same tick
+        void touch() {
+
+            long now = tick();
+
+            if (this.lastAccess != now) {
+                this.lastAccess = now;
+            }
+
+        }
+
+        private static long tick() {
+
+            return (System.nanoTime() >> 20); // about one millisecond
+
+        }
+
+    }
+
+}
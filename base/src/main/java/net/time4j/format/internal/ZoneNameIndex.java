@@ -0,0 +1,475 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneNameIndex.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import net.time4j.tz.NameStyle;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * <p>Unver&auml;nderlicher Suchindex der Zeitzonennamen eines Stils in einer Sprache. </p>
+ *
+ * <p>Die Namen sind sortiert in einem {@code ByteBuffer} abgelegt, der entweder im Speicher
+ * aufgebaut oder aus einer mit {@link ZoneNameIndexCompiler} erzeugten Datei eingeblendet wird.
+ * Die Suche nach dem l&auml;ngsten passenden Namen grenzt zeichenweise einen Bereich der
+ * sortierten Namen per Bin&auml;rsuche ein und erzeugt keine Objekte. </p>
+ *
+ * <p>Aufbau einer Indexdatei: </p>
+ *
+ * <pre>
+ *  int         magic number (0x545A4E31)
+ *  short+utf8  language tag of locale
+ *  int         count of zone identifiers
+ *  [per zone: short+utf8 canonical id]
+ *  [four sections for the styles SHORT_STANDARD_TIME, LONG_STANDARD_TIME,
+ *      SHORT_DAYLIGHT_TIME and LONG_DAYLIGHT_TIME]
+ * </pre>
+ *
+ * <p>Aufbau eines Abschnitts: </p>
+ *
+ * <pre>
+ *  int         count of names
+ *  int         count of chars
+ *  int         count of zone references
+ *  [per name, sorted: int char offset, int length, int first reference, int count of references]
+ *  [chars of all names (UTF-16)]
+ *  [zone references as int-indices into the table of zone identifiers]
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class ZoneNameIndex {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Magic number at the start of any zone name index file.
+     */
+    public static final int MAGIC = 0x545A4E31; // TZN1
+
+    private static final NameStyle[] STYLES = {
+        NameStyle.SHORT_STANDARD_TIME,
+        NameStyle.LONG_STANDARD_TIME,
+        NameStyle.SHORT_DAYLIGHT_TIME,
+        NameStyle.LONG_DAYLIGHT_TIME
+    };
+
+    private static final int ENTRY_SIZE = 16;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer buffer;
+    private final TZID[] zones;
+    private final int count;
+    private final int entries;
+    private final int chars;
+    private final int refs;
+    private final int end;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZoneNameIndex(
+        ByteBuffer buffer,
+        int start,
+        TZID[] zones
+    ) {
+        super();
+
+        int n = buffer.getInt(start);
+        int charCount = buffer.getInt(start + 4);
+        int refCount = buffer.getInt(start + 8);
+
+        if ((n < 0) || (charCount < 0) || (refCount < 0)) {
+            throw new IllegalStateException("Zone name index is broken.");
+        }
+
+        this.buffer = buffer;
+        this.zones = zones;
+        this.count = n;
+        this.entries = start + 12;
+        this.chars = this.entries + n * ENTRY_SIZE;
+        this.refs = this.chars + charCount * 2;
+        this.end = this.refs + refCount * 4;
+
+        if (this.end > buffer.limit()) {
+            throw new IllegalStateException("Zone name index is truncated.");
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Builds the index of given style and language in memory. </p>
+     *
+     * @param   locale  language of zone names
+     * @param   style   name style
+     * @return  new index
+     */
+    public static ZoneNameIndex create(
+        Locale locale,
+        NameStyle style
+    ) {
+
+        List<TZID> ids = Timezone.getAvailableIDs();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        try (DataOutputStream dos = new DataOutputStream(baos)) {
+            writeSection(dos, ids, locale, style);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe); // in-memory stream
+        }
+
+        return new ZoneNameIndex(ByteBuffer.wrap(baos.toByteArray()), 0, ids.toArray(new TZID[ids.size()]));
+
+    }
+
+    /**
+     * <p>Reads the standard and the daylight-saving index from given index file content. </p>
+     *
+     * <p>All zone identifiers of the file must be available in the current runtime, otherwise
+     * the file is considered as stale. </p>
+     *
+     * @param   buffer          content of index file
+     * @param   locale          expected language
+     * @param   abbreviated     abbreviations or long names?
+     * @return  array of standard index and daylight-saving index
+     * @throws  IllegalStateException if the content is broken, stale or of different language
+     */
+    public static ZoneNameIndex[] read(
+        ByteBuffer buffer,
+        Locale locale,
+        boolean abbreviated
+    ) {
+
+        try {
+            ByteBuffer bb = buffer.duplicate();
+
+            if (bb.getInt() != MAGIC) {
+                throw new IllegalStateException("Not a zone name index.");
+            }
+
+            String tag = readUTF(bb);
+
+            if (!tag.equals(locale.toLanguageTag())) {
+                throw new IllegalStateException("Zone name index has wrong language: " + tag);
+            }
+
+            Map<String, TZID> available = new HashMap<>();
+
+            for (TZID tzid : Timezone.getAvailableIDs()) {
+                available.put(tzid.canonical(), tzid);
+            }
+
+            TZID[] zones = new TZID[bb.getInt()];
+
+            for (int i = 0; i < zones.length; i++) {
+                String id = readUTF(bb);
+                zones[i] = available.get(id);
+
+                if (zones[i] == null) {
+                    throw new IllegalStateException("Zone name index refers to unknown zone: " + id);
+                }
+            }
+
+            ZoneNameIndex[] sections = new ZoneNameIndex[STYLES.length];
+            int start = bb.position();
+
+            for (int i = 0; i < STYLES.length; i++) {
+                sections[i] = new ZoneNameIndex(buffer, start, zones);
+                start = sections[i].end;
+            }
+
+            return (
+                abbreviated
+                ? new ZoneNameIndex[] {sections[0], sections[2]}
+                : new ZoneNameIndex[] {sections[1], sections[3]});
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new IllegalStateException("Zone name index is truncated.", ex);
+        }
+
+    }
+
+    /**
+     * <p>Writes the complete index file content for given language. </p>
+     *
+     * @param   dos     target stream
+     * @param   locale  language of zone names
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void write(
+        DataOutputStream dos,
+        Locale locale
+    ) throws IOException {
+
+        List<TZID> ids = Timezone.getAvailableIDs();
+        dos.writeInt(MAGIC);
+        writeUTF(dos, locale.toLanguageTag());
+        dos.writeInt(ids.size());
+
+        for (TZID tzid : ids) {
+            writeUTF(dos, tzid.canonical());
+        }
+
+        for (NameStyle style : STYLES) {
+            writeSection(dos, ids, locale, style);
+        }
+
+    }
+
+    /**
+     * <p>Determines the longest zone name which is a prefix of given text section. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   offset  start position
+     * @param   len     end position (exclusive)
+     * @return  index of matching name or {@code -1}
+     */
+    public int match(
+        CharSequence text,
+        int offset,
+        int len
+    ) {
+
+        int lo = 0;
+        int hi = this.count;
+        int best = -1;
+
+        // alle Namen im Bereich [lo, hi) haben dasselbe Präfix der Länge i
+        for (int i = 0; (offset + i < len) && (lo < hi); i++) {
+            if (this.getLength(lo) == i) {
+                lo++; // kürzester Name zuerst, bereits geprüft
+            }
+
+            char c = text.charAt(offset + i);
+            int a = lo;
+            int b = hi;
+
+            while (a < b) {
+                int mid = (a + b) >>> 1;
+                if (this.charAt(mid, i) < c) {
+                    a = mid + 1;
+                } else {
+                    b = mid;
+                }
+            }
+
+            lo = a;
+            b = hi;
+
+            while (a < b) {
+                int mid = (a + b) >>> 1;
+                if (this.charAt(mid, i) <= c) {
+                    a = mid + 1;
+                } else {
+                    b = mid;
+                }
+            }
+
+            hi = a;
+
+            if ((lo < hi) && (this.getLength(lo) == i + 1)) {
+                best = lo;
+            }
+        }
+
+        return best;
+
+    }
+
+    /**
+     * <p>Yields the length of the name with given index. </p>
+     *
+     * @param   entry   index of name
+     * @return  count of chars
+     */
+    public int getLength(int entry) {
+
+        return this.buffer.getInt(this.entries + entry * ENTRY_SIZE + 4);
+
+    }
+
+    /**
+     * <p>Yields the count of zones which share the name with given index. </p>
+     *
+     * @param   entry   index of name
+     * @return  count of zones
+     */
+    public int getZoneCount(int entry) {
+
+        return this.buffer.getInt(this.entries + entry * ENTRY_SIZE + 12);
+
+    }
+
+    /**
+     * <p>Yields a zone with the name of given index. </p>
+     *
+     * @param   entry   index of name
+     * @param   k       index of zone, less than {@link #getZoneCount(int)}
+     * @return  zone identifier
+     */
+    public TZID getZone(
+        int entry,
+        int k
+    ) {
+
+        int first = this.buffer.getInt(this.entries + entry * ENTRY_SIZE + 8);
+        return this.zones[this.buffer.getInt(this.refs + (first + k) * 4)];
+
+    }
+
+    /**
+     * <p>Yields all zones with the name of given index. </p>
+     *
+     * @param   entry   index of name (maybe {@code -1})
+     * @return  modifiable list of zone identifiers
+     */
+    public List<TZID> getZones(int entry) {
+
+        if (entry < 0) {
+            return new ArrayList<>();
+        }
+
+        int n = this.getZoneCount(entry);
+        List<TZID> list = new ArrayList<>(n);
+
+        for (int k = 0; k < n; k++) {
+            list.add(this.getZone(entry, k));
+        }
+
+        return list;
+
+    }
+
+    /**
+     * For debugging purposes.
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return "ZoneNameIndex[count=" + this.count + ",bytes=" + (this.end - this.entries + 12) + "]";
+
+    }
+
+    private char charAt(
+        int entry,
+        int i
+    ) {
+
+        int offset = this.buffer.getInt(this.entries + entry * ENTRY_SIZE);
+        return this.buffer.getChar(this.chars + (offset + i) * 2);
+
+    }
+
+    private static void writeSection(
+        DataOutputStream dos,
+        List<TZID> ids,
+        Locale locale,
+        NameStyle style
+    ) throws IOException {
+
+        Map<String, List<Integer>> names = new TreeMap<>(); // sortiert nach UTF-16-Zeichen
+
+        for (int i = 0, n = ids.size(); i < n; i++) {
+            TZID tzid = ids.get(i);
+            String tzName = Timezone.getDisplayName(tzid, style, locale);
+
+            if (tzName.isEmpty() || tzName.equals(tzid.canonical())) {
+                continue; // registrierte NameProvider haben nichts gefunden!
+            }
+
+            names.computeIfAbsent(tzName, k -> new ArrayList<>(1)).add(Integer.valueOf(i));
+        }
+
+        int charCount = 0;
+        int refCount = 0;
+
+        for (Map.Entry<String, List<Integer>> e : names.entrySet()) {
+            charCount += e.getKey().length();
+            refCount += e.getValue().size();
+        }
+
+        dos.writeInt(names.size());
+        dos.writeInt(charCount);
+        dos.writeInt(refCount);
+        charCount = 0;
+        refCount = 0;
+
+        for (Map.Entry<String, List<Integer>> e : names.entrySet()) {
+            dos.writeInt(charCount);
+            dos.writeInt(e.getKey().length());
+            dos.writeInt(refCount);
+            dos.writeInt(e.getValue().size());
+            charCount += e.getKey().length();
+            refCount += e.getValue().size();
+        }
+
+        for (String name : names.keySet()) {
+            dos.writeChars(name);
+        }
+
+        for (List<Integer> refs : names.values()) {
+            for (Integer ref : refs) {
+                dos.writeInt(ref.intValue());
+            }
+        }
+
+    }
+
+    private static String readUTF(ByteBuffer buffer) {
+
+        int len = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[len];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+    private static void writeUTF(
+        DataOutputStream dos,
+        String text
+    ) throws IOException {
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        dos.writeShort(bytes.length);
+        dos.write(bytes);
+
+    }
+
+}
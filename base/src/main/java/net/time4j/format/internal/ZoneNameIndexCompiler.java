@@ -0,0 +1,116 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneNameIndexCompiler.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+
+/**
+ * <p>Build-time tool which writes the localized names of all available zones into precompiled
+ * search indices used for parsing timezone names by the pattern symbols &quot;z&quot; and
+ * &quot;zzzz&quot;. </p>
+ *
+ * <p>Usage: {@code java -cp time4j-base.jar net.time4j.format.internal.ZoneNameIndexCompiler
+ * {target-directory} {language-tag}...}. One file with the name
+ * &quot;tzname_{language-tag}.index&quot; is written per language. Afterwards the system
+ * property &quot;net.time4j.format.tz.names.path&quot; should point to the target directory.
+ * The index files are memory-mapped on first use of a language and are only valid for the
+ * same set of zone identifiers and zone name providers which existed during compilation. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class ZoneNameIndexCompiler {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZoneNameIndexCompiler() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compiles the zone names of given languages into given target directory. </p>
+     *
+     * @param   args    target directory followed by language tags
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void main(String[] args) throws IOException {
+
+        if (args.length < 2) {
+            System.err.println("Usage: ZoneNameIndexCompiler {target-directory} {language-tag}...");
+            System.exit(1);
+        }
+
+        Path dir = Paths.get(args[0]);
+        Files.createDirectories(dir);
+
+        for (int i = 1; i < args.length; i++) {
+            Path target = compile(dir, Locale.forLanguageTag(args[i]));
+            System.out.println("Compiled zone names into: " + target.toAbsolutePath());
+        }
+
+    }
+
+    /**
+     * <p>Compiles the zone names of given language into given target directory. </p>
+     *
+     * @param   dir     target directory
+     * @param   locale  language of zone names
+     * @return  path of written index file
+     * @throws  IOException in case of any I/O-error
+     */
+    public static Path compile(
+        Path dir,
+        Locale locale
+    ) throws IOException {
+
+        Path target = dir.resolve(getFileName(locale));
+
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(target)))) {
+            ZoneNameIndex.write(dos, locale);
+        }
+
+        return target;
+
+    }
+
+    /**
+     * <p>Yields the name of the index file for given language. </p>
+     *
+     * @param   locale  language of zone names
+     * @return  file name
+     */
+    public static String getFileName(Locale locale) {
+
+        return "tzname_" + locale.toLanguageTag() + ".index";
+
+    }
+
+}
@@ -1090,6 +1090,17 @@ public final class SimpleFormatter<T>
 
         }
 
+        @Override
+        public long getLong(ChronoElement<Long> element) {
+
+            if (this.values.containsKey(element)) {
+                return Long.class.cast(this.values.get(element)).longValue();
+            } else {
+                return Long.MIN_VALUE;
+            }
+
+        }
+
         @Override
         public <V> V getMinimum(ChronoElement<V> element) {
 
@@ -1116,6 +1127,16 @@ public final class SimpleFormatter<T>
 
         }
 
+        @Override
+        public boolean isValid(
+            ChronoElement<Long> element,
+            long value
+        ) {
+
+            return (element != null);
+
+        }
+
         @Override
         public <V> Parsed with(
             ChronoElement<V> element,
@@ -1134,6 +1155,16 @@ public final class SimpleFormatter<T>
 
         }
 
+        @Override
+        public Parsed with(
+            ChronoElement<Long> element,
+            long value
+        ) {
+
+            return this.with(element, Long.valueOf(value));
+
+        }
+
         @Override
         public boolean hasTimezone() {
 
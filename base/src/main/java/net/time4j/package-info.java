@@ -10,10 +10,33 @@
  *  <li>net.time4j.format.iso.decimal.dot =&gt;
  *      controls formatting of decimal separator in ISO-8601-output
  *      (default is the comma)</li>
+ *  <li>net.time4j.format.cache.size =&gt;
+ *      maximum count of formatters cached by pattern or style (default is 256, zero disables
+ *      the cache), see {@code ChronoFormatter.Cache}</li>
+ *  <li>net.time4j.format.tz.names.cache.size =&gt;
+ *      maximum count of languages whose zone names are kept for parsing per name length
+ *      (default is 100, least recently used languages are evicted first)</li>
+ *  <li>net.time4j.format.tz.names.path =&gt;
+ *      directory of memory-mapped zone name indices compiled by the tool
+ *      {@code net.time4j.format.internal.ZoneNameIndexCompiler}</li>
  *  <li>net.time4j.sql.utc.conversion =&gt;
  *      SQL-Konversion in <a href="sql/JDBCAdapter.html">JDBCAdapter</a></li>
  *  <li>net.time4j.systemclock.nanoTime =&gt;
  *      controls precision of <a href="SystemClock.html">SystemClock</a></li>
+ *  <li>net.time4j.systemclock.coarse.period =&gt;
+ *      update period in milliseconds of the coarse clock (default is 10),
+ *      see <a href="SystemClock.html#COARSE">SystemClock.COARSE</a></li>
+ *  <li>net.time4j.cache.dates =&gt;
+ *      count of years before and after the current year whose calendar dates are interned
+ *      as canonical instances by <a href="PlainDate.html">PlainDate</a> (default is 0 = no cache,
+ *      maximum is 500)</li>
+ *  <li>net.time4j.cache.times =&gt;
+ *      either &quot;minutes&quot; or &quot;seconds&quot;, interns all wall times of
+ *      <a href="PlainTime.html">PlainTime</a> with whole minutes respective seconds
+ *      as canonical instances (default is no cache)</li>
+ *  <li>net.time4j.astro.solar.cache.size =&gt;
+ *      maximum count of cached yearly tables (default is 1024), see
+ *      <a href="calendar/astro/SolarTimeTable.Cache.html">SolarTimeTable.Cache</a></li>
  *  <li>net.time4j.allow.system.tz.override =&gt;
  *      controls permit for overriding standard timezone</li>
  *  <li>net.time4j.scale.leapseconds.suppressed =&gt; see
@@ -31,6 +54,12 @@
  *      if specified then Time4J will look for a file with name
  *      &quot;tzdata{version}.repository&quot; in given directory path
  *      otherwise the name will not contain the version</li>
+ *  <li>net.time4j.tz.compiled.path =&gt;
+ *      path of a memory-mapped zone repository compiled from the tzdb-data of the JDK
+ *      by the tool {@code net.time4j.tz.threeten.ZoneRepositoryCompiler}</li>
+ *  <li>net.time4j.tz.index.window =&gt;
+ *      range of years like &quot;1970-2100&quot; (default) where timezone offsets are found
+ *      via a precomputed lookup index instead of a binary search, &quot;none&quot; disables the index</li>
  *  <li>net.time4j.base.ResourceLoader =&gt; class name of external {@code ResourceLoader}-implementation</li>
  * </ul>
  */
@@ -46,11 +75,35 @@
  *  <li>net.time4j.format.iso.decimal.dot =&gt;
  *      steuert die Textausgabe des Dezimaltrennzeichens in ISO-8601 (Vorgabe
  *      ist das Komma)</li>
+ *  <li>net.time4j.format.cache.size =&gt;
+ *      maximale Anzahl der nach Formatmuster oder Stil zwischengespeicherten Formatierer
+ *      (Vorgabe ist 256, null schaltet den Cache ab), siehe {@code ChronoFormatter.Cache}</li>
+ *  <li>net.time4j.format.tz.names.cache.size =&gt;
+ *      maximale Anzahl der Sprachen, deren Zeitzonennamen je Namensl&auml;nge zum Interpretieren
+ *      vorgehalten werden (Vorgabe ist 100, am l&auml;ngsten unbenutzte Sprachen werden zuerst
+ *      entfernt)</li>
+ *  <li>net.time4j.format.tz.names.path =&gt;
+ *      Verzeichnis der eingeblendeten Zeitzonennamensindizes, die mit dem Werkzeug
+ *      {@code net.time4j.format.internal.ZoneNameIndexCompiler} erzeugt wurden</li>
  *  <li>net.time4j.sql.utc.conversion =&gt;
  *      SQL-Konversion in <a href="sql/JDBCAdapter.html">JDBCAdapter</a></li>
  *  <li>net.time4j.systemclock.nanoTime =&gt;
  *      steuert die Genauigkeit von
  *      <a href="SystemClock.html">SystemClock</a></li>
+ *  <li>net.time4j.systemclock.coarse.period =&gt;
+ *      Aktualisierungsperiode der groben Uhr in Millisekunden (Vorgabe ist 10),
+ *      siehe <a href="SystemClock.html#COARSE">SystemClock.COARSE</a></li>
+ *  <li>net.time4j.cache.dates =&gt;
+ *      Anzahl der Jahre vor und nach dem aktuellen Jahr, deren Kalenderdaten von
+ *      <a href="PlainDate.html">PlainDate</a> als kanonische Instanzen zwischengespeichert werden
+ *      (Vorgabe ist 0 = kein Cache, Maximum ist 500)</li>
+ *  <li>net.time4j.cache.times =&gt;
+ *      entweder &quot;minutes&quot; oder &quot;seconds&quot;, speichert alle Uhrzeiten von
+ *      <a href="PlainTime.html">PlainTime</a> mit ganzen Minuten bzw. Sekunden als kanonische
+ *      Instanzen zwischen (Vorgabe ist kein Cache)</li>
+ *  <li>net.time4j.astro.solar.cache.size =&gt;
+ *      maximale Anzahl der zwischengespeicherten Jahrestabellen (Vorgabe ist 1024),
+ *      siehe <a href="calendar/astro/SolarTimeTable.Cache.html">SolarTimeTable.Cache</a></li>
  *  <li>net.time4j.allow.system.tz.override =&gt;
  *      steuert, ob das &Uuml;berschreiben der Standard-Zeitzone zul&auml;ssig
  *      ist</li>
@@ -69,6 +122,14 @@
  *      wenn angegeben wird Time4J im Verzeichnispfad nach einer Datei mit dem
  *      Namen &quot;tzdata{version}.repository&quot; suchen, ansonsten wird
  *      der Name der Datei nicht die Version enthalten</li>
+ *  <li>net.time4j.tz.compiled.path =&gt;
+ *      Pfad eines speicherabgebildeten Zeitzonenrepositoriums, das mit dem Werkzeug
+ *      {@code net.time4j.tz.threeten.ZoneRepositoryCompiler} aus den tzdb-Daten des JDK
+ *      erzeugt wurde</li>
+ *  <li>net.time4j.tz.index.window =&gt;
+ *      Jahresbereich wie &quot;1970-2100&quot; (Vorgabe), in dem Zeitzonenverschiebungen
+ *      &uuml;ber einen vorberechneten Suchindex statt einer Bin&auml;rsuche gefunden werden,
+ *      &quot;none&quot; schaltet den Index ab</li>
  *  <li>net.time4j.base.ResourceLoader =&gt; Klassenname einer externen {@code ResourceLoader}-Implementierung</li>
  * </ul>
  */
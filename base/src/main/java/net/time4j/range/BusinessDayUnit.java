@@ -57,6 +57,9 @@ class BusinessDayUnit
                     PlainDate date,
                     long amount
                 ) {
+                    if (model instanceof CompiledHolidayModel) {
+                        return ((CompiledHolidayModel) model).addBusinessDays(date, amount);
+                    }
                     PlainDate shifted = date;
                     if (amount > 0) {
                         for (int i = 0; i < amount; i++) {
@@ -77,6 +80,12 @@ class BusinessDayUnit
                     if (start.isSimultaneous(end)) {
                         return 0L;
                     }
+                    if (model instanceof CompiledHolidayModel) {
+                        long count = ((CompiledHolidayModel) model).betweenBusinessDays(start, end);
+                        if (count != Long.MIN_VALUE) {
+                            return count;
+                        }
+                    }
                     long count = 0;
                     boolean negative = start.isAfter(end);
                     if (negative) {
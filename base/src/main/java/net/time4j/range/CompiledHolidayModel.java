@@ -0,0 +1,580 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledHolidayModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.ChronoFunction;
+import net.time4j.engine.ChronoOperator;
+import net.time4j.engine.EpochDays;
+
+
+/**
+ * <p>Vorberechnetes Feiertagsmodell mit einer Bitmenge der arbeitsfreien Tage und Pr&auml;fixsummen
+ * der Arbeitstage, so da&szlig; Arbeitstage in konstanter Zeit gez&auml;hlt und addiert werden
+ * k&ouml;nnen. </p>
+ *
+ * <p>Der vorberechnete Bereich wird bei Bedarf jahresweise erweitert, solange er nicht mehr als
+ * {@link #MAX_SPAN_YEARS} Jahre umfasst. Au&szlig;erhalb davon wird das zugrundeliegende Modell
+ * Tag f&uuml;r Tag abgefragt. Die Tabelle ist unver&auml;nderlich und wird bei jeder Erweiterung
+ * ersetzt, so da&szlig; lesende Zugriffe keine Sperre brauchen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class CompiledHolidayModel
+    implements HolidayModel {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Maximum count of years which can be precomputed.
+     */
+    static final int MAX_SPAN_YEARS = 1000;
+
+    private static final int SELECT_SHIFT = 6;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final HolidayModel model;
+    private volatile Table table;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Materializes given model for given range of years. </p>
+     *
+     * @param   model       underlying holiday model
+     * @param   minYear     first year to be precomputed
+     * @param   maxYear     last year to be precomputed
+     * @throws  IllegalArgumentException if the range of years is invalid or too big
+     */
+    CompiledHolidayModel(
+        HolidayModel model,
+        int minYear,
+        int maxYear
+    ) {
+        super();
+
+        if (minYear > maxYear) {
+            throw new IllegalArgumentException("Min year after max year: " + minYear + " > " + maxYear);
+        } else if (maxYear - minYear >= MAX_SPAN_YEARS) {
+            throw new IllegalArgumentException("Range of years is too big: [" + minYear + "," + maxYear + "]");
+        }
+
+        while (model instanceof CompiledHolidayModel) {
+            model = ((CompiledHolidayModel) model).model;
+        }
+
+        this.model = model;
+        this.table = Table.create(model, startOfYear(minYear), startOfYear(maxYear + 1));
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public boolean test(PlainDate date) {
+
+        long day = date.getDaysSinceEpochUTC();
+        Table t = this.cover(day);
+        return ((t == null) ? this.model.test(date) : t.isHoliday(day));
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> nextBusinessDay() {
+
+        return date -> this.nextOrSame(date.plus(1, CalendarUnit.DAYS));
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> nextOrSameBusinessDay() {
+
+        return this::nextOrSame;
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> previousBusinessDay() {
+
+        return date -> this.previousOrSame(date.minus(1, CalendarUnit.DAYS));
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> previousOrSameBusinessDay() {
+
+        return this::previousOrSame;
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, PlainDate> firstBusinessDay() {
+
+        return interval -> this.search(interval, true);
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, PlainDate> lastBusinessDay() {
+
+        return interval -> this.search(interval, false);
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfBusinessDays() {
+
+        return interval -> Integer.valueOf(this.count(interval, true));
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfHolidays() {
+
+        return interval -> Integer.valueOf(this.count(interval, false));
+
+    }
+
+    /**
+     * <p>Adds given amount of business days to given date. </p>
+     *
+     * <p>A positive amount yields the n-th business day after given date, a negative amount
+     * the n-th business day before given date. </p>
+     *
+     * @param   date    start date
+     * @param   amount  count of business days to be added
+     * @return  shifted date
+     */
+    PlainDate addBusinessDays(
+        PlainDate date,
+        long amount
+    ) {
+
+        if (amount == 0) {
+            return date;
+        }
+
+        long day = date.getDaysSinceEpochUTC();
+        Table t = this.cover(day);
+
+        while (t != null) {
+            if (amount > 0) {
+                long target = t.rank(day + 1) + amount - 1;
+                if (target < t.total()) {
+                    return toDate(t.select((int) target));
+                }
+                t = this.cover(t.endDay());
+            } else {
+                long target = t.rank(day) + amount;
+                if (target >= 0) {
+                    return toDate(t.select((int) target));
+                }
+                t = this.cover(t.startDay() - 1);
+            }
+        }
+
+        PlainDate shifted = date; // beyond the maximum span
+
+        if (amount > 0) {
+            for (long i = 0; i < amount; i++) {
+                shifted = HolidayModel.super.nextBusinessDay().apply(shifted);
+            }
+        } else {
+            for (long i = 0; i > amount; i--) {
+                shifted = HolidayModel.super.previousBusinessDay().apply(shifted);
+            }
+        }
+
+        return shifted;
+
+    }
+
+    /**
+     * <p>Counts the business days after start until end (inclusive) or negative vice versa. </p>
+     *
+     * @param   start   start date
+     * @param   end     end date
+     * @return  count of business days, maybe negative
+     */
+    long betweenBusinessDays(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        long s = start.getDaysSinceEpochUTC();
+        long e = end.getDaysSinceEpochUTC();
+        Table t = this.cover(s, e);
+
+        if (t == null) {
+            return Long.MIN_VALUE;
+        }
+
+        return t.rank(e + 1) - t.rank(s + 1);
+
+    }
+
+    @Override
+    public String toString() {
+
+        Table t = this.table;
+        return "CompiledHolidayModel[" + toDate(t.startDay()) + "/" + toDate(t.endDay() - 1) + "]";
+
+    }
+
+    private PlainDate nextOrSame(PlainDate date) {
+
+        long day = date.getDaysSinceEpochUTC();
+        Table t = this.cover(day);
+
+        while (t != null) {
+            int rank = t.rank(day);
+            if (rank < t.total()) {
+                return toDate(t.select(rank));
+            }
+            day = t.endDay();
+            t = this.cover(day);
+        }
+
+        return HolidayModel.super.nextOrSameBusinessDay().apply(toDate(day));
+
+    }
+
+    private PlainDate previousOrSame(PlainDate date) {
+
+        long day = date.getDaysSinceEpochUTC();
+        Table t = this.cover(day);
+
+        while (t != null) {
+            int rank = t.rank(day + 1);
+            if (rank > 0) {
+                return toDate(t.select(rank - 1));
+            }
+            day = t.startDay() - 1;
+            t = this.cover(day);
+        }
+
+        return HolidayModel.super.previousOrSameBusinessDay().apply(toDate(day));
+
+    }
+
+    private PlainDate search(
+        ChronoInterval<PlainDate> interval,
+        boolean first
+    ) {
+
+        if (!interval.isFinite()) {
+            throw new ChronoException("Cannot query infinite intervals.");
+        }
+
+        PlainDate start = interval.getStart().getTemporal();
+        PlainDate end = interval.getEnd().getTemporal();
+        long s = start.getDaysSinceEpochUTC();
+        long e = end.getDaysSinceEpochUTC();
+        Table t = this.cover(s, e);
+
+        if (t == null) {
+            return (
+                first
+                ? HolidayModel.super.firstBusinessDay().apply(interval)
+                : HolidayModel.super.lastBusinessDay().apply(interval)
+            );
+        } else if (!t.isHoliday(first ? s : e)) {
+            return (first ? start : end);
+        } else if (s > e) {
+            return null;
+        }
+
+        int low = t.rank(s);
+        int high = t.rank(e + 1);
+
+        if (low == high) {
+            return null;
+        }
+
+        return toDate(t.select(first ? low : high - 1));
+
+    }
+
+    private int count(
+        ChronoInterval<PlainDate> interval,
+        boolean business
+    ) {
+
+        if (!interval.isFinite()) {
+            throw new ChronoException("Cannot query infinite intervals.");
+        } else if (interval.isEmpty()) {
+            return 0;
+        }
+
+        DateInterval di = DateInterval.from(interval);
+        long s = di.getClosedFiniteStart().getDaysSinceEpochUTC();
+        long e = di.getClosedFiniteEnd().getDaysSinceEpochUTC();
+        Table t = this.cover(s, e);
+
+        if (t == null) {
+            return (
+                business
+                ? HolidayModel.super.countOfBusinessDays().apply(interval)
+                : HolidayModel.super.countOfHolidays().apply(interval)
+            ).intValue();
+        }
+
+        int count = t.rank(e + 1) - t.rank(s);
+        return (business ? count : Math.toIntExact(e - s + 1 - count));
+
+    }
+
+    // liefert eine Tabelle, die beide Tage enthält, oder null (maximale Spannweite überschritten)
+    private Table cover(
+        long day1,
+        long day2
+    ) {
+
+        Table t = this.cover(day1);
+
+        if (t != null) {
+            t = this.cover(day2);
+        }
+
+        return (((t != null) && t.covers(day1)) ? t : null);
+
+    }
+
+    // liefert eine Tabelle, die den Tag enthält, oder null (maximale Spannweite überschritten)
+    private Table cover(long day) {
+
+        Table t = this.table;
+
+        if (t.covers(day)) {
+            return t;
+        }
+
+        synchronized (this) {
+            t = this.table;
+
+            if (t.covers(day)) {
+                return t;
+            }
+
+            int year = toDate(day).getYear();
+            long start = Math.min(t.startDay(), startOfYear(year));
+            long end = Math.max(t.endDay(), startOfYear(year + 1));
+
+            if (end - start > MAX_SPAN_YEARS * 366L) {
+                return null;
+            }
+
+            t = t.extend(this.model, start, end);
+            this.table = t;
+            return t;
+        }
+
+    }
+
+    private static long startOfYear(int year) {
+
+        return PlainDate.of(year, 1, 1).getDaysSinceEpochUTC();
+
+    }
+
+    private static PlainDate toDate(long day) {
+
+        return PlainDate.of(day, EpochDays.UTC);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // unveränderliche Tabelle mit 64 Tagen pro Wort, absolut an der UTC-Epoche ausgerichtet
+    private static final class Table {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long firstWord;
+        private final long[] holidays; // bit set: 1 = non-business day
+        private final int[] ranks; // count of business days before every word (length + 1)
+        private final int[] selects; // word index for every 64th business day
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Table(
+            long firstWord,
+            long[] holidays
+        ) {
+            super();
+
+            int n = holidays.length;
+            int[] ranks = new int[n + 1];
+
+            for (int w = 0; w < n; w++) {
+                ranks[w + 1] = ranks[w] + Long.bitCount(~holidays[w]);
+            }
+
+            int total = ranks[n];
+            int[] selects = new int[(total >>> SELECT_SHIFT) + 1];
+
+            for (int w = 0, j = 0; w < n; w++) {
+                while (((long) j << SELECT_SHIFT) < ranks[w + 1]) {
+                    selects[j++] = w;
+                }
+            }
+
+            this.firstWord = firstWord;
+            this.holidays = holidays;
+            this.ranks = ranks;
+            this.selects = selects;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static Table create(
+            HolidayModel model,
+            long start,
+            long end
+        ) {
+
+            long firstWord = Math.floorDiv(start, 64);
+            long lastWord = Math.floorDiv(end - 1, 64);
+            long[] holidays = new long[Math.toIntExact(lastWord - firstWord + 1)];
+            fill(model, holidays, firstWord, 0, holidays.length);
+            return new Table(firstWord, holidays);
+
+        }
+
+        Table extend(
+            HolidayModel model,
+            long start,
+            long end
+        ) {
+
+            long first = Math.min(this.firstWord, Math.floorDiv(start, 64));
+            long last = Math.max(this.firstWord + this.holidays.length - 1, Math.floorDiv(end - 1, 64));
+            long[] extended = new long[Math.toIntExact(last - first + 1)];
+            int offset = (int) (this.firstWord - first);
+            System.arraycopy(this.holidays, 0, extended, offset, this.holidays.length);
+            fill(model, extended, first, 0, offset);
+            fill(model, extended, first, offset + this.holidays.length, extended.length);
+            return new Table(first, extended);
+
+        }
+
+        long startDay() {
+
+            return this.firstWord * 64;
+
+        }
+
+        long endDay() {
+
+            return (this.firstWord + this.holidays.length) * 64;
+
+        }
+
+        boolean covers(long day) {
+
+            return ((day >= this.startDay()) && (day < this.endDay()));
+
+        }
+
+        boolean isHoliday(long day) {
+
+            long rel = day - this.startDay();
+            return ((this.holidays[(int) (rel >>> 6)] & (1L << (rel & 63))) != 0);
+
+        }
+
+        // Anzahl der Arbeitstage im Bereich [startDay, day), day <= endDay
+        int rank(long day) {
+
+            long rel = day - this.startDay();
+            int w = (int) (rel >>> 6);
+
+            if (w == this.holidays.length) {
+                return this.ranks[w];
+            }
+
+            long mask = (1L << (rel & 63)) - 1;
+            return this.ranks[w] + Long.bitCount(~this.holidays[w] & mask);
+
+        }
+
+        int total() {
+
+            return this.ranks[this.holidays.length];
+
+        }
+
+        // Tag des Arbeitstags mit dem angegebenen Rang (0 <= rank < total)
+        long select(int rank) {
+
+            int w = this.selects[rank >>> SELECT_SHIFT];
+
+            while (this.ranks[w + 1] <= rank) {
+                w++;
+            }
+
+            long free = ~this.holidays[w];
+
+            for (int r = rank - this.ranks[w]; r > 0; r--) {
+                free &= (free - 1);
+            }
+
+            return this.startDay() + (w << 6) + Long.numberOfTrailingZeros(free);
+
+        }
+
+        private static void fill(
+            HolidayModel model,
+            long[] holidays,
+            long firstWord,
+            int from,
+            int to
+        ) {
+
+            if (from >= to) {
+                return;
+            }
+
+            long day = (firstWord + from) * 64;
+            PlainDate date = toDate(day);
+
+            for (int w = from; w < to; w++) {
+                long bits = 0;
+                for (int b = 0; b < 64; b++) {
+                    if (model.test(date)) {
+                        bits |= (1L << b);
+                    }
+                    date = date.plus(1, CalendarUnit.DAYS);
+                }
+                holidays[w] = bits;
+            }
+
+        }
+
+    }
+
+}
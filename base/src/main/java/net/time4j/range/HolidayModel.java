@@ -475,4 +475,59 @@ public interface HolidayModel
         return new BusinessDayUnit(this);
     }
 
+    /**
+     * <p>Precomputes this model for given range of years such that business days can be
+     * tested, counted and added in constant time independent of the distance. </p>
+     *
+     * <p>The result stores one bit per day and the cumulated count of business days. Queries
+     * outside of given range extend the precomputed range year by year as long as the whole
+     * span does not exceed 1000 years, otherwise the result falls back to the day-by-day logic
+     * of this model. The unit {@link #businessDays()} of the result uses the precomputed data,
+     * too. Note that this model must not change its behaviour after compilation. Example: </p>
+     *
+     * <pre>
+     *     HolidayModel model = HolidayModel.ofSaturdayOrSunday().compile(2000, 2050);
+     *     PlainDate date = PlainDate.of(2017, 4, 28);
+     *     System.out.println(date.plus(1000, model.businessDays()));
+     *     // 2021-02-26
+     * </pre>
+     *
+     * @param   minYear     first year to be precomputed
+     * @param   maxYear     last year to be precomputed
+     * @return  compiled holiday model
+     * @throws  IllegalArgumentException if min year is after max year or the range covers more than 1000 years
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Berechnet dieses Modell f&uuml;r den angegebenen Jahresbereich vor, so da&szlig; Arbeitstage
+     * unabh&auml;ngig vom Abstand in konstanter Zeit gepr&uuml;ft, gez&auml;hlt und addiert werden
+     * k&ouml;nnen. </p>
+     *
+     * <p>Das Ergebnis speichert ein Bit pro Tag und die kumulierte Anzahl der Arbeitstage. Abfragen
+     * au&szlig;erhalb des angegebenen Bereichs erweitern den vorberechneten Bereich jahresweise, solange
+     * die gesamte Spannweite 1000 Jahre nicht &uuml;berschreitet, sonst f&auml;llt das Ergebnis auf die
+     * tageweise Logik dieses Modells zur&uuml;ck. Die Einheit {@link #businessDays()} des Ergebnisses
+     * verwendet ebenfalls die vorberechneten Daten. Hinweis: Dieses Modell darf sein Verhalten nach
+     * der Vorberechnung nicht mehr &auml;ndern. Beispiel: </p>
+     *
+     * <pre>
+     *     HolidayModel model = HolidayModel.ofSaturdayOrSunday().compile(2000, 2050);
+     *     PlainDate date = PlainDate.of(2017, 4, 28);
+     *     System.out.println(date.plus(1000, model.businessDays()));
+     *     // 2021-02-26
+     * </pre>
+     *
+     * @param   minYear     first year to be precomputed
+     * @param   maxYear     last year to be precomputed
+     * @return  compiled holiday model
+     * @throws  IllegalArgumentException if min year is after max year or the range covers more than 1000 years
+     * @since   5.10
+     */
+    default HolidayModel compile(
+        int minYear,
+        int maxYear
+    ) {
+        return new CompiledHolidayModel(this, minYear, maxYear);
+    }
+
 }
@@ -38,6 +38,9 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 
 /**
@@ -84,6 +87,11 @@ public abstract class IntervalCollection<T>
     extends AbstractCollection<ChronoInterval<T>>
     implements Serializable {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // minimum count of intervals per slice in parallel processing
+    private static final int MIN_SLICE = 512;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private transient final List<ChronoInterval<T>> intervals;
@@ -638,10 +646,8 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals);
-        windows.add(this.adjust(interval));
-        windows.sort(this.getComparator());
-        return this.create(windows);
+        List<ChronoInterval<T>> added = Collections.singletonList(this.adjust(interval));
+        return this.create(this.merge(added));
 
     }
 
@@ -675,16 +681,20 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals);
+        List<ChronoInterval<T>> added = new ArrayList<>(intervals.size());
 
         for (ChronoInterval<T> i : intervals) {
             if (!i.isEmpty()) {
-                windows.add(this.adjust(i));
+                added.add(this.adjust(i));
             }
         }
 
-        windows.sort(this.getComparator());
-        return this.create(windows);
+        if (added.isEmpty()) {
+            return this;
+        }
+
+        added.sort(this.getComparator());
+        return this.create(this.merge(added));
 
     }
 
@@ -708,11 +718,43 @@ public abstract class IntervalCollection<T>
      */
     public IntervalCollection<T> plus(IntervalCollection<T> other) {
 
-        if (this == other) {
+        if ((this == other) || other.isEmpty()) {
             return this;
+        } else if (this.isEmpty()) {
+            return this.create(new ArrayList<>(other.intervals));
         }
 
-        return this.plus(other.getIntervals());
+        return this.create(this.merge(other.intervals)); // already adjusted and sorted
+
+    }
+
+    /**
+     * <p>Creates a builder which collects many intervals at once and adds them
+     * to this interval collection in one single step. </p>
+     *
+     * <p>Repeated calls of {@code plus(ChronoInterval)} copy the whole internal
+     * list every time. The builder instead sorts all collected intervals only
+     * once when {@link Builder#build()} is called. This instance remains
+     * unaffected. </p>
+     *
+     * @return  new builder initially containing the intervals of this collection
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen {@code Builder}, der viele Intervalle auf einmal sammelt
+     * und in einem einzigen Schritt zu dieser Intervallmenge hinzuf&uuml;gt. </p>
+     *
+     * <p>Wiederholte Aufrufe von {@code plus(ChronoInterval)} kopieren jedesmal
+     * die ganze interne Liste. Der {@code Builder} sortiert dagegen alle gesammelten
+     * Intervalle nur einmal, wenn {@link Builder#build()} aufgerufen wird. Diese
+     * Instanz bleibt unver&auml;ndert. </p>
+     *
+     * @return  new builder initially containing the intervals of this collection
+     * @since   5.10
+     */
+    public Builder<T> toBuilder() {
+
+        return new Builder<>(this);
 
     }
 
@@ -816,8 +858,7 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<ChronoInterval<T>> parts = new ArrayList<>();
-        List<ChronoInterval<T>> list = new ArrayList<>();
+        List<ChronoInterval<T>> list = new ArrayList<>(intervals.size());
 
         for (ChronoInterval<T> i : intervals) {
             if (!i.isEmpty()) {
@@ -826,19 +867,7 @@ public abstract class IntervalCollection<T>
         }
 
         list.sort(this.getComparator());
-        IntervalCollection<T> subtrahend = this.create(list);
-
-        for (int i = 0, n = this.intervals.size(); i < n; i++) {
-            ChronoInterval<T> minuend = this.intervals.get(i);
-            IntervalCollection<T> diff = subtrahend.withComplement(minuend);
-
-            if (!diff.isEmpty()) {
-                parts.addAll(diff.intervals);
-            }
-        }
-
-        parts.sort(this.getComparator());
-        return this.create(parts);
+        return this.subtract(list);
 
     }
 
@@ -865,9 +894,11 @@ public abstract class IntervalCollection<T>
         if (this == other) {
             List<ChronoInterval<T>> zero = Collections.emptyList();
             return this.create(zero);
+        } else if (this.isEmpty() || other.isEmpty()) {
+            return this;
         }
 
-        return this.minus(other.getIntervals());
+        return this.subtract(other.intervals); // already adjusted and sorted
 
     }
 
@@ -1040,51 +1071,7 @@ public abstract class IntervalCollection<T>
         }
 
         List<ChronoInterval<T>> gaps = new ArrayList<>();
-        T previous = null;
-
-        for (int i = 0, n = len - 1; i < n; i++) {
-            ChronoInterval<T> current = this.intervals.get(i);
-
-            if (current.getEnd().isInfinite()) {
-                break;
-            }
-
-            T gapStart = current.getEnd().getTemporal();
-
-            if (current.getEnd().isClosed()) {
-                gapStart = this.getTimeLine().stepForward(gapStart);
-                if (gapStart == null) {
-                    break;
-                }
-            }
-
-            if ((previous == null) || this.isAfter(gapStart, previous)) {
-                previous = gapStart;
-            } else {
-                gapStart = previous;
-            }
-
-            T gapEnd = this.intervals.get(i + 1).getStart().getTemporal();
-
-            if ((gapEnd == null) || !this.isAfter(gapEnd, gapStart)) {
-                continue;
-            }
-
-            IntervalEdge edge = IntervalEdge.OPEN;
-
-            if (this.isCalendrical()) {
-                edge = IntervalEdge.CLOSED;
-                gapEnd = this.getTimeLine().stepBackwards(gapEnd);
-                if (gapEnd == null) {
-                    continue;
-                }
-            }
-
-            Boundary<T> s = Boundary.ofClosed(gapStart);
-            Boundary<T> e = Boundary.of(edge, gapEnd);
-            gaps.add(this.newInterval(s, e));
-        }
-
+        this.sweepGaps(0, len - 1, new GapSweep<>(), gaps);
         return this.create(gaps);
 
     }
@@ -1121,52 +1108,15 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        Boundary<T> s;
-        Boundary<T> e;
-
-        boolean calendrical = this.isCalendrical();
-        IntervalEdge edge = (
-            calendrical
-            ? IntervalEdge.CLOSED
-            : IntervalEdge.OPEN);
-
         List<ChronoInterval<T>> gaps = this.withGaps().intervals;
         List<ChronoInterval<T>> blocks = new ArrayList<>();
-        T start = this.getMinimum();
-
-        for (int i = 0, n = gaps.size(); i < n; i++) {
-            T end = gaps.get(i).getStart().getTemporal();
-
-            if (calendrical) {
-                end = this.getTimeLine().stepBackwards(end);
-            }
-
-            s = this.createStartBoundary(start);
-            e = Boundary.of(edge, end);
-            blocks.add(this.newInterval(s, e));
-
-            Boundary<T> b = gaps.get(i).getEnd();
-            start = b.getTemporal();
-
-            if (b.isClosed()) {
-                start = this.getTimeLine().stepForward(start);
-            }
-        }
-
-        T max = this.getMaximum();
-        s = this.createStartBoundary(start);
-
-        if ((max != null) && !calendrical) {
-            max = this.getTimeLine().stepForward(max);
-        }
+        T min = this.getMinimum();
+        T max = this.getBlockMaximum();
 
-        if (max == null) {
-            e = Boundary.infiniteFuture();
-        } else {
-            e = Boundary.of(edge, max);
+        for (int i = 0, n = gaps.size(); i <= n; i++) {
+            blocks.add(this.createBlock(gaps, i, min, max));
         }
 
-        blocks.add(this.newInterval(s, e));
         return this.create(blocks);
 
     }
@@ -1304,6 +1254,253 @@ public abstract class IntervalCollection<T>
 
     }
 
+    /**
+     * <p>Parallel variant of {@link #withGaps()} which yields an identical result. </p>
+     *
+     * <p>The sorted intervals are partitioned into independent time slices which are first
+     * scanned concurrently for their latest end. After having stitched these ends together
+     * at the slice boundaries, every slice determines its gaps concurrently, too. Small
+     * collections are processed sequentially. </p>
+     *
+     * @param   pool    fork/join-pool for the concurrent evaluation of time slices
+     * @return  new interval collection containing the inner gaps between
+     *          the own intervals while this instance remains unaffected
+     * @see     ForkJoinPool#commonPool()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Parallele Variante von {@link #withGaps()}, die ein identisches Ergebnis liefert. </p>
+     *
+     * <p>Die sortierten Intervalle werden in unabh&auml;ngige Zeitscheiben aufgeteilt, die zuerst
+     * nebenl&auml;ufig nach ihrem sp&auml;testen Ende abgesucht werden. Nachdem diese Enden an den
+     * Scheibengrenzen zusammengef&uuml;gt wurden, bestimmt jede Scheibe ebenfalls nebenl&auml;ufig
+     * ihre L&uuml;cken. Kleine Intervallmengen werden sequentiell verarbeitet. </p>
+     *
+     * @param   pool    fork/join-pool for the concurrent evaluation of time slices
+     * @return  new interval collection containing the inner gaps between
+     *          the own intervals while this instance remains unaffected
+     * @see     ForkJoinPool#commonPool()
+     * @since   5.10
+     */
+    public IntervalCollection<T> withGaps(ForkJoinPool pool) {
+
+        int n = this.intervals.size() - 1;
+
+        if (n < 2 * MIN_SLICE) {
+            return this.withGaps();
+        }
+
+        List<GapSweep<T>> ends =
+            this.inSlices(
+                pool,
+                n,
+                (slice, start, end) -> {
+                    GapSweep<T> sweep = new GapSweep<>();
+                    this.sweepGaps(start, end, sweep, null);
+                    return sweep;
+                }
+            );
+
+        // joining: every slice starts with the latest gap start of all previous slices
+        List<GapSweep<T>> seeds = new ArrayList<>(ends.size());
+        GapSweep<T> seed = new GapSweep<>();
+
+        for (GapSweep<T> sweep : ends) {
+            seeds.add(seed.copy());
+            if (sweep.stopped) {
+                seed.stopped = true;
+            } else if (
+                (sweep.previous != null)
+                && ((seed.previous == null) || this.isAfter(sweep.previous, seed.previous))
+            ) {
+                seed.previous = sweep.previous;
+            }
+        }
+
+        List<List<ChronoInterval<T>>> parts =
+            this.inSlices(
+                pool,
+                n,
+                (slice, start, end) -> {
+                    List<ChronoInterval<T>> gaps = new ArrayList<>();
+                    GapSweep<T> sweep = seeds.get(slice);
+                    if (!sweep.stopped) {
+                        this.sweepGaps(start, end, sweep, gaps);
+                    }
+                    return gaps;
+                }
+            );
+
+        return this.create(concat(parts));
+
+    }
+
+    /**
+     * <p>Parallel variant of {@link #withBlocks()} which yields an identical result. </p>
+     *
+     * <p>The gaps are determined by {@link #withGaps(ForkJoinPool)}, and the blocks between
+     * them are then created concurrently. </p>
+     *
+     * @param   pool    fork/join-pool for the concurrent evaluation of time slices
+     * @return  new interval collection containing disjunct merged blocks
+     *          while this instance remains unaffected
+     * @see     ForkJoinPool#commonPool()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Parallele Variante von {@link #withBlocks()}, die ein identisches Ergebnis liefert. </p>
+     *
+     * <p>Die L&uuml;cken werden mit {@link #withGaps(ForkJoinPool)} bestimmt, und die Bl&ouml;cke
+     * dazwischen werden dann nebenl&auml;ufig erzeugt. </p>
+     *
+     * @param   pool    fork/join-pool for the concurrent evaluation of time slices
+     * @return  new interval collection containing disjunct merged blocks
+     *          while this instance remains unaffected
+     * @see     ForkJoinPool#commonPool()
+     * @since   5.10
+     */
+    public IntervalCollection<T> withBlocks(ForkJoinPool pool) {
+
+        if (this.intervals.size() < 2 * MIN_SLICE) {
+            return this.withBlocks();
+        }
+
+        List<ChronoInterval<T>> gaps = this.withGaps(pool).intervals;
+        T min = this.getMinimum();
+        T max = this.getBlockMaximum();
+        int n = gaps.size() + 1;
+
+        List<List<ChronoInterval<T>>> parts =
+            this.inSlices(
+                pool,
+                n,
+                (slice, start, end) -> {
+                    List<ChronoInterval<T>> blocks = new ArrayList<>(end - start);
+                    for (int i = start; i < end; i++) {
+                        blocks.add(this.createBlock(gaps, i, min, max));
+                    }
+                    return blocks;
+                }
+            );
+
+        return this.create(concat(parts));
+
+    }
+
+    /**
+     * <p>Parallel variant of {@link #withSplits()} which yields an identical result. </p>
+     *
+     * <p>Every time slice collects and sorts its own interval boundaries concurrently, and the
+     * sorted boundaries are merged in a fork/join-manner. The splitted sections between these
+     * boundaries are then created concurrently while the enclosing blocks determined by
+     * {@link #withBlocks(ForkJoinPool)} are searched binary. </p>
+     *
+     * @param   pool    fork/join-pool for the concurrent evaluation of time slices
+     * @return  new interval collection containing disjunct splitted sections
+     *          while this instance remains unaffected
+     * @see     ForkJoinPool#commonPool()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Parallele Variante von {@link #withSplits()}, die ein identisches Ergebnis liefert. </p>
+     *
+     * <p>Jede Zeitscheibe sammelt und sortiert nebenl&auml;ufig ihre eigenen Intervallgrenzen, und
+     * die sortierten Grenzen werden nach dem fork/join-Prinzip zusammengef&uuml;hrt. Danach werden
+     * die geteilten Abschnitte zwischen diesen Grenzen nebenl&auml;ufig erzeugt, w&auml;hrend die
+     * umgebenden Bl&ouml;cke, die mit {@link #withBlocks(ForkJoinPool)} bestimmt wurden, bin&auml;r
+     * durchsucht werden. </p>
+     *
+     * @param   pool    fork/join-pool for the concurrent evaluation of time slices
+     * @return  new interval collection containing disjunct splitted sections
+     *          while this instance remains unaffected
+     * @see     ForkJoinPool#commonPool()
+     * @since   5.10
+     */
+    public IntervalCollection<T> withSplits(ForkJoinPool pool) {
+
+        if ((this.intervals.size() < 2 * MIN_SLICE) || this.isDisjunct()) {
+            return this.withSplits();
+        }
+
+        Dividers dividers = pool.invoke(new Dividers(0, this.intervals.size()));
+        List<ChronoInterval<T>> blocks = this.withBlocks(pool).intervals;
+        List<Boundary<T>> list = dividers.list;
+        int n = list.size();
+
+        List<List<ChronoInterval<T>>> parts =
+            this.inSlices(
+                pool,
+                n,
+                (slice, start, end) -> {
+                    List<ChronoInterval<T>> splitted = new ArrayList<>(end - start);
+                    Boundary<T> previous = (
+                        (start == 0)
+                        ? dividers.infinitePast
+                        : this.nextStart(blocks, list.get(start - 1)));
+                    for (int i = start; i < end; i++) {
+                        Boundary<T> divider = list.get(i);
+                        this.addSplit(splitted, previous, divider.getTemporal());
+                        previous = this.nextStart(blocks, divider);
+                    }
+                    return splitted;
+                }
+            );
+
+        List<ChronoInterval<T>> splitted = concat(parts);
+        Boundary<T> last = ((n == 0) ? dividers.infinitePast : this.nextStart(blocks, list.get(n - 1)));
+
+        if ((last != null) && (dividers.infiniteFuture != null)) {
+            splitted.add(this.newInterval(last, dividers.infiniteFuture));
+        }
+
+        return this.create(splitted);
+
+    }
+
+    /**
+     * <p>Parallel variant of {@link #withIntersection()} which yields an identical result. </p>
+     *
+     * <p>The earliest end of all intervals is determined concurrently in time slices. </p>
+     *
+     * @param   pool    fork/join-pool for the concurrent evaluation of time slices
+     * @return  new interval collection containing the intersection interval,
+     *          maybe empty (if there is no intersection)
+     * @see     ForkJoinPool#commonPool()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Parallele Variante von {@link #withIntersection()}, die ein identisches Ergebnis liefert. </p>
+     *
+     * <p>Das fr&uuml;heste Ende aller Intervalle wird nebenl&auml;ufig in Zeitscheiben bestimmt. </p>
+     *
+     * @param   pool    fork/join-pool for the concurrent evaluation of time slices
+     * @return  new interval collection containing the intersection interval,
+     *          maybe empty (if there is no intersection)
+     * @see     ForkJoinPool#commonPool()
+     * @since   5.10
+     */
+    public IntervalCollection<T> withIntersection(ForkJoinPool pool) {
+
+        int len = this.intervals.size();
+
+        if (len < 2 * MIN_SLICE) {
+            return this.withIntersection();
+        }
+
+        List<T> ends = this.inSlices(pool, len, (slice, start, end) -> this.earliestEnd(this.intervals, start, end));
+        T earliestEnd = null;
+
+        for (T candidate : ends) {
+            if ((candidate != null) && ((earliestEnd == null) || this.isBefore(candidate, earliestEnd))) {
+                earliestEnd = candidate;
+            }
+        }
+
+        T latestStart = this.intervals.get(len - 1).getStart().getTemporal();
+        return this.create(this.intersect(latestStart, earliestEnd));
+
+    }
+
     /**
      * <p>Equivalent to {@code plus(other).withBlocks()}. </p>
      *
@@ -1350,22 +1547,37 @@ public abstract class IntervalCollection<T>
             return this.create(zero);
         }
 
+        // sweep over both sorted lists of disjunct blocks
+        List<ChronoInterval<T>> blocks1 = this.withBlocks().intervals;
+        List<ChronoInterval<T>> blocks2 = other.withBlocks().intervals;
         List<ChronoInterval<T>> list = new ArrayList<>();
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
+        TimeLine<T> timeLine = this.getTimeLine();
+        int i = 0;
+        int j = 0;
 
-        for (ChronoInterval<T> a : this.intervals) {
-            for (ChronoInterval<T> b : other.intervals) {
-                List<ChronoInterval<T>> candidates = new ArrayList<>(2);
+        while ((i < blocks1.size()) && (j < blocks2.size())) {
+            ChronoInterval<T> a = blocks1.get(i);
+            ChronoInterval<T> b = blocks2.get(j);
+            List<ChronoInterval<T>> candidates = new ArrayList<>(2);
+
+            if (comparator.compare(a, b) <= 0) {
                 candidates.add(a);
                 candidates.add(b);
-                candidates.sort(this.getComparator());
-                candidates = this.intersect(candidates);
-                if (!candidates.isEmpty()) {
-                    list.addAll(candidates);
-                }
+            } else {
+                candidates.add(b);
+                candidates.add(a);
+            }
+
+            list.addAll(this.intersect(candidates));
+
+            if (IntervalTree.compareAtEnd(a.getEnd(), b.getEnd(), timeLine) <= 0) {
+                i++;
+            } else {
+                j++;
             }
         }
 
-        list.sort(this.getComparator());
         return this.create(list).withBlocks();
 
     }
@@ -1495,7 +1707,7 @@ public abstract class IntervalCollection<T>
 
     }
 
-    // Anzahl der internen Intervalle
+    // count of internal intervals
     int getSize() {
 
         return this.intervals.size();
@@ -1624,6 +1836,83 @@ public abstract class IntervalCollection<T>
 
     }
 
+    // merges given sorted and adjusted intervals with the own ones (stable like a sort of both)
+    private List<ChronoInterval<T>> merge(List<ChronoInterval<T>> added) {
+
+        List<ChronoInterval<T>> own = this.intervals;
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
+        List<ChronoInterval<T>> result = new ArrayList<>(own.size() + added.size());
+        int i = 0;
+        int j = 0;
+
+        while ((i < own.size()) && (j < added.size())) {
+            if (comparator.compare(own.get(i), added.get(j)) <= 0) {
+                result.add(own.get(i++));
+            } else {
+                result.add(added.get(j++));
+            }
+        }
+
+        while (i < own.size()) {
+            result.add(own.get(i++));
+        }
+
+        while (j < added.size()) {
+            result.add(added.get(j++));
+        }
+
+        return result;
+
+    }
+
+    // subtracts given sorted and adjusted intervals from every own interval
+    private IntervalCollection<T> subtract(List<ChronoInterval<T>> subtrahends) {
+
+        List<ChronoInterval<T>> blocks = this.create(subtrahends).withBlocks().intervals;
+        List<ChronoInterval<T>> parts = new ArrayList<>();
+        int first = 0;
+        int n = blocks.size();
+
+        for (ChronoInterval<T> minuend : this.intervals) {
+            Boundary<T> lower = minuend.getStart();
+
+            // the minuends are sorted by start so blocks ending before can be skipped forever
+            if (!lower.isInfinite()) {
+                T s = lower.getTemporal();
+                while ((first < n) && blocks.get(first).isBefore(s)) {
+                    first++;
+                }
+            }
+
+            int last = first;
+
+            while ((last < n) && !this.isBeforeBlock(minuend, blocks.get(last))) {
+                last++;
+            }
+
+            if (last == first) {
+                parts.add(minuend);
+            } else {
+                IntervalCollection<T> subtrahend = this.create(blocks.subList(first, last));
+                parts.addAll(subtrahend.withComplement(minuend).intervals);
+            }
+        }
+
+        parts.sort(this.getComparator());
+        return this.create(parts);
+
+    }
+
+    private boolean isBeforeBlock(
+        ChronoInterval<T> interval,
+        ChronoInterval<T> block
+    ) {
+
+        Boundary<T> start = block.getStart();
+        return (!start.isInfinite() && interval.isBefore(start.getTemporal()));
+
+    }
+
     private Boundary<T> createStartBoundary(T start) {
 
         if (start == null) {
@@ -1686,9 +1975,21 @@ public abstract class IntervalCollection<T>
         }
 
         T latestStart = components.get(len - 1).getStart().getTemporal();
+        T earliestEnd = this.earliestEnd(components, 0, len);
+        return this.intersect(latestStart, earliestEnd);
+
+    }
+
+    // earliest end (maybe exclusive) in index range [start, end) or null if infinite
+    private T earliestEnd(
+        List<ChronoInterval<T>> components,
+        int start,
+        int end
+    ) {
+
         T earliestEnd = null;
 
-        for (int i = 0; i < len; i++) {
+        for (int i = start; i < end; i++) {
             Boundary<T> b = components.get(i).getEnd();
             T candidate = b.getTemporal();
 
@@ -1710,6 +2011,15 @@ public abstract class IntervalCollection<T>
             }
         }
 
+        return earliestEnd;
+
+    }
+
+    private List<ChronoInterval<T>> intersect(
+        T latestStart,
+        T earliestEnd
+    ) {
+
         Boundary<T> s = null;
         Boundary<T> e = null;
 
@@ -1717,11 +2027,11 @@ public abstract class IntervalCollection<T>
             s = this.createStartBoundary(latestStart);
             e = Boundary.infiniteFuture();
         } else if (this.isCalendrical()) {
-            if (!this.isBefore(earliestEnd, latestStart)) {
+            if ((latestStart == null) || !this.isBefore(earliestEnd, latestStart)) {
                 s = this.createStartBoundary(latestStart);
                 e = Boundary.ofClosed(earliestEnd);
             }
-        } else if (this.isAfter(earliestEnd, latestStart)) {
+        } else if ((latestStart == null) || this.isAfter(earliestEnd, latestStart)) {
             s = this.createStartBoundary(latestStart);
             e = Boundary.ofOpen(earliestEnd);
         }
@@ -1735,6 +2045,221 @@ public abstract class IntervalCollection<T>
 
     }
 
+    // searches gaps after the intervals in index range [start, end), only a pre-scan without list
+    private void sweepGaps(
+        int start,
+        int end,
+        GapSweep<T> sweep,
+        List<ChronoInterval<T>> gaps
+    ) {
+
+        for (int i = start; i < end; i++) {
+            ChronoInterval<T> current = this.intervals.get(i);
+
+            if (current.getEnd().isInfinite()) {
+                sweep.stopped = true;
+                return;
+            }
+
+            T gapStart = current.getEnd().getTemporal();
+
+            if (current.getEnd().isClosed()) {
+                gapStart = this.getTimeLine().stepForward(gapStart);
+                if (gapStart == null) {
+                    sweep.stopped = true;
+                    return;
+                }
+            }
+
+            if ((sweep.previous == null) || this.isAfter(gapStart, sweep.previous)) {
+                sweep.previous = gapStart;
+            } else {
+                gapStart = sweep.previous;
+            }
+
+            if (gaps == null) {
+                continue;
+            }
+
+            T gapEnd = this.intervals.get(i + 1).getStart().getTemporal();
+
+            if ((gapEnd == null) || !this.isAfter(gapEnd, gapStart)) {
+                continue;
+            }
+
+            IntervalEdge edge = IntervalEdge.OPEN;
+
+            if (this.isCalendrical()) {
+                edge = IntervalEdge.CLOSED;
+                gapEnd = this.getTimeLine().stepBackwards(gapEnd);
+                if (gapEnd == null) {
+                    continue;
+                }
+            }
+
+            Boundary<T> s = Boundary.ofClosed(gapStart);
+            Boundary<T> e = Boundary.of(edge, gapEnd);
+            gaps.add(this.newInterval(s, e));
+        }
+
+
+    }
+
+    // inclusive maximum for calendrical intervals, else exclusive (null = infinite)
+    private T getBlockMaximum() {
+
+        T max = this.getMaximum();
+
+        if ((max != null) && !this.isCalendrical()) {
+            max = this.getTimeLine().stepForward(max);
+        }
+
+        return max;
+
+    }
+
+    // creates the block before the gap with given index (or after the last gap)
+    private ChronoInterval<T> createBlock(
+        List<ChronoInterval<T>> gaps,
+        int index,
+        T min,
+        T max
+    ) {
+
+        IntervalEdge edge = (
+            this.isCalendrical()
+            ? IntervalEdge.CLOSED
+            : IntervalEdge.OPEN);
+        T start = min;
+
+        if (index > 0) {
+            Boundary<T> b = gaps.get(index - 1).getEnd();
+            start = b.getTemporal();
+
+            if (b.isClosed()) {
+                start = this.getTimeLine().stepForward(start);
+            }
+        }
+
+        Boundary<T> s = this.createStartBoundary(start);
+        Boundary<T> e;
+
+        if (index < gaps.size()) {
+            T end = gaps.get(index).getStart().getTemporal();
+
+            if (this.isCalendrical()) {
+                end = this.getTimeLine().stepBackwards(end);
+            }
+
+            e = Boundary.of(edge, end);
+        } else if (max == null) {
+            e = Boundary.infiniteFuture();
+        } else {
+            e = Boundary.of(edge, max);
+        }
+
+        return this.newInterval(s, e);
+
+    }
+
+    // start of the next split section if the divider is inside a block
+    private Boundary<T> nextStart(
+        List<ChronoInterval<T>> blocks,
+        Boundary<T> divider
+    ) {
+
+        T time = divider.getTemporal();
+        int low = 0;
+        int high = blocks.size() - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Boundary<T> start = blocks.get(mid).getStart();
+
+            if (start.isInfinite() || !this.isAfter(start.getTemporal(), time)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        if ((high >= 0) && blocks.get(high).contains(time)) {
+            return divider;
+        }
+
+        return null;
+
+    }
+
+    private void addSplit(
+        List<ChronoInterval<T>> splitted,
+        Boundary<T> start,
+        T time
+    ) {
+
+        if (start != null) {
+            if (this.isCalendrical()) {
+                time = this.getTimeLine().stepBackwards(time);
+                if (time != null) {
+                    splitted.add(this.newInterval(start, Boundary.ofClosed(time)));
+                }
+            } else {
+                splitted.add(this.newInterval(start, Boundary.ofOpen(time)));
+            }
+        }
+
+    }
+
+    // evaluates the slices of index range [0, n) concurrently (results in order)
+    private <R> List<R> inSlices(
+        ForkJoinPool pool,
+        int n,
+        SliceFunction<R> function
+    ) {
+
+        int count = Math.max(1, Math.min(pool.getParallelism() * 4, n / MIN_SLICE));
+        List<ForkJoinTask<R>> tasks = new ArrayList<>(count);
+
+        for (int k = 0; k < count; k++) {
+            int slice = k;
+            int start = (int) (((long) n) * k / count);
+            int end = (int) (((long) n) * (k + 1) / count);
+            tasks.add(ForkJoinTask.adapt(() -> function.apply(slice, start, end)));
+        }
+
+        return pool.invoke(
+            new RecursiveTask<List<R>>() {
+                @Override
+                protected List<R> compute() {
+                    List<R> results = new ArrayList<>(tasks.size());
+                    for (ForkJoinTask<R> task : ForkJoinTask.invokeAll(tasks)) {
+                        results.add(task.join());
+                    }
+                    return results;
+                }
+            }
+        );
+
+    }
+
+    private static <E> List<E> concat(List<List<E>> parts) {
+
+        int size = 0;
+
+        for (List<E> part : parts) {
+            size += part.size();
+        }
+
+        List<E> result = new ArrayList<>(size);
+
+        for (List<E> part : parts) {
+            result.addAll(part);
+        }
+
+        return result;
+
+    }
+
     private int searchFiniteBoundary(
         List<Boundary<T>> list,
         Boundary<T> key
@@ -1763,4 +2288,295 @@ public abstract class IntervalCollection<T>
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // state of gap search: latest gap start and abort at infinite end
+    private static class GapSweep<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private T previous = null;
+        private boolean stopped = false;
+
+        //~ Methoden ------------------------------------------------------
+
+        GapSweep<T> copy() {
+
+            GapSweep<T> sweep = new GapSweep<>();
+            sweep.previous = this.previous;
+            sweep.stopped = this.stopped;
+            return sweep;
+
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface SliceFunction<R> {
+
+        //~ Methoden ------------------------------------------------------
+
+        R apply(
+            int slice,
+            int start,
+            int end
+        );
+
+    }
+
+    // sorted and unique dividers of an index range, merged by fork/join
+    private class Dividers
+        extends RecursiveTask<Dividers> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long serialVersionUID = 5789065890918164426L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int start;
+        private final int end;
+        private List<Boundary<T>> list; // always finite and closed
+        private Boundary<T> infinitePast = null;
+        private Boundary<T> infiniteFuture = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Dividers(
+            int start,
+            int end
+        ) {
+            super();
+
+            this.start = start;
+            this.end = end;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected Dividers compute() {
+
+            if (this.end - this.start <= MIN_SLICE) {
+                this.collect();
+            } else {
+                int mid = (this.start + this.end) >>> 1;
+                Dividers left = new Dividers(this.start, mid);
+                Dividers right = new Dividers(mid, this.end);
+                invokeAll(left, right);
+                this.list = this.merge(left.list, right.list);
+                this.infinitePast = ((left.infinitePast == null) ? right.infinitePast : left.infinitePast);
+                this.infiniteFuture = ((left.infiniteFuture == null) ? right.infiniteFuture : left.infiniteFuture);
+            }
+
+            return this;
+
+        }
+
+        private void collect() {
+
+            List<Boundary<T>> dividers = new ArrayList<>(2 * (this.end - this.start));
+
+            for (int i = this.start; i < this.end; i++) {
+                ChronoInterval<T> interval = IntervalCollection.this.intervals.get(i);
+                Boundary<T> s = interval.getStart();
+                Boundary<T> e = interval.getEnd();
+
+                if (s.isInfinite()) {
+                    this.infinitePast = Boundary.infinitePast();
+                } else {
+                    dividers.add(s);
+                }
+
+                if (e.isInfinite()) {
+                    this.infiniteFuture = Boundary.infiniteFuture();
+                } else if (e.isClosed()) {
+                    T time = IntervalCollection.this.getTimeLine().stepForward(e.getTemporal());
+                    if (time == null) {
+                        this.infiniteFuture = Boundary.infiniteFuture();
+                    } else {
+                        dividers.add(Boundary.ofClosed(time));
+                    }
+                } else {
+                    dividers.add(Boundary.ofClosed(e.getTemporal()));
+                }
+            }
+
+            TimeLine<T> timeLine = IntervalCollection.this.getTimeLine();
+            dividers.sort((b1, b2) -> timeLine.compare(b1.getTemporal(), b2.getTemporal()));
+            this.list = this.merge(dividers, Collections.emptyList());
+
+        }
+
+        // merges two sorted lists and removes duplicates
+        private List<Boundary<T>> merge(
+            List<Boundary<T>> l1,
+            List<Boundary<T>> l2
+        ) {
+
+            TimeLine<T> timeLine = IntervalCollection.this.getTimeLine();
+            List<Boundary<T>> result = new ArrayList<>(l1.size() + l2.size());
+            int i = 0;
+            int j = 0;
+
+            while ((i < l1.size()) || (j < l2.size())) {
+                Boundary<T> next;
+
+                if (j == l2.size()) {
+                    next = l1.get(i++);
+                } else if (i == l1.size()) {
+                    next = l2.get(j++);
+                } else if (timeLine.compare(l1.get(i).getTemporal(), l2.get(j).getTemporal()) <= 0) {
+                    next = l1.get(i++);
+                } else {
+                    next = l2.get(j++);
+                }
+
+                int last = result.size() - 1;
+
+                if ((last < 0) || (timeLine.compare(result.get(last).getTemporal(), next.getTemporal()) != 0)) {
+                    result.add(next);
+                }
+            }
+
+            return result;
+
+        }
+
+    }
+
+    /**
+     * <p>Collects intervals for a new interval collection. </p>
+     *
+     * <p>Instances are not thread-safe and can be obtained by
+     * {@link IntervalCollection#toBuilder()}. </p>
+     *
+     * @param   <T> generic type characterizing the associated time axis
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Sammelt Intervalle f&uuml;r eine neue Intervallmenge. </p>
+     *
+     * <p>Instanzen sind nicht <i>thread-safe</i> und k&ouml;nnen mit
+     * {@link IntervalCollection#toBuilder()} erhalten werden. </p>
+     *
+     * @param   <T> generic type characterizing the associated time axis
+     * @since   5.10
+     */
+    public static final class Builder<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final IntervalCollection<T> base;
+        private final List<ChronoInterval<T>> added;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Builder(IntervalCollection<T> base) {
+            super();
+
+            this.base = base;
+            this.added = new ArrayList<>();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Adds given interval. </p>
+         *
+         * <p>Empty intervals are ignored. </p>
+         *
+         * @param   interval    the new interval to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt das angegebene Intervall hinzu. </p>
+         *
+         * <p>Leere Intervalle werden ignoriert. </p>
+         *
+         * @param   interval    the new interval to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         * @since   5.10
+         */
+        public Builder<T> add(ChronoInterval<T> interval) {
+
+            if (!interval.isEmpty()) {
+                this.added.add(this.base.adjust(interval));
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Adds all given intervals. </p>
+         *
+         * <p>Empty intervals are ignored. </p>
+         *
+         * @param   intervals   the new intervals to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given collection contains a finite
+         *          interval with open start which cannot be adjusted to one with closed start
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt alle angegebenen Intervalle hinzu. </p>
+         *
+         * <p>Leere Intervalle werden ignoriert. </p>
+         *
+         * @param   intervals   the new intervals to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given collection contains a finite
+         *          interval with open start which cannot be adjusted to one with closed start
+         * @since   5.10
+         */
+        public Builder<T> addAll(Collection<? extends ChronoInterval<T>> intervals) {
+
+            for (ChronoInterval<T> interval : intervals) {
+                this.add(interval);
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Creates a new interval collection with all intervals of the original
+         * collection and all added intervals. </p>
+         *
+         * <p>The builder can be used further after this call. </p>
+         *
+         * @return  new interval collection
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine neue Intervallmenge mit allen Intervallen der urspr&uuml;nglichen
+         * Intervallmenge und allen hinzugef&uuml;gten Intervallen. </p>
+         *
+         * <p>Der {@code Builder} kann nach diesem Aufruf weiter verwendet werden. </p>
+         *
+         * @return  new interval collection
+         * @since   5.10
+         */
+        public IntervalCollection<T> build() {
+
+            if (this.added.isEmpty()) {
+                return this.base;
+            }
+
+            List<ChronoInterval<T>> sorted = new ArrayList<>(this.added);
+            sorted.sort(this.base.getComparator());
+            return this.base.create(this.base.merge(sorted));
+
+        }
+
+    }
+
 }
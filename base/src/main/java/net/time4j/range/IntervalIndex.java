@@ -0,0 +1,861 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalIndex.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.TimeLine;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>Represents a mutable index of intervals which supports incremental insertions and removals
+ * as well as stabbing and range queries. </p>
+ *
+ * <p>Internally, the index is an augmented AVL-tree like {@link IntervalTree}, but every modification
+ * creates new nodes only along the modified path (path copying) and then publishes the new root. Hence
+ * queries and iterators never need any lock and always see a consistent snapshot while modifications
+ * are serialized. Empty intervals are never stored. Duplicates are permitted. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     IntervalIndex&lt;Moment, MomentInterval&gt; index = IntervalIndex.onMomentAxis();
+ *     index.add(reservation);
+ *     index.visitIntersections(
+ *       Moment.nowInSystemTime(),
+ *       (interval) -&gt; {
+ *         System.out.println(interval);
+ *         return false; // continue search
+ *       }
+ *     );
+ *     index.remove(reservation);
+ * </pre>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the index
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert einen ver&auml;nderlichen Intervallindex, der schrittweises Einf&uuml;gen und
+ * Entfernen sowie Zeitpunkt- und Bereichsabfragen unterst&uuml;tzt. </p>
+ *
+ * <p>Intern ist der Index wie {@link IntervalTree} ein angereicherter AVL-Baum, aber jede &Auml;nderung
+ * erzeugt neue Knoten nur entlang des ge&auml;nderten Pfads (<i>path copying</i>) und ver&ouml;ffentlicht
+ * dann die neue Wurzel. Abfragen und Iteratoren ben&ouml;tigen deshalb nie eine Sperre und sehen immer
+ * einen konsistenten Schnappschu&szlig;, w&auml;hrend &Auml;nderungen serialisiert werden. Leere
+ * Intervalle werden nie gespeichert. Duplikate sind erlaubt. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     IntervalIndex&lt;Moment, MomentInterval&gt; index = IntervalIndex.onMomentAxis();
+ *     index.add(reservation);
+ *     index.visitIntersections(
+ *       Moment.nowInSystemTime(),
+ *       (interval) -&gt; {
+ *         System.out.println(interval);
+ *         return false; // Suche fortsetzen
+ *       }
+ *     );
+ *     index.remove(reservation);
+ * </pre>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the index
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class IntervalIndex<T, I extends ChronoInterval<T>>
+    extends AbstractCollection<I> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TimeLine<T> timeLine;
+    private volatile Node<T, I> root;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalIndex(TimeLine<T> timeLine) {
+        super();
+
+        if (timeLine == null) {
+            throw new NullPointerException("Missing timeline.");
+        }
+
+        this.timeLine = timeLine;
+        this.root = null;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates an empty interval index on the date axis. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @return  new interval index
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren Intervallindex auf der Datumsachse. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @return  new interval index
+     */
+    public static <I extends ChronoInterval<PlainDate>> IntervalIndex<PlainDate, I> onDateAxis() {
+
+        return IntervalIndex.on(PlainDate.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty interval index on the clock axis. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @return  new interval index
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren Intervallindex auf der Uhrzeitachse. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @return  new interval index
+     */
+    public static <I extends ChronoInterval<PlainTime>> IntervalIndex<PlainTime, I> onClockAxis() {
+
+        return IntervalIndex.on(PlainTime.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty interval index on the timestamp axis. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @return  new interval index
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren Intervallindex auf der kombinierten Datum-Zeit-Achse. </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @return  new interval index
+     */
+    public static <I extends ChronoInterval<PlainTimestamp>> IntervalIndex<PlainTimestamp, I> onTimestampAxis() {
+
+        return IntervalIndex.on(PlainTimestamp.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty interval index on the moment axis (UTC). </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @return  new interval index
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren Intervallindex auf der Momentachse (UTC). </p>
+     *
+     * @param   <I> the type of intervals stored in the index
+     * @return  new interval index
+     */
+    public static <I extends ChronoInterval<Moment>> IntervalIndex<Moment, I> onMomentAxis() {
+
+        return IntervalIndex.on(Moment.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty interval index on given timeline. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the index
+     * @param   timeLine    the underlying timeline
+     * @return  new interval index
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren Intervallindex auf dem angegebenen Zeitstrahl. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the index
+     * @param   timeLine    the underlying timeline
+     * @return  new interval index
+     */
+    public static <T, I extends ChronoInterval<T>> IntervalIndex<T, I> on(TimeLine<T> timeLine) {
+
+        return new IntervalIndex<>(timeLine);
+
+    }
+
+    /**
+     * <p>Inserts given interval into this index. </p>
+     *
+     * <p>Runs in logarithmic time. </p>
+     *
+     * @param   interval    the interval to be inserted
+     * @return  {@code true} if inserted else {@code false} (empty intervals are ignored)
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt das angegebene Intervall in diesen Index ein. </p>
+     *
+     * <p>L&auml;uft in logarithmischer Zeit. </p>
+     *
+     * @param   interval    the interval to be inserted
+     * @return  {@code true} if inserted else {@code false} (empty intervals are ignored)
+     */
+    @Override
+    public boolean add(I interval) {
+
+        if (interval.isEmpty()) {
+            return false;
+        }
+
+        synchronized (this) {
+            this.root = this.insert(this.root, interval);
+        }
+
+        return true;
+
+    }
+
+    /**
+     * <p>Removes one occurrence of given interval from this index. </p>
+     *
+     * <p>Runs in logarithmic time unless there are many stored intervals with the same boundaries. </p>
+     *
+     * @param   obj     the interval to be removed
+     * @return  {@code true} if removed else {@code false}
+     */
+    /*[deutsch]
+     * <p>Entfernt ein Vorkommen des angegebenen Intervalls aus diesem Index. </p>
+     *
+     * <p>L&auml;uft in logarithmischer Zeit, es sei denn, es gibt viele gespeicherte Intervalle
+     * mit gleichen Grenzen. </p>
+     *
+     * @param   obj     the interval to be removed
+     * @return  {@code true} if removed else {@code false}
+     */
+    @Override
+    public boolean remove(Object obj) {
+
+        ChronoInterval<T> interval = cast(obj);
+
+        if (interval == null) {
+            return false;
+        }
+
+        synchronized (this) {
+            Node<T, I> r = this.root;
+            Node<T, I> n;
+
+            try {
+                n = this.delete(r, interval);
+            } catch (ClassCastException cce) {
+                return false; // interval on another timeline
+            }
+
+            if (n == r) {
+                return false;
+            }
+
+            this.root = n;
+        }
+
+        return true;
+
+    }
+
+    /**
+     * <p>Queries if given interval is stored in this index. </p>
+     *
+     * @param   obj     the interval to be searched
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob das angegebene Intervall in diesem Index gespeichert ist. </p>
+     *
+     * @param   obj     the interval to be searched
+     * @return  boolean
+     */
+    @Override
+    public boolean contains(Object obj) {
+
+        ChronoInterval<T> interval = cast(obj);
+
+        try {
+            return ((interval != null) && this.find(this.root, interval));
+        } catch (ClassCastException cce) {
+            return false; // interval on another timeline
+        }
+
+    }
+
+    @Override
+    public void clear() {
+
+        synchronized (this) {
+            this.root = null;
+        }
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return (this.root == null);
+
+    }
+
+    @Override
+    public int size() {
+
+        return getSize(this.root);
+
+    }
+
+    /**
+     * <p>Yields an iterator over a snapshot of this index in the order of interval starts. </p>
+     *
+     * <p>The iterator is not affected by later modifications and does not support removal. </p>
+     *
+     * @return  Iterator
+     */
+    /*[deutsch]
+     * <p>Liefert einen Iterator &uuml;ber einen Schnappschu&szlig; dieses Index in der Reihenfolge
+     * der Intervallanf&auml;nge. </p>
+     *
+     * <p>Der Iterator wird von sp&auml;teren &Auml;nderungen nicht beeinflu&szlig;t und unterst&uuml;tzt
+     * kein Entfernen. </p>
+     *
+     * @return  Iterator
+     */
+    @Override
+    public Iterator<I> iterator() {
+
+        return new SnapshotIterator<>(this.root);
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given point in time. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @see     #visitIntersections(Object, IntervalTree.Visitor)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @see     #visitIntersections(Object, IntervalTree.Visitor)
+     */
+    public List<I> findIntersections(T timepoint) {
+
+        List<I> found = new ArrayList<>();
+        this.visitIntersections(
+            timepoint,
+            (i) -> {
+                found.add(i);
+                return false;
+            }
+        );
+        return Collections.unmodifiableList(found);
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given search interval. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @see     #visitIntersections(ChronoInterval, IntervalTree.Visitor)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die sich mit dem angegebenen
+     * Suchintervall &uuml;berschneiden. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @see     #visitIntersections(ChronoInterval, IntervalTree.Visitor)
+     */
+    public List<I> findIntersections(ChronoInterval<T> interval) {
+
+        List<I> found = new ArrayList<>();
+        this.visitIntersections(
+            interval,
+            (i) -> {
+                found.add(i);
+                return false;
+            }
+        );
+        return Collections.unmodifiableList(found);
+
+    }
+
+    /**
+     * <p>Passes all stored intervals which intersect given point in time to given visitor
+     * without creating any list. </p>
+     *
+     * <p>The intervals are visited in the order of their starts. If the visitor returns
+     * {@code true} then the search will be cancelled. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every found interval
+     */
+    /*[deutsch]
+     * <p>&Uuml;bergibt alle gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten,
+     * an den angegebenen Besucher, ohne eine Liste zu erzeugen. </p>
+     *
+     * <p>Die Intervalle werden in der Reihenfolge ihrer Anf&auml;nge besucht. Wenn der Besucher
+     * {@code true} liefert, wird die Suche abgebrochen. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every found interval
+     */
+    public void visitIntersections(
+        T timepoint,
+        IntervalTree.Visitor<I> visitor
+    ) {
+
+        if (timepoint == null) {
+            throw new NullPointerException("Missing timepoint.");
+        }
+
+        this.search(timepoint, this.timeLine.stepForward(timepoint), this.root, visitor);
+
+    }
+
+    /**
+     * <p>Passes all stored intervals which intersect given search interval to given visitor
+     * without creating any list. </p>
+     *
+     * <p>The intervals are visited in the order of their starts. If the visitor returns
+     * {@code true} then the search will be cancelled. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every found interval
+     */
+    /*[deutsch]
+     * <p>&Uuml;bergibt alle gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden, an den angegebenen Besucher, ohne eine Liste zu erzeugen. </p>
+     *
+     * <p>Die Intervalle werden in der Reihenfolge ihrer Anf&auml;nge besucht. Wenn der Besucher
+     * {@code true} liefert, wird die Suche abgebrochen. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every found interval
+     */
+    public void visitIntersections(
+        ChronoInterval<T> interval,
+        IntervalTree.Visitor<I> visitor
+    ) {
+
+        if (interval.isEmpty()) {
+            return;
+        }
+
+        // make search interval half-open
+        T low = interval.getStart().getTemporal();
+        T high = interval.getEnd().getTemporal();
+
+        if ((low != null) && interval.getStart().isOpen()) {
+            low = this.timeLine.stepForward(low);
+        }
+
+        if ((high != null) && interval.getEnd().isClosed()) {
+            high = this.timeLine.stepForward(high);
+        }
+
+        this.search(low, high, this.root, visitor);
+
+    }
+
+    /**
+     * <p>Lets given visitor walk through all stored intervals in the order of their starts. </p>
+     *
+     * @param   visitor     the interval visitor
+     */
+    /*[deutsch]
+     * <p>L&auml;&szlig;t den angegebenen Besucher alle gespeicherten Intervalle in der Reihenfolge
+     * ihrer Anf&auml;nge abwandern. </p>
+     *
+     * @param   visitor     the interval visitor
+     */
+    public void accept(IntervalTree.Visitor<I> visitor) {
+
+        accept(visitor, this.root);
+
+    }
+
+    // primarily sorted by start, then by end
+    private int compare(
+        ChronoInterval<T> i1,
+        ChronoInterval<T> i2
+    ) {
+
+        int cmp = IntervalTree.compareAtStart(i1.getStart(), i2.getStart(), this.timeLine);
+
+        if (cmp == 0) {
+            cmp = IntervalTree.compareAtEnd(i1.getEnd(), i2.getEnd(), this.timeLine);
+        }
+
+        return cmp;
+
+    }
+
+    private Node<T, I> insert(
+        Node<T, I> node,
+        I interval
+    ) {
+
+        if (node == null) {
+            return this.create(interval, null, null);
+        } else if (this.compare(interval, node.interval) < 0) {
+            return this.rebalance(node.interval, this.insert(node.left, interval), node.right);
+        } else {
+            return this.rebalance(node.interval, node.left, this.insert(node.right, interval));
+        }
+
+    }
+
+    // yields the same node if the interval was not found
+    private Node<T, I> delete(
+        Node<T, I> node,
+        ChronoInterval<T> interval
+    ) {
+
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = this.compare(interval, node.interval);
+
+        if (cmp < 0) {
+            Node<T, I> left = this.delete(node.left, interval);
+            return ((left == node.left) ? node : this.rebalance(node.interval, left, node.right));
+        } else if (cmp > 0) {
+            Node<T, I> right = this.delete(node.right, interval);
+            return ((right == node.right) ? node : this.rebalance(node.interval, node.left, right));
+        } else if (node.interval.equals(interval)) {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+
+            Node<T, I> successor = node.right;
+
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+
+            return this.rebalance(successor.interval, node.left, this.deleteMin(node.right));
+        }
+
+        // equal boundaries but different intervals (for example other types), so try both sides
+        Node<T, I> left = this.delete(node.left, interval);
+
+        if (left != node.left) {
+            return this.rebalance(node.interval, left, node.right);
+        }
+
+        Node<T, I> right = this.delete(node.right, interval);
+        return ((right == node.right) ? node : this.rebalance(node.interval, node.left, right));
+
+    }
+
+    private Node<T, I> deleteMin(Node<T, I> node) {
+
+        if (node.left == null) {
+            return node.right;
+        }
+
+        return this.rebalance(node.interval, this.deleteMin(node.left), node.right);
+
+    }
+
+    private boolean find(
+        Node<T, I> node,
+        ChronoInterval<T> interval
+    ) {
+
+        while (node != null) {
+            int cmp = this.compare(interval, node.interval);
+
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                node = node.right;
+            } else {
+                return (
+                    node.interval.equals(interval)
+                    || this.find(node.left, interval)
+                    || this.find(node.right, interval)
+                );
+            }
+        }
+
+        return false;
+
+    }
+
+    private Node<T, I> rebalance(
+        I interval,
+        Node<T, I> left,
+        Node<T, I> right
+    ) {
+
+        int balance = getHeight(left) - getHeight(right);
+
+        if (balance > 1) {
+            if (getHeight(left.left) < getHeight(left.right)) { // left-right-case
+                Node<T, I> lr = left.right;
+                left = this.create(lr.interval, this.create(left.interval, left.left, lr.left), lr.right);
+            }
+            return this.create(left.interval, left.left, this.create(interval, left.right, right));
+        } else if (balance < -1) {
+            if (getHeight(right.right) < getHeight(right.left)) { // right-left-case
+                Node<T, I> rl = right.left;
+                right = this.create(rl.interval, rl.left, this.create(right.interval, rl.right, right.right));
+            }
+            return this.create(right.interval, this.create(interval, left, right.left), right.right);
+        }
+
+        return this.create(interval, left, right);
+
+    }
+
+    private Node<T, I> create(
+        I interval,
+        Node<T, I> left,
+        Node<T, I> right
+    ) {
+
+        Boundary<T> max = interval.getEnd();
+
+        if ((left != null) && (IntervalTree.compareAtEnd(left.max, max, this.timeLine) > 0)) {
+            max = left.max;
+        }
+
+        if ((right != null) && (IntervalTree.compareAtEnd(right.max, max, this.timeLine) > 0)) {
+            max = right.max;
+        }
+
+        return new Node<>(interval, left, right, max);
+
+    }
+
+    // same algorithm as in IntervalTree
+    private boolean search(
+        T low, // inclusive if not null
+        T high, // exclusive if not null
+        Node<T, I> node,
+        IntervalTree.Visitor<I> visitor
+    ) {
+
+        if (node == null) {
+            return false;
+        }
+
+        // If the node's max interval is before the search interval, no children will match (short-cut)
+        if ((low != null) && !node.max.isInfinite()) {
+            if (node.max.isOpen()) {
+                if (this.timeLine.compare(node.max.getTemporal(), low) <= 0) {
+                    return false;
+                }
+            } else if (this.timeLine.compare(node.max.getTemporal(), low) < 0) {
+                return false;
+            }
+        }
+
+        // left children
+        if (this.search(low, high, node.left, visitor)) {
+            return true;
+        }
+
+        // check: (start < high)
+        T start = node.interval.getStart().getTemporal();
+        boolean c1 = (start == null || high == null);
+
+        if (!c1) {
+            if (node.interval.getStart().isClosed()) {
+                c1 = (this.timeLine.compare(start, high) < 0);
+            } else {
+                T startClosed = this.timeLine.stepForward(start);
+                c1 = ((startClosed != null) && (this.timeLine.compare(startClosed, high) < 0));
+            }
+        }
+
+        if (!c1) {
+            return false; // short-cut: start >= high (interval nodes are primarily sorted by start)
+        }
+
+        // check: (end > low)
+        T end = node.interval.getEnd().getTemporal();
+        boolean c2 = (end == null || low == null);
+
+        if (!c2) {
+            if (node.interval.getEnd().isOpen()) {
+                c2 = (this.timeLine.compare(low, end) < 0);
+            } else {
+                c2 = (this.timeLine.compare(low, end) <= 0);
+            }
+        }
+
+        if (c2 && visitor.visited(node.interval)) {
+            return true;
+        }
+
+        // right children
+        return this.search(low, high, node.right, visitor);
+
+    }
+
+    private static <T, I extends ChronoInterval<T>> boolean accept(
+        IntervalTree.Visitor<I> visitor,
+        Node<T, I> node
+    ) {
+
+        if (node == null) {
+            return false;
+        }
+
+        return (accept(visitor, node.left) || visitor.visited(node.interval) || accept(visitor, node.right));
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ChronoInterval<T> cast(Object obj) {
+
+        if ((obj instanceof ChronoInterval) && !((ChronoInterval<?>) obj).isEmpty()) {
+            return (ChronoInterval<T>) obj;
+        }
+
+        return null;
+
+    }
+
+    private static int getHeight(Node<?, ?> node) {
+
+        return ((node == null) ? 0 : node.height);
+
+    }
+
+    private static int getSize(Node<?, ?> node) {
+
+        return ((node == null) ? 0 : node.size);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Node<T, I extends ChronoInterval<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final I interval;
+        private final Node<T, I> left;
+        private final Node<T, I> right;
+        private final int height;
+        private final int size;
+        private final Boundary<T> max;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Node(
+            I interval,
+            Node<T, I> left,
+            Node<T, I> right,
+            Boundary<T> max
+        ) {
+            super();
+
+            this.interval = interval;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(getHeight(left), getHeight(right)) + 1;
+            this.size = Math.addExact(Math.addExact(getSize(left), getSize(right)), 1);
+            this.max = max;
+
+        }
+
+    }
+
+    private static final class SnapshotIterator<T, I extends ChronoInterval<T>>
+        implements Iterator<I> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Deque<Node<T, I>> stack = new ArrayDeque<>();
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SnapshotIterator(Node<T, I> root) {
+            super();
+
+            this.pushLeft(root);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean hasNext() {
+
+            return !this.stack.isEmpty();
+
+        }
+
+        @Override
+        public I next() {
+
+            if (this.stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            Node<T, I> node = this.stack.pop();
+            this.pushLeft(node.right);
+            return node.interval;
+
+        }
+
+        private void pushLeft(Node<T, I> node) {
+
+            while (node != null) {
+                this.stack.push(node);
+                node = node.left;
+            }
+
+        }
+
+    }
+
+}
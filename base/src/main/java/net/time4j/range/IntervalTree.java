@@ -624,7 +624,7 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static <T> int compareAtStart(
+    static <T> int compareAtStart(
         Boundary<T> b1,
         Boundary<T> b2,
         TimeLine<T> timeLine
@@ -657,7 +657,7 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static <T> int compareAtEnd(
+    static <T> int compareAtEnd(
         Boundary<T> b1,
         Boundary<T> b2,
         TimeLine<T> timeLine
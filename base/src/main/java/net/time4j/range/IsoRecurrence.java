@@ -27,15 +27,21 @@ import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
+import net.time4j.engine.EpochDays;
+import net.time4j.engine.TimeSpan;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.Iso8601Format;
 import net.time4j.tz.ZonalOffset;
 
+import java.math.BigInteger;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -68,6 +74,11 @@ public class IsoRecurrence<I>
     private static final int TYPE_START_DURATION = 1;
     private static final int TYPE_DURATION_END = 2;
 
+    private static final int MRD = 1_000_000_000;
+    private static final BigInteger BIG_MRD = BigInteger.valueOf(MRD);
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final int count;
@@ -810,6 +821,9 @@ public class IsoRecurrence<I>
     /**
      * <p>Obtains an ordered stream of recurrent intervals. </p>
      *
+     * <p>If the duration of every interval has a fixed length (for example hours, days or weeks but not
+     * months or years) then the stream can efficiently be split for parallel processing. </p>
+     *
      * @return  Stream
      * @since   4.18
      * @see     Spliterator#DISTINCT
@@ -818,10 +832,15 @@ public class IsoRecurrence<I>
      * @see     Spliterator#ORDERED
      * @see     Spliterator#SIZED
      * @see     Spliterator#SUBSIZED
+     * @see     #spliterator()
      */
     /*[deutsch]
      * <p>Erzeugt einen geordneten {@code Stream} von wiederkehrenden Intervallen. </p>
      *
+     * <p>Wenn die Dauer jedes Intervalls eine feste L&auml;nge hat (zum Beispiel Stunden, Tage oder
+     * Wochen, aber nicht Monate oder Jahre), dann kann der {@code Stream} effizient f&uuml;r die
+     * parallele Verarbeitung aufgeteilt werden. </p>
+     *
      * @return  Stream
      * @since   4.18
      * @see     Spliterator#DISTINCT
@@ -830,13 +849,271 @@ public class IsoRecurrence<I>
      * @see     Spliterator#ORDERED
      * @see     Spliterator#SIZED
      * @see     Spliterator#SUBSIZED
+     * @see     #spliterator()
      */
     public Stream<I> intervalStream() {
 
+        return StreamSupport.stream(this.spliterator(), false);
+
+    }
+
+    /**
+     * <p>Creates a spliterator over the recurrent intervals. </p>
+     *
+     * <p>If the duration of every interval has a fixed length (for example hours, days or weeks but not
+     * months or years) then the spliterator is based on direct index access and splits its index range
+     * in halves (finite count) or in batches of growing size (infinite count). Otherwise it can only be
+     * split by buffering batches of sequentially calculated intervals. </p>
+     *
+     * @return  Spliterator
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen {@code Spliterator} &uuml;ber die wiederkehrenden Intervalle. </p>
+     *
+     * <p>Wenn die Dauer jedes Intervalls eine feste L&auml;nge hat (zum Beispiel Stunden, Tage oder
+     * Wochen, aber nicht Monate oder Jahre), dann basiert der {@code Spliterator} auf direktem
+     * Indexzugriff und teilt seinen Indexbereich in H&auml;lften (endliche Anzahl) oder in Portionen
+     * wachsender Gr&ouml;&szlig;e (unendliche Anzahl). Sonst kann er nur durch Zwischenspeichern von
+     * Portionen sequentiell berechneter Intervalle geteilt werden. </p>
+     *
+     * @return  Spliterator
+     * @since   5.10
+     */
+    @Override
+    public Spliterator<I> spliterator() {
+
+        if (this.hasFixedStep()) {
+            return new IndexSpliterator(0, (this.isInfinite() ? INFINITE : this.getCount()));
+        }
+
         long size = (this.isInfinite() ? Long.MAX_VALUE : this.getCount());
         int characteristics = DISTINCT | IMMUTABLE | NONNULL | ORDERED | SIZED | SUBSIZED;
-        Spliterator<I> spliterator = Spliterators.spliterator(this.iterator(), size, characteristics);
-        return StreamSupport.stream(spliterator, false);
+        return Spliterators.spliterator(this.iterator(), size, characteristics);
+
+    }
+
+    /**
+     * <p>Obtains the recurrent interval with given index. </p>
+     *
+     * <p>If the duration of every interval has a fixed length (for example hours, days or weeks but not
+     * months or years) then the interval is directly calculated. Otherwise the result is calculated by
+     * repeated addition (or subtraction) of the duration in the same way as done by the iterator
+     * because months of different length do not permit a direct calculation. </p>
+     *
+     * @param   index   zero-based index of recurrent interval
+     * @return  interval with given index
+     * @throws  IndexOutOfBoundsException if the index is negative or not smaller than the count
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Liefert das wiederkehrende Intervall mit dem angegebenen Index. </p>
+     *
+     * <p>Wenn die Dauer jedes Intervalls eine feste L&auml;nge hat (zum Beispiel Stunden, Tage oder
+     * Wochen, aber nicht Monate oder Jahre), dann wird das Intervall direkt berechnet. Sonst wird das
+     * Ergebnis genauso wie vom {@code Iterator} durch wiederholte Addition (oder Subtraktion) der
+     * Dauer berechnet, weil unterschiedlich lange Monate keine direkte Berechnung erlauben. </p>
+     *
+     * @param   index   zero-based index of recurrent interval
+     * @return  interval with given index
+     * @throws  IndexOutOfBoundsException if the index is negative or not smaller than the count
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.10
+     */
+    public I get(long index) {
+
+        if ((index < 0) || (!this.isInfinite() && (index >= this.getCount()))) {
+            throw new IndexOutOfBoundsException("Index out of recurrence range: " + index);
+        } else if (this.hasFixedStep()) {
+            return this.getInterval(index);
+        }
+
+        Iterator<I> iter = this.iterator();
+
+        for (long i = 0; i < index; i++) {
+            iter.next();
+        }
+
+        return iter.next();
+
+    }
+
+    /**
+     * <p>Determines the index of the recurrent date interval which contains given date. </p>
+     *
+     * @param   date    the date to be searched for
+     * @return  zero-based index of interval containing given date or {@code -1} if not found
+     * @throws  IllegalArgumentException if this instance does not consist of date intervals
+     * @see     #get(long)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Bestimmt den Index des wiederkehrenden Datumsintervalls, das das angegebene Datum enth&auml;lt. </p>
+     *
+     * @param   date    the date to be searched for
+     * @return  zero-based index of interval containing given date or {@code -1} if not found
+     * @throws  IllegalArgumentException if this instance does not consist of date intervals
+     * @see     #get(long)
+     * @since   5.10
+     */
+    public long indexOf(PlainDate date) {
+
+        return this.locate(date);
+
+    }
+
+    /**
+     * <p>Determines the index of the recurrent timestamp interval which contains given timestamp. </p>
+     *
+     * @param   timestamp   the timestamp to be searched for
+     * @return  zero-based index of interval containing given timestamp or {@code -1} if not found
+     * @throws  IllegalArgumentException if this instance does not consist of timestamp intervals
+     * @see     #get(long)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Bestimmt den Index des wiederkehrenden Zeitstempelintervalls, das den angegebenen
+     * Zeitstempel enth&auml;lt. </p>
+     *
+     * @param   timestamp   the timestamp to be searched for
+     * @return  zero-based index of interval containing given timestamp or {@code -1} if not found
+     * @throws  IllegalArgumentException if this instance does not consist of timestamp intervals
+     * @see     #get(long)
+     * @since   5.10
+     */
+    public long indexOf(PlainTimestamp timestamp) {
+
+        return this.locate(timestamp);
+
+    }
+
+    /**
+     * <p>Determines the index of the recurrent moment interval which contains given moment. </p>
+     *
+     * @param   moment  the moment to be searched for
+     * @return  zero-based index of interval containing given moment or {@code -1} if not found
+     * @throws  IllegalArgumentException if this instance does not consist of moment intervals
+     * @see     #get(long)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Bestimmt den Index des wiederkehrenden Momentintervalls, das den angegebenen
+     * Moment enth&auml;lt. </p>
+     *
+     * @param   moment  the moment to be searched for
+     * @return  zero-based index of interval containing given moment or {@code -1} if not found
+     * @throws  IllegalArgumentException if this instance does not consist of moment intervals
+     * @see     #get(long)
+     * @since   5.10
+     */
+    public long indexOf(Moment moment) {
+
+        return this.locate(moment);
+
+    }
+
+    /**
+     * <p>Obtains all recurrent date intervals which intersect the closed range between given dates. </p>
+     *
+     * <p>The intervals are streamed in the order of their indices. </p>
+     *
+     * @param   start   first date of range (inclusive)
+     * @param   end     last date of range (inclusive)
+     * @return  ordered stream of intersecting intervals
+     * @throws  IllegalArgumentException if this instance does not consist of date intervals
+     *          or if start is after end
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Liefert alle wiederkehrenden Datumsintervalle, die den geschlossenen Bereich zwischen
+     * den angegebenen Datumsangaben schneiden. </p>
+     *
+     * <p>Die Intervalle werden in der Reihenfolge ihrer Indizes geliefert. </p>
+     *
+     * @param   start   first date of range (inclusive)
+     * @param   end     last date of range (inclusive)
+     * @return  ordered stream of intersecting intervals
+     * @throws  IllegalArgumentException if this instance does not consist of date intervals
+     *          or if start is after end
+     * @since   5.10
+     */
+    public Stream<I> occurrencesBetween(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        return this.occurrences(start, end);
+
+    }
+
+    /**
+     * <p>Obtains all recurrent timestamp intervals which intersect the half-open range between
+     * given timestamps. </p>
+     *
+     * <p>The intervals are streamed in the order of their indices. </p>
+     *
+     * @param   start   start of range (inclusive)
+     * @param   end     end of range (exclusive)
+     * @return  ordered stream of intersecting intervals
+     * @throws  IllegalArgumentException if this instance does not consist of timestamp intervals
+     *          or if start is after end
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Liefert alle wiederkehrenden Zeitstempelintervalle, die den halb-offenen Bereich zwischen
+     * den angegebenen Zeitstempeln schneiden. </p>
+     *
+     * <p>Die Intervalle werden in der Reihenfolge ihrer Indizes geliefert. </p>
+     *
+     * @param   start   start of range (inclusive)
+     * @param   end     end of range (exclusive)
+     * @return  ordered stream of intersecting intervals
+     * @throws  IllegalArgumentException if this instance does not consist of timestamp intervals
+     *          or if start is after end
+     * @since   5.10
+     */
+    public Stream<I> occurrencesBetween(
+        PlainTimestamp start,
+        PlainTimestamp end
+    ) {
+
+        return this.occurrences(start, end);
+
+    }
+
+    /**
+     * <p>Obtains all recurrent moment intervals which intersect the half-open range between
+     * given moments. </p>
+     *
+     * <p>The intervals are streamed in the order of their indices. </p>
+     *
+     * @param   start   start of range (inclusive)
+     * @param   end     end of range (exclusive)
+     * @return  ordered stream of intersecting intervals
+     * @throws  IllegalArgumentException if this instance does not consist of moment intervals
+     *          or if start is after end
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Liefert alle wiederkehrenden Momentintervalle, die den halb-offenen Bereich zwischen
+     * den angegebenen Momenten schneiden. </p>
+     *
+     * <p>Die Intervalle werden in der Reihenfolge ihrer Indizes geliefert. </p>
+     *
+     * @param   start   start of range (inclusive)
+     * @param   end     end of range (exclusive)
+     * @return  ordered stream of intersecting intervals
+     * @throws  IllegalArgumentException if this instance does not consist of moment intervals
+     *          or if start is after end
+     * @since   5.10
+     */
+    public Stream<I> occurrencesBetween(
+        Moment start,
+        Moment end
+    ) {
+
+        return this.occurrences(start, end);
 
     }
 
@@ -852,6 +1129,275 @@ public class IsoRecurrence<I>
 
     }
 
+    /**
+     * <p>Determines if the duration has a fixed length such that intervals can be directly calculated. </p>
+     *
+     * @return  boolean
+     */
+    boolean hasFixedStep() {
+
+        throw new AbstractMethodError();
+
+    }
+
+    /**
+     * <p>Calculates the interval with given index directly (only if the step is fixed). </p>
+     *
+     * @param   index   non-negative index
+     * @return  interval
+     */
+    I getInterval(long index) {
+
+        throw new AbstractMethodError();
+
+    }
+
+    /**
+     * <p>Calculates the (possibly negative or too big) index of the interval containing given time point
+     * (only if the step is fixed). </p>
+     *
+     * @param   temporal    time point of the right type
+     * @param   before      shall the time point just before given one be searched for (if not calendrical)?
+     * @return  raw index
+     */
+    long getRawIndex(
+        Object temporal,
+        boolean before
+    ) {
+
+        throw new AbstractMethodError();
+
+    }
+
+    /**
+     * <p>Creates a search window between given time points. </p>
+     *
+     * @param   start   start of window (inclusive)
+     * @param   end     end of window (inclusive if calendrical else exclusive)
+     * @return  interval
+     */
+    I createWindow(
+        Object start,
+        Object end
+    ) {
+
+        throw new AbstractMethodError();
+
+    }
+
+    /**
+     * <p>Yields the type of time points. </p>
+     *
+     * @return  Class
+     */
+    Class<?> getTemporalType() {
+
+        throw new AbstractMethodError();
+
+    }
+
+    private long locate(Object temporal) {
+
+        this.checkTemporal(temporal);
+
+        if (this.isEmpty()) {
+            return -1;
+        } else if (this.hasFixedStep()) {
+            long index = this.getRawIndex(temporal, false);
+            return (this.isValidIndex(index) ? index : -1);
+        }
+
+        long index = 0;
+
+        for (I interval : this) {
+            ChronoInterval<Object> ci = cast(interval);
+            if (ci.contains(temporal)) {
+                return index;
+            } else if (this.isBackwards() ? ci.isBefore(temporal) : ci.isAfter(temporal)) {
+                break;
+            }
+            index++;
+        }
+
+        return -1;
+
+    }
+
+    private Stream<I> occurrences(
+        Object start,
+        Object end
+    ) {
+
+        this.checkTemporal(start);
+        this.checkTemporal(end);
+        I window = this.createWindow(start, end); // validates start <= end
+
+        if (this.isEmpty()) {
+            return Stream.empty();
+        } else if (this.hasFixedStep()) {
+            long i1 = this.getRawIndex(start, false);
+            long i2 = this.getRawIndex(end, true);
+            long first = Math.max(0, this.isBackwards() ? i2 : i1);
+            long last = (this.isBackwards() ? i1 : i2);
+            if (!this.isInfinite()) {
+                last = Math.min(last, this.getCount() - 1);
+            }
+            if (first > last) {
+                return Stream.empty();
+            }
+            return StreamSupport.stream(new IndexSpliterator(first, Math.addExact(last, 1)), false);
+        }
+
+        ChronoInterval<Object> w = cast(window);
+        List<I> result = new ArrayList<>();
+
+        for (I interval : this) {
+            ChronoInterval<Object> ci = cast(interval);
+            if (this.isBackwards() ? ci.isBefore(start) : w.isBefore(ci.getStart().getTemporal())) {
+                break;
+            } else if (ci.intersects(w)) {
+                result.add(interval);
+            }
+        }
+
+        return result.stream();
+
+    }
+
+    private boolean isValidIndex(long index) {
+
+        return ((index >= 0) && (this.isInfinite() || (index < this.getCount())));
+
+    }
+
+    private void checkTemporal(Object temporal) {
+
+        if (temporal == null) {
+            throw new NullPointerException("Missing time point.");
+        } else if (!this.getTemporalType().isInstance(temporal)) {
+            throw new IllegalArgumentException(
+                "Recurrence does not consist of intervals for: " + temporal.getClass().getName());
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChronoInterval<Object> cast(Object interval) {
+
+        return (ChronoInterval<Object>) interval;
+
+    }
+
+    // Schrittweite in Sekunden und Nanosekunden bei fester Länge, sonst null
+    private static long[] getFixedStep(Duration<?> duration) {
+
+        long seconds = 0;
+        long nanos = 0;
+
+        for (TimeSpan.Item<?> item : duration.getTotalLength()) {
+            Object unit = item.getUnit();
+            long amount = item.getAmount();
+
+            if (unit == WEEKS) {
+                seconds = Math.addExact(seconds, Math.multiplyExact(amount, 7 * 86400L));
+            } else if (unit == DAYS) {
+                seconds = Math.addExact(seconds, Math.multiplyExact(amount, 86400L));
+            } else if (unit == HOURS) {
+                seconds = Math.addExact(seconds, Math.multiplyExact(amount, 3600L));
+            } else if (unit == MINUTES) {
+                seconds = Math.addExact(seconds, Math.multiplyExact(amount, 60L));
+            } else if (unit == SECONDS) {
+                seconds = Math.addExact(seconds, amount);
+            } else if (unit == MILLIS) {
+                nanos = Math.addExact(nanos, Math.multiplyExact(amount, 1_000_000L));
+            } else if (unit == MICROS) {
+                nanos = Math.addExact(nanos, Math.multiplyExact(amount, 1_000L));
+            } else if (unit == NANOS) {
+                nanos = Math.addExact(nanos, amount);
+            } else {
+                return null;
+            }
+        }
+
+        seconds = Math.addExact(seconds, Math.floorDiv(nanos, MRD));
+        return new long[] {seconds, Math.floorMod(nanos, MRD)};
+
+    }
+
+    // verschiebt um das Vielfache der festen Schrittweite
+    private static PlainTimestamp shift(
+        PlainTimestamp ref,
+        long index,
+        long[] step,
+        boolean backwards
+    ) {
+
+        long n = Math.multiplyExact(index, step[1]);
+        long s = Math.addExact(Math.multiplyExact(index, step[0]), Math.floorDiv(n, MRD));
+        long f = Math.floorMod(n, MRD);
+
+        if (backwards) {
+            return ref.minus(s, SECONDS).minus(f, NANOS);
+        } else {
+            return ref.plus(s, SECONDS).plus(f, NANOS);
+        }
+
+    }
+
+    // abgerundeter Quotient aus (Sekunden + Nanosekunden) und der festen Schrittweite
+    private static long floorQuotient(
+        long seconds,
+        long nanos,
+        long[] step
+    ) {
+
+        seconds = Math.addExact(seconds, Math.floorDiv(nanos, MRD));
+        nanos = Math.floorMod(nanos, MRD);
+
+        if (step[1] == 0) {
+            return Math.floorDiv(seconds, step[0]); // the fraction does not matter here
+        }
+
+        try {
+            long total = Math.addExact(Math.multiplyExact(seconds, MRD), nanos);
+            long divisor = Math.addExact(Math.multiplyExact(step[0], MRD), step[1]);
+            return Math.floorDiv(total, divisor);
+        } catch (ArithmeticException ex) {
+            BigInteger total = BigInteger.valueOf(seconds).multiply(BIG_MRD).add(BigInteger.valueOf(nanos));
+            BigInteger divisor = BigInteger.valueOf(step[0]).multiply(BIG_MRD).add(BigInteger.valueOf(step[1]));
+            BigInteger[] qr = total.divideAndRemainder(divisor);
+            BigInteger q = ((qr[1].signum() < 0) ? qr[0].subtract(BigInteger.ONE) : qr[0]);
+            return q.longValueExact();
+        }
+
+    }
+
+    // roher Index für Zeitstempel und Momente mit der Differenz zur Referenz in Sekunden und Nanosekunden
+    private static long getRawIndex(
+        long seconds,
+        long nanos,
+        long[] step,
+        boolean backwards,
+        boolean before
+    ) {
+
+        if (backwards) {
+            return floorQuotient(-seconds, (before ? -nanos : -nanos - 1), step);
+        } else {
+            return floorQuotient(seconds, (before ? nanos - 1 : nanos), step);
+        }
+
+    }
+
+    private static long toEpochSeconds(PlainTimestamp tsp) {
+
+        return tsp.getCalendarDate().get(EpochDays.UNIX) * 86400L
+            + tsp.getHour() * 3600
+            + tsp.getMinute() * 60
+            + tsp.getSecond();
+
+    }
+
     private static void check(int count) {
 
         if (count < 0) {
@@ -981,6 +1527,102 @@ public class IsoRecurrence<I>
 
     }
 
+    // teilbarer Spliterator mit direktem Indexzugriff bei fester Schrittweite
+    private class IndexSpliterator
+        implements Spliterator<I> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long index;
+        private long fence; // exclusive or INFINITE
+        private int batch = 0;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        IndexSpliterator(
+            long index,
+            long fence
+        ) {
+            super();
+
+            this.index = index;
+            this.fence = fence;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean tryAdvance(Consumer<? super I> action) {
+
+            if ((this.fence != INFINITE) && (this.index >= this.fence)) {
+                return false;
+            }
+
+            action.accept(IsoRecurrence.this.getInterval(this.index++));
+            return true;
+
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super I> action) {
+
+            if (this.fence == INFINITE) {
+                while (true) { // infinite loop as documented for infinite recurrences
+                    action.accept(IsoRecurrence.this.getInterval(this.index++));
+                }
+            } else {
+                while (this.index < this.fence) {
+                    action.accept(IsoRecurrence.this.getInterval(this.index++));
+                }
+            }
+
+        }
+
+        @Override
+        public Spliterator<I> trySplit() {
+
+            long lo = this.index;
+
+            if (this.fence == INFINITE) {
+                this.batch = Math.min(this.batch + BATCH_UNIT, MAX_BATCH);
+                this.index = Math.addExact(lo, this.batch);
+                return new IndexSpliterator(lo, this.index);
+            }
+
+            long mid = (lo + this.fence) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            this.index = mid;
+            return new IndexSpliterator(lo, mid);
+
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return ((this.fence == INFINITE) ? Long.MAX_VALUE : this.fence - this.index);
+
+        }
+
+        @Override
+        public int characteristics() {
+
+            int characteristics = DISTINCT | IMMUTABLE | NONNULL | ORDERED;
+
+            if (this.fence != INFINITE) {
+                characteristics |= (SIZED | SUBSIZED);
+            }
+
+            return characteristics;
+
+        }
+
+    }
+
     private static class RecurrentDateIntervals
         extends IsoRecurrence<DateInterval> {
 
@@ -990,6 +1632,7 @@ public class IsoRecurrence<I>
 
         private final PlainDate ref;
         private final Duration<? extends IsoDateUnit> duration;
+        private final long days; // fixed step in days or zero
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1008,6 +1651,9 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
             }
 
+            long[] step = getFixedStep(duration);
+            this.days = ((step == null) ? 0 : step[0] / 86400);
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1095,6 +1741,60 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        boolean hasFixedStep() {
+
+            return (this.days > 0);
+
+        }
+
+        @Override
+        DateInterval getInterval(long index) {
+
+            long amount = Math.multiplyExact(index, this.days);
+            PlainDate s;
+            PlainDate e;
+
+            if (this.isBackwards()) {
+                e = this.ref.minus(amount, DAYS);
+                s = e.minus(this.days - 1, DAYS);
+            } else {
+                s = this.ref.plus(amount, DAYS);
+                e = s.plus(this.days - 1, DAYS);
+            }
+
+            return DateIntervalFactory.INSTANCE.between(Boundary.ofClosed(s), Boundary.ofClosed(e));
+
+        }
+
+        @Override
+        long getRawIndex(
+            Object temporal,
+            boolean before
+        ) {
+
+            long delta = DAYS.between(this.ref, PlainDate.class.cast(temporal));
+            return Math.floorDiv((this.isBackwards() ? -delta : delta), this.days);
+
+        }
+
+        @Override
+        DateInterval createWindow(
+            Object start,
+            Object end
+        ) {
+
+            return DateInterval.between(PlainDate.class.cast(start), PlainDate.class.cast(end));
+
+        }
+
+        @Override
+        Class<?> getTemporalType() {
+
+            return PlainDate.class;
+
+        }
+
     }
 
     private static class RecurrentTimestampIntervals
@@ -1106,6 +1806,7 @@ public class IsoRecurrence<I>
 
         private final PlainTimestamp ref;
         private final Duration<?> duration;
+        private final long[] step; // fixed step or null
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1124,6 +1825,8 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
             }
 
+            this.step = getFixedStep(duration);
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1211,6 +1914,55 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        boolean hasFixedStep() {
+
+            return (this.step != null);
+
+        }
+
+        @Override
+        TimestampInterval getInterval(long index) {
+
+            boolean backwards = this.isBackwards();
+            PlainTimestamp t1 = shift(this.ref, index, this.step, backwards);
+            PlainTimestamp t2 = shift(this.ref, Math.addExact(index, 1), this.step, backwards);
+            Boundary<PlainTimestamp> s = Boundary.ofClosed(backwards ? t2 : t1);
+            Boundary<PlainTimestamp> e = Boundary.ofOpen(backwards ? t1 : t2);
+            return TimestampIntervalFactory.INSTANCE.between(s, e);
+
+        }
+
+        @Override
+        long getRawIndex(
+            Object temporal,
+            boolean before
+        ) {
+
+            PlainTimestamp tsp = PlainTimestamp.class.cast(temporal);
+            long seconds = toEpochSeconds(tsp) - toEpochSeconds(this.ref);
+            long nanos = tsp.getNanosecond() - this.ref.getNanosecond();
+            return IsoRecurrence.getRawIndex(seconds, nanos, this.step, this.isBackwards(), before);
+
+        }
+
+        @Override
+        TimestampInterval createWindow(
+            Object start,
+            Object end
+        ) {
+
+            return TimestampInterval.between(PlainTimestamp.class.cast(start), PlainTimestamp.class.cast(end));
+
+        }
+
+        @Override
+        Class<?> getTemporalType() {
+
+            return PlainTimestamp.class;
+
+        }
+
     }
 
     private static class RecurrentMomentIntervals
@@ -1223,6 +1975,7 @@ public class IsoRecurrence<I>
         private final PlainTimestamp ref;
         private final ZonalOffset offset;
         private final Duration<?> duration;
+        private final long[] step; // fixed step or null
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1245,6 +1998,8 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Offset with seconds is invalid in ISO-8601: " + offset);
             }
 
+            this.step = getFixedStep(duration);
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1343,6 +2098,57 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        boolean hasFixedStep() {
+
+            return (this.step != null);
+
+        }
+
+        @Override
+        MomentInterval getInterval(long index) {
+
+            boolean backwards = this.isBackwards();
+            Moment t1 = shift(this.ref, index, this.step, backwards).at(this.offset);
+            Moment t2 = shift(this.ref, Math.addExact(index, 1), this.step, backwards).at(this.offset);
+            Boundary<Moment> s = Boundary.ofClosed(backwards ? t2 : t1);
+            Boundary<Moment> e = Boundary.ofOpen(backwards ? t1 : t2);
+            return MomentIntervalFactory.INSTANCE.between(s, e);
+
+        }
+
+        @Override
+        long getRawIndex(
+            Object temporal,
+            boolean before
+        ) {
+
+            Moment moment = Moment.class.cast(temporal);
+            long seconds = moment.getPosixTime() - (toEpochSeconds(this.ref) - this.offset.getIntegralAmount());
+            // a leap second is after all other moments with the same posix time
+            int nano = (moment.isLeapSecond() ? MRD - 1 : moment.getNanosecond());
+            long nanos = nano - this.ref.getNanosecond();
+            return IsoRecurrence.getRawIndex(seconds, nanos, this.step, this.isBackwards(), before);
+
+        }
+
+        @Override
+        MomentInterval createWindow(
+            Object start,
+            Object end
+        ) {
+
+            return MomentInterval.between(Moment.class.cast(start), Moment.class.cast(end));
+
+        }
+
+        @Override
+        Class<?> getTemporalType() {
+
+            return Moment.class;
+
+        }
+
         private String getOffsetAsString() {
 
             if ((this.offset.getIntegralAmount() == 0) && (this.offset.getFractionalAmount() == 0)) {
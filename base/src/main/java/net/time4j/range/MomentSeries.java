@@ -0,0 +1,1194 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MomentSeries.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>Represents an immutable sorted series of moments which are stored in primitive form. </p>
+ *
+ * <p>Every element only needs twelve bytes, namely the POSIX time in seconds and the fraction of second
+ * in nanoseconds (including a marker for leap seconds). The series is either backed by primitive arrays
+ * (the array of fractions is omitted if all elements are full seconds) or by twelve-byte records of a
+ * {@code ByteBuffer} which might reside outside of the java heap. Lookups use binary search,
+ * slices are views sharing the same storage, and the methods {@link #forEach(Visitor)},
+ * {@link #getPosixTime(int)} and {@link #getNanosecond(int)} never create any {@code Moment}. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     MomentSeries.Builder builder = MomentSeries.builder();
+ *     for (Moment m : events) {
+ *         builder.add(m);
+ *     }
+ *     MomentSeries series = builder.build();
+ *     MomentSeries today = series.slice(MomentInterval.between(start, end));
+ *     today.forEach((posixTime, nanos) -&gt; histogram.record(posixTime));
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert eine unver&auml;nderliche sortierte Folge von Momenten, die in primitiver Form
+ * gespeichert werden. </p>
+ *
+ * <p>Jedes Element ben&ouml;tigt nur zw&ouml;lf Bytes, n&auml;mlich die POSIX-Zeit in Sekunden und den
+ * Sekundenbruchteil in Nanosekunden (einschlie&szlig;lich einer Markierung f&uuml;r Schaltsekunden). Die
+ * Folge wird entweder von primitiven Arrays getragen (das Array der Bruchteile entf&auml;llt, wenn alle
+ * Elemente volle Sekunden sind) oder von Zw&ouml;lf-Byte-Datens&auml;tzen eines {@code ByteBuffer}, der
+ * auch au&szlig;erhalb des Java-Heaps liegen kann. Suchen verwenden eine Bin&auml;rsuche, Teilfolgen
+ * sind Sichten auf den gleichen Speicher, und die Methoden {@link #forEach(Visitor)},
+ * {@link #getPosixTime(int)} und {@link #getNanosecond(int)} erzeugen nie ein {@code Moment}. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     MomentSeries.Builder builder = MomentSeries.builder();
+ *     for (Moment m : events) {
+ *         builder.add(m);
+ *     }
+ *     MomentSeries series = builder.build();
+ *     MomentSeries today = series.slice(MomentInterval.between(start, end));
+ *     today.forEach((posixTime, nanos) -&gt; histogram.record(posixTime));
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class MomentSeries
+    implements Iterable<Moment> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1_000_000_000;
+    private static final int LEAP_MASK = 0x40000000;
+    private static final int RECORD_SIZE = 12;
+    private static final long MIN_POSIX = Moment.axis().getMinimum().getPosixTime();
+    private static final long MAX_POSIX = Moment.axis().getMaximum().getPosixTime();
+    private static final long[] NO_SECONDS = new long[0];
+
+    private static final MomentSeries EMPTY = new MomentSeries(NO_SECONDS, null, null, 0, 0);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long[] seconds; // null if backed by buffer
+    private final int[] fractions; // null if only full seconds or backed by buffer
+    private final ByteBuffer buffer; // null if backed by arrays
+    private final int offset;
+    private final int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MomentSeries(
+        long[] seconds,
+        int[] fractions,
+        ByteBuffer buffer,
+        int offset,
+        int size
+    ) {
+        super();
+
+        this.seconds = seconds;
+        this.fractions = fractions;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.size = size;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields an empty series. </p>
+     *
+     * @return  empty series
+     */
+    /*[deutsch]
+     * <p>Liefert eine leere Folge. </p>
+     *
+     * @return  empty series
+     */
+    public static MomentSeries empty() {
+
+        return EMPTY;
+
+    }
+
+    /**
+     * <p>Creates a new builder which collects moments in any order. </p>
+     *
+     * @return  new builder
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen {@code Builder}, der Momente in beliebiger Reihenfolge sammelt. </p>
+     *
+     * @return  new builder
+     */
+    public static Builder builder() {
+
+        return new Builder();
+
+    }
+
+    /**
+     * <p>Creates a series from given columns of elapsed times which must be sorted in ascending order. </p>
+     *
+     * <p>The arrays will be copied. In case of {@code TimeScale.UTC}, the elapsed times are counted
+     * since [1972-01-01T00:00:00Z] including leap seconds like in {@code Moment.of(long, int, TimeScale)}. </p>
+     *
+     * @param   scale           either {@code TimeScale.POSIX} or {@code TimeScale.UTC}
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   nanoseconds     fractions of seconds (0-999,999,999), maybe {@code null} if all are zero
+     * @return  new series
+     * @throws  IllegalArgumentException if any value is out of range or not in ascending order
+     *          or if both arrays have different lengths
+     * @throws  IllegalStateException if leap seconds are not supported by configuration but required
+     * @throws  UnsupportedOperationException if the scale is neither POSIX nor UTC
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Folge aus den angegebenen Spalten verstrichener Zeiten, die aufsteigend sortiert
+     * sein m&uuml;ssen. </p>
+     *
+     * <p>Die Arrays werden kopiert. Im Fall von {@code TimeScale.UTC} werden die verstrichenen Zeiten
+     * wie in {@code Moment.of(long, int, TimeScale)} seit [1972-01-01T00:00:00Z] einschlie&szlig;lich
+     * Schaltsekunden gez&auml;hlt. </p>
+     *
+     * @param   scale           either {@code TimeScale.POSIX} or {@code TimeScale.UTC}
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   nanoseconds     fractions of seconds (0-999,999,999), maybe {@code null} if all are zero
+     * @return  new series
+     * @throws  IllegalArgumentException if any value is out of range or not in ascending order
+     *          or if both arrays have different lengths
+     * @throws  IllegalStateException if leap seconds are not supported by configuration but required
+     * @throws  UnsupportedOperationException if the scale is neither POSIX nor UTC
+     */
+    public static MomentSeries of(
+        TimeScale scale,
+        long[] elapsedTimes,
+        int[] nanoseconds
+    ) {
+
+        int n = elapsedTimes.length;
+
+        if ((nanoseconds != null) && (nanoseconds.length != n)) {
+            throw new IllegalArgumentException(
+                "Different array lengths: " + n + " / " + nanoseconds.length);
+        } else if (n == 0) {
+            return EMPTY;
+        }
+
+        long[] secs = new long[n];
+        int[] fracs = ((nanoseconds == null) ? null : new int[n]);
+
+        if (scale == TimeScale.POSIX) {
+            System.arraycopy(elapsedTimes, 0, secs, 0, n);
+        } else if (scale == TimeScale.UTC) {
+            LeapSeconds ls = LeapSeconds.getInstance();
+            if (!ls.isEnabled()) {
+                throw new IllegalStateException("Leap seconds are not supported by configuration.");
+            }
+            for (int i = 0; i < n; i++) {
+                long utc = elapsedTimes[i];
+                long unix = ls.strip(utc);
+                secs[i] = unix;
+                if (utc - ls.enhance(unix) == 1) {
+                    if (fracs == null) {
+                        fracs = new int[n];
+                    }
+                    fracs[i] = LEAP_MASK;
+                }
+            }
+        } else {
+            throw new UnsupportedOperationException("Time scale not supported: " + scale);
+        }
+
+        if (nanoseconds != null) {
+            for (int i = 0; i < n; i++) {
+                checkNano(nanoseconds[i], i); // before merging because the leap bit is out of range
+                fracs[i] |= nanoseconds[i];
+            }
+        }
+
+        return create(secs, compact(fracs), n);
+
+    }
+
+    /**
+     * <p>Creates a series backed by given buffer. </p>
+     *
+     * <p>The remaining bytes of the buffer must consist of records of twelve bytes in the byte order of
+     * the buffer, each with the POSIX time as {@code long} followed by the fraction as {@code int}, for
+     * example written by {@link #writeTo(ByteBuffer)}. The buffer is not copied but only checked once,
+     * so it must not be modified later. A direct or memory-mapped buffer keeps all data off the heap. </p>
+     *
+     * @param   buffer      buffer with records of twelve bytes
+     * @return  series backed by given buffer
+     * @throws  IllegalArgumentException if the records are not complete, not valid or not sorted
+     * @see     #toOffHeap()
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Folge, die vom angegebenen Puffer getragen wird. </p>
+     *
+     * <p>Die verbleibenden Bytes des Puffers m&uuml;ssen aus Datens&auml;tzen von zw&ouml;lf Bytes in
+     * der Byte-Reihenfolge des Puffers bestehen, jeder mit der POSIX-Zeit als {@code long} gefolgt vom
+     * Bruchteil als {@code int}, zum Beispiel von {@link #writeTo(ByteBuffer)} geschrieben. Der Puffer wird
+     * nicht kopiert, sondern nur einmal gepr&uuml;ft, darf also sp&auml;ter nicht ge&auml;ndert werden.
+     * Ein direkter oder speicherabgebildeter Puffer h&auml;lt alle Daten au&szlig;erhalb des Heaps. </p>
+     *
+     * @param   buffer      buffer with records of twelve bytes
+     * @return  series backed by given buffer
+     * @throws  IllegalArgumentException if the records are not complete, not valid or not sorted
+     * @see     #toOffHeap()
+     */
+    public static MomentSeries of(ByteBuffer buffer) {
+
+        int len = buffer.remaining();
+
+        if ((len % RECORD_SIZE) != 0) {
+            throw new IllegalArgumentException("Incomplete record at end of buffer: " + len);
+        }
+
+        ByteBuffer view = buffer.slice().order(buffer.order());
+        int n = len / RECORD_SIZE;
+        long prevSecs = Long.MIN_VALUE;
+        int prevFrac = 0;
+        LeapSeconds ls = LeapSeconds.getInstance();
+
+        for (int i = 0; i < n; i++) {
+            long secs = view.getLong(i * RECORD_SIZE);
+            int frac = view.getInt(i * RECORD_SIZE + 8);
+            check(secs, frac, i);
+            if (
+                ((frac & LEAP_MASK) != 0)
+                && ls.isEnabled()
+                && (ls.enhance(secs + 1) - ls.enhance(secs) != 2)
+            ) {
+                throw new IllegalArgumentException("No leap second at index " + i + ": " + secs);
+            }
+            if ((secs < prevSecs) || ((secs == prevSecs) && (frac < prevFrac))) {
+                throw new IllegalArgumentException("Not sorted at index: " + i);
+            }
+            prevSecs = secs;
+            prevFrac = frac;
+        }
+
+        return ((n == 0) ? EMPTY : new MomentSeries(null, null, view, 0, n));
+
+    }
+
+    /**
+     * <p>Yields the count of moments. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Momente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Queries if there are no moments. </p>
+     *
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Gibt es keine Momente? </p>
+     *
+     * @return  boolean
+     */
+    public boolean isEmpty() {
+
+        return (this.size == 0);
+
+    }
+
+    /**
+     * <p>Queries if this series is stored in a {@code ByteBuffer} instead of arrays. </p>
+     *
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Wird diese Folge in einem {@code ByteBuffer} statt in Arrays gespeichert? </p>
+     *
+     * @return  boolean
+     */
+    public boolean isBufferBacked() {
+
+        return (this.buffer != null);
+
+    }
+
+    /**
+     * <p>Obtains the moment at given index. </p>
+     *
+     * @param   index   position in this series
+     * @return  Moment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Moment an der angegebenen Position. </p>
+     *
+     * @param   index   position in this series
+     * @return  Moment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public Moment get(int index) {
+
+        this.checkIndex(index);
+        return toMoment(this.secs(index), this.frac(index));
+
+    }
+
+    /**
+     * <p>Obtains the POSIX time of the moment at given index without creating a {@code Moment}. </p>
+     *
+     * <p>A leap second has the same POSIX time as the preceding second. </p>
+     *
+     * @param   index   position in this series
+     * @return  elapsed seconds since [1970-01-01T00:00:00Z] without leap seconds
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die POSIX-Zeit des Moments an der angegebenen Position, ohne ein {@code Moment}
+     * zu erzeugen. </p>
+     *
+     * <p>Eine Schaltsekunde hat die gleiche POSIX-Zeit wie die vorangehende Sekunde. </p>
+     *
+     * @param   index   position in this series
+     * @return  elapsed seconds since [1970-01-01T00:00:00Z] without leap seconds
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getPosixTime(int index) {
+
+        this.checkIndex(index);
+        return this.secs(index);
+
+    }
+
+    /**
+     * <p>Obtains the fraction of second of the moment at given index without creating a
+     * {@code Moment}. </p>
+     *
+     * @param   index   position in this series
+     * @return  nanosecond (0-999,999,999)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Sekundenbruchteil des Moments an der angegebenen Position, ohne ein
+     * {@code Moment} zu erzeugen. </p>
+     *
+     * @param   index   position in this series
+     * @return  nanosecond (0-999,999,999)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getNanosecond(int index) {
+
+        this.checkIndex(index);
+        return (this.frac(index) & ~LEAP_MASK);
+
+    }
+
+    /**
+     * <p>Queries if the moment at given index is a leap second. </p>
+     *
+     * @param   index   position in this series
+     * @return  boolean
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#isLeapSecond()
+     */
+    /*[deutsch]
+     * <p>Ist der Moment an der angegebenen Position eine Schaltsekunde? </p>
+     *
+     * @param   index   position in this series
+     * @return  boolean
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#isLeapSecond()
+     */
+    public boolean isLeapSecond(int index) {
+
+        this.checkIndex(index);
+        return ((this.frac(index) & LEAP_MASK) != 0) && LeapSeconds.getInstance().isEnabled();
+
+    }
+
+    /**
+     * <p>Writes the elapsed times of all moments on given time scale into the target array. </p>
+     *
+     * @param   scale       either {@code TimeScale.POSIX} or {@code TimeScale.UTC}
+     * @param   target      array for elapsed seconds on given time scale
+     * @param   destPos     start index in target array
+     * @throws  IndexOutOfBoundsException if the target array is too small
+     * @throws  IllegalStateException if the scale is UTC but leap seconds are not supported by configuration
+     * @throws  UnsupportedOperationException if the scale is neither POSIX nor UTC
+     */
+    /*[deutsch]
+     * <p>Schreibt die verstrichenen Zeiten aller Momente auf der angegebenen Zeitskala in das
+     * Zielarray. </p>
+     *
+     * @param   scale       either {@code TimeScale.POSIX} or {@code TimeScale.UTC}
+     * @param   target      array for elapsed seconds on given time scale
+     * @param   destPos     start index in target array
+     * @throws  IndexOutOfBoundsException if the target array is too small
+     * @throws  IllegalStateException if the scale is UTC but leap seconds are not supported by configuration
+     * @throws  UnsupportedOperationException if the scale is neither POSIX nor UTC
+     */
+    public void getElapsedTimes(
+        TimeScale scale,
+        long[] target,
+        int destPos
+    ) {
+
+        if ((destPos < 0) || (destPos > target.length - this.size)) {
+            throw new IndexOutOfBoundsException(
+                "Target too small: [" + destPos + "," + this.size + "/" + target.length + "]");
+        }
+
+        if (scale == TimeScale.POSIX) {
+            if (this.buffer == null) {
+                System.arraycopy(this.seconds, this.offset, target, destPos, this.size);
+            } else {
+                for (int i = 0; i < this.size; i++) {
+                    target[destPos + i] = this.secs(i);
+                }
+            }
+        } else if (scale == TimeScale.UTC) {
+            LeapSeconds ls = LeapSeconds.getInstance();
+            if (!ls.isEnabled()) {
+                throw new IllegalStateException("Leap seconds are not supported by configuration.");
+            }
+            for (int i = 0; i < this.size; i++) {
+                long utc = ls.enhance(this.secs(i));
+                target[destPos + i] = (((this.frac(i) & LEAP_MASK) == 0) ? utc : utc + 1);
+            }
+        } else {
+            throw new UnsupportedOperationException("Time scale not supported: " + scale);
+        }
+
+    }
+
+    /**
+     * <p>Determines the index of the first moment which is equal to or after given moment. </p>
+     *
+     * @param   moment  the moment to be searched for
+     * @return  index of first moment not before given moment, {@code size()} if there is none
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Position des ersten Moments, der gleich dem angegebenen Moment ist oder
+     * danach liegt. </p>
+     *
+     * @param   moment  the moment to be searched for
+     * @return  index of first moment not before given moment, {@code size()} if there is none
+     */
+    public int ceilingIndex(Moment moment) {
+
+        return this.search(moment.getPosixTime(), fraction(moment), false);
+
+    }
+
+    /**
+     * <p>Determines the index of the last moment which is equal to or before given moment. </p>
+     *
+     * @param   moment  the moment to be searched for
+     * @return  index of last moment not after given moment, {@code -1} if there is none
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Position des letzten Moments, der gleich dem angegebenen Moment ist oder
+     * davor liegt. </p>
+     *
+     * @param   moment  the moment to be searched for
+     * @return  index of last moment not after given moment, {@code -1} if there is none
+     */
+    public int floorIndex(Moment moment) {
+
+        return this.search(moment.getPosixTime(), fraction(moment), true) - 1;
+
+    }
+
+    /**
+     * <p>Queries if given moment is an element of this series. </p>
+     *
+     * @param   moment  the moment to be searched for
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Ist der angegebene Moment in dieser Folge enthalten? </p>
+     *
+     * @param   moment  the moment to be searched for
+     * @return  boolean
+     */
+    public boolean contains(Moment moment) {
+
+        long secs = moment.getPosixTime();
+        int frac = fraction(moment);
+        int index = this.search(secs, frac, false);
+        return (index < this.size) && (this.secs(index) == secs) && (this.frac(index) == frac);
+
+    }
+
+    /**
+     * <p>Obtains a view on the moments between given indices. </p>
+     *
+     * @param   fromIndex   first index (inclusive)
+     * @param   toIndex     last index (exclusive)
+     * @return  series sharing the storage of this series
+     * @throws  IndexOutOfBoundsException if any index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert eine Sicht auf die Momente zwischen den angegebenen Positionen. </p>
+     *
+     * @param   fromIndex   first index (inclusive)
+     * @param   toIndex     last index (exclusive)
+     * @return  series sharing the storage of this series
+     * @throws  IndexOutOfBoundsException if any index is out of range
+     */
+    public MomentSeries slice(
+        int fromIndex,
+        int toIndex
+    ) {
+
+        if ((fromIndex < 0) || (toIndex > this.size) || (fromIndex > toIndex)) {
+            throw new IndexOutOfBoundsException(
+                "Invalid slice: [" + fromIndex + "," + toIndex + ") of " + this.size);
+        } else if ((fromIndex == 0) && (toIndex == this.size)) {
+            return this;
+        } else if (fromIndex == toIndex) {
+            return EMPTY;
+        }
+
+        return new MomentSeries(
+            this.seconds,
+            this.fractions,
+            this.buffer,
+            this.offset + fromIndex,
+            toIndex - fromIndex);
+
+    }
+
+    /**
+     * <p>Obtains a view on all moments contained in given interval. </p>
+     *
+     * <p>Open, closed and infinite boundaries are respected. </p>
+     *
+     * @param   interval    the interval to be applied as filter
+     * @return  series sharing the storage of this series
+     */
+    /*[deutsch]
+     * <p>Liefert eine Sicht auf alle Momente, die im angegebenen Intervall enthalten sind. </p>
+     *
+     * <p>Offene, geschlossene und unendliche Grenzen werden beachtet. </p>
+     *
+     * @param   interval    the interval to be applied as filter
+     * @return  series sharing the storage of this series
+     */
+    public MomentSeries slice(ChronoInterval<Moment> interval) {
+
+        int from = 0;
+        int to = this.size;
+        Boundary<Moment> start = interval.getStart();
+        Boundary<Moment> end = interval.getEnd();
+
+        if (!start.isInfinite()) {
+            Moment m = start.getTemporal();
+            from = this.search(m.getPosixTime(), fraction(m), start.isOpen());
+        }
+
+        if (!end.isInfinite()) {
+            Moment m = end.getTemporal();
+            to = this.search(m.getPosixTime(), fraction(m), end.isClosed());
+        }
+
+        return ((from >= to) ? EMPTY : this.slice(from, to));
+
+    }
+
+    /**
+     * <p>Visits all elements in ascending order without creating any {@code Moment}. </p>
+     *
+     * @param   visitor     callback receiving POSIX time and nanosecond of every element
+     * @see     #getPosixTime(int)
+     * @see     #getNanosecond(int)
+     */
+    /*[deutsch]
+     * <p>Besucht alle Elemente in aufsteigender Reihenfolge, ohne ein {@code Moment} zu erzeugen. </p>
+     *
+     * @param   visitor     callback receiving POSIX time and nanosecond of every element
+     * @see     #getPosixTime(int)
+     * @see     #getNanosecond(int)
+     */
+    public void forEach(Visitor visitor) {
+
+        if (this.buffer == null) {
+            long[] secs = this.seconds;
+            int[] fracs = this.fractions;
+            int end = this.offset + this.size;
+            for (int i = this.offset; i < end; i++) {
+                visitor.visit(secs[i], ((fracs == null) ? 0 : (fracs[i] & ~LEAP_MASK)));
+            }
+        } else {
+            for (int i = 0; i < this.size; i++) {
+                visitor.visit(this.secs(i), this.frac(i) & ~LEAP_MASK);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Writes all elements as records of twelve bytes into given buffer. </p>
+     *
+     * <p>The byte order of the target buffer is used. </p>
+     *
+     * @param   target      buffer which will receive {@code 12 * size()} bytes
+     * @throws  BufferOverflowException if there is not enough space left
+     * @see     #of(ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt alle Elemente als Datens&auml;tze von zw&ouml;lf Bytes in den angegebenen Puffer. </p>
+     *
+     * <p>Die Byte-Reihenfolge des Zielpuffers wird verwendet. </p>
+     *
+     * @param   target      buffer which will receive {@code 12 * size()} bytes
+     * @throws  BufferOverflowException if there is not enough space left
+     * @see     #of(ByteBuffer)
+     */
+    public void writeTo(ByteBuffer target) {
+
+        if (target.remaining() < this.size * RECORD_SIZE) {
+            throw new BufferOverflowException();
+        }
+
+        for (int i = 0; i < this.size; i++) {
+            target.putLong(this.secs(i));
+            target.putInt(this.frac(i));
+        }
+
+    }
+
+    /**
+     * <p>Copies this series into a direct buffer outside of the java heap. </p>
+     *
+     * @return  copy of this series backed by a direct buffer in native byte order
+     */
+    /*[deutsch]
+     * <p>Kopiert diese Folge in einen direkten Puffer au&szlig;erhalb des Java-Heaps. </p>
+     *
+     * @return  copy of this series backed by a direct buffer in native byte order
+     */
+    public MomentSeries toOffHeap() {
+
+        if (this.size == 0) {
+            return EMPTY;
+        }
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(this.size * RECORD_SIZE).order(ByteOrder.nativeOrder());
+        this.writeTo(direct);
+        direct.flip();
+        return new MomentSeries(null, null, direct, 0, this.size);
+
+    }
+
+    /**
+     * <p>Iterates over all elements as {@code Moment}-objects. </p>
+     *
+     * <p>Note: Every step creates a new {@code Moment}. Performance-sensitive code should prefer
+     * {@link #forEach(Visitor)}. </p>
+     *
+     * @return  read-only iterator
+     */
+    /*[deutsch]
+     * <p>Iteriert &uuml;ber alle Elemente als {@code Moment}-Objekte. </p>
+     *
+     * <p>Hinweis: Jeder Schritt erzeugt ein neues {@code Moment}. Performance-kritischer Code sollte
+     * {@link #forEach(Visitor)} bevorzugen. </p>
+     *
+     * @return  read-only iterator
+     */
+    @Override
+    public Iterator<Moment> iterator() {
+
+        return new Iterator<Moment>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return (this.index < MomentSeries.this.size);
+            }
+
+            @Override
+            public Moment next() {
+                if (this.index >= MomentSeries.this.size) {
+                    throw new NoSuchElementException();
+                }
+                int i = this.index++;
+                return toMoment(MomentSeries.this.secs(i), MomentSeries.this.frac(i));
+            }
+        };
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof MomentSeries) {
+            MomentSeries that = (MomentSeries) obj;
+            if (this.size != that.size) {
+                return false;
+            }
+            for (int i = 0; i < this.size; i++) {
+                if ((this.secs(i) != that.secs(i)) || (this.frac(i) != that.frac(i))) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        int h = 1;
+
+        for (int i = 0; i < this.size; i++) {
+            long secs = this.secs(i);
+            h = 31 * h + (int) (secs ^ (secs >>> 32));
+            h = 31 * h + this.frac(i);
+        }
+
+        return h;
+
+    }
+
+    /**
+     * <p>Describes the size and the first and last element. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Beschreibt die Gr&ouml;&szlig;e und das erste und letzte Element. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        if (this.size == 0) {
+            return "MomentSeries[]";
+        }
+
+        StringBuilder sb = new StringBuilder(80);
+        sb.append("MomentSeries[size=");
+        sb.append(this.size);
+        sb.append(',');
+        sb.append(this.get(0));
+        sb.append('/');
+        sb.append(this.get(this.size - 1));
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    // erstellt eine Folge aus fertigen Arrays (keine Kopie)
+    private static MomentSeries create(
+        long[] secs,
+        int[] fracs,
+        int n
+    ) {
+
+        long prevSecs = Long.MIN_VALUE;
+        int prevFrac = 0;
+
+        for (int i = 0; i < n; i++) {
+            long s = secs[i];
+            int f = ((fracs == null) ? 0 : fracs[i]);
+            check(s, f, i);
+            if ((s < prevSecs) || ((s == prevSecs) && (f < prevFrac))) {
+                throw new IllegalArgumentException("Not sorted at index: " + i);
+            }
+            prevSecs = s;
+            prevFrac = f;
+        }
+
+        return new MomentSeries(secs, fracs, null, 0, n);
+
+    }
+
+    // null, wenn alle Elemente volle Sekunden ohne Schaltsekunde sind
+    private static int[] compact(int[] fracs) {
+
+        if (fracs != null) {
+            for (int f : fracs) {
+                if (f != 0) {
+                    return fracs;
+                }
+            }
+        }
+
+        return null;
+
+    }
+
+    private static void check(
+        long secs,
+        int frac,
+        int index
+    ) {
+
+        if ((secs < MIN_POSIX) || (secs > MAX_POSIX)) {
+            throw new IllegalArgumentException("POSIX time out of range at index " + index + ": " + secs);
+        }
+
+        checkNano(frac & ~LEAP_MASK, index);
+
+    }
+
+    private static void checkNano(
+        int nano,
+        int index
+    ) {
+
+        if ((nano < 0) || (nano >= MRD)) {
+            throw new IllegalArgumentException("Nanosecond out of range at index " + index + ": " + nano);
+        }
+
+    }
+
+    private static int fraction(Moment moment) {
+
+        int nano = moment.getNanosecond();
+        return (moment.isLeapSecond() ? (nano | LEAP_MASK) : nano);
+
+    }
+
+    private static Moment toMoment(
+        long secs,
+        int frac
+    ) {
+
+        int nano = (frac & ~LEAP_MASK);
+
+        if ((frac & LEAP_MASK) != 0) {
+            LeapSeconds ls = LeapSeconds.getInstance();
+            if (ls.isEnabled()) {
+                return Moment.of(ls.enhance(secs) + 1, nano, TimeScale.UTC);
+            }
+        }
+
+        return Moment.of(secs, nano, TimeScale.POSIX);
+
+    }
+
+    // erste Position mit Element > key (strict) oder >= key
+    private int search(
+        long secs,
+        int frac,
+        boolean strict
+    ) {
+
+        int low = 0;
+        int high = this.size - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long s = this.secs(mid);
+            int cmp = ((s < secs) ? -1 : ((s > secs) ? 1 : Integer.compare(this.frac(mid), frac)));
+            if ((cmp < 0) || (strict && (cmp == 0))) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    private long secs(int index) {
+
+        if (this.buffer == null) {
+            return this.seconds[this.offset + index];
+        } else {
+            return this.buffer.getLong((this.offset + index) * RECORD_SIZE);
+        }
+
+    }
+
+    private int frac(int index) {
+
+        if (this.buffer == null) {
+            return ((this.fractions == null) ? 0 : this.fractions[this.offset + index]);
+        } else {
+            return this.buffer.getInt((this.offset + index) * RECORD_SIZE + 8);
+        }
+
+    }
+
+    private void checkIndex(int index) {
+
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range [0," + this.size + ")");
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Callback for visiting the elements of a series in primitive form. </p>
+     *
+     * @see     MomentSeries#forEach(Visitor)
+     */
+    /*[deutsch]
+     * <p>R&uuml;ckruf zum Besuchen der Elemente einer Folge in primitiver Form. </p>
+     *
+     * @see     MomentSeries#forEach(Visitor)
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Receives the next element. </p>
+         *
+         * @param   posixTime   elapsed seconds since [1970-01-01T00:00:00Z] without leap seconds
+         * @param   nanosecond  fraction of second (0-999,999,999)
+         */
+        /*[deutsch]
+         * <p>Empf&auml;ngt das n&auml;chste Element. </p>
+         *
+         * @param   posixTime   elapsed seconds since [1970-01-01T00:00:00Z] without leap seconds
+         * @param   nanosecond  fraction of second (0-999,999,999)
+         */
+        void visit(
+            long posixTime,
+            int nanosecond
+        );
+
+    }
+
+    /**
+     * <p>Collects moments in any order for a new series. </p>
+     *
+     * <p>Instances are not <i>thread-safe</i>. The elements are sorted only once when building. </p>
+     */
+    /*[deutsch]
+     * <p>Sammelt Momente in beliebiger Reihenfolge f&uuml;r eine neue Folge. </p>
+     *
+     * <p>Instanzen sind nicht <i>thread-safe</i>. Die Elemente werden nur einmal beim Erzeugen
+     * der Folge sortiert. </p>
+     */
+    public static final class Builder {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long[] secs;
+        private int[] fracs;
+        private int count;
+        private boolean sorted;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Builder() {
+            super();
+
+            this.secs = new long[16];
+            this.fracs = new int[16];
+            this.count = 0;
+            this.sorted = true;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Adds given moment. </p>
+         *
+         * @param   moment  the moment to be added
+         * @return  this instance for method chaining
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt den angegebenen Moment hinzu. </p>
+         *
+         * @param   moment  the moment to be added
+         * @return  this instance for method chaining
+         */
+        public Builder add(Moment moment) {
+
+            this.append(moment.getPosixTime(), fraction(moment));
+            return this;
+
+        }
+
+        /**
+         * <p>Adds a moment given in POSIX time. </p>
+         *
+         * @param   posixTime   elapsed seconds since [1970-01-01T00:00:00Z] without leap seconds
+         * @param   nanosecond  fraction of second (0-999,999,999)
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if any argument is out of range
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt einen in POSIX-Zeit angegebenen Moment hinzu. </p>
+         *
+         * @param   posixTime   elapsed seconds since [1970-01-01T00:00:00Z] without leap seconds
+         * @param   nanosecond  fraction of second (0-999,999,999)
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if any argument is out of range
+         */
+        public Builder add(
+            long posixTime,
+            int nanosecond
+        ) {
+
+            checkNano(nanosecond, this.count);
+            check(posixTime, nanosecond, this.count);
+            this.append(posixTime, nanosecond);
+            return this;
+
+        }
+
+        /**
+         * <p>Creates a new series with all added moments in ascending order. </p>
+         *
+         * <p>The builder can be used further after this call. </p>
+         *
+         * @return  new series
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine neue Folge mit allen hinzugef&uuml;gten Momenten in aufsteigender
+         * Reihenfolge. </p>
+         *
+         * <p>Der {@code Builder} kann nach diesem Aufruf weiter verwendet werden. </p>
+         *
+         * @return  new series
+         */
+        public MomentSeries build() {
+
+            int n = this.count;
+
+            if (n == 0) {
+                return EMPTY;
+            }
+
+            if (!this.sorted) {
+                long[] s2 = new long[n];
+                int[] f2 = new int[n];
+                sort(this.secs, this.fracs, s2, f2, 0, n);
+                this.sorted = true;
+            }
+
+            return new MomentSeries(Arrays.copyOf(this.secs, n), compact(Arrays.copyOf(this.fracs, n)), null, 0, n);
+
+        }
+
+        private void append(
+            long s,
+            int f
+        ) {
+
+            int n = this.count;
+
+            if (n == this.secs.length) {
+                int len = n + (n >> 1);
+                this.secs = Arrays.copyOf(this.secs, len);
+                this.fracs = Arrays.copyOf(this.fracs, len);
+            }
+
+            if (this.sorted && (n > 0)) {
+                long prev = this.secs[n - 1];
+                this.sorted = ((prev < s) || ((prev == s) && (this.fracs[n - 1] <= f)));
+            }
+
+            this.secs[n] = s;
+            this.fracs[n] = f;
+            this.count++;
+
+        }
+
+        // stabiles Mergesort auf parallelen Arrays, tmp-Arrays als Puffer
+        private static void sort(
+            long[] s,
+            int[] f,
+            long[] ts,
+            int[] tf,
+            int from,
+            int to
+        ) {
+
+            if (to - from < 2) {
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            sort(s, f, ts, tf, from, mid);
+            sort(s, f, ts, tf, mid, to);
+
+            if ((s[mid - 1] < s[mid]) || ((s[mid - 1] == s[mid]) && (f[mid - 1] <= f[mid]))) {
+                return; // schon sortiert
+            }
+
+            System.arraycopy(s, from, ts, from, to - from);
+            System.arraycopy(f, from, tf, from, to - from);
+            int i = from;
+            int j = mid;
+
+            for (int k = from; k < to; k++) {
+                boolean left = (
+                    (j >= to)
+                    || ((i < mid) && ((ts[i] < ts[j]) || ((ts[i] == ts[j]) && (tf[i] <= tf[j])))));
+                if (left) {
+                    s[k] = ts[i];
+                    f[k] = tf[i];
+                    i++;
+                } else {
+                    s[k] = ts[j];
+                    f[k] = tf[j];
+                    j++;
+                }
+            }
+
+        }
+
+    }
+
+}
@@ -179,6 +179,7 @@ public final class LeapSeconds
             "data/leapseconds.data");
 
     private static final ExtendedLSE[] EMPTY_ARRAY = new ExtendedLSE[0];
+    private static final EventTable EMPTY_TABLE = new EventTable(EMPTY_ARRAY, false);
     private static final LeapSeconds INSTANCE = new LeapSeconds();
     private static final long UNIX_OFFSET = 2 * 365 * 86400;
     private static final long MJD_OFFSET = 40587;
@@ -187,8 +188,8 @@ public final class LeapSeconds
 
     private final LeapSecondProvider provider;
     private final List<ExtendedLSE> list;
-    private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
+    private final EventTable tableFinal;
+    private volatile EventTable tableVolatile;
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -219,8 +220,8 @@ public final class LeapSeconds
         if ((loaded == null) || (leapCount == 0)) {
             this.provider = null;
             this.list = Collections.emptyList();
-            this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
+            this.tableFinal = EMPTY_TABLE;
+            this.tableVolatile = EMPTY_TABLE;
             this.supportsNegativeLS = false;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<>(this);
@@ -247,8 +248,6 @@ public final class LeapSeconds
                 this.list = new CopyOnWriteArrayList<>(sortedLS);
             }
 
-            this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded;
 
             if (FINAL_UTC_LEAPSECONDS) {
@@ -267,6 +266,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.tableFinal = this.initTable();
+            this.tableVolatile = this.tableFinal;
         }
 
     }
@@ -605,23 +607,18 @@ public final class LeapSeconds
      */
     public int getShift(long utc) {
 
-        if (utc <= 0) {
+        EventTable table = this.getTable();
+
+        if ((utc <= 0) || (utc > table.lastUtc)) { // schneller Normalfall nach dem letzten Ereignis
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        // erstes Ereignis mit utc() >= utc
+        int index = countLess(table.utc, utc);
+        long start = table.utc[index] - table.shift[index];
 
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
-            }
+        if (utc > start) { // Schaltbereich
+            return (int) (utc - start);
         }
 
         return 0;
@@ -647,20 +644,15 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
+        EventTable table = this.getTable();
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
+        if (utc >= table.lastUtc) { // schneller Normalfall nach dem letzten Ereignis
+            return null;
         }
 
-        return result;
+        // erstes Ereignis mit utc() > utc
+        int index = countLess(table.utc, utc + 1);
+        return table.reverse[table.reverse.length - 1 - index];
 
     }
 
@@ -700,16 +692,18 @@ public final class LeapSeconds
             return epochTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        EventTable table = this.getTable();
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        // in der Praxis wird meistens mit aktuellen Datumswerten gesucht
+        if (epochTime > table.lastRaw) {
+            return Math.addExact(epochTime, table.lastDelta);
+        }
 
-            if (lse.raw() < epochTime) {
-                return Math.addExact(epochTime, lse.utc() - lse.raw());
-            }
+        // letztes Ereignis mit raw() < epochTime
+        int index = countLess(table.raw, epochTime) - 1;
+
+        if (index >= 0) {
+            return Math.addExact(epochTime, table.utc[index] - table.raw[index]);
         }
 
         return epochTime;
@@ -749,21 +743,18 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
+        EventTable table = this.getTable();
+
+        // in der Praxis wird meistens mit aktuellen Datumswerten gesucht
+        if (utc > table.lastStripKey) {
+            return Math.addExact(utc, -table.lastDelta) + UNIX_OFFSET;
+        }
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        // letztes Ereignis mit stripKey < utc
+        int index = countLess(table.stripKey, utc) - 1;
 
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = Math.addExact(utc, lse.raw() - lse.utc());
-                break;
-            }
+        if (index >= 0) {
+            utc = Math.addExact(utc, table.raw[index] - table.utc[index]);
         }
 
         return utc + UNIX_OFFSET;
@@ -790,23 +781,14 @@ public final class LeapSeconds
      */
     public boolean isPositiveLS(long utc) {
 
-        if (utc <= 0) {
-            return false;
-        }
-
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
+        EventTable table = this.getTable();
 
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
-            }
+        if ((utc <= 0) || (utc > table.lastUtc)) {
+            return false;
         }
 
-        return false;
+        int index = Arrays.binarySearch(table.utc, utc);
+        return ((index >= 0) && (table.shift[index] == 1));
 
     }
 
@@ -955,7 +937,7 @@ public final class LeapSeconds
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = this.tableVolatile.reverse[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -980,7 +962,7 @@ public final class LeapSeconds
             GregorianDate newDate =
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
-            this.reverseVolatile = this.initReverse();
+            this.tableVolatile = this.initTable();
         }
 
     }
@@ -988,12 +970,41 @@ public final class LeapSeconds
     // Ereignisse in zeitlich absteigender Reihenfolge auf (das neueste zuerst)
     private ExtendedLSE[] getEventsInDescendingOrder() {
 
+        return this.getTable().reverse;
+
+    }
+
+    private EventTable getTable() {
+
         if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
-            return this.reverseFinal;
+            return this.tableFinal;
         } else {
-            return this.reverseVolatile;
+            return this.tableVolatile;
+        }
+
+    }
+
+    // Anzahl der Elemente im aufsteigend sortierten Array, die kleiner als key sind (binäre Suche)
+    private static int countLess(
+        long[] sorted,
+        long key
+    ) {
+
+        int low = 0;
+        int high = sorted.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
         }
 
+        return low;
+
     }
 
     private static void extend(SortedSet<ExtendedLSE> sortedColl) {
@@ -1044,12 +1055,12 @@ public final class LeapSeconds
 
     }
 
-    private ExtendedLSE[] initReverse() {
+    private EventTable initTable() {
 
         List<ExtendedLSE> tmp = new ArrayList<>(this.list.size());
         tmp.addAll(this.list);
         Collections.reverse(tmp);
-        return tmp.toArray(new ExtendedLSE[tmp.size()]);
+        return new EventTable(tmp.toArray(new ExtendedLSE[tmp.size()]), this.supportsNegativeLS);
 
     }
 
@@ -1065,6 +1076,64 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    // unveränderlicher Schnappschuss aller Ereignisse, zusätzlich als primitive aufsteigende Arrays
+    private static final class EventTable {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] reverse; // absteigend (das neueste zuerst)
+        private final long[] utc;
+        private final long[] raw;
+        private final int[] shift;
+        private final long[] stripKey; // aufsteigend wegen großer Abstände zwischen den Ereignissen
+        private final long lastUtc;
+        private final long lastRaw;
+        private final long lastDelta;
+        private final long lastStripKey;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        EventTable(
+            ExtendedLSE[] reverse,
+            boolean snls
+        ) {
+            super();
+
+            int n = reverse.length;
+
+            this.reverse = reverse;
+            this.utc = new long[n];
+            this.raw = new long[n];
+            this.shift = new int[n];
+            this.stripKey = new long[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = reverse[n - 1 - i];
+                this.utc[i] = lse.utc();
+                this.raw[i] = lse.raw();
+                this.shift[i] = lse.getShift();
+                this.stripKey[i] = (
+                    (snls && (lse.getShift() < 0))
+                    ? lse.utc()
+                    : lse.utc() - lse.getShift());
+            }
+
+            if (n == 0) {
+                this.lastUtc = Long.MIN_VALUE;
+                this.lastRaw = Long.MIN_VALUE;
+                this.lastDelta = 0;
+                this.lastStripKey = Long.MIN_VALUE;
+            } else {
+                this.lastUtc = this.utc[n - 1];
+                this.lastRaw = this.raw[n - 1];
+                this.lastDelta = this.lastUtc - this.lastRaw;
+                this.lastStripKey = this.stripKey[n - 1];
+            }
+
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
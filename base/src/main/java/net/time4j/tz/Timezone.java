@@ -25,6 +25,7 @@ import net.time4j.base.GregorianDate;
 import net.time4j.base.ResourceLoader;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
+import net.time4j.format.internal.BoundedCache;
 import net.time4j.tz.threeten.JdkZoneProviderSPI;
 
 import java.io.IOException;
@@ -45,6 +46,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
@@ -176,6 +178,7 @@ public abstract class Timezone
     private static volatile ZonalKeys zonalKeys;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
+    private static volatile boolean strongReferences = false;
     private static int softLimit = 11;
 
     private static final String NAME_JUT = "java.util.TimeZone";
@@ -186,10 +189,13 @@ public abstract class Timezone
     private static final Map<String, TZID> ETCETERA;
     private static final ZoneModelProvider PLATFORM_PROVIDER;
     private static final ZoneModelProvider DEFAULT_PROVIDER;
-    private static final ConcurrentMap<String, NamedReference> CACHE;
+    private static final BoundedCache<String, NamedReference> CACHE;
     private static final ReferenceQueue<Timezone> QUEUE;
     private static final LinkedList<Timezone> LAST_USED;
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder LOADS = new LongAdder();
 
     /**
      * Default provider for tz-name-repository.
@@ -199,7 +205,7 @@ public abstract class Timezone
     private static final Timezone SYSTEM_TZ_ORIGINAL;
 
     static {
-        CACHE = new ConcurrentHashMap<>();
+        CACHE = new BoundedCache<>(Integer.MAX_VALUE);
         PROVIDERS = new ConcurrentHashMap<>();
         QUEUE = new ReferenceQueue<>();
         LAST_USED = new LinkedList<>(); // strong references
@@ -1096,6 +1102,146 @@ public abstract class Timezone
      */
     public abstract TransitionHistory getHistory();
 
+    /**
+     * <p>Converts a whole column of UNIX timestamps to local timestamps in this timezone. </p>
+     *
+     * <p>Both arrays count full seconds since [1970-01-01T00:00:00], the source array on the
+     * UTC-timeline ({@link net.time4j.scale.TimeScale#POSIX POSIX}), the target array on the
+     * local timeline. Local date and time fields can be obtained by splitting the local seconds
+     * into epoch days ({@code Math.floorDiv(local, 86400)}) and seconds of day
+     * ({@code Math.floorMod(local, 86400)}), for example in combination with
+     * {@link net.time4j.base.GregorianBatch#toPackedDates(long[], int, int[], int, int)
+     * GregorianBatch}. </p>
+     *
+     * <p>This method works like {@code System.arraycopy()} and does not create any objects
+     * per element. Instead of searching the offset transition for every value, the validity
+     * interval of the last offset is reused, and ascending input simply walks from one
+     * transition to the next one. Unsorted input is possible but slower. The conversion
+     * can be done in place if both arrays are the same and the positions are equal. </p>
+     *
+     * @param   posixTimes      source array of seconds since [1970-01-01T00:00:00Z]
+     * @param   srcPos          start index in source array
+     * @param   localSeconds    target array of local seconds since [1970-01-01T00:00:00]
+     * @param   destPos         start index in target array
+     * @param   length          count of elements to be converted
+     * @throws  IllegalArgumentException if any value is out of the gregorian year range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #getOffset(UnixTime)
+     * @see     #toPosixTimes(long[], int, long[], int, int)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Konvertiert eine ganze Spalte von UNIX-Zeitstempeln zu lokalen Zeitstempeln
+     * in dieser Zeitzone. </p>
+     *
+     * <p>Beide Arrays z&auml;hlen volle Sekunden seit [1970-01-01T00:00:00], das
+     * Quell-Array auf dem UTC-Zeitstrahl ({@link net.time4j.scale.TimeScale#POSIX POSIX}),
+     * das Ziel-Array auf dem lokalen Zeitstrahl. Lokale Datums- und Uhrzeitfelder
+     * k&ouml;nnen durch Aufteilung der lokalen Sekunden in Epochentage
+     * ({@code Math.floorDiv(local, 86400)}) und Sekunden des Tages
+     * ({@code Math.floorMod(local, 86400)}) erhalten werden, zum Beispiel in
+     * Kombination mit {@link net.time4j.base.GregorianBatch#toPackedDates(long[], int, int[], int, int)
+     * GregorianBatch}. </p>
+     *
+     * <p>Diese Methode arbeitet wie {@code System.arraycopy()} und erzeugt keine
+     * Objekte pro Element. Statt f&uuml;r jeden Wert den Offset-&Uuml;bergang zu
+     * suchen, wird das G&uuml;ltigkeitsintervall des letzten Offsets wiederverwendet,
+     * und aufsteigend sortierte Eingaben wandern einfach von einem &Uuml;bergang
+     * zum n&auml;chsten. Unsortierte Eingaben sind m&ouml;glich, aber langsamer.
+     * Die Konvertierung kann an Ort und Stelle erfolgen, wenn beide Arrays und
+     * Positionen gleich sind. </p>
+     *
+     * @param   posixTimes      source array of seconds since [1970-01-01T00:00:00Z]
+     * @param   srcPos          start index in source array
+     * @param   localSeconds    target array of local seconds since [1970-01-01T00:00:00]
+     * @param   destPos         start index in target array
+     * @param   length          count of elements to be converted
+     * @throws  IllegalArgumentException if any value is out of the gregorian year range
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     #getOffset(UnixTime)
+     * @see     #toPosixTimes(long[], int, long[], int, int)
+     * @since   5.10
+     */
+    public final void toLocalSeconds(
+        long[] posixTimes,
+        int srcPos,
+        long[] localSeconds,
+        int destPos,
+        int length
+    ) {
+
+        ZonalBatch.toLocalSeconds(this, posixTimes, srcPos, localSeconds, destPos, length);
+
+    }
+
+    /**
+     * <p>Converts a whole column of local timestamps in this timezone to UNIX timestamps. </p>
+     *
+     * <p>This is the inverse operation of {@link #toLocalSeconds(long[], int, long[], int, int)}.
+     * Local timestamps in a gap or overlap on the local timeline are resolved by the
+     * {@link #getStrategy() transition strategy} of this timezone, so the configured
+     * {@link GapResolver} and {@link OverlapResolver} still apply. If the gap resolver
+     * is {@link GapResolver#ABORT} then an invalid local timestamp aborts the whole call
+     * with an {@code IllegalArgumentException}, and the target array might then be
+     * partially written. </p>
+     *
+     * <p>Unambiguous local timestamps are converted without any timezone lookup as long
+     * as they stay in the interval between two transitions. Custom strategies which are
+     * not based on {@code GapResolver} and {@code OverlapResolver} will be asked for
+     * every value. </p>
+     *
+     * @param   localSeconds    source array of local seconds since [1970-01-01T00:00:00]
+     * @param   srcPos          start index in source array
+     * @param   posixTimes      target array of seconds since [1970-01-01T00:00:00Z]
+     * @param   destPos         start index in target array
+     * @param   length          count of elements to be converted
+     * @throws  IllegalArgumentException if any value is out of the gregorian year range
+     *          or if any local timestamp is invalid and the strategy does not resolve it
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Konvertiert eine ganze Spalte von lokalen Zeitstempeln in dieser Zeitzone
+     * zu UNIX-Zeitstempeln. </p>
+     *
+     * <p>Das ist die Umkehrung von {@link #toLocalSeconds(long[], int, long[], int, int)}.
+     * Lokale Zeitstempel in einer L&uuml;cke oder &Uuml;berlappung auf dem lokalen
+     * Zeitstrahl werden mit der {@link #getStrategy() &Uuml;bergangsstrategie} dieser
+     * Zeitzone aufgel&ouml;st, so da&szlig; die eingestellten {@link GapResolver}
+     * und {@link OverlapResolver} weiter angewandt werden. Ist der L&uuml;ckenaufl&ouml;ser
+     * {@link GapResolver#ABORT}, dann bricht ein ung&uuml;ltiger lokaler Zeitstempel
+     * den ganzen Aufruf mit einer {@code IllegalArgumentException} ab, und das
+     * Ziel-Array kann dann teilweise beschrieben worden sein. </p>
+     *
+     * <p>Eindeutige lokale Zeitstempel werden ohne Zeitzonenabfrage konvertiert,
+     * solange sie im Intervall zwischen zwei &Uuml;berg&auml;ngen bleiben. Eigene
+     * Strategien, die nicht auf {@code GapResolver} und {@code OverlapResolver}
+     * beruhen, werden f&uuml;r jeden Wert befragt. </p>
+     *
+     * @param   localSeconds    source array of local seconds since [1970-01-01T00:00:00]
+     * @param   srcPos          start index in source array
+     * @param   posixTimes      target array of seconds since [1970-01-01T00:00:00Z]
+     * @param   destPos         start index in target array
+     * @param   length          count of elements to be converted
+     * @throws  IllegalArgumentException if any value is out of the gregorian year range
+     *          or if any local timestamp is invalid and the strategy does not resolve it
+     * @throws  IndexOutOfBoundsException if any index is out of the array bounds
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.10
+     */
+    public final void toPosixTimes(
+        long[] localSeconds,
+        int srcPos,
+        long[] posixTimes,
+        int destPos,
+        int length
+    ) {
+
+        ZonalBatch.toPosixTimes(this, localSeconds, srcPos, posixTimes, destPos, length);
+
+    }
+
     /**
      * <p>Describes all registered {@code ZoneModelProvider}-instances with
      * name and optionally location and version. </p>
@@ -1485,14 +1631,17 @@ public abstract class Timezone
         if (sref != null) {
             tz = sref.get();
             if (tz == null) {
-                CACHE.remove(sref.tzid);
+                CACHE.remove(zoneID, sref);
             }
         }
 
         if (tz != null) {
+            HITS.increment();
             return tz;
         }
 
+        MISSES.increment();
+
         // ZoneModelProvider auflösen
         String providerName = "";
         String zoneKey = zoneID;
@@ -1595,20 +1744,25 @@ public abstract class Timezone
             }
         }
 
+        LOADS.increment();
+
         // bei Bedarf im Cache speichern
         if (cacheActive) {
+            boolean strong = strongReferences;
             NamedReference oldRef =
                 CACHE.putIfAbsent(
                     zoneID,
-                    new NamedReference(tz, QUEUE)
+                    new NamedReference(tz, QUEUE, strong)
                 );
 
             if (oldRef == null) {
-                synchronized (Timezone.class) {
-                    LAST_USED.addFirst(tz);
+                if (!strong) {
+                    synchronized (Timezone.class) {
+                        LAST_USED.addFirst(tz);
 
-                    while (LAST_USED.size() >= softLimit) {
-                        LAST_USED.removeLast();
+                        while (LAST_USED.size() >= softLimit) {
+                            LAST_USED.removeLast();
+                        }
                     }
                 }
             } else {
@@ -1886,7 +2040,7 @@ public abstract class Timezone
             NamedReference ref;
 
             while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
+                CACHE.remove(ref.tzid, ref);
             }
 
             synchronized (Timezone.class) {
@@ -1900,6 +2054,201 @@ public abstract class Timezone
 
         }
 
+        /**
+         * <p>Determines if the internal cache holds the timezones by strong references
+         * instead of soft references. </p>
+         *
+         * <p>By default, timezones are softly referenced and might be reloaded after
+         * having been cleared by the garbage collector under memory pressure. Strong
+         * references avoid such reloads and should be combined with a
+         * {@link #setMaximumCacheSize(int) maximum size}. Changing the mode will clear
+         * the cache. </p>
+         *
+         * @param   strong  {@code true} if timezones shall be strongly referenced else {@code false}
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Legt fest, ob der interne Cache die Zeitzonen statt mit weichen mit starken
+         * Referenzen h&auml;lt. </p>
+         *
+         * <p>Standardm&auml;&szlig;ig werden Zeitzonen weich referenziert und k&ouml;nnen
+         * nach einer Freigabe durch den &quot;Garbage Collector&quot; bei Speichermangel
+         * erneut geladen werden. Starke Referenzen vermeiden solche Ladevorg&auml;nge und
+         * sollten mit einer {@link #setMaximumCacheSize(int) maximalen Gr&ouml;&szlig;e}
+         * kombiniert werden. Ein Wechsel des Modus leert den Cache. </p>
+         *
+         * @param   strong  {@code true} if timezones shall be strongly referenced else {@code false}
+         * @since   5.10
+         */
+        public static void setStrongReferences(boolean strong) {
+
+            if (strongReferences != strong) {
+                strongReferences = strong;
+                CACHE.clear();
+            }
+
+        }
+
+        /**
+         * <p>Limits the count of cached timezones. </p>
+         *
+         * <p>If a new timezone is loaded and the limit is exceeded then the least
+         * recently used timezones will be evicted. The access order is only tracked
+         * while a limit is set and approximately in steps of about one millisecond in
+         * order to keep the lookup path cheap. By default, there is no limit. </p>
+         *
+         * @param   maximumCacheSize    maximum count of cached timezones
+         *                              ({@code Integer.MAX_VALUE} means no limit)
+         * @throws  IllegalArgumentException if the argument is not positive
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Begrenzt die Anzahl der im Cache gehaltenen Zeitzonen. </p>
+         *
+         * <p>Wenn eine neue Zeitzone geladen und die Grenze &uuml;berschritten wird,
+         * werden die am l&auml;ngsten nicht benutzten Zeitzonen entfernt. Die
+         * Zugriffsreihenfolge wird nur bei gesetzter Grenze und ann&auml;hernd in Schritten
+         * von etwa einer Millisekunde verfolgt, damit der Suchpfad billig bleibt.
+         * Standardm&auml;&szlig;ig gibt es keine Grenze. </p>
+         *
+         * @param   maximumCacheSize    maximum count of cached timezones
+         *                              ({@code Integer.MAX_VALUE} means no limit)
+         * @throws  IllegalArgumentException if the argument is not positive
+         * @since   5.10
+         */
+        public static void setMaximumCacheSize(int maximumCacheSize) {
+
+            if (maximumCacheSize < 1) {
+                throw new IllegalArgumentException(
+                    "Maximum timezone cache size must be positive: " + maximumCacheSize);
+            }
+
+            CACHE.setMaximumSize(maximumCacheSize);
+
+        }
+
+        /**
+         * <p>Yields the current count of cached timezones. </p>
+         *
+         * @return  int
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der im Cache gehaltenen Zeitzonen. </p>
+         *
+         * @return  int
+         * @since   5.10
+         */
+        public static int getSize() {
+
+            return CACHE.size();
+
+        }
+
+        /**
+         * <p>Yields the count of timezone lookups which could be served by the cache. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Zeitzonenabfragen, die aus dem Cache bedient werden konnten. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getHitCount() {
+
+            return HITS.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of timezone lookups which could not be served by the cache. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Zeitzonenabfragen, die nicht aus dem Cache bedient
+         * werden konnten. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getMissCount() {
+
+            return MISSES.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of timezones which had to be loaded from a zone model provider. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Zeitzonen, die von einem {@code ZoneModelProvider}
+         * geladen werden mu&szlig;ten. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getLoadCount() {
+
+            return LOADS.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of timezones which were evicted due to the maximum cache size. </p>
+         *
+         * @return  long
+         * @see     #setMaximumCacheSize(int)
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Zeitzonen, die wegen der maximalen Cache-Gr&ouml;&szlig;e
+         * entfernt wurden. </p>
+         *
+         * @return  long
+         * @see     #setMaximumCacheSize(int)
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getEvictionCount() {
+
+            return CACHE.getEvictionCount();
+
+        }
+
+        /**
+         * <p>Sets all cache statistics back to zero. </p>
+         *
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Setzt alle Cache-Statistiken auf null zur&uuml;ck. </p>
+         *
+         * @since   5.10
+         */
+        public static void resetStatistics() {
+
+            HITS.reset();
+            MISSES.reset();
+            LOADS.reset();
+            CACHE.resetEvictionCount();
+
+        }
+
     }
 
     private static class NamedReference
@@ -1908,15 +2257,18 @@ public abstract class Timezone
         //~ Instanzvariablen ----------------------------------------------
 
         private final String tzid;
+        private final Timezone strong; // keeps the zone strongly reachable if not null
 
         //~ Konstruktoren -------------------------------------------------
 
         NamedReference(
             Timezone tz,
-            ReferenceQueue<Timezone> queue
+            ReferenceQueue<Timezone> queue,
+            boolean strong
         ) {
             super(tz, queue);
             this.tzid = tz.getID().canonical();
+            this.strong = (strong ? tz : null);
 
         }
 
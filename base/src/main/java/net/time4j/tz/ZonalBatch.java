@@ -0,0 +1,469 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZonalBatch.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
+
+
+/**
+ * <p>Konvertiert ganze Spalten von UNIX-Sekunden in lokale Sekunden einer
+ * Zeitzone und umgekehrt. </p>
+ *
+ * <p>Alle Zeitzonenabfragen laufen &uuml;ber wiederverwendbare Cursor-Objekte,
+ * so da&szlig; pro Element keine Objekte erzeugt werden. Statt f&uuml;r jeden
+ * Wert bin&auml;r nach dem passenden &Uuml;bergang zu suchen, wird das Intervall
+ * des zuletzt gefundenen Offsets gemerkt und bei sortierten Eingaben zum jeweils
+ * n&auml;chsten &Uuml;bergang weitergewandert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class ZonalBatch {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // modifiziertes julianisches Datum von [1970-01-01]
+    private static final long UNIX_EPOCH_MJD = 40587L;
+
+    // Bereichsgrenzen in (lokalen) Sekunden seit [1970-01-01T00:00:00]
+    private static final long MIN_SECONDS =
+        (GregorianMath.toMJD(GregorianMath.MIN_YEAR, 1, 1) - UNIX_EPOCH_MJD) * 86400L;
+    private static final long MAX_SECONDS =
+        (GregorianMath.toMJD(GregorianMath.MAX_YEAR, 12, 31) - UNIX_EPOCH_MJD) * 86400L + 86399L;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZonalBatch() {
+        // keine Instanzierung
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Konvertiert UNIX-Sekunden zu lokalen Sekunden. </p>
+     *
+     * @param   tz          timezone
+     * @param   posixTimes  source array of seconds since [1970-01-01T00:00:00Z]
+     * @param   srcPos      start index in source array
+     * @param   localSecs   target array of local seconds since [1970-01-01T00:00:00]
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @see     Timezone#toLocalSeconds(long[], int, long[], int, int)
+     */
+    static void toLocalSeconds(
+        Timezone tz,
+        long[] posixTimes,
+        int srcPos,
+        long[] localSecs,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(posixTimes.length, srcPos, localSecs.length, destPos, length);
+
+        if (length == 0) {
+            return;
+        }
+
+        PosixCursor ut = new PosixCursor();
+        TransitionHistory history = tz.getHistory();
+
+        if (tz.isFixed()) {
+            ut.set(checkRange(posixTimes[srcPos], srcPos));
+            int offset = tz.getOffset(ut).getIntegralAmount();
+            for (int i = 0; i < length; i++) {
+                localSecs[destPos + i] = checkRange(posixTimes[srcPos + i], srcPos + i) + offset;
+            }
+            return;
+        } else if (history == null) {
+            for (int i = 0; i < length; i++) {
+                long t = checkRange(posixTimes[srcPos + i], srcPos + i);
+                ut.set(t);
+                localSecs[destPos + i] = t + tz.getOffset(ut).getIntegralAmount();
+            }
+            return;
+        }
+
+        // gültiges Offset-Intervall [windowStart, windowEnd), anfangs leer
+        long windowStart = 1;
+        long windowEnd = 0;
+        int offset = 0;
+        ZonalTransition next = null;
+
+        for (int i = 0; i < length; i++) {
+            long t = checkRange(posixTimes[srcPos + i], srcPos + i);
+
+            if ((t < windowStart) || (t >= windowEnd)) {
+                ZonalTransition start = null;
+
+                if ((next != null) && (t >= windowEnd)) {
+                    // sortierte Eingabe: zum nächsten Übergang weiterwandern
+                    start = next;
+                    next = findNext(history, ut, start.getPosixTime());
+                    if ((next != null) && (t >= next.getPosixTime())) {
+                        start = null; // mehr als einen Übergang übersprungen
+                    }
+                }
+
+                if (start == null) {
+                    ut.set(t);
+                    start = history.getStartTransition(ut);
+                    next = findNext(history, ut, (start == null) ? t : start.getPosixTime());
+                }
+
+                if (start == null) {
+                    windowStart = Long.MIN_VALUE;
+                    offset = history.getInitialOffset().getIntegralAmount();
+                } else {
+                    windowStart = start.getPosixTime();
+                    offset = start.getTotalOffset();
+                }
+
+                windowEnd = ((next == null) ? Long.MAX_VALUE : next.getPosixTime());
+            }
+
+            localSecs[destPos + i] = t + offset;
+        }
+
+    }
+
+    /**
+     * <p>Konvertiert lokale Sekunden zu UNIX-Sekunden unter Beachtung der
+     * &Uuml;bergangsstrategie der Zeitzone. </p>
+     *
+     * @param   tz          timezone
+     * @param   localSecs   source array of local seconds since [1970-01-01T00:00:00]
+     * @param   srcPos      start index in source array
+     * @param   posixTimes  target array of seconds since [1970-01-01T00:00:00Z]
+     * @param   destPos     start index in target array
+     * @param   length      count of elements to be converted
+     * @see     Timezone#toPosixTimes(long[], int, long[], int, int)
+     */
+    static void toPosixTimes(
+        Timezone tz,
+        long[] localSecs,
+        int srcPos,
+        long[] posixTimes,
+        int destPos,
+        int length
+    ) {
+
+        checkBounds(localSecs.length, srcPos, posixTimes.length, destPos, length);
+
+        if (length == 0) {
+            return;
+        }
+
+        DateCursor date = new DateCursor();
+        TimeCursor time = new TimeCursor();
+        TransitionStrategy strategy = tz.getStrategy();
+        TransitionHistory history = tz.getHistory();
+
+        if ((history == null) || !(strategy instanceof TransitionResolver)) {
+            // unbekannte Strategien können auch eindeutige lokale Zeiten beliebig auflösen
+            for (int i = 0; i < length; i++) {
+                long local = checkRange(localSecs[srcPos + i], srcPos + i);
+                set(local, date, time);
+                posixTimes[destPos + i] = strategy.resolve(date, time, tz);
+            }
+            return;
+        } else if (tz.isFixed()) {
+            set(checkRange(localSecs[srcPos], srcPos), date, time);
+            int offset = tz.getOffset(date, time).getIntegralAmount();
+            for (int i = 0; i < length; i++) {
+                posixTimes[destPos + i] = checkRange(localSecs[srcPos + i], srcPos + i) - offset;
+            }
+            return;
+        }
+
+        PosixCursor ut = new PosixCursor();
+
+        // eindeutiges lokales Intervall [low, high) ohne Lücken und Überlappungen, anfangs leer
+        long low = 1;
+        long high = 0;
+        int offset = 0;
+        ZonalTransition next = null;
+
+        for (int i = 0; i < length; i++) {
+            long local = checkRange(localSecs[srcPos + i], srcPos + i);
+
+            if ((local < low) || (local >= high)) {
+                ZonalTransition start = null;
+
+                if ((next != null) && (local >= lowerLimit(next))) {
+                    // sortierte Eingabe: zum nächsten Übergang weiterwandern
+                    start = next;
+                    next = findNext(history, ut, start.getPosixTime());
+                    if ((next != null) && (local >= upperLimit(next))) {
+                        start = null; // mehr als einen Übergang übersprungen
+                    }
+                }
+
+                if (start == null) {
+                    set(local, date, time);
+                    ZonalTransition conflict = history.getConflictTransition(date, time);
+
+                    if (conflict != null) {
+                        // Lücken und Überlappungen sind selten, hier entscheiden GapResolver und OverlapResolver
+                        posixTimes[destPos + i] = strategy.resolve(date, time, tz);
+                        continue;
+                    }
+
+                    long t = local - history.getValidOffsets(date, time).get(0).getIntegralAmount();
+                    ut.set(t);
+                    start = history.getStartTransition(ut);
+                    next = findNext(history, ut, t);
+                }
+
+                if (start == null) {
+                    low = Long.MIN_VALUE;
+                    offset = history.getInitialOffset().getIntegralAmount();
+                } else {
+                    low = lowerLimit(start);
+                    offset = start.getTotalOffset();
+                }
+
+                high = ((next == null) ? Long.MAX_VALUE : upperLimit(next));
+            }
+
+            posixTimes[destPos + i] = local - offset;
+        }
+
+    }
+
+    // erste eindeutige lokale Zeit nach dem Übergang
+    private static long lowerLimit(ZonalTransition transition) {
+
+        return transition.getPosixTime() + Math.max(transition.getPreviousOffset(), transition.getTotalOffset());
+
+    }
+
+    // erste nicht mehr eindeutige lokale Zeit vor dem Übergang
+    private static long upperLimit(ZonalTransition transition) {
+
+        return transition.getPosixTime() + Math.min(transition.getPreviousOffset(), transition.getTotalOffset());
+
+    }
+
+    private static ZonalTransition findNext(
+        TransitionHistory history,
+        PosixCursor ut,
+        long posix
+    ) {
+
+        ut.set(posix);
+        return history.findNextTransition(ut).orElse(null);
+
+    }
+
+    private static void set(
+        long localSeconds,
+        DateCursor date,
+        TimeCursor time
+    ) {
+
+        long packed = GregorianMath.toPackedDate(Math.floorDiv(localSeconds, 86400) + UNIX_EPOCH_MJD);
+        int secondOfDay = (int) Math.floorMod(localSeconds, 86400);
+
+        date.year = GregorianMath.readYear(packed);
+        date.month = GregorianMath.readMonth(packed);
+        date.dayOfMonth = GregorianMath.readDayOfMonth(packed);
+        time.hour = secondOfDay / 3600;
+        time.minute = (secondOfDay / 60) % 60;
+        time.second = secondOfDay % 60;
+
+    }
+
+    private static long checkRange(
+        long seconds,
+        int index
+    ) {
+
+        if ((seconds < MIN_SECONDS) || (seconds > MAX_SECONDS)) {
+            throw new IllegalArgumentException("Seconds out of range at index " + index + ": " + seconds);
+        }
+
+        return seconds;
+
+    }
+
+    private static void checkBounds(
+        int srcLength,
+        int srcPos,
+        int destLength,
+        int destPos,
+        int length
+    ) {
+
+        if ((length < 0) || (srcPos < 0) || (destPos < 0) || (srcPos > srcLength - length)
+            || (destPos > destLength - length)) {
+            throw new IndexOutOfBoundsException(
+                "Source: [" + srcPos + "," + length + "/" + srcLength + "], target: ["
+                + destPos + "," + length + "/" + destLength + "]");
+        }
+
+    }
+
+    private static void append2Digits(
+        StringBuilder sb,
+        int value
+    ) {
+
+        if (value < 10) {
+            sb.append('0');
+        }
+
+        sb.append(value);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class PosixCursor
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long posix;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+            return this.posix;
+        }
+
+        @Override
+        public int getNanosecond() {
+            return 0;
+        }
+
+        void set(long posix) {
+            this.posix = posix;
+        }
+
+    }
+
+    private static final class DateCursor
+        implements GregorianDate {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private int year;
+        private int month;
+        private int dayOfMonth;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getYear() {
+            return this.year;
+        }
+
+        @Override
+        public int getMonth() {
+            return this.month;
+        }
+
+        @Override
+        public int getDayOfMonth() {
+            return this.dayOfMonth;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(16);
+            int y = this.year;
+            if (y < 0) {
+                sb.append('-');
+                y = -y;
+            } else if (y > 9999) {
+                sb.append('+');
+            }
+            if (y < 1000) {
+                sb.append('0');
+                if (y < 100) {
+                    sb.append('0');
+                    if (y < 10) {
+                        sb.append('0');
+                    }
+                }
+            }
+            sb.append(y);
+            sb.append('-');
+            append2Digits(sb, this.month);
+            sb.append('-');
+            append2Digits(sb, this.dayOfMonth);
+            return sb.toString();
+        }
+
+    }
+
+    private static final class TimeCursor
+        implements WallTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private int hour;
+        private int minute;
+        private int second;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getHour() {
+            return this.hour;
+        }
+
+        @Override
+        public int getMinute() {
+            return this.minute;
+        }
+
+        @Override
+        public int getSecond() {
+            return this.second;
+        }
+
+        @Override
+        public int getNanosecond() {
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(9);
+            sb.append('T');
+            append2Digits(sb, this.hour);
+            sb.append(':');
+            append2Digits(sb, this.minute);
+            sb.append(':');
+            append2Digits(sb, this.second);
+            return sb.toString();
+        }
+
+    }
+
+}
@@ -23,8 +23,10 @@ package net.time4j.tz.model;
 
 import net.time4j.Moment;
 import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
+import net.time4j.engine.EpochDays;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
@@ -54,6 +56,44 @@ final class ArrayTransitionModel
 
     private static final long serialVersionUID = -5264909488983076587L;
 
+    // lookup index: buckets of 2^24 seconds (about 194 days) over a hot window of years
+    private static final int INDEX_SHIFT = 24;
+    private static final int INDEX_MIN_TRANSITIONS = 8;
+    private static final int INDEX_MAX_BUCKETS = 4096;
+    private static final int[] NO_INDEX = new int[0];
+    private static final long INDEX_START;
+    private static final long INDEX_END;
+
+    static {
+        String window = System.getProperty("net.time4j.tz.index.window", "1970-2100");
+        long start = 0L;
+        long end = 0L;
+
+        if (!window.equals("none")) {
+            int pos = window.indexOf('-');
+            int y1 = -1;
+            int y2 = -1;
+            if (pos > 0) {
+                try {
+                    y1 = Integer.parseInt(window.substring(0, pos).trim());
+                    y2 = Integer.parseInt(window.substring(pos + 1).trim());
+                } catch (NumberFormatException nfe) {
+                    // see range check
+                }
+            }
+            if ((y1 > y2) || (y1 < 1900) || (y2 > 9999)) {
+                System.err.println("Warning: Invalid timezone index window \"" + window + "\", using 1970-2100.");
+                y1 = 1970;
+                y2 = 2100;
+            }
+            start = toPosixTime(y1);
+            end = Math.min(toPosixTime(y2 + 1), start + ((long) INDEX_MAX_BUCKETS << INDEX_SHIFT));
+        }
+
+        INDEX_START = start;
+        INDEX_END = end;
+    }
+
     //~ Instanzvariablen --------------------------------------------------
 
     private transient final ZonalTransition[] transitions;
@@ -62,6 +102,7 @@ final class ArrayTransitionModel
     // Cache
     private transient final List<ZonalTransition> stdTransitions;
     private transient int hash = 0;
+    private transient volatile int[] index = null;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -122,7 +163,7 @@ final class ArrayTransitionModel
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = this.search(ut.getPosixTime());
 
         return (
             (index == 0)
@@ -144,7 +185,7 @@ final class ArrayTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = this.search(ut.getPosixTime());
 
         return (
             (index == this.transitions.length)
@@ -470,6 +511,69 @@ final class ArrayTransitionModel
 
     }
 
+    // returns index of first transition after posixTime, preferably via the lookup index
+    private int search(long posixTime) {
+
+        if ((posixTime >= INDEX_START) && (posixTime < INDEX_END)) {
+            int[] buckets = this.index;
+
+            if (buckets == null) {
+                buckets = createIndex(this.transitions);
+                this.index = buckets;
+            }
+
+            if (buckets.length > 0) {
+                int bucket = (int) ((posixTime - INDEX_START) >> INDEX_SHIFT);
+                int i = buckets[bucket];
+                int n = buckets[bucket + 1];
+
+                while ((i < n) && (this.transitions[i].getPosixTime() <= posixTime)) {
+                    i++;
+                }
+
+                return i;
+            }
+        }
+
+        return search(posixTime, this.transitions);
+
+    }
+
+    /**
+     * <p>Erzeugt einen Suchindex, der f&uuml;r jeden Zeitabschnitt innerhalb des Indexfensters
+     * die Position des ersten &Uuml;bergangs ab Beginn des Abschnitts enth&auml;lt. </p>
+     *
+     * <p>Ein Zeitpunkt im Abschnitt {@code b} hat dann seinen n&auml;chsten &Uuml;bergang
+     * zwischen {@code index[b]} und {@code index[b + 1]} (inklusive), so da&szlig; die
+     * Suche auf wenige Elemente beschr&auml;nkt bleibt. </p>
+     *
+     * @param   transitions     sorted array of transitions
+     * @return  array of transition positions per bucket, empty if not worth to be indexed
+     */
+    private static int[] createIndex(ZonalTransition[] transitions) {
+
+        if (transitions.length < INDEX_MIN_TRANSITIONS) {
+            return NO_INDEX;
+        }
+
+        int count = (int) (((INDEX_END - INDEX_START - 1) >> INDEX_SHIFT) + 1);
+        int[] buckets = new int[count + 1];
+
+        for (int b = 0; b <= count; b++) {
+            buckets[b] = search(INDEX_START + ((long) b << INDEX_SHIFT) - 1, transitions);
+        }
+
+        return buckets;
+
+    }
+
+    private static long toPosixTime(int year) {
+
+        long mjd = GregorianMath.toMJD(year, 1, 1);
+        return EpochDays.UNIX.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE) * 86400L;
+
+    }
+
     // returns index of first transition after posixTime
     private static int search(
         long posixTime,
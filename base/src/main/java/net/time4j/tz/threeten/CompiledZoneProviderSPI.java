@@ -0,0 +1,332 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledZoneProviderSPI.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.threeten;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * <p>SPI-implementation which reads a precompiled binary zone repository generated by
+ * {@link ZoneRepositoryCompiler}. </p>
+ *
+ * <p>The repository file is memory-mapped and only its index is read at startup. The
+ * transition history of a single zone is deserialized lazily from its own slice of the
+ * file on first access, so there is neither any conversion of {@code ZoneRules} nor any
+ * loading of unused zones. The path of the repository is given by the system property
+ * &quot;net.time4j.tz.compiled.path&quot;. If the property is missing or the file is not
+ * readable then this provider has an empty version and is ignored by {@code Timezone}.
+ * Otherwise it replaces {@link JdkZoneProviderSPI} if its version is at least as new. </p>
+ *
+ * <p>Layout of the file: </p>
+ *
+ * <pre>
+ *  int         magic number (0x545A4331)
+ *  short+utf8  tzdb version
+ *  int         count of zones
+ *  [per zone, sorted by id: short+utf8 id, int offset, int length]
+ *  int         count of aliases
+ *  [per alias: short+utf8 alias, short+utf8 target]
+ *  [serialized transition histories (serialization proxy of net.time4j.tz.model)]
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public class CompiledZoneProviderSPI
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Magic number at the start of any compiled zone repository.
+     */
+    static final int MAGIC = 0x545A4331; // TZC1
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String location;
+    private final String version;
+    private final ByteBuffer data;
+    private final String[] ids;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final Set<String> available;
+    private final Map<String, String> aliases;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    public CompiledZoneProviderSPI() {
+        this(getConfiguredPath());
+
+    }
+
+    /**
+     * <p>Reads the index of given repository file. </p>
+     *
+     * <p>A missing, unreadable or broken repository only yields a warning and an empty provider. </p>
+     *
+     * @param   path    path to compiled repository (optional)
+     */
+    CompiledZoneProviderSPI(Path path) {
+        super();
+
+        ByteBuffer buffer = null;
+
+        if ((path != null) && Files.isReadable(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException ioe) {
+                System.err.println("Warning: Compiled zone repository not readable: " + path);
+            }
+        }
+
+        String ver = "";
+        String[] idArray = new String[0];
+        int[] offsetArray = new int[0];
+        int[] lengthArray = new int[0];
+        Map<String, String> map = Collections.emptyMap();
+
+        if (buffer != null) {
+            try {
+                if (buffer.getInt() != MAGIC) {
+                    throw new IllegalStateException("bad magic number");
+                }
+
+                ver = readUTF(buffer);
+                int n = readCount(buffer);
+                idArray = new String[n];
+                offsetArray = new int[n];
+                lengthArray = new int[n];
+
+                for (int i = 0; i < n; i++) {
+                    idArray[i] = readUTF(buffer);
+                    offsetArray[i] = buffer.getInt();
+                    lengthArray[i] = buffer.getInt();
+                }
+
+                int a = readCount(buffer);
+                map = new HashMap<>(a * 2);
+
+                for (int i = 0; i < a; i++) {
+                    String alias = readUTF(buffer);
+                    map.put(alias, readUTF(buffer));
+                }
+            } catch (BufferUnderflowException | IllegalStateException ex) {
+                String reason = ((ex instanceof BufferUnderflowException) ? "truncated" : ex.getMessage());
+                System.err.println("Warning: Compiled zone repository not usable: " + path + " (" + reason + ")");
+                buffer = null;
+            }
+        }
+
+        if (buffer == null) {
+            this.location = "";
+            this.version = "";
+            this.data = null;
+            this.ids = new String[0];
+            this.offsets = new int[0];
+            this.lengths = new int[0];
+            this.available = Collections.emptySet();
+            this.aliases = Collections.emptyMap();
+        } else {
+            this.location = path.toString();
+            this.version = ver;
+            this.data = buffer;
+            this.ids = idArray;
+            this.offsets = offsetArray;
+            this.lengths = lengthArray;
+            this.available = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(idArray)));
+            this.aliases = Collections.unmodifiableMap(map);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        return this.available;
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        return this.aliases;
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return "";
+
+    }
+
+    @Override
+    public String getName() {
+
+        return "TZDB";
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return this.location;
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        return this.version;
+
+    }
+
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        int index = Arrays.binarySearch(this.ids, zoneID);
+
+        if (index < 0) {
+            return null;
+        }
+
+        ByteBuffer slice = this.data.duplicate(); // thread-safe view without copying the content
+        slice.position(this.offsets[index]);
+        slice.limit(this.offsets[index] + this.lengths[index]);
+
+        try (ObjectInputStream ois = new ObjectInputStream(new BufferInputStream(slice))) {
+            return (TransitionHistory) ois.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException ex) {
+            throw new IllegalStateException("Compiled zone repository is broken for: " + zoneID, ex);
+        }
+
+    }
+
+    private static Path getConfiguredPath() {
+
+        String path = System.getProperty("net.time4j.tz.compiled.path");
+        return ((path == null) || path.isEmpty() ? null : Paths.get(path));
+
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+
+        int count = buffer.getInt();
+
+        if ((count < 0) || (count > buffer.remaining())) {
+            throw new IllegalStateException("invalid count of entries: " + count);
+        }
+
+        return count;
+
+    }
+
+    private static String readUTF(ByteBuffer buffer) {
+
+        int len = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[len];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class BufferInputStream
+        extends InputStream {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ByteBuffer buffer;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BufferInputStream(ByteBuffer buffer) {
+            super();
+
+            this.buffer = buffer;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int read() {
+
+            return (this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1);
+
+        }
+
+        @Override
+        public int read(
+            byte[] b,
+            int off,
+            int len
+        ) {
+
+            if (len == 0) {
+                return 0;
+            }
+
+            int n = Math.min(len, this.buffer.remaining());
+
+            if (n == 0) {
+                return -1;
+            }
+
+            this.buffer.get(b, off, n);
+            return n;
+
+        }
+
+        @Override
+        public int available() {
+
+            return this.buffer.remaining();
+
+        }
+
+    }
+
+}
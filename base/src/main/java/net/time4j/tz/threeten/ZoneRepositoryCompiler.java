@@ -0,0 +1,188 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneRepositoryCompiler.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.threeten;
+
+import net.time4j.tz.TransitionHistory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.time.zone.ZoneRulesProvider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * <p>Build-time tool which converts the tzdb-repository of the JDK into a compiled zone
+ * repository for {@link CompiledZoneProviderSPI}. </p>
+ *
+ * <p>Usage: {@code java -cp time4j-base.jar net.time4j.tz.threeten.ZoneRepositoryCompiler
+ * {target-file}}. Afterwards the system property &quot;net.time4j.tz.compiled.path&quot;
+ * should point to the generated file. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class ZoneRepositoryCompiler {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZoneRepositoryCompiler() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compiles all zones of the JDK into given target file. </p>
+     *
+     * @param   args    target file as single argument
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 1) {
+            System.err.println("Usage: ZoneRepositoryCompiler {target-file}");
+            System.exit(1);
+        }
+
+        Path target = Paths.get(args[0]);
+        int count = compile(target);
+        System.out.println("Compiled " + count + " zones into: " + target.toAbsolutePath());
+
+    }
+
+    /**
+     * <p>Compiles all zones of the JDK into given target file. </p>
+     *
+     * @param   target  path of repository file to be written
+     * @return  count of compiled zones
+     * @throws  IOException in case of any I/O-error
+     */
+    static int compile(Path target) throws IOException {
+
+        List<String> ids = new ArrayList<>(ZoneRulesProvider.getAvailableZoneIds());
+        Collections.sort(ids); // required by binary search in CompiledZoneProviderSPI
+        String version = ZoneRulesProvider.getVersions("America/New_York").lastEntry().getKey();
+        return compile(target, version, ids, Collections.emptyMap());
+
+    }
+
+    /**
+     * <p>Compiles given zones into given target file. </p>
+     *
+     * @param   target      path of repository file to be written
+     * @param   version     tzdb version
+     * @param   ids         sorted list of zone identifiers
+     * @param   aliases     map of alternative zone identifiers
+     * @return  count of compiled zones
+     * @throws  IOException in case of any I/O-error
+     */
+    static int compile(
+        Path target,
+        String version,
+        List<String> ids,
+        Map<String, String> aliases
+    ) throws IOException {
+
+        int n = ids.size();
+        byte[][] models = new byte[n][];
+
+        for (int i = 0; i < n; i++) {
+            TransitionHistory history = JdkZoneProviderSPI.load(ZoneId.of(ids.get(i)));
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(512);
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                oos.writeObject(history);
+            }
+            models[i] = baos.toByteArray();
+        }
+
+        // first pass determines the size of the index, second pass writes absolute offsets
+        byte[] index = writeIndex(version, ids, models, aliases, 0);
+        index = writeIndex(version, ids, models, aliases, index.length);
+
+        try (OutputStream os = Files.newOutputStream(target)) {
+            os.write(index);
+            for (byte[] model : models) {
+                os.write(model);
+            }
+        }
+
+        return n;
+
+    }
+
+    private static byte[] writeIndex(
+        String version,
+        List<String> ids,
+        byte[][] models,
+        Map<String, String> aliases,
+        int start
+    ) throws IOException {
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(baos);
+        dos.writeInt(CompiledZoneProviderSPI.MAGIC);
+        writeUTF(dos, version);
+        dos.writeInt(ids.size());
+        int offset = start;
+
+        for (int i = 0; i < models.length; i++) {
+            writeUTF(dos, ids.get(i));
+            dos.writeInt(offset);
+            dos.writeInt(models[i].length);
+            offset += models[i].length;
+        }
+
+        dos.writeInt(aliases.size());
+
+        for (Map.Entry<String, String> entry : aliases.entrySet()) {
+            writeUTF(dos, entry.getKey());
+            writeUTF(dos, entry.getValue());
+        }
+
+        dos.flush();
+        return baos.toByteArray();
+
+    }
+
+    private static void writeUTF(
+        DataOutputStream dos,
+        String text
+    ) throws IOException {
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        dos.writeShort(bytes.length);
+        dos.write(bytes);
+
+    }
+
+}
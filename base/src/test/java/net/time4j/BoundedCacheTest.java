@@ -0,0 +1,78 @@
+package net.time4j;
+
+import net.time4j.format.internal.BoundedCache;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BoundedCacheTest {
+
+    @Test
+    public void putIfAbsent() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        assertThat(cache.putIfAbsent("a", 1), nullValue());
+        assertThat(cache.putIfAbsent("a", 2), is(1));
+        assertThat(cache.get("a"), is(1));
+        assertThat(cache.get("b"), nullValue());
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() throws InterruptedException {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        cache.putIfAbsent("a", 1);
+        Thread.sleep(5);
+        cache.putIfAbsent("b", 2);
+        Thread.sleep(5);
+        assertThat(cache.get("a"), is(1)); // now more recently used than b
+        Thread.sleep(5);
+        cache.putIfAbsent("c", 3);
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get("b"), nullValue());
+        assertThat(cache.get("a"), is(1));
+        assertThat(cache.get("c"), is(3));
+        assertThat(cache.getEvictionCount(), is(1L));
+        cache.resetEvictionCount();
+        assertThat(cache.getEvictionCount(), is(0L));
+    }
+
+    @Test
+    public void shrinkMaximumSize() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(Integer.MAX_VALUE);
+        cache.putIfAbsent("a", 1);
+        cache.putIfAbsent("b", 2);
+        cache.putIfAbsent("c", 3);
+        cache.setMaximumSize(1);
+        assertThat(cache.getMaximumSize(), is(1));
+        assertThat(cache.size(), is(1));
+        assertThat(cache.getEvictionCount(), is(2L));
+        cache.setMaximumSize(0);
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void removeIfMapped() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        cache.putIfAbsent("a", 1);
+        assertThat(cache.remove("a", 2), is(false));
+        assertThat(cache.remove("b", 1), is(false));
+        assertThat(cache.remove("a", 1), is(true));
+        assertThat(cache.size(), is(0));
+        cache.putIfAbsent("a", 1);
+        cache.clear();
+        assertThat(cache.get("a"), nullValue());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeSize() {
+        new BoundedCache<String, Integer>(-1);
+    }
+
+}
@@ -1,6 +1,7 @@
 package net.time4j;
 
 import net.time4j.format.NumberSuite;
+import net.time4j.format.TextAccessorTest;
 import net.time4j.scale.ScaleSuite;
 import net.time4j.tz.ZoneSuite;
 
@@ -15,13 +16,18 @@ import org.junit.runners.Suite.SuiteClasses;
         TestInitialization.class,
         AnnualDateTest.class,
         AxisElementTest.class,
+        BoundedCacheTest.class,
         CompareZonalDateTimeTest.class,
         ComponentElementTest.class,
+        DerivedRuleTest.class,
+        PrimitiveElementTest.class,
         DateSuite.class,
         DurationSuite.class,
+        InternedInstanceTest.class,
         MachineTimeTest.class,
         MinMaxTest.class,
         NumberSuite.class,
+        TextAccessorTest.class,
         OperatorSuite.class,
         ScaleSuite.class,
         SerializationTest.class,
@@ -14,6 +14,7 @@ import org.junit.runners.Suite.SuiteClasses;
         DatePropertiesTest.class,
         DayArithmeticTest.class,
         EpochDaysTest.class,
+        GregorianBatchTest.class,
         GregorianTransformationTest.class,
         LeapYearOrdinalDateTest.class,
         LeapYearRangeArithmeticTest.class,
@@ -0,0 +1,229 @@
+package net.time4j;
+
+import net.time4j.engine.BasicElement;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.Chronology;
+import net.time4j.engine.ElementRule;
+import net.time4j.engine.IntElementRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class DerivedRuleTest {
+
+    @Test
+    public void ruleIsDerivedOnlyOnce() {
+        CountingElement element = new CountingElement("COUNTING-ONCE");
+        PlainDate date = PlainDate.of(2017, 5, 31);
+        assertThat(date.get(element), is(31));
+        assertThat(date.getInt(element), is(31));
+        assertThat(date.with(element, 1), is(PlainDate.of(2017, 5, 1)));
+        assertThat(date.with(element, Integer.valueOf(2)), is(PlainDate.of(2017, 5, 2)));
+        assertThat(date.isValid(element, 32), is(false));
+        assertThat(date.contains(element), is(true));
+        assertThat(element.derived.get(), is(1));
+        assertThat(element.intCalls.get(), is(1));
+    }
+
+    @Test
+    public void equalElementOfOtherInstanceIsNotConfused() {
+        CountingElement e1 = new CountingElement("COUNTING-EQUAL");
+        CountingElement e2 = new CountingElement("COUNTING-EQUAL");
+        PlainDate date = PlainDate.of(2017, 5, 31);
+        assertThat(e1.equals(e2), is(true));
+        assertThat(date.getInt(e1), is(31));
+        assertThat(date.getInt(e2), is(31));
+        assertThat(date.getInt(e2), is(31));
+        assertThat(e1.derived.get(), is(1));
+        assertThat(e2.derived.get(), is(2)); // no reuse of the rule derived by e1
+        assertThat(e2.intCalls.get(), is(0));
+    }
+
+    @Test
+    public void vetoIsStillReported() {
+        CountingElement element = new CountingElement("COUNTING-TIME");
+        PlainTime time = PlainTime.midnightAtStartOfDay();
+        assertThat(time.contains(element), is(false));
+        try {
+            time.get(element);
+            throw new AssertionError("Expected failure.");
+        } catch (ChronoException ex) {
+            // ok
+        }
+        assertThat(element.derived.get(), is(0));
+    }
+
+    @Test
+    public void weekElementsWithPrimitives() {
+        Weekmodel[] models = {Weekmodel.ISO, Weekmodel.of(Locale.US), Weekmodel.of(Weekday.SATURDAY, 1)};
+        PlainDate start = PlainDate.of(2015, 12, 20);
+
+        for (Weekmodel model : models) {
+            ChronoElement<Integer>[] elements = createWeekElements(model);
+            for (int i = 0; i < 400; i += 3) {
+                PlainDate date = start.plus(i, CalendarUnit.DAYS);
+                PlainTimestamp tsp = date.atTime(17, 45);
+                for (ChronoElement<Integer> element : elements) {
+                    int value = date.get(element).intValue();
+                    assertThat(date.getInt(element), is(value));
+                    assertThat(tsp.getInt(element), is(value));
+                    for (int v = 0; v <= 54; v += 9) {
+                        boolean valid = date.isValid(element, Integer.valueOf(v));
+                        assertThat(date.isValid(element, v), is(valid));
+                        if (valid) {
+                            assertThat(date.with(element, v), is(date.with(element, Integer.valueOf(v))));
+                            assertThat(tsp.with(element, v), is(tsp.with(element, Integer.valueOf(v))));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChronoElement<Integer>[] createWeekElements(Weekmodel model) {
+        return new ChronoElement[] {
+            model.weekOfYear(), model.weekOfMonth(), model.boundedWeekOfYear(), model.boundedWeekOfMonth()};
+    }
+
+    private static class CountingElement
+        extends BasicElement<Integer> {
+
+        private final AtomicInteger derived = new AtomicInteger();
+        private final AtomicInteger intCalls = new AtomicInteger();
+
+        CountingElement(String name) {
+            super(name);
+        }
+
+        @Override
+        public Class<Integer> getType() {
+            return Integer.class;
+        }
+
+        @Override
+        public Integer getDefaultMinimum() {
+            return Integer.valueOf(1);
+        }
+
+        @Override
+        public Integer getDefaultMaximum() {
+            return Integer.valueOf(31);
+        }
+
+        @Override
+        public boolean isDateElement() {
+            return true;
+        }
+
+        @Override
+        public boolean isTimeElement() {
+            return false;
+        }
+
+        @Override
+        protected <T extends ChronoEntity<T>> ElementRule<T, Integer> derive(Chronology<T> chronology) {
+            if (chronology.isRegistered(PlainDate.DAY_OF_MONTH)) {
+                this.derived.incrementAndGet();
+                return new DomRule<>(this);
+            }
+            return null;
+        }
+
+        @Override
+        protected String getVeto(Chronology<?> chronology) {
+            if (chronology.isRegistered(PlainDate.DAY_OF_MONTH)) {
+                return null;
+            }
+            return "Requires a calendar date.";
+        }
+
+    }
+
+    private static class DomRule<T extends ChronoEntity<T>>
+        implements IntElementRule<T> {
+
+        private final CountingElement owner;
+
+        DomRule(CountingElement owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public int getInt(T context) {
+            this.owner.intCalls.incrementAndGet();
+            return context.getInt(PlainDate.DAY_OF_MONTH);
+        }
+
+        @Override
+        public boolean isValid(
+            T context,
+            int value
+        ) {
+            return context.isValid(PlainDate.DAY_OF_MONTH, value);
+        }
+
+        @Override
+        public T withValue(
+            T context,
+            int value,
+            boolean lenient
+        ) {
+            return context.with(PlainDate.DAY_OF_MONTH, value);
+        }
+
+        @Override
+        public Integer getValue(T context) {
+            return context.get(PlainDate.DAY_OF_MONTH);
+        }
+
+        @Override
+        public Integer getMinimum(T context) {
+            return context.getMinimum(PlainDate.DAY_OF_MONTH);
+        }
+
+        @Override
+        public Integer getMaximum(T context) {
+            return context.getMaximum(PlainDate.DAY_OF_MONTH);
+        }
+
+        @Override
+        public boolean isValid(
+            T context,
+            Integer value
+        ) {
+            return context.isValid(PlainDate.DAY_OF_MONTH, value);
+        }
+
+        @Override
+        public T withValue(
+            T context,
+            Integer value,
+            boolean lenient
+        ) {
+            return context.with(PlainDate.DAY_OF_MONTH, value);
+        }
+
+        @Override
+        public ChronoElement<?> getChildAtFloor(T context) {
+            return null;
+        }
+
+        @Override
+        public ChronoElement<?> getChildAtCeiling(T context) {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package net.time4j;
+
+import net.time4j.base.GregorianBatch;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class GregorianBatchTest {
+
+    private static final int COUNT = 3 * 146097;
+
+    @Test
+    public void extractFieldsLikePlainDate() {
+        long[] days = new long[COUNT + 2];
+        for (int i = 0; i < COUNT; i++) {
+            days[i] = -146097L - 50000 + i;
+        }
+        days[COUNT] = PlainDate.of(GregorianMath.MIN_YEAR, 1, 4).get(EpochDays.UNIX);
+        days[COUNT + 1] = PlainDate.of(GregorianMath.MAX_YEAR, 12, 28).get(EpochDays.UNIX);
+        int n = days.length;
+
+        int[] years = new int[n];
+        int[] months = new int[n];
+        int[] doms = new int[n];
+        int[] quarters = new int[n];
+        int[] doys = new int[n];
+        int[] dows = new int[n];
+        int[] weeks = new int[n];
+        int[] wbys = new int[n];
+        GregorianBatch.extractYears(days, 0, years, 0, n);
+        GregorianBatch.extractMonths(days, 0, months, 0, n);
+        GregorianBatch.extractDaysOfMonth(days, 0, doms, 0, n);
+        GregorianBatch.extractQuarters(days, 0, quarters, 0, n);
+        GregorianBatch.extractDaysOfYear(days, 0, doys, 0, n);
+        GregorianBatch.extractDaysOfWeek(days, 0, dows, 0, n);
+        GregorianBatch.extractIsoWeeks(days, 0, weeks, 0, n);
+        GregorianBatch.extractWeekBasedYears(days, 0, wbys, 0, n);
+
+        for (int i = 0; i < n; i++) {
+            PlainDate date = PlainDate.of(days[i], EpochDays.UNIX);
+            assertThat(years[i], is(date.getYear()));
+            assertThat(months[i], is(date.getMonth()));
+            assertThat(doms[i], is(date.getDayOfMonth()));
+            assertThat(quarters[i], is(date.get(PlainDate.QUARTER_OF_YEAR).getValue()));
+            assertThat(doys[i], is(date.getDayOfYear()));
+            assertThat(dows[i], is(date.getDayOfWeek().getValue()));
+            assertThat(weeks[i], is(date.get(Weekmodel.ISO.weekOfYear())));
+            assertThat(wbys[i], is(date.getInt(PlainDate.YEAR_OF_WEEKDATE)));
+        }
+    }
+
+    @Test
+    public void roundTripOfPackedDates() {
+        long[] days = new long[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            days[i] = -200000L + i;
+        }
+        int[] packed = new int[COUNT];
+        long[] back = new long[COUNT];
+        GregorianBatch.toPackedDates(days, 0, packed, 0, COUNT);
+        GregorianBatch.fromPackedDates(packed, 0, back, 0, COUNT);
+
+        for (int i = 0; i < COUNT; i++) {
+            PlainDate date = PlainDate.of(days[i], EpochDays.UNIX);
+            assertThat(GregorianBatch.readYear(packed[i]), is(date.getYear()));
+            assertThat(GregorianBatch.readMonth(packed[i]), is(date.getMonth()));
+            assertThat(GregorianBatch.readDayOfMonth(packed[i]), is(date.getDayOfMonth()));
+            assertThat(back[i], is(days[i]));
+            if (i > 0) {
+                assertThat(packed[i] > packed[i - 1], is(true));
+            }
+        }
+    }
+
+    @Test
+    public void packedYearRange() {
+        int min = GregorianBatch.packDate(GregorianBatch.MIN_PACKED_YEAR, 1, 1);
+        int max = GregorianBatch.packDate(GregorianBatch.MAX_PACKED_YEAR, 12, 31);
+        assertThat(GregorianBatch.readYear(min), is(GregorianBatch.MIN_PACKED_YEAR));
+        assertThat(GregorianBatch.readYear(max), is(GregorianBatch.MAX_PACKED_YEAR));
+        long[] days = new long[2];
+        GregorianBatch.fromPackedDates(new int[] {min, max}, 0, days, 0, 2);
+        assertThat(
+            days[0],
+            is(PlainDate.of(GregorianBatch.MIN_PACKED_YEAR, 1, 1).get(EpochDays.UNIX)));
+        assertThat(
+            days[1],
+            is(PlainDate.of(GregorianBatch.MAX_PACKED_YEAR, 12, 31).get(EpochDays.UNIX)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void packDateOutOfYearRange() {
+        GregorianBatch.packDate(GregorianBatch.MAX_PACKED_YEAR + 1, 1, 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void packDateInvalidDay() {
+        GregorianBatch.packDate(2015, 2, 29);
+    }
+
+    @Test
+    public void toEpochDaysFromColumns() {
+        int[] years = {1970, 1972, 2000, -1, 2016};
+        int[] months = {1, 1, 2, 12, 12};
+        int[] doms = {1, 1, 29, 31, 31};
+        long[] days = new long[6];
+        GregorianBatch.toEpochDays(years, months, doms, 0, days, 1, 5);
+        assertThat(days[0], is(0L));
+        for (int i = 0; i < 5; i++) {
+            assertThat(days[i + 1], is(PlainDate.of(years[i], months[i], doms[i]).get(EpochDays.UNIX)));
+        }
+    }
+
+    @Test
+    public void invalidDateNamesIndex() {
+        try {
+            GregorianBatch.toEpochDays(
+                new int[] {2016, 2015}, new int[] {2, 2}, new int[] {29, 29}, 0, new long[2], 0, 2);
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage().contains("index 1"), is(true));
+            return;
+        }
+        throw new AssertionError("Missing exception.");
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void arrayBounds() {
+        GregorianBatch.extractYears(new long[3], 1, new int[3], 0, 3);
+    }
+
+}
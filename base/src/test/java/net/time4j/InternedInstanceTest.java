@@ -0,0 +1,71 @@
+package net.time4j;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeThat;
+
+
+// caching tests need -Dnet.time4j.cache.dates=50 -Dnet.time4j.cache.times=seconds (see surefire execution interned-instances)
+@RunWith(JUnit4.class)
+public class InternedInstanceTest {
+
+    @Test
+    public void internedDates() {
+        assumeThat(System.getProperty("net.time4j.cache.dates"), notNullValue());
+
+        PlainDate today = SystemClock.inLocalView().today();
+        PlainDate date = PlainDate.of(today.getYear(), today.getMonth(), today.getDayOfMonth());
+        assertThat(date, sameInstance(today));
+        assertThat(date.plus(1, CalendarUnit.DAYS).minus(1, CalendarUnit.DAYS), sameInstance(date));
+        assertThat(PlainDate.of(today.getYear(), today.getDayOfYear()), sameInstance(date));
+        assertThat(PlainDate.from(date.toTemporalAccessor()), sameInstance(date));
+        assertThat(
+            date.with(PlainDate.DAY_OF_WEEK, Weekday.MONDAY),
+            sameInstance(date.with(PlainDate.DAY_OF_WEEK, Weekday.MONDAY)));
+    }
+
+    @Test
+    public void datesOutsideOfWindow() {
+        PlainDate date = PlainDate.of(1200, 2, 29);
+        assertThat(PlainDate.of(1200, 2, 29), not(sameInstance(date)));
+        assertThat(PlainDate.of(1200, 2, 29), is(date));
+        assertThat(PlainDate.of(1200, 2, 29).getDayOfWeek(), is(Weekday.TUESDAY));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidDateInWindow() {
+        PlainDate today = SystemClock.inLocalView().today();
+        PlainDate.of(today.getYear(), 4, 31);
+    }
+
+    @Test
+    public void internedTimes() {
+        assumeThat(System.getProperty("net.time4j.cache.times"), is("seconds"));
+
+        PlainTime time = PlainTime.of(17, 45, 30);
+        assertThat(PlainTime.of(17, 45, 30), sameInstance(time));
+        assertThat(PlainTime.of(17, 45, 30, 0), sameInstance(time));
+        assertThat(time.plus(1, ClockUnit.SECONDS).minus(1, ClockUnit.SECONDS), sameInstance(time));
+        assertThat(PlainTime.of(17, 45), sameInstance(PlainTime.of(17, 45)));
+        assertThat(PlainTime.of(17, 45, 30, 1), not(sameInstance(PlainTime.of(17, 45, 30, 1))));
+        assertThat(PlainTime.of(17, 45, 30, 1).minus(1, ClockUnit.NANOS), sameInstance(time));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidInternedTime() {
+        PlainTime.of(23, 60, 0);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidT24() {
+        PlainTime.of(24, 0, 1);
+    }
+
+}
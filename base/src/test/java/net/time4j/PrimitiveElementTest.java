@@ -0,0 +1,172 @@
+package net.time4j;
+
+import net.time4j.calendar.CopticCalendar;
+import net.time4j.calendar.EthiopianCalendar;
+import net.time4j.calendar.EthiopianTime;
+import net.time4j.calendar.HebrewTime;
+import net.time4j.calendar.HijriCalendar;
+import net.time4j.calendar.JucheCalendar;
+import net.time4j.calendar.JulianCalendar;
+import net.time4j.calendar.KoreanCalendar;
+import net.time4j.calendar.MinguoCalendar;
+import net.time4j.calendar.PersianCalendar;
+import net.time4j.calendar.ThaiSolarCalendar;
+import net.time4j.engine.CalendarDays;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PrimitiveElementTest {
+
+    @Test
+    public void longElementsOfPlainTime() {
+        PlainTime time = PlainTime.of(17, 45, 30, 123456789);
+        assertThat(time.getLong(PlainTime.NANO_OF_DAY), is(time.get(PlainTime.NANO_OF_DAY).longValue()));
+        assertThat(time.getLong(PlainTime.MICRO_OF_DAY), is(time.get(PlainTime.MICRO_OF_DAY).longValue()));
+        assertThat(time.with(PlainTime.NANO_OF_DAY, 5L), is(PlainTime.of(0, 0, 0, 5)));
+        assertThat(time.with(PlainTime.MICRO_OF_DAY, 5L), is(PlainTime.of(0, 0, 0, 5789)));
+        assertThat(time.isValid(PlainTime.MICRO_OF_DAY, 86400000000L), is(false));
+        assertThat(PlainTime.midnightAtStartOfDay().isValid(PlainTime.MICRO_OF_DAY, 86400000000L), is(true));
+        assertThat(time.isValid(PlainTime.NANO_OF_DAY, -1L), is(false));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void longElementOutOfRange() {
+        PlainTime.midnightAtStartOfDay().with(PlainTime.NANO_OF_DAY, 86400000000001L);
+    }
+
+    @Test
+    public void longElementsOfPlainTimestamp() {
+        PlainTimestamp tsp = PlainTimestamp.of(2017, 5, 31, 17, 45, 30).plus(123456789, ClockUnit.NANOS);
+        assertThat(tsp.getLong(PlainTime.NANO_OF_DAY), is(tsp.get(PlainTime.NANO_OF_DAY).longValue()));
+        assertThat(tsp.getLong(PlainTime.MICRO_OF_DAY), is(tsp.get(PlainTime.MICRO_OF_DAY).longValue()));
+        assertThat(
+            tsp.with(PlainTime.NANO_OF_DAY, 7L),
+            is(tsp.with(PlainTime.NANO_OF_DAY, Long.valueOf(7L))));
+        assertThat(
+            tsp.with(PlainTime.NANO_OF_DAY.setLenient(86400000000007L)),
+            is(PlainTimestamp.of(2017, 6, 1, 0, 0).plus(7, ClockUnit.NANOS)));
+        assertThat(tsp.isValid(PlainTime.NANO_OF_DAY, 86400000000000L), is(false));
+    }
+
+    @Test
+    public void momentElements() {
+        Moment moment = Moment.of(1496252730L, 123456789, TimeScale.POSIX);
+        assertThat(moment.getLong(Moment.POSIX_TIME), is(1496252730L));
+        assertThat(moment.with(Moment.POSIX_TIME, 0L), is(Moment.of(0, 123456789, TimeScale.POSIX)));
+        assertThat(moment.isValid(Moment.POSIX_TIME, Long.MAX_VALUE), is(false));
+        assertThat(moment.getInt(Moment.FRACTION), is(123456789));
+        assertThat(moment.with(Moment.FRACTION, 1), is(Moment.of(1496252730L, 1, TimeScale.POSIX)));
+        assertThat(moment.isValid(Moment.FRACTION, 1000000000), is(false));
+        assertThat(moment.getLong(PlainTime.NANO_OF_DAY), is(Long.MIN_VALUE));
+        assertThat(moment.inZonalView(ZonalOffset.UTC).getLong(Moment.POSIX_TIME), is(1496252730L));
+        assertThat(
+            moment.inZonalView(ZonalOffset.UTC).getLong(PlainTime.NANO_OF_DAY),
+            is(PlainTime.of(17, 45, 30, 123456789).getLong(PlainTime.NANO_OF_DAY)));
+    }
+
+    @Test
+    public void epochDays() {
+        PlainDate date = PlainDate.of(2017, 5, 31);
+        for (EpochDays epoch : EpochDays.values()) {
+            long days = date.get(epoch).longValue();
+            assertThat(date.getLong(epoch), is(days));
+            assertThat(date.with(epoch, days - 1), is(date.minus(1, CalendarUnit.DAYS)));
+            assertThat(date.isValid(epoch, days), is(true));
+            assertThat(date.isValid(epoch, Long.MAX_VALUE), is(false));
+        }
+    }
+
+    @Test
+    public void calendarIntElements() {
+        PlainDate start = PlainDate.of(2016, 12, 20);
+
+        for (int i = 0; i < 400; i += 7) {
+            PlainDate date = start.plus(i, CalendarUnit.DAYS);
+            checkInt(date.transform(CopticCalendar.class), CopticCalendar.YEAR_OF_ERA);
+            checkInt(date.transform(CopticCalendar.class), CopticCalendar.DAY_OF_MONTH);
+            checkInt(date.transform(CopticCalendar.class), CopticCalendar.DAY_OF_YEAR);
+            checkInt(date.transform(EthiopianCalendar.class), EthiopianCalendar.DAY_OF_YEAR);
+            checkInt(date.transform(PersianCalendar.class), PersianCalendar.DAY_OF_MONTH);
+            checkInt(date.transform(PersianCalendar.class), PersianCalendar.YEAR_OF_ERA);
+            checkInt(date.transform(JulianCalendar.class), JulianCalendar.YEAR_OF_ERA);
+            checkInt(date.transform(JulianCalendar.class), JulianCalendar.MONTH_OF_YEAR);
+            checkInt(date.transform(JulianCalendar.class), JulianCalendar.DAY_OF_YEAR);
+            checkInt(date.transform(JulianCalendar.class), JulianCalendar.DAY_OF_MONTH);
+            checkInt(date.transform(HijriCalendar.class, HijriCalendar.VARIANT_UMALQURA), HijriCalendar.DAY_OF_YEAR);
+            checkInt(date.transform(KoreanCalendar.class), KoreanCalendar.YEAR_OF_ERA);
+            checkInt(date.transform(PersianCalendar.class), PersianCalendar.WEEK_OF_YEAR);
+            checkInt(date.transform(PersianCalendar.class), PersianCalendar.BOUNDED_WEEK_OF_MONTH);
+            checkInt(date.transform(ThaiSolarCalendar.class), ThaiSolarCalendar.YEAR_OF_ERA);
+            checkInt(date.transform(ThaiSolarCalendar.class), ThaiSolarCalendar.DAY_OF_MONTH);
+            checkInt(date.transform(ThaiSolarCalendar.class), ThaiSolarCalendar.DAY_OF_YEAR);
+            checkInt(date.transform(MinguoCalendar.class), MinguoCalendar.YEAR_OF_ERA);
+            checkInt(date.transform(MinguoCalendar.class), MinguoCalendar.DAY_OF_MONTH);
+            checkInt(date.transform(MinguoCalendar.class), MinguoCalendar.DAY_OF_YEAR);
+            checkInt(date.transform(JucheCalendar.class), JucheCalendar.YEAR_OF_ERA);
+            checkInt(date.transform(JucheCalendar.class), JucheCalendar.DAY_OF_MONTH);
+            checkInt(date.transform(JucheCalendar.class), JucheCalendar.DAY_OF_YEAR);
+
+            CopticCalendar coptic = date.transform(CopticCalendar.class);
+            assertThat(coptic.getLong(EpochDays.UTC), is(date.getLong(EpochDays.UTC)));
+            assertThat(coptic.with(EpochDays.UTC, date.getLong(EpochDays.UTC) + 1), is(coptic.plus(CalendarDays.ONE)));
+        }
+    }
+
+    @Test
+    public void clockIntElements() {
+        for (int minutes = 0; minutes < 1440; minutes += 37) {
+            PlainTime time = PlainTime.midnightAtStartOfDay().plus(minutes, ClockUnit.MINUTES);
+            EthiopianTime ethio = EthiopianTime.from(time);
+            checkInt(ethio, EthiopianTime.ETHIOPIAN_HOUR);
+            checkInt(ethio, EthiopianTime.DIGITAL_HOUR_OF_DAY);
+            checkInt(ethio, EthiopianTime.MINUTE_OF_HOUR);
+            checkInt(time, EthiopianTime.ETHIOPIAN_HOUR);
+            HebrewTime hebrew = HebrewTime.ofDigital(minutes / 60, minutes % 1080);
+            checkInt(hebrew, HebrewTime.CLOCK_HOUR);
+            checkInt(hebrew, HebrewTime.DIGITAL_HOUR);
+            checkInt(hebrew, HebrewTime.PART_OF_HOUR);
+        }
+    }
+
+    private static <D extends ChronoEntity<D>> void checkInt(
+        D date,
+        ChronoElement<Integer> element
+    ) {
+        int value = date.get(element).intValue();
+        assertThat(date.getInt(element), is(value));
+        int min = date.getMinimum(element).intValue();
+        int max = date.getMaximum(element).intValue();
+
+        for (int v : new int[] {min - 1, min, value, max, max + 1}) {
+            boolean valid = date.isValid(element, Integer.valueOf(v));
+            assertThat(element.name() + "=" + v, date.isValid(element, v), is(valid));
+            Integer boxed = Integer.valueOf(v);
+            assertThat(
+                element.name() + "=" + v,
+                outcome(() -> date.with(element, v)),
+                is(outcome(() -> date.with(element, boxed))));
+        }
+    }
+
+    private static Object outcome(Supplier<?> supplier) {
+        try {
+            return supplier.get();
+        } catch (RuntimeException ex) {
+            return ex.getClass();
+        }
+    }
+
+}
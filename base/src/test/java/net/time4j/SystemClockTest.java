@@ -80,6 +80,49 @@ public class SystemClockTest {
         );
     }
 
+    @Test
+    public void highResolution() {
+        SystemClock clock = SystemClock.HIGH_RESOLUTION;
+        long before = System.currentTimeMillis();
+        Moment now = clock.currentTime();
+        long millis = clock.currentTimeInMillis();
+        long micros = clock.currentTimeInMicros();
+        long after = System.currentTimeMillis();
+        long nowMillis = now.getPosixTime() * 1000 + now.getNanosecond() / 1000000;
+        assertThat(nowMillis >= before - 1 && nowMillis <= after + 1, is(true));
+        assertThat(millis >= before - 1 && millis <= after + 1, is(true));
+        assertThat(micros / 1000 >= before - 1 && micros / 1000 <= after + 1, is(true));
+        long utc = clock.realTimeInMicros() / 1000000;
+        assertThat(
+            Math.abs(LeapSeconds.getInstance().strip(utc) - micros / 1000000) <= 1,
+            is(true));
+    }
+
+    @Test
+    public void coarse() throws InterruptedException {
+        SystemClock clock = SystemClock.COARSE;
+        Moment first = clock.currentTime();
+        assertThat(clock.currentTime() == first || clock.currentTime().isAfter(first), is(true));
+        assertThat(
+            Math.abs(first.until(SystemClock.INSTANCE.currentTime(), TimeUnit.MILLISECONDS)) < 1000,
+            is(true));
+        Thread.sleep(100);
+        assertThat(clock.currentTime().isAfter(first), is(true));
+        assertThat(
+            Math.abs(clock.currentTimeInMillis() - System.currentTimeMillis()) < 1000,
+            is(true));
+    }
+
+    @Test
+    public void monotonicMillisAndMicros() {
+        SystemClock clock = SystemClock.MONOTONIC;
+        long millis = clock.currentTimeInMillis();
+        long micros = clock.currentTimeInMicros();
+        assertThat(Math.abs(millis - System.currentTimeMillis()) < 1000, is(true));
+        assertThat(micros / 1000 - millis >= 0, is(true));
+        assertThat(micros / 1000 - millis < 1000, is(true));
+    }
+
     @Test
     public void platformView() {
         System.out.println(SystemClock.inPlatformView().now());
@@ -22,6 +22,7 @@ import org.junit.runners.Suite.SuiteClasses;
         CopticOperatorTest.class,
         DiyanetDataTest.class,
         DiyanetRangeTest.class,
+        EastAsianTablesTest.class,
         EraNameTest.class,
         EthiopianCalendarTest.class,
         EthiopianMiscellaneousTest.class,
@@ -0,0 +1,48 @@
+package net.time4j.calendar;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.calendar.astro.AstronomicalSeason;
+import net.time4j.calendar.astro.MoonPhase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EastAsianTablesTest {
+
+    @Test
+    public void newMoons() {
+        Moment start = PlainTimestamp.of(1640, 1, 1, 0, 0).atUTC();
+        Moment end = PlainTimestamp.of(3000, 12, 1, 0, 0).atUTC();
+
+        for (Moment m = start; m.isBefore(end); m = m.plus(7 * 86400 + 3607, TimeUnit.SECONDS)) {
+            assertThat(EastAsianTables.newMoonAtOrAfter(m), is(MoonPhase.NEW_MOON.atOrAfter(m)));
+            assertThat(EastAsianTables.newMoonBefore(m), is(MoonPhase.NEW_MOON.before(m)));
+        }
+    }
+
+    @Test
+    public void newMoonExactly() {
+        Moment newMoon = MoonPhase.NEW_MOON.atOrAfter(PlainTimestamp.of(2017, 1, 1, 0, 0).atUTC());
+        assertThat(EastAsianTables.newMoonAtOrAfter(newMoon), is(newMoon));
+        assertThat(EastAsianTables.newMoonBefore(newMoon), is(MoonPhase.NEW_MOON.before(newMoon)));
+        assertThat(
+            EastAsianTables.newMoonBefore(newMoon.plus(1, TimeUnit.NANOSECONDS)),
+            is(newMoon));
+    }
+
+    @Test
+    public void winterSolstices() {
+        for (int year = 1600; year <= 3000; year++) {
+            assertThat(EastAsianTables.winterSolstice(year), is(AstronomicalSeason.WINTER_SOLSTICE.inYear(year)));
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package net.time4j.calendar;
 import net.time4j.PlainDate;
 import net.time4j.Weekday;
 import net.time4j.engine.CalendarDate;
+import net.time4j.engine.ChronoElement;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
@@ -172,4 +173,16 @@ public class KoreanMiscellaneousTest {
         System.out.println(PlainDate.axis().getExtensions());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void yearOfEraGregorianAsPrimitive() {
+        ChronoElement<Integer> element = KoreanEra.DANGI.yearOfEra();
+        PlainDate date = PlainDate.of(2018, 10, 1);
+        assertThat(date.getInt(element), is(4351));
+        assertThat(date.with(element, 4352), is(PlainDate.of(2019, 10, 1)));
+        assertThat(date.with(element, 4352), is(date.with(element, Integer.valueOf(4352))));
+        assertThat(date.isValid(element, 4352), is(true));
+        assertThat(date.isValid(element, Integer.MAX_VALUE), is(false));
+        assertThat(date.isValid(element, Integer.valueOf(Integer.MAX_VALUE)), is(false));
+    }
+
+}
@@ -0,0 +1,166 @@
+package net.time4j.calendar.astro;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarDate;
+import net.time4j.engine.ChronoFunction;
+import net.time4j.tz.olson.ASIA;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+
+@RunWith(JUnit4.class)
+public class SolarTimeTableTest {
+
+    private static final List<SolarTime> LOCATIONS =
+        Arrays.asList(
+            SolarTime.ofLocation(53.55, 10.0),
+            SolarTime.ofLocation(-33.87, 151.21, 0, StdSolarCalculator.TIME4J),
+            SolarTime.ofLocation(69.65, 18.96, 0, StdSolarCalculator.NOAA), // Tromsø
+            SolarTime.ofLocation(-77.85, 166.67, 0, StdSolarCalculator.TIME4J), // McMurdo
+            SolarTime.ofLocation(40.71, -74.0, 0, StdSolarCalculator.CC),
+            SolarTime.ofLocation(0.0, -179.5, 0, StdSolarCalculator.SIMPLE),
+            SolarTime.ofLocation().easternLongitude(174, 46, 0.0).northernLatitude(1, 52, 0.0)
+                .atAltitude(100).usingCalculator(StdSolarCalculator.NOAA).inTimezone(ASIA.KOLKATA).build()
+        );
+
+    @Test
+    public void sunriseAndSunset() {
+        PlainDate start = PlainDate.of(2024, 1, 1);
+        PlainDate end = PlainDate.of(2025, 3, 31);
+        List<SolarTimeTable> tables = SolarTimeTable.of(LOCATIONS, start, end);
+        assertThat(tables.size(), is(LOCATIONS.size()));
+
+        for (SolarTimeTable table : tables) {
+            SolarTime location = table.getLocation();
+            check(table, location.sunrise(), location.sunset(), start, end);
+            assertThat(table.getTwilight().isPresent(), is(false));
+        }
+    }
+
+    @Test
+    public void twilight() {
+        PlainDate start = PlainDate.of(2025, 1, 1);
+        PlainDate end = PlainDate.of(2025, 12, 31);
+
+        for (Twilight twilight : Twilight.values()) {
+            List<SolarTimeTable> tables = SolarTimeTable.of(LOCATIONS, twilight, start, end);
+            for (SolarTimeTable table : tables) {
+                SolarTime location = table.getLocation();
+                check(table, location.sunrise(twilight), location.sunset(twilight), start, end);
+                assertThat(table.getTwilight().get(), is(twilight));
+            }
+        }
+    }
+
+    @Test
+    public void accessors() {
+        PlainDate start = PlainDate.of(2025, 3, 1);
+        PlainDate end = PlainDate.of(2025, 3, 31);
+        SolarTimeTable table = SolarTimeTable.of(LOCATIONS.get(0), start, end);
+        assertThat(table.getStart(), is(start));
+        assertThat(table.getEnd(), is(end));
+        assertThat(table.length(), is(31));
+        assertThat(table.getSunrises().length, is(31));
+        assertThat(table.getSunsets()[30], is(table.getSunset(end)));
+        long[] copy = table.getSunrises();
+        copy[0] = 0L;
+        assertTrue(table.getSunrise(start) != 0L);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void dateOutOfRange() {
+        PlainDate start = PlainDate.of(2025, 3, 1);
+        SolarTimeTable.of(LOCATIONS.get(0), start, start).getSunrise(start.plus(1, CalendarUnit.DAYS));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void endBeforeStart() {
+        PlainDate start = PlainDate.of(2025, 3, 1);
+        SolarTimeTable.of(LOCATIONS.get(0), start, start.minus(1, CalendarUnit.DAYS));
+    }
+
+    @Test
+    public void polarNight() {
+        SolarTime tromso = LOCATIONS.get(2);
+        SolarTimeTable table = SolarTimeTable.of(tromso, PlainDate.of(2025, 12, 21), PlainDate.of(2025, 12, 21));
+        assertThat(table.getSunrise(table.getStart()), is(SolarTimeTable.ABSENT));
+        assertThat(table.getSunset(table.getStart()), is(SolarTimeTable.ABSENT));
+    }
+
+    @Test
+    public void cache() {
+        int old = SolarTimeTable.Cache.getMaximumSize();
+        try {
+            SolarTimeTable.Cache.clear();
+            SolarTimeTable.Cache.setMaximumSize(2);
+            SolarTimeTable t1 = SolarTimeTable.ofYear(LOCATIONS.get(0), 2025);
+            assertThat(SolarTimeTable.ofYear(LOCATIONS.get(0), 2025), sameInstance(t1));
+            assertThat(t1.length(), is(365));
+            SolarTimeTable.ofYear(LOCATIONS.get(0), Twilight.CIVIL, 2025);
+            SolarTimeTable.ofYear(LOCATIONS.get(1), 2025);
+            assertThat(SolarTimeTable.Cache.getSize(), is(2));
+            SolarTimeTable.Cache.setMaximumSize(0);
+            assertThat(SolarTimeTable.Cache.getSize(), is(0));
+            assertThat(SolarTimeTable.ofYear(LOCATIONS.get(0), 2024).length(), is(366));
+            assertThat(SolarTimeTable.Cache.getSize(), is(0));
+        } finally {
+            SolarTimeTable.Cache.setMaximumSize(old);
+            SolarTimeTable.Cache.clear();
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void cacheWithNegativeSize() {
+        SolarTimeTable.Cache.setMaximumSize(-1);
+    }
+
+    private static void check(
+        SolarTimeTable table,
+        ChronoFunction<CalendarDate, Optional<Moment>> sunrise,
+        ChronoFunction<CalendarDate, Optional<Moment>> sunset,
+        PlainDate start,
+        PlainDate end
+    ) {
+        int index = 0;
+        for (PlainDate date = start; !date.isAfter(end); date = date.plus(1, CalendarUnit.DAYS)) {
+            assertEvent(table, date, sunrise.apply(date), table.getSunrise(date));
+            assertEvent(table, date, sunset.apply(date), table.getSunset(date));
+            index++;
+        }
+        assertThat(table.length(), is(index));
+    }
+
+    private static void assertEvent(
+        SolarTimeTable table,
+        PlainDate date,
+        Optional<Moment> expected,
+        long actual
+    ) {
+        String msg = table + " => " + date;
+        if (expected.isPresent()) {
+            long posix = expected.get().getPosixTime();
+            long tolerance = (isInterpolated(table.getLocation()) ? 1 : 0);
+            assertTrue(msg + ": " + expected.get() + "/" + actual, Math.abs(posix - actual) <= tolerance);
+        } else {
+            assertThat(msg, actual, is(SolarTimeTable.ABSENT));
+        }
+    }
+
+    private static boolean isInterpolated(SolarTime location) {
+        SolarTime.Calculator c = location.getCalculator();
+        return ((c == StdSolarCalculator.NOAA) || (c == StdSolarCalculator.TIME4J));
+    }
+
+}
@@ -0,0 +1,254 @@
+package net.time4j.format;
+
+import net.time4j.Meridiem;
+import net.time4j.Month;
+import net.time4j.Weekday;
+import net.time4j.engine.AttributeQuery;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TextAccessorTest {
+
+    @Test
+    public void septemberAbbreviationAtOffset() {
+        TextAccessor accessor =
+            CalendarText.getIsoInstance(Locale.GERMAN).getStdMonths(TextWidth.ABBREVIATED, OutputContext.FORMAT);
+        ParsePosition status = new ParsePosition(3);
+        assertThat(accessor.parse("1. Sep. 2017", status, Month.class), is(Month.SEPTEMBER));
+        assertThat(status.getIndex(), is(7));
+        status = new ParsePosition(3);
+        assertThat(accessor.parse("1. Sept. 2017", status, Month.class), is(Month.SEPTEMBER));
+        assertThat(status.getIndex(), is(8));
+    }
+
+    @Test
+    public void turkishDotlessI() {
+        TextAccessor accessor =
+            CalendarText.getIsoInstance(new Locale("tr")).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition status = new ParsePosition(0);
+        assertThat(accessor.parse("KAS\u0131M", status, Month.class), is(Month.NOVEMBER));
+        assertThat(status.getIndex(), is(5));
+        status = new ParsePosition(0);
+        assertThat(accessor.parse("Kasim", status, Month.class), nullValue());
+        assertThat(status.getErrorIndex(), is(0));
+    }
+
+    @Test
+    public void enumNamesWithoutTextForms() {
+        TextAccessor accessor = new TextAccessor(new String[] {"AM"});
+        ParsePosition status = new ParsePosition(0);
+        assertThat(accessor.parse("pm", status, Meridiem.class), is(Meridiem.PM));
+        assertThat(status.getIndex(), is(2));
+    }
+
+    @Test
+    public void sameResultsAsLinearComparison() {
+        Random random = new Random(2026L);
+        Locale[] locales = {
+            Locale.ROOT, Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, new Locale("tr"), new Locale("ru"),
+            new Locale("el"), new Locale("ar"), Locale.JAPANESE, new Locale("fi"), new Locale("ca")};
+
+        for (Locale locale : locales) {
+            CalendarText ct = CalendarText.getIsoInstance(locale);
+            for (TextWidth tw : TextWidth.values()) {
+                for (OutputContext oc : OutputContext.values()) {
+                    check(ct.getStdMonths(tw, oc), Month.class, random);
+                    check(ct.getWeekdays(tw, oc), Weekday.class, random);
+                    check(ct.getMeridiems(tw, oc), Meridiem.class, random);
+                }
+            }
+        }
+
+        check(new TextAccessor(new String[] {"a", "A", "ab", "abc", "x", "Sep.t"}), Sample.class, random);
+        check(new TextAccessor(new String[] {"", "k", "K", "\u0131x", "ix", "s\u00A0t"}), Sample.class, random);
+        check(new TextAccessor(new String[] {"\u212Ab", "kb", "\u0130c", "ic", "\u017Fd", "sd"}), Sample.class, random);
+    }
+
+    private static <V extends Enum<V>> void check(
+        TextAccessor accessor,
+        Class<V> type,
+        Random random
+    ) {
+        String[] forms = accessor.getTextForms().toArray(new String[0]);
+
+        for (int i = 0; i < 200; i++) {
+            String form = forms[random.nextInt(forms.length)];
+            String text = mutate(form, random);
+            int start = random.nextInt(3);
+            String prefix = "12 ".substring(0, start);
+
+            for (int mode = 0; mode < 8; mode++) {
+                boolean ci = (mode & 1) != 0;
+                boolean partial = (mode & 2) != 0;
+                boolean smart = (mode & 4) != 0;
+                ParsePosition expectedStatus = new ParsePosition(start);
+                V expected = linear(prefix + text, expectedStatus, type, forms, ci, partial, smart);
+                ParsePosition status = new ParsePosition(start);
+                V result = accessor.parse(prefix + text, status, type, toAttributes(ci, partial, smart));
+                String msg = "text=" + text + ", mode=" + mode + ", forms=" + accessor;
+                assertThat(msg, result, is(expected));
+                assertThat(msg, status.getIndex(), is(expectedStatus.getIndex()));
+                assertThat(msg, status.getErrorIndex(), is(expectedStatus.getErrorIndex()));
+            }
+        }
+    }
+
+    private static String mutate(
+        String form,
+        Random random
+    ) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < form.length(); i++) {
+            char c = form.charAt(i);
+            switch (random.nextInt(12)) {
+                case 0:
+                    sb.append(Character.toUpperCase(c));
+                    break;
+                case 1:
+                    sb.append(Character.toLowerCase(c));
+                    break;
+                case 2:
+                    sb.append((c == ' ') ? '\u00A0' : c);
+                    break;
+                case 3:
+                    return sb.toString(); // truncated
+                case 4:
+                    sb.append('.');
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+
+        if (random.nextBoolean()) {
+            sb.append(" 2017");
+        }
+
+        return sb.toString();
+    }
+
+    // reference implementation: compares all text forms one by one
+    private static <V extends Enum<V>> V linear(
+        CharSequence parseable,
+        ParsePosition status,
+        Class<V> valueType,
+        String[] forms,
+        boolean caseInsensitive,
+        boolean partialCompare,
+        boolean smart
+    ) {
+        V[] enums = valueType.getEnumConstants();
+        int start = status.getIndex();
+        int end = parseable.length();
+        String alt = "";
+        int maxEq = 0;
+        V candidate = null;
+
+        for (int i = 0; i < enums.length; i++) {
+            boolean firstTry = alt.isEmpty();
+            String s = (firstTry ? ((i >= forms.length) ? enums[i].name() : forms[i]) : alt);
+            int pos = start;
+            int n = s.length();
+            boolean eq = true;
+
+            for (int j = 0; eq && (j < n); j++) {
+                if (start + j >= end) {
+                    eq = false;
+                } else {
+                    char c = parseable.charAt(start + j);
+                    char t = s.charAt(j);
+                    if (smart) {
+                        c = ((c == '\u00A0') ? ' ' : c);
+                        t = ((t == '\u00A0') ? ' ' : t);
+                    }
+                    eq = (c == t) || (caseInsensitive && compareIgnoreCase(c, t));
+                    if (eq) {
+                        pos++;
+                    }
+                }
+            }
+
+            if (smart && firstTry && (n == 5) && (s.charAt(4) == '.')) {
+                int dot = start + 3;
+                if ((pos == dot) && (dot < end) && (parseable.charAt(dot) == '.')) {
+                    alt = s.substring(0, 3) + ".";
+                    i--;
+                    continue;
+                }
+            }
+
+            alt = "";
+
+            if (partialCompare || (n == 1)) {
+                if (maxEq < pos - start) {
+                    maxEq = pos - start;
+                    candidate = enums[i];
+                } else if (maxEq == pos - start) {
+                    candidate = null;
+                }
+            } else if (eq) {
+                status.setIndex(pos);
+                return enums[i];
+            }
+        }
+
+        if (candidate == null) {
+            status.setErrorIndex(start);
+        } else {
+            status.setIndex(start + maxEq);
+        }
+
+        return candidate;
+    }
+
+    private static boolean compareIgnoreCase(
+        char c1,
+        char c2
+    ) {
+        if (c1 >= 'a' && c1 <= 'z') {
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        } else if (c1 >= 'A' && c1 <= 'Z') {
+            c1 = (char) (c1 + 'a' - 'A');
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        }
+        return (
+            Character.toUpperCase(c1) == Character.toUpperCase(c2)
+            || Character.toLowerCase(c1) == Character.toLowerCase(c2)
+        );
+    }
+
+    private static AttributeQuery toAttributes(
+        boolean caseInsensitive,
+        boolean partialCompare,
+        boolean smart
+    ) {
+        return new Attributes.Builder()
+            .set(Attributes.PARSE_CASE_INSENSITIVE, caseInsensitive)
+            .set(Attributes.PARSE_PARTIAL_COMPARE, partialCompare)
+            .set(Attributes.PARSE_MULTIPLE_CONTEXT, smart)
+            .build();
+    }
+
+    private enum Sample {
+        FIRST, SECOND, THIRD, FOURTH, FIFTH, SIXTH
+    }
+
+}
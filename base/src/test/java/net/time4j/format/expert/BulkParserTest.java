@@ -0,0 +1,108 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BulkParserTest {
+
+    private static final ChronoFormatter<PlainDate> ISO_DATE =
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+
+    @Test
+    public void parseWithDelimiter() {
+        List<PlainDate> results = new ArrayList<>();
+        List<Integer> failed = new ArrayList<>();
+        List<Integer> errorIndices = new ArrayList<>();
+        int failures =
+            BulkParser.of(ISO_DATE).parse(
+                "2016-02-29,2015-02-29,,2017-01-01x,2017-12-31",
+                ',',
+                new BulkParser.Sink<PlainDate>() {
+                    @Override
+                    public void accept(int index, PlainDate result) {
+                        results.add(result);
+                    }
+                    @Override
+                    public void reject(int index, int errorIndex, String message) {
+                        failed.add(index);
+                        errorIndices.add(errorIndex);
+                    }
+                }
+            );
+
+        assertThat(failures, is(3));
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0), is(PlainDate.of(2016, 2, 29)));
+        assertThat(results.get(1), is(PlainDate.of(2017, 12, 31)));
+        assertThat(failed.get(0), is(1));
+        assertThat(failed.get(1), is(2));
+        assertThat(failed.get(2), is(3));
+        assertThat(errorIndices.get(1), is(22));
+        assertThat(errorIndices.get(2), is(33));
+    }
+
+    @Test
+    public void cellsDoNotOverrun() {
+        String text = "2016-02-291234";
+        List<PlainDate> results = new ArrayList<>();
+        int failures =
+            BulkParser.of(ISO_DATE).parse(
+                text, new int[] {0}, new int[] {10}, 1, (index, result) -> results.add(result));
+        assertThat(failures, is(0));
+        assertThat(results.get(0), is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void parseToPrimitives() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm:ss", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        String text = "1970-01-01 00:00:01;bad;2001-09-09 01:46:40";
+        int[] starts = {0, 20, 24};
+        int[] ends = {19, 23, 43};
+        long[] seconds = new long[3];
+        BitSet failures = new BitSet();
+        int count = BulkParser.of(f).parse(text, starts, ends, 3, Moment::getPosixTime, seconds, failures);
+
+        assertThat(count, is(1));
+        assertThat(seconds[0], is(1L));
+        assertThat(seconds[1], is(0L));
+        assertThat(seconds[2], is(1000000000L));
+        assertThat(failures.cardinality(), is(1));
+        assertThat(failures.get(1), is(true));
+    }
+
+    @Test
+    public void parseWithMultiFormat() {
+        ChronoFormatter<PlainDate> usStyle =
+            ChronoFormatter.ofDatePattern("MM/dd/uuuu", PatternType.CLDR, Locale.US);
+        MultiFormatParser<PlainDate> mfp = MultiFormatParser.of(ISO_DATE, usStyle);
+        List<PlainDate> results = new ArrayList<>();
+        int failures =
+            BulkParser.of(mfp).parse("2015-12-31\n12/31/2015\n31.12.2015", '\n', (i, d) -> results.add(d));
+
+        assertThat(failures, is(1));
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0), is(PlainDate.of(2015, 12, 31)));
+        assertThat(results.get(1), is(PlainDate.of(2015, 12, 31)));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void invalidOffsets() {
+        BulkParser.of(ISO_DATE).parse("2016-02-29", new int[] {0}, new int[] {11}, 1, (i, d) -> {});
+    }
+
+}
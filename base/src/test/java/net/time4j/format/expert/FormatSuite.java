@@ -9,6 +9,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         AdjacentDigitParsingTest.class,
+        BulkParserTest.class,
         CLDRSanityTest.class,
         ChronoHierarchyTest.class,
         DayPeriodTest.class,
@@ -16,6 +17,7 @@ import org.junit.runners.Suite.SuiteClasses;
         DefaultValueTest.class,
         DozenalNumberTest.class,
         DuplicateElementTest.class,
+        FormatterCacheTest.class,
         FractionTest.class,
         Iso8601FormatTest.class,
         LiteralWithBidisTest.class,
@@ -27,11 +29,13 @@ import org.junit.runners.Suite.SuiteClasses;
         OffsetPatternTest.class,
         OrFormatTest.class,
         OrdinalTest.class,
+        PrintToTest.class,
         ParsingTextOverflowTest.class,
         SkipUnknownTest.class,
         StyleProcessorTest.class,
         ThreetenFormatTest.class,
-        WhitespaceTest.class
+        WhitespaceTest.class,
+        ZoneNameIndexTest.class
     }
 )
 public class FormatSuite {
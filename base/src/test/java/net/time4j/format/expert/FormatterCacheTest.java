@@ -0,0 +1,132 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class FormatterCacheTest {
+
+    private int oldSize;
+
+    @Before
+    public void setUp() {
+        this.oldSize = ChronoFormatter.Cache.getMaximumSize();
+        ChronoFormatter.Cache.setMaximumSize(256);
+        ChronoFormatter.Cache.clear();
+        ChronoFormatter.Cache.resetStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        ChronoFormatter.Cache.setMaximumSize(this.oldSize);
+        ChronoFormatter.Cache.clear();
+        ChronoFormatter.Cache.resetStatistics();
+    }
+
+    @Test
+    public void patternStatistics() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN),
+            sameInstance(f));
+        assertThat(
+            ChronoFormatter.ofPattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN, PlainDate.axis()),
+            sameInstance(f));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ENGLISH),
+            not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.SIMPLE_DATE_FORMAT, Locale.GERMAN),
+            not(sameInstance(f)));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(3L));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(2L));
+        assertThat(ChronoFormatter.Cache.getSize(), is(3));
+        ChronoFormatter.Cache.resetStatistics();
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(0L));
+    }
+
+    @Test
+    public void styles() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampStyle(FormatStyle.MEDIUM, FormatStyle.SHORT, Locale.US);
+        assertThat(
+            ChronoFormatter.ofTimestampStyle(FormatStyle.MEDIUM, FormatStyle.SHORT, Locale.US),
+            sameInstance(f));
+        assertThat(
+            ChronoFormatter.ofTimestampStyle(FormatStyle.SHORT, FormatStyle.MEDIUM, Locale.US),
+            not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofStyle(FormatStyle.SHORT, Locale.US, PlainDate.axis()),
+            sameInstance(ChronoFormatter.ofDateStyle(FormatStyle.SHORT, Locale.US)));
+    }
+
+    @Test
+    public void timezoneAppliedPerCall() {
+        ChronoFormatter<Moment> utc =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm XXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ChronoFormatter<Moment> cet =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd HH:mm XXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1));
+        assertThat(utc.print(Moment.UNIX_EPOCH), is("1970-01-01 00:00 Z"));
+        assertThat(cet.print(Moment.UNIX_EPOCH), is("1970-01-01 01:00 +01:00"));
+        assertThat(ChronoFormatter.Cache.getSize(), is(1));
+    }
+
+    @Test
+    public void invalidPatternNotCached() {
+        try {
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd HH", PatternType.CLDR, Locale.ROOT);
+            throw new AssertionError("Expected failure.");
+        } catch (IllegalArgumentException iae) {
+            assertThat(ChronoFormatter.Cache.getSize(), is(0));
+        }
+    }
+
+    @Test
+    public void maximumSize() throws InterruptedException {
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("uuuu", PatternType.CLDR, Locale.ROOT);
+        Thread.sleep(5);
+        ChronoFormatter.ofDatePattern("uuuu-MM", PatternType.CLDR, Locale.ROOT);
+        Thread.sleep(5);
+        assertThat(ChronoFormatter.ofDatePattern("uuuu", PatternType.CLDR, Locale.ROOT), sameInstance(f1));
+        Thread.sleep(5);
+        ChronoFormatter.Cache.setMaximumSize(2);
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        assertThat(ChronoFormatter.Cache.getSize(), is(2));
+        assertThat(ChronoFormatter.Cache.getEvictionCount(), is(1L));
+        assertThat(ChronoFormatter.ofDatePattern("uuuu", PatternType.CLDR, Locale.ROOT), sameInstance(f1));
+    }
+
+    @Test
+    public void disabled() {
+        ChronoFormatter.Cache.setMaximumSize(0);
+        assertThat(ChronoFormatter.Cache.getSize(), is(0));
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu", PatternType.CLDR, Locale.ROOT);
+        assertThat(ChronoFormatter.ofDatePattern("uuuu", PatternType.CLDR, Locale.ROOT), not(sameInstance(f)));
+        assertThat(ChronoFormatter.Cache.getSize(), is(0));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(0L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidMaximumSize() {
+        ChronoFormatter.Cache.setMaximumSize(-1);
+    }
+
+}
@@ -15,6 +15,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -923,4 +924,124 @@ public class Iso8601FormatTest {
             is("2012-06-30T23:59:60.000Z"));
     }
 
+    @Test
+    public void parseMomentFastPath() throws ParseException {
+        String[] inputs = {
+            "2016-07-14T15:45:30Z",
+            "2016-07-14T15:45:30.1Z",
+            "2016-07-14T15:45:30,123456789+05:30",
+            "2016-02-29T00:00:00.000-08:00",
+            "1969-12-31T23:59:59.999999999Z",
+            "0001-01-01T00:00:00+01:00",
+            "9999-12-31T23:59:59.5-14:00"
+        };
+        for (String input : inputs) {
+            Moment expected = Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parse(input);
+            String slice = "{\"ts\":\"" + input + "\"}";
+            byte[] bytes = slice.getBytes(StandardCharsets.US_ASCII);
+            assertThat(Iso8601Format.parseMoment(slice, 7, input.length()), is(expected));
+            assertThat(Iso8601Format.parseMoment(bytes, 7, input.length()), is(expected));
+        }
+    }
+
+    @Test
+    public void parseMomentFallback() throws ParseException {
+        String[] inputs = {
+            "2012-06-30T23:59:60Z", // leap second
+            "2016-07-14T15:45Z",
+            "2016-07-14T24:00+02:00",
+            "+12016-07-14T15:45:30Z",
+            "2016-W28-4T15:45:30Z"
+        };
+        for (String input : inputs) {
+            Moment expected = Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parse(input);
+            assertThat(Iso8601Format.parseMoment(input, 0, input.length()), is(expected));
+            assertThat(
+                Iso8601Format.parseMoment(input.getBytes(StandardCharsets.US_ASCII), 0, input.length()),
+                is(expected));
+        }
+    }
+
+    @Test
+    public void parseMomentInvalid() {
+        String[] inputs = {
+            "2016-02-30T15:45:30Z",
+            "2016-07-14T15:45:30.Z",
+            "2016-07-14T15:45:30.1234567890Z",
+            "2016-07-14T15:45:30",
+            "2016-07-14T15:45:30+0530",
+            "2016-07-14T15:45:30+05:30x"
+        };
+        for (String input : inputs) {
+            try {
+                Iso8601Format.parseMoment("xx" + input, 2, input.length());
+                throw new AssertionError("Expected parse error: " + input);
+            } catch (ParseException pe) {
+                assertThat(pe.getErrorOffset() >= 2, is(true));
+            }
+        }
+    }
+
+    @Test
+    public void parseTimestampFastPath() throws ParseException {
+        String[] inputs = {
+            "2016-07-14T15:45:30",
+            "2016-07-14T15:45:30.1",
+            "2016-07-14T15:45:30,123456789",
+            "1969-12-31T23:59:59.999999999",
+            "2016-07-14T15:45", // fallback
+            "2016-07-14T24:00" // fallback
+        };
+        for (String input : inputs) {
+            PlainTimestamp expected = Iso8601Format.EXTENDED_DATE_TIME.parse(input);
+            assertThat(Iso8601Format.parseTimestamp(" " + input + " ", 1, input.length()), is(expected));
+            assertThat(
+                Iso8601Format.parseTimestamp(input.getBytes(StandardCharsets.US_ASCII), 0, input.length()),
+                is(expected));
+        }
+    }
+
+    @Test
+    public void parseNonDigitsInYear() {
+        String[] years = {"20ab", "2a17", "19x7", "197x", "-017", "+017"};
+        for (String year : years) {
+            String moment = year + "-01-01T00:00:00Z";
+            String tsp = year + "-03-04T05:06:07";
+            expectParseError(() -> Iso8601Format.parseMoment(moment, 0, moment.length()), moment);
+            expectParseError(
+                () -> Iso8601Format.parseMoment(moment.getBytes(StandardCharsets.US_ASCII), 0, moment.length()),
+                moment);
+            expectParseError(() -> Iso8601Format.parseTimestamp(tsp, 0, tsp.length()), tsp);
+            expectParseError(
+                () -> Iso8601Format.parseTimestamp(tsp.getBytes(StandardCharsets.US_ASCII), 0, tsp.length()),
+                tsp);
+        }
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseTimestampInvalid() throws ParseException {
+        Iso8601Format.parseTimestamp("2016-07-14T15:45:30Z", 0, 20);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void parseTimestampInvalidSlice() throws ParseException {
+        Iso8601Format.parseTimestamp("2016-07-14T15:45:30", 1, 19);
+    }
+
+    private interface FastParsing {
+        Object parse() throws ParseException;
+    }
+
+    private static void expectParseError(
+        FastParsing parsing,
+        String input
+    ) {
+        try {
+            Object result = parsing.parse();
+            throw new AssertionError("Expected parse error: " + input + ", result: " + result);
+        } catch (ParseException pe) {
+            // ok
+        }
+    }
+
 }
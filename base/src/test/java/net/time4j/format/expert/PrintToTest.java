@@ -0,0 +1,134 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PrintToTest {
+
+    private static final int[] NANOS = {0, 1, 10, 999, 1_000, 123_000_000, 123_456_000, 123_456_789, 999_999_999};
+
+    @Test
+    public void fixedFraction() throws IOException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        for (int nanos : NANOS) {
+            PlainTimestamp tsp = PlainTimestamp.of(2016, 7, 14, 15, 45, 30).with(PlainTime.NANO_OF_SECOND, nanos);
+            StringBuilder sb = new StringBuilder();
+            f.printTo(tsp, sb);
+            assertThat(sb.toString(), is(f.print(tsp)));
+        }
+        assertThat(
+            f.print(PlainTimestamp.of(2016, 7, 14, 15, 45, 30).with(PlainTime.NANO_OF_SECOND, 123_999_999)),
+            is("2016-07-14T15:45:30.123"));
+    }
+
+    @Test
+    public void variableFraction() throws IOException {
+        ChronoFormatter<PlainTime> f =
+            ChronoFormatter.setUp(PlainTime.axis(), Locale.US)
+                .addPattern("HH:mm:ss", PatternType.CLDR)
+                .addFraction(PlainTime.NANO_OF_SECOND, 0, 9, true)
+                .build();
+        String[] expected = {
+            "15:45:30", "15:45:30.000000001", "15:45:30.00000001", "15:45:30.000000999", "15:45:30.000001",
+            "15:45:30.123", "15:45:30.123456", "15:45:30.123456789", "15:45:30.999999999"
+        };
+        for (int i = 0; i < NANOS.length; i++) {
+            PlainTime time = PlainTime.of(15, 45, 30, NANOS[i]);
+            StringBuilder sb = new StringBuilder();
+            f.printTo(time, sb);
+            assertThat(sb.toString(), is(expected[i]));
+            assertThat(f.print(time), is(expected[i]));
+        }
+    }
+
+    @Test
+    public void minimumDigits() {
+        ChronoFormatter<PlainTime> f =
+            ChronoFormatter.setUp(PlainTime.axis(), Locale.US)
+                .addPattern("HH:mm:ss", PatternType.CLDR)
+                .addFraction(PlainTime.NANO_OF_SECOND, 3, 6, true)
+                .build();
+        assertThat(f.print(PlainTime.of(15, 45, 30)), is("15:45:30.000"));
+        assertThat(f.print(PlainTime.of(15, 45, 30, 120_000_000)), is("15:45:30.120"));
+        assertThat(f.print(PlainTime.of(15, 45, 30, 123_456_789)), is("15:45:30.123456"));
+    }
+
+    @Test
+    public void charArray() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.ofHours(
+                    OffsetSign.AHEAD_OF_UTC, 2));
+        Moment moment = PlainTimestamp.of(2016, 7, 14, 15, 45, 30).plus(123_456_789, ClockUnit.NANOS).atUTC();
+        String expected = "2016-07-14T17:45:30.123456789+02:00";
+        char[] buffer = new char[50];
+        buffer[0] = '[';
+        int count = f.printTo(moment, buffer, 1);
+        assertThat(count, is(expected.length()));
+        assertThat(new String(buffer, 1, count), is(expected));
+        assertThat(buffer[0], is('['));
+        assertThat(f.print(moment), is(expected));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void charArrayTooSmall() {
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+        f.printTo(PlainTime.of(15, 45, 30), new char[5], 0);
+    }
+
+    @Test
+    public void byteBuffer() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        PlainTimestamp tsp = PlainTimestamp.of(2016, 7, 14, 15, 45, 30).with(PlainTime.MILLI_OF_SECOND, 7);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) 'x');
+        int count = f.printTo(tsp, buffer);
+        assertThat(count, is(23));
+        assertThat(buffer.position(), is(24));
+        assertThat(
+            new String(buffer.array(), 1, count, StandardCharsets.US_ASCII),
+            is("2016-07-14 15:45:30.007"));
+    }
+
+    @Test
+    public void byteBufferNonAscii() {
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm 'Uhr' a", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainTime> g = ChronoFormatter.ofTimePattern("HH:mm '°'", PatternType.CLDR, Locale.ROOT);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        f.printTo(PlainTime.of(15, 45), buffer);
+        int pos = buffer.position();
+        try {
+            g.printTo(PlainTime.of(15, 45), buffer);
+            throw new AssertionError("Expected failure.");
+        } catch (IllegalArgumentException iae) {
+            assertThat(buffer.position(), is(pos)); // restored
+        }
+    }
+
+    @Test(expected=BufferOverflowException.class)
+    public void byteBufferTooSmall() {
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+        f.printTo(PlainTime.of(15, 45, 30), ByteBuffer.allocate(5));
+    }
+
+}
@@ -0,0 +1,112 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.format.RawValues;
+import net.time4j.format.internal.ZoneNameIndex;
+import net.time4j.format.internal.ZoneNameIndexCompiler;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.NameStyle;
+import net.time4j.tz.TZID;
+import net.time4j.tz.olson.EUROPE;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneNameIndexTest {
+
+    @Test
+    public void longestPrefix() {
+        ZoneNameIndex index = ZoneNameIndex.create(Locale.GERMAN, NameStyle.LONG_DAYLIGHT_TIME);
+        String text = "xMitteleuropäische Sommerzeit, Berlin";
+        int entry = index.match(text, 1, text.length());
+        assertThat(index.getLength(entry), is("Mitteleuropäische Sommerzeit".length()));
+        assertThat(index.getZones(entry).contains(EUROPE.BERLIN), is(true));
+        assertThat(index.match(text, 1, 10), is(-1));
+        assertThat(index.match("Xyz", 0, 3), is(-1));
+    }
+
+    @Test
+    public void abbreviations() {
+        ZoneNameIndex std = ZoneNameIndex.create(Locale.GERMAN, NameStyle.SHORT_STANDARD_TIME);
+        ZoneNameIndex dst = ZoneNameIndex.create(Locale.GERMAN, NameStyle.SHORT_DAYLIGHT_TIME);
+        int entry = dst.match("MESZ", 0, 4);
+        assertThat(dst.getLength(entry), is(4));
+        entry = std.match("MEZ 2017", 0, 8);
+        assertThat(std.getLength(entry), is(3));
+        assertThat(std.getZones(-1).isEmpty(), is(true));
+    }
+
+    @Test
+    public void indexFileEqualsInMemoryIndex() throws IOException {
+        Path dir = Files.createTempDirectory("tzname");
+        String[] samples = {
+            "MEZ", "MESZ", "PST", "PDT", "GMT", "Mitteleuropäische Normalzeit", "Pacific Daylight Time", "Xyz"};
+
+        try {
+            for (Locale locale : new Locale[] {Locale.GERMAN, Locale.US}) {
+                Path file = ZoneNameIndexCompiler.compile(dir, locale);
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+
+                for (boolean abbreviated : new boolean[] {false, true}) {
+                    ZoneNameIndex[] stored = ZoneNameIndex.read(buffer, locale, abbreviated);
+                    ZoneNameIndex[] created = {
+                        ZoneNameIndex.create(
+                            locale, abbreviated ? NameStyle.SHORT_STANDARD_TIME : NameStyle.LONG_STANDARD_TIME),
+                        ZoneNameIndex.create(
+                            locale, abbreviated ? NameStyle.SHORT_DAYLIGHT_TIME : NameStyle.LONG_DAYLIGHT_TIME)
+                    };
+
+                    for (int i = 0; i < 2; i++) {
+                        assertThat(stored[i].toString(), is(created[i].toString()));
+                        for (String sample : samples) {
+                            int entry = stored[i].match(sample, 0, sample.length());
+                            assertThat(entry, is(created[i].match(sample, 0, sample.length())));
+                            assertThat(stored[i].getZones(entry), is(created[i].getZones(entry)));
+                        }
+                    }
+                }
+
+                Files.delete(file);
+            }
+        } finally {
+            Files.delete(dir);
+        }
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void indexFileOfOtherLanguage() throws IOException {
+        Path dir = Files.createTempDirectory("tzname");
+        Path file = ZoneNameIndexCompiler.compile(dir, Locale.FRENCH);
+
+        try {
+            ZoneNameIndex.read(ByteBuffer.wrap(Files.readAllBytes(file)), Locale.ITALIAN, true);
+        } finally {
+            Files.delete(file);
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void parseUniqueName() throws ParseException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm zzzz", PatternType.CLDR, Locale.GERMAN, EUROPE.BERLIN);
+        RawValues raw = new RawValues();
+        Moment m = f.parse("2017-07-01 12:00 Mitteleuropäische Sommerzeit", raw);
+        assertThat(m, is(Moment.of(1498903200L, TimeScale.POSIX)));
+        TZID tzid = raw.get().getTimezone();
+        assertThat(tzid.canonical(), is("Europe/Berlin"));
+    }
+
+}
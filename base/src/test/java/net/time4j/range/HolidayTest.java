@@ -10,6 +10,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.util.Locale;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -269,4 +270,75 @@ public class HolidayTest {
         assertThat(hm.isBusinessDay(PlainDate.of(2017, 2, 4)), is(false));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void compiledModelAgreesWithSource() {
+        HolidayModel source = date -> HolidayModel.ofSaturdayOrSunday().test(date)
+            || ((date.getMonth() == 12) && (date.getDayOfMonth() >= 24))
+            || ((date.getMonth() == 5) && (date.getDayOfMonth() == 1));
+        HolidayModel compiled = source.compile(2015, 2019);
+        Random random = new Random(4711L);
+
+        for (int i = 0; i < 2000; i++) {
+            PlainDate date = PlainDate.of(2010, 1, 1).plus(random.nextInt(5000), CalendarUnit.DAYS);
+            PlainDate other = date.plus(random.nextInt(1000) - 500, CalendarUnit.DAYS);
+            int amount = random.nextInt(800) - 400;
+            assertThat(compiled.test(date), is(source.test(date)));
+            assertThat(date.with(compiled.nextBusinessDay()), is(date.with(source.nextBusinessDay())));
+            assertThat(date.with(compiled.nextOrSameBusinessDay()), is(date.with(source.nextOrSameBusinessDay())));
+            assertThat(date.with(compiled.previousBusinessDay()), is(date.with(source.previousBusinessDay())));
+            assertThat(
+                date.with(compiled.previousOrSameBusinessDay()),
+                is(date.with(source.previousOrSameBusinessDay())));
+            assertThat(date.plus(amount, compiled.businessDays()), is(date.plus(amount, source.businessDays())));
+            assertThat(date.until(other, compiled.businessDays()), is(date.until(other, source.businessDays())));
+            DateInterval interval =
+                date.isAfter(other) ? DateInterval.between(other, date) : DateInterval.between(date, other);
+            assertThat(
+                interval.get(compiled.countOfBusinessDays()), is(interval.get(source.countOfBusinessDays())));
+            assertThat(interval.get(compiled.countOfHolidays()), is(interval.get(source.countOfHolidays())));
+            assertThat(interval.get(compiled.firstBusinessDay()), is(interval.get(source.firstBusinessDay())));
+            assertThat(interval.get(compiled.lastBusinessDay()), is(interval.get(source.lastBusinessDay())));
+        }
+    }
+
+    @Test
+    public void compiledModelWithoutBusinessDays() {
+        HolidayModel compiled = HolidayModel.ofSaturdayOrSunday().compile(2017, 2017);
+        DateInterval weekend = DateInterval.between(PlainDate.of(2017, 2, 4), PlainDate.of(2017, 2, 5));
+        assertThat(weekend.get(compiled.firstBusinessDay()), nullValue());
+        assertThat(weekend.get(compiled.lastBusinessDay()), nullValue());
+        assertThat(weekend.get(compiled.countOfBusinessDays()), is(0));
+        assertThat(weekend.get(compiled.countOfHolidays()), is(2));
+    }
+
+    @Test
+    public void compiledModelBeyondMaximumSpan() {
+        HolidayModel source = HolidayModel.ofSaturdayOrSunday();
+        HolidayModel compiled = source.compile(2017, 2017);
+        PlainDate date = PlainDate.of(4017, 2, 1);
+        PlainDate end = PlainDate.of(4017, 2, 10);
+        assertThat(compiled.test(date), is(source.test(date)));
+        assertThat(date.plus(5, compiled.businessDays()), is(date.plus(5, source.businessDays())));
+        assertThat(date.until(end, compiled.businessDays()), is(date.until(end, source.businessDays())));
+        assertThat(PlainDate.of(2017, 2, 1).plus(5, compiled.businessDays()), is(PlainDate.of(2017, 2, 8)));
+    }
+
+    @Test
+    public void compiledModelExample() {
+        HolidayModel model = HolidayModel.ofSaturdayOrSunday().compile(2000, 2050);
+        PlainDate date = PlainDate.of(2017, 4, 28);
+        assertThat(date.plus(1000, model.businessDays()), is(PlainDate.of(2021, 2, 26)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void compiledModelWithInvalidRange() {
+        HolidayModel.ofSaturdayOrSunday().compile(2018, 2017);
+    }
+
+    @Test(expected=ChronoException.class)
+    public void compiledModelWithInfiniteInterval() {
+        HolidayModel compiled = HolidayModel.ofSaturdayOrSunday().compile(2017, 2017);
+        DateInterval.since(PlainDate.of(2017, 2, 1)).get(compiled.countOfBusinessDays());
+    }
+
+}
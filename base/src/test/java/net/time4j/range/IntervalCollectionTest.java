@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
@@ -18,6 +19,8 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static net.time4j.ClockUnit.NANOS;
 import static org.hamcrest.CoreMatchers.is;
@@ -1284,4 +1287,152 @@ public class IntervalCollectionTest {
         assertThat(icoll.size(), is(2));
     }
 
+    @Test
+    public void builder() {
+        DateInterval i1 =
+            DateInterval.between(
+                PlainDate.of(2014, 4, 10),
+                PlainDate.of(2014, 5, 31));
+        DateInterval i2 =
+            DateInterval.between(
+                PlainDate.of(2014, 2, 28),
+                PlainDate.of(2014, 4, 15));
+        DateInterval i3 =
+            DateInterval.between(
+                PlainDate.of(2014, 6, 1),
+                PlainDate.of(2014, 6, 30));
+        DateInterval empty =
+            DateInterval.between(
+                PlainDate.of(2014, 3, 1),
+                PlainDate.of(2014, 3, 1)).withOpenEnd();
+        IntervalCollection<PlainDate> base = IntervalCollection.onDateAxis().plus(i1);
+        IntervalCollection.Builder<PlainDate> builder = base.toBuilder();
+
+        assertThat(builder.build(), is(base));
+
+        IntervalCollection<PlainDate> built = builder.add(i3).addAll(Arrays.asList(empty, i2)).build();
+
+        assertThat(built, is(base.plus(i3).plus(i2)));
+        assertThat(built.getIntervals(), is(Arrays.<ChronoInterval<PlainDate>>asList(i2, i1, i3)));
+        assertThat(base.size(), is(1));
+    }
+
+    @Test
+    public void intersectWithInfinitePast() {
+        DateInterval i1 = DateInterval.until(PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.until(PlainDate.of(2014, 3, 31));
+        DateInterval i3 =
+            DateInterval.between(
+                PlainDate.of(2014, 4, 15),
+                PlainDate.of(2014, 6, 1));
+        IntervalCollection<PlainDate> a = IntervalCollection.onDateAxis().plus(i1);
+        IntervalCollection<PlainDate> b = IntervalCollection.onDateAxis().plus(i2).plus(i3);
+        IntervalCollection<PlainDate> expected =
+            IntervalCollection.onDateAxis()
+                .plus(i2)
+                .plus(DateInterval.between(PlainDate.of(2014, 4, 15), PlainDate.of(2014, 5, 31)));
+
+        assertThat(a.intersect(b), is(expected));
+        assertThat(
+            a.xor(b),
+            is(
+                IntervalCollection.onDateAxis()
+                    .plus(DateInterval.between(PlainDate.of(2014, 4, 1), PlainDate.of(2014, 4, 14)))
+                    .plus(DateInterval.between(PlainDate.of(2014, 6, 1), PlainDate.of(2014, 6, 1)))));
+    }
+
+    @Test
+    public void setOperationsOnManyIntervals() {
+        PlainTimestamp start = PlainTimestamp.of(2017, 1, 1, 0, 0);
+        IntervalCollection.Builder<PlainTimestamp> b1 = IntervalCollection.onTimestampAxis().toBuilder();
+        IntervalCollection.Builder<PlainTimestamp> b2 = IntervalCollection.onTimestampAxis().toBuilder();
+        int n = 20000;
+
+        for (int i = n - 1; i >= 0; i--) {
+            PlainTimestamp tsp = start.plus(i * 10L, ClockUnit.MINUTES);
+            b1.add(TimestampInterval.between(tsp, tsp.plus(6, ClockUnit.MINUTES)));
+            b2.add(TimestampInterval.between(tsp.plus(4, ClockUnit.MINUTES), tsp.plus(8, ClockUnit.MINUTES)));
+        }
+
+        IntervalCollection<PlainTimestamp> a = b1.build();
+        IntervalCollection<PlainTimestamp> b = b2.build();
+        IntervalCollection<PlainTimestamp> intersection = a.intersect(b);
+        IntervalCollection<PlainTimestamp> difference = a.minus(b);
+        IntervalCollection<PlainTimestamp> xor = a.xor(b);
+        IntervalCollection<PlainTimestamp> union = a.union(b);
+
+        assertThat(a.size(), is(n));
+        assertThat(intersection.size(), is(n));
+        assertThat(difference.size(), is(n));
+        assertThat(xor.size(), is(2 * n));
+        assertThat(union.size(), is(n));
+
+        PlainTimestamp last = start.plus((n - 1) * 10L, ClockUnit.MINUTES);
+        assertThat(
+            intersection.getIntervals().get(n - 1),
+            is(TimestampInterval.between(last.plus(4, ClockUnit.MINUTES), last.plus(6, ClockUnit.MINUTES))));
+        assertThat(
+            difference.getIntervals().get(n - 1),
+            is(TimestampInterval.between(last, last.plus(4, ClockUnit.MINUTES))));
+        assertThat(
+            union.getIntervals().get(n - 1),
+            is(TimestampInterval.between(last, last.plus(8, ClockUnit.MINUTES))));
+    }
+
+    @Test
+    public void parallelOperationsOnDateAxis() {
+        Random random = new Random(4711L);
+        PlainDate start = PlainDate.of(2000, 1, 1);
+        IntervalCollection.Builder<PlainDate> builder = IntervalCollection.onDateAxis().toBuilder();
+        for (int i = 0; i < 5000; i++) {
+            PlainDate d = start.plus(random.nextInt(20000), CalendarUnit.DAYS);
+            builder.add(DateInterval.between(d, d.plus(random.nextInt(5), CalendarUnit.DAYS)));
+        }
+        IntervalCollection<PlainDate> finite = builder.build();
+        assertParallelEqualsSequential(finite);
+        assertParallelEqualsSequential(finite.plus(DateInterval.until(start.plus(300, CalendarUnit.DAYS))));
+        assertParallelEqualsSequential(finite.plus(DateInterval.since(start.plus(10000, CalendarUnit.DAYS))));
+    }
+
+    @Test
+    public void parallelOperationsOnTimestampAxis() {
+        Random random = new Random(815L);
+        PlainTimestamp start = PlainTimestamp.of(2016, 1, 1, 0, 0);
+        IntervalCollection.Builder<PlainTimestamp> builder = IntervalCollection.onTimestampAxis().toBuilder();
+        for (int i = 0; i < 5000; i++) {
+            PlainTimestamp tsp = start.plus(random.nextInt(100000), ClockUnit.MINUTES);
+            TimestampInterval interval = TimestampInterval.between(tsp, tsp.plus(random.nextInt(30), ClockUnit.MINUTES));
+            builder.add(((i % 3) == 0) ? interval.withClosedEnd() : interval);
+        }
+        IntervalCollection<PlainTimestamp> finite = builder.build();
+        assertParallelEqualsSequential(finite);
+        assertParallelEqualsSequential(finite.plus(TimestampInterval.since(start.plus(50000, ClockUnit.MINUTES))));
+    }
+
+    @Test
+    public void parallelIntersection() {
+        PlainDate start = PlainDate.of(2000, 1, 1);
+        IntervalCollection.Builder<PlainDate> builder = IntervalCollection.onDateAxis().toBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.add(DateInterval.between(start.plus(i % 7, CalendarUnit.DAYS), start.plus(3000 - i, CalendarUnit.DAYS)));
+        }
+        IntervalCollection<PlainDate> coll = builder.build();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        assertThat(coll.withIntersection(pool), is(coll.withIntersection()));
+        assertThat(coll.withIntersection(pool).isEmpty(), is(false));
+        pool.shutdown();
+    }
+
+    private static <T> void assertParallelEqualsSequential(IntervalCollection<T> coll) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThat(coll.withGaps(pool).getIntervals(), is(coll.withGaps().getIntervals()));
+            assertThat(coll.withBlocks(pool).getIntervals(), is(coll.withBlocks().getIntervals()));
+            assertThat(coll.withSplits(pool).getIntervals(), is(coll.withSplits().getIntervals()));
+            assertThat(coll.withIntersection(pool).getIntervals(), is(coll.withIntersection().getIntervals()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,170 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalIndexTest {
+
+    private static final PlainDate BASE = PlainDate.of(2020, 1, 1);
+
+    @Test
+    public void addAndRemove() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 6, 15), PlainDate.of(2014, 6, 30));
+        IntervalIndex<PlainDate, DateInterval> index = IntervalIndex.onDateAxis();
+
+        assertThat(index.isEmpty(), is(true));
+        assertThat(index.add(i3), is(true));
+        assertThat(index.add(i1), is(true));
+        assertThat(index.add(i2), is(true));
+        assertThat(index.add(i3), is(true)); // duplicate
+        assertThat(index.add(i3.collapse()), is(false)); // empty
+        assertThat(index.size(), is(4));
+        assertThat(new ArrayList<>(index), is(Arrays.asList(i1, i2, i3, i3)));
+        assertThat(index.findIntersections(PlainDate.of(2014, 5, 31)), is(Arrays.asList(i1, i2)));
+
+        assertThat(index.contains(i2), is(true));
+        assertThat(index.remove(i2), is(true));
+        assertThat(index.remove(i2), is(false));
+        assertThat(index.contains(i2), is(false));
+        assertThat(index.remove(i3), is(true));
+        assertThat(index.contains(i3), is(true));
+        assertThat(index.size(), is(2));
+        assertThat(index.contains("xyz"), is(false));
+        assertThat(
+            index.remove(MomentInterval.between(Moment.UNIX_EPOCH, Moment.UNIX_EPOCH.plus(1, TimeUnit.SECONDS))),
+            is(false));
+
+        index.clear();
+        assertThat(index.isEmpty(), is(true));
+        assertThat(index.size(), is(0));
+    }
+
+    @Test
+    public void visitorCancellation() {
+        IntervalIndex<PlainDate, DateInterval> index = IntervalIndex.onDateAxis();
+        for (int i = 0; i < 10; i++) {
+            index.add(DateInterval.between(BASE, BASE.plus(i, CalendarUnit.DAYS)));
+        }
+        List<DateInterval> visited = new ArrayList<>();
+        index.visitIntersections(
+            BASE,
+            (interval) -> {
+                visited.add(interval);
+                return (visited.size() == 3);
+            }
+        );
+        assertThat(visited.size(), is(3));
+    }
+
+    @Test
+    public void snapshotIterator() {
+        IntervalIndex<PlainDate, DateInterval> index = IntervalIndex.onDateAxis();
+        DateInterval i1 = DateInterval.between(BASE, BASE.plus(1, CalendarUnit.DAYS));
+        DateInterval i2 = DateInterval.between(BASE.plus(2, CalendarUnit.DAYS), BASE.plus(3, CalendarUnit.DAYS));
+        index.add(i1);
+        Iterator<DateInterval> iter = index.iterator();
+        index.add(i2);
+        index.remove(i1);
+        assertThat(iter.next(), is(i1));
+        assertThat(iter.hasNext(), is(false));
+        assertThat(new ArrayList<>(index), is(Arrays.asList(i2)));
+    }
+
+    @Test
+    public void randomComparedWithIntervalTree() {
+        Random random = new Random(12345);
+        IntervalIndex<PlainDate, DateInterval> index = IntervalIndex.onDateAxis();
+        List<DateInterval> reference = new ArrayList<>();
+
+        for (int round = 0; round < 2000; round++) {
+            if (!reference.isEmpty() && (random.nextInt(3) == 0)) {
+                DateInterval victim = reference.remove(random.nextInt(reference.size()));
+                assertThat(index.remove(victim), is(true));
+            } else {
+                DateInterval interval = createRandom(random);
+                reference.add(interval);
+                assertThat(index.add(interval), is(true));
+            }
+
+            if (round % 50 == 0) {
+                assertThat(index.size(), is(reference.size()));
+                IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(reference);
+                for (int j = 0; j < 20; j++) {
+                    PlainDate date = BASE.plus(random.nextInt(400) - 20, CalendarUnit.DAYS);
+                    assertThat(sorted(index.findIntersections(date)), is(sorted(tree.findIntersections(date))));
+                    DateInterval search = createRandom(random);
+                    assertThat(sorted(index.findIntersections(search)), is(sorted(tree.findIntersections(search))));
+                }
+            }
+        }
+
+        List<DateInterval> all = new ArrayList<>(index);
+        assertThat(sorted(all), is(sorted(reference)));
+    }
+
+    @Test
+    public void sortedInsertionsStayBalanced() {
+        IntervalIndex<Moment, MomentInterval> index = IntervalIndex.onMomentAxis();
+        Moment start = PlainTimestamp.of(2020, 1, 1, 0, 0).atUTC();
+        int n = 100_000;
+
+        for (int i = 0; i < n; i++) {
+            Moment m = start.plus(i * 60L, TimeUnit.SECONDS);
+            index.add(MomentInterval.between(m, m.plus(90, TimeUnit.SECONDS)));
+        }
+
+        assertThat(index.size(), is(n));
+        Moment probe = start.plus(60L * 5000 + 20, TimeUnit.SECONDS);
+        assertThat(index.findIntersections(probe).size(), is(2));
+
+        for (int i = 0; i < n; i += 2) {
+            Moment m = start.plus(i * 60L, TimeUnit.SECONDS);
+            assertThat(index.remove(MomentInterval.between(m, m.plus(90, TimeUnit.SECONDS))), is(true));
+        }
+
+        assertThat(index.size(), is(n / 2));
+        assertThat(index.findIntersections(probe).size(), is(1));
+    }
+
+    private static DateInterval createRandom(Random random) {
+        PlainDate start = BASE.plus(random.nextInt(365), CalendarUnit.DAYS);
+        PlainDate end = start.plus(random.nextInt(30), CalendarUnit.DAYS);
+        switch (random.nextInt(10)) {
+            case 0:
+                return DateInterval.since(start);
+            case 1:
+                return DateInterval.until(end);
+            default:
+                return DateInterval.between(start, end);
+        }
+    }
+
+    private static List<String> sorted(List<DateInterval> intervals) {
+        List<String> list = new ArrayList<>();
+        for (DateInterval interval : intervals) {
+            list.add(interval.toString());
+        }
+        list.sort(null);
+        return list;
+    }
+
+}
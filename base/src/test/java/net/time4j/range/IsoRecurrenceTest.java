@@ -3,8 +3,11 @@ package net.time4j.range;
 import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Duration;
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.engine.Temporal;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
@@ -13,6 +16,7 @@ import org.junit.runners.JUnit4;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -416,4 +420,163 @@ public class IsoRecurrenceTest {
         assertThat(recurrence.intervalStream().parallel().collect(Collectors.toList()), is(expected));
     }
 
+    @Test
+    public void randomAccessOfDateIntervals() {
+        PlainDate ref = PlainDate.of(2016, 1, 31);
+        checkRandomAccess(IsoRecurrence.of(500, ref, Duration.of(10, CalendarUnit.DAYS)), 500);
+        checkRandomAccess(IsoRecurrence.of(500, Duration.of(2, CalendarUnit.WEEKS), ref), 500);
+        checkRandomAccess(IsoRecurrence.of(100, ref, Duration.of(1, CalendarUnit.MONTHS)), 100);
+        checkRandomAccess(IsoRecurrence.of(100, Duration.of(1, CalendarUnit.MONTHS), ref), 100);
+
+        IsoRecurrence<DateInterval> weekly =
+            IsoRecurrence.of(0, ref, Duration.of(1, CalendarUnit.WEEKS)).withInfiniteCount();
+        assertThat(weekly.get(1000000), is(DateInterval.between(
+            ref.plus(7000000, CalendarUnit.DAYS), ref.plus(7000006, CalendarUnit.DAYS))));
+        assertThat(weekly.indexOf(ref.plus(7000003, CalendarUnit.DAYS)), is(1000000L));
+        assertThat(weekly.indexOf(ref.minus(1, CalendarUnit.DAYS)), is(-1L));
+        List<DateInterval> between =
+            weekly.occurrencesBetween(PlainDate.of(2016, 2, 6), PlainDate.of(2016, 2, 14))
+                .collect(Collectors.toList());
+        assertThat(between.size(), is(3));
+        assertThat(between.get(0), is(weekly.get(0)));
+    }
+
+    @Test
+    public void randomAccessOfTimestampIntervals() {
+        PlainTimestamp ref = PlainTimestamp.of(2016, 1, 31, 10, 45);
+        Duration<ClockUnit> fiveMinutes = Duration.of(5, ClockUnit.MINUTES);
+        checkRandomAccess(IsoRecurrence.of(1000, ref, fiveMinutes), 1000);
+        checkRandomAccess(IsoRecurrence.of(1000, fiveMinutes, ref), 1000);
+        checkRandomAccess(
+            IsoRecurrence.of(1000, ref, Duration.ofClockUnits(1, 2, 3).plus(123456789, ClockUnit.NANOS)), 1000);
+        checkRandomAccess(
+            IsoRecurrence.of(80, ref, Duration.ofPositive().months(1).hours(1).build()), 80);
+
+        IsoRecurrence<TimestampInterval> tenYears =
+            IsoRecurrence.of(0, ref, fiveMinutes).withInfiniteCount();
+        long k = 10 * 365 * 288L;
+        PlainTimestamp start = ref.plus(k * 5, ClockUnit.MINUTES);
+        assertThat(tenYears.get(k), is(TimestampInterval.between(start, start.plus(5, ClockUnit.MINUTES))));
+        assertThat(tenYears.indexOf(start.plus(299, ClockUnit.SECONDS)), is(k));
+        assertThat(tenYears.indexOf(start.plus(300, ClockUnit.SECONDS)), is(k + 1));
+        assertThat(
+            tenYears.occurrencesBetween(start, start.plus(10, ClockUnit.MINUTES)).count(),
+            is(2L));
+        assertThat(
+            tenYears.occurrencesBetween(start, start.plus(1, ClockUnit.NANOS)).count(),
+            is(1L));
+        assertThat(tenYears.occurrencesBetween(start, start).count(), is(0L));
+    }
+
+    @Test
+    public void randomAccessOfMomentIntervals() {
+        ZonalOffset offset = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2);
+        Moment ref = PlainTimestamp.of(2016, 12, 31, 23, 0).at(offset);
+        IsoRecurrence<MomentInterval> hourly = IsoRecurrence.of(1000, ref, Duration.of(1, ClockUnit.HOURS), offset);
+        checkRandomAccess(hourly, 1000);
+        checkRandomAccess(IsoRecurrence.of(1000, Duration.of(1, ClockUnit.HOURS), ref, offset), 1000);
+
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        assertThat(ls.isLeapSecond(), is(true));
+        assertThat(hourly.indexOf(ls), is(2L));
+        assertThat(hourly.get(2).contains(ls), is(true));
+    }
+
+    @Test
+    public void parallelStreamWithDirectAccess() {
+        IsoRecurrence<TimestampInterval> recurrence =
+            IsoRecurrence.of(100000, PlainTimestamp.of(2016, 1, 1, 0, 0), Duration.of(1, ClockUnit.MINUTES));
+        List<TimestampInterval> sequential = new ArrayList<>();
+        for (TimestampInterval interval : recurrence) {
+            sequential.add(interval);
+        }
+        assertThat(recurrence.intervalStream().parallel().collect(Collectors.toList()), is(sequential));
+        assertThat(
+            recurrence.withInfiniteCount().intervalStream().parallel().limit(100000).collect(Collectors.toList()),
+            is(sequential));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void indexOfWithWrongType() {
+        IsoRecurrence.of(5, PlainDate.of(2016, 1, 1), Duration.of(1, CalendarUnit.DAYS))
+            .indexOf(PlainTimestamp.of(2016, 1, 1, 0, 0));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getOutOfRange() {
+        IsoRecurrence.of(5, PlainDate.of(2016, 1, 1), Duration.of(1, CalendarUnit.DAYS)).get(5);
+    }
+
+    private static <T extends Temporal<? super T>, I extends IsoInterval<T, I>> void checkRandomAccess(IsoRecurrence<I> recurrence, int count) {
+        List<I> expected = new ArrayList<>();
+        Iterator<I> iter = recurrence.iterator();
+        while (iter.hasNext()) {
+            expected.add(iter.next());
+        }
+        assertThat(expected.size(), is(count));
+
+        for (int k = 0; k < count; k++) {
+            I interval = expected.get(k);
+            assertThat(recurrence.get(k), is(interval));
+            T start = interval.getStart().getTemporal();
+            assertThat(locate(recurrence, start), is((long) k));
+            if (interval.getEnd().isClosed()) {
+                assertThat(locate(recurrence, interval.getEnd().getTemporal()), is((long) k));
+            }
+        }
+
+        I first = expected.get(0);
+        I last = expected.get(count - 1);
+        T outside = (recurrence.isBackwards() ? first : last).getEnd().getTemporal();
+        if (!(outside instanceof PlainDate)) {
+            assertThat(locate(recurrence, outside), is(-1L));
+        }
+
+        I a = expected.get(count / 4);
+        I b = expected.get(count / 2);
+        T ws = (recurrence.isBackwards() ? b : a).getStart().getTemporal();
+        T we = (recurrence.isBackwards() ? a : b).getStart().getTemporal();
+        ChronoInterval<T> range = window(ws, we);
+        List<I> window = new ArrayList<>();
+        for (I interval : expected) {
+            if (interval.intersects(range)) {
+                window.add(interval);
+            }
+        }
+        assertThat(window.isEmpty(), is(false));
+        assertThat(between(recurrence, ws, we), is(window));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ChronoInterval<T> window(T start, T end) {
+        if (start instanceof PlainDate) {
+            return (ChronoInterval<T>) DateInterval.between((PlainDate) start, (PlainDate) end);
+        } else if (start instanceof PlainTimestamp) {
+            return (ChronoInterval<T>) TimestampInterval.between((PlainTimestamp) start, (PlainTimestamp) end);
+        } else {
+            return (ChronoInterval<T>) MomentInterval.between((Moment) start, (Moment) end);
+        }
+    }
+
+    private static long locate(IsoRecurrence<?> recurrence, Object temporal) {
+        if (temporal instanceof PlainDate) {
+            return recurrence.indexOf((PlainDate) temporal);
+        } else if (temporal instanceof PlainTimestamp) {
+            return recurrence.indexOf((PlainTimestamp) temporal);
+        } else {
+            return recurrence.indexOf((Moment) temporal);
+        }
+    }
+
+    private static <I> List<I> between(IsoRecurrence<I> recurrence, Object start, Object end) {
+        if (start instanceof PlainDate) {
+            return recurrence.occurrencesBetween((PlainDate) start, (PlainDate) end).collect(Collectors.toList());
+        } else if (start instanceof PlainTimestamp) {
+            return recurrence.occurrencesBetween((PlainTimestamp) start, (PlainTimestamp) end)
+                .collect(Collectors.toList());
+        } else {
+            return recurrence.occurrencesBetween((Moment) start, (Moment) end).collect(Collectors.toList());
+        }
+    }
+
 }
@@ -0,0 +1,222 @@
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MomentSeriesTest {
+
+    private static final Moment LS =
+        PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+
+    @Test
+    public void builderSortsOnce() {
+        List<Moment> moments = randomMoments(5000);
+        MomentSeries.Builder builder = MomentSeries.builder();
+        for (Moment m : moments) {
+            builder.add(m);
+        }
+        MomentSeries series = builder.build();
+        Collections.sort(moments);
+
+        assertThat(series.size(), is(moments.size()));
+        for (int i = 0; i < moments.size(); i++) {
+            assertThat(series.get(i), is(moments.get(i)));
+            assertThat(series.getPosixTime(i), is(moments.get(i).getPosixTime()));
+            assertThat(series.getNanosecond(i), is(moments.get(i).getNanosecond()));
+        }
+        List<Moment> iterated = new ArrayList<>();
+        for (Moment m : series) {
+            iterated.add(m);
+        }
+        assertThat(iterated, is(moments));
+    }
+
+    @Test
+    public void leapSecond() {
+        Moment before = LS.minus(1, SI.SECONDS);
+        Moment after = LS.plus(1, SI.SECONDS);
+        MomentSeries series = MomentSeries.builder().add(after).add(LS).add(before).build();
+
+        assertThat(LS.isLeapSecond(), is(true));
+        assertThat(series.get(0), is(before));
+        assertThat(series.get(1), is(LS));
+        assertThat(series.get(2), is(after));
+        assertThat(series.isLeapSecond(1), is(true));
+        assertThat(series.getPosixTime(1), is(before.getPosixTime()));
+        assertThat(series.ceilingIndex(LS), is(1));
+        assertThat(series.floorIndex(LS), is(1));
+        assertThat(series.contains(LS), is(true));
+
+        long[] utc = new long[3];
+        series.getElapsedTimes(TimeScale.UTC, utc, 0);
+        assertThat(utc[1], is(LS.getElapsedTime(TimeScale.UTC)));
+        assertThat(MomentSeries.of(TimeScale.UTC, utc, null), is(series));
+    }
+
+    @Test
+    public void conversionOfScales() {
+        long[] posix = {0L, 63072000L, 1000000000L, 1500000000L};
+        int[] nanos = {0, 5, 999_999_999, 123};
+        MomentSeries series = MomentSeries.of(TimeScale.POSIX, posix, nanos);
+        long[] utc = new long[4];
+        series.getElapsedTimes(TimeScale.UTC, utc, 0);
+
+        for (int i = 0; i < 4; i++) {
+            Moment m = Moment.of(posix[i], nanos[i], TimeScale.POSIX);
+            assertThat(series.get(i), is(m));
+            assertThat(utc[i], is(m.getElapsedTime(TimeScale.UTC)));
+        }
+        assertThat(MomentSeries.of(TimeScale.UTC, utc, nanos), is(series));
+
+        long[] back = new long[5];
+        series.getElapsedTimes(TimeScale.POSIX, back, 1);
+        assertThat(back[4], is(1500000000L));
+    }
+
+    @Test
+    public void ceilingAndFloor() {
+        MomentSeries series = MomentSeries.of(TimeScale.POSIX, new long[] {10, 20, 20, 30}, null);
+        Moment m20 = Moment.of(20, TimeScale.POSIX);
+        Moment m25 = Moment.of(25, TimeScale.POSIX);
+
+        assertThat(series.ceilingIndex(m20), is(1));
+        assertThat(series.floorIndex(m20), is(2));
+        assertThat(series.ceilingIndex(m25), is(3));
+        assertThat(series.floorIndex(m25), is(2));
+        assertThat(series.ceilingIndex(Moment.of(31, TimeScale.POSIX)), is(4));
+        assertThat(series.floorIndex(Moment.of(9, TimeScale.POSIX)), is(-1));
+        assertThat(series.contains(m25), is(false));
+    }
+
+    @Test
+    public void sliceByInterval() {
+        MomentSeries series = MomentSeries.of(TimeScale.POSIX, new long[] {10, 20, 30, 40, 50}, null);
+        Moment m20 = Moment.of(20, TimeScale.POSIX);
+        Moment m40 = Moment.of(40, TimeScale.POSIX);
+
+        MomentSeries halfOpen = series.slice(MomentInterval.between(m20, m40));
+        assertThat(halfOpen.size(), is(2));
+        assertThat(halfOpen.getPosixTime(0), is(20L));
+        assertThat(halfOpen.getPosixTime(1), is(30L));
+
+        MomentSeries closed = series.slice(MomentInterval.between(m20, m40).withClosedEnd());
+        assertThat(closed.size(), is(3));
+        assertThat(closed.getPosixTime(2), is(40L));
+
+        assertThat(series.slice(MomentInterval.since(m40)).size(), is(2));
+        assertThat(series.slice(MomentInterval.until(m20)).size(), is(1));
+        assertThat(series.slice(MomentInterval.between(m20, m20)).isEmpty(), is(true));
+        assertThat(halfOpen.slice(1, 2).getPosixTime(0), is(30L));
+    }
+
+    @Test
+    public void offHeapRoundTrip() {
+        MomentSeries.Builder builder = MomentSeries.builder();
+        for (Moment m : randomMoments(1000)) {
+            builder.add(m);
+        }
+        builder.add(LS);
+        MomentSeries series = builder.build();
+        MomentSeries offHeap = series.toOffHeap();
+
+        assertThat(offHeap.isBufferBacked(), is(true));
+        assertThat(offHeap, is(series));
+        assertThat(offHeap.hashCode(), is(series.hashCode()));
+        assertThat(offHeap.get(offHeap.ceilingIndex(LS)), is(LS));
+
+        ByteBuffer buffer = ByteBuffer.allocate(8 + series.size() * 12);
+        buffer.putLong(-1L);
+        series.writeTo(buffer);
+        buffer.flip();
+        buffer.position(8);
+        assertThat(MomentSeries.of(buffer), is(series));
+    }
+
+    @Test
+    public void forEachWithoutMoments() {
+        MomentSeries series = MomentSeries.of(TimeScale.POSIX, new long[] {1, 2, 3}, new int[] {7, 8, 9});
+        long[] sum = new long[2];
+        series.slice(1, 3).forEach(
+            (posixTime, nanos) -> {
+                sum[0] += posixTime;
+                sum[1] += nanos;
+            }
+        );
+        assertThat(sum[0], is(5L));
+        assertThat(sum[1], is(17L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void unsortedInput() {
+        MomentSeries.of(TimeScale.POSIX, new long[] {2, 1}, null);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidNanosecond() {
+        MomentSeries.builder().add(0L, 1_000_000_000);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void leapBitAsPosixNanosecond() {
+        MomentSeries.of(TimeScale.POSIX, new long[] {1000L}, new int[] {0x40000000});
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void leapBitAsUtcNanosecond() {
+        MomentSeries.of(TimeScale.UTC, new long[] {1000L}, new int[] {0x40000000});
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void leapBitAsBuilderNanosecond() {
+        MomentSeries.builder().add(1000L, 0x40000000);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void leapBitInBufferWithoutLeapSecond() {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putLong(1000L).putInt(0x40000000).flip();
+        MomentSeries.of(buffer);
+    }
+
+    @Test
+    public void leapBitInBufferOnLeapSecond() {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putLong(LS.getPosixTime()).putInt(0x40000000).flip();
+        MomentSeries series = MomentSeries.of(buffer);
+        assertThat(series.isLeapSecond(0), is(true));
+        assertThat(series.get(0), is(LS));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void incompleteBuffer() {
+        MomentSeries.of(ByteBuffer.allocate(13));
+    }
+
+    private static List<Moment> randomMoments(int count) {
+        Random random = new Random(12345L);
+        List<Moment> moments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long posix = 1_000_000_000L + random.nextInt(100_000);
+            int nano = ((i % 3) == 0) ? 0 : random.nextInt(1_000_000_000);
+            moments.add(Moment.of(posix, nano, TimeScale.POSIX));
+        }
+        return moments;
+    }
+
+}
@@ -25,9 +25,11 @@ import org.junit.runners.Suite.SuiteClasses;
         DayPartitionTest.class,
         HolidayTest.class,
         IntervalCollectionTest.class,
+        IntervalIndexTest.class,
         IntervalTreeTest.class,
         IsoRecurrenceTest.class,
         MomentIntervalFormatTest.class,
+        MomentSeriesTest.class,
         RangeConversionTest.class,
         RangeDurationTest.class,
         RelationTest.class,
@@ -294,6 +294,42 @@ public class LeapSecondTest {
             is(1341100801L + NLS_OFFSET));
     }
 
+    @Test
+    public void lookupAroundEveryEvent() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        LeapSecondEvent next = null;
+
+        for (LeapSecondEvent event : instance) {
+            GregorianDate date = event.getDate();
+            int second = ((event.getShift() == 1) ? 59 : 58); // last existing second before event
+            long posix =
+                PlainDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth())
+                    .atTime(23, 59, second).atUTC().getPosixTime();
+            long utc = instance.enhance(posix);
+
+            assertThat(instance.getNextEvent(utc - 1), is(event));
+            assertThat(instance.getNextEvent(utc + 2), is(next));
+            assertThat(instance.strip(utc), is(posix));
+
+            if (event.getShift() == 1) {
+                assertThat(instance.getShift(utc + 1), is(1));
+                assertThat(instance.isPositiveLS(utc + 1), is(true));
+                assertThat(instance.strip(utc + 1), is(posix));
+                assertThat(instance.strip(utc + 2), is(posix + 1));
+                assertThat(instance.enhance(posix + 1), is(utc + 2));
+            } else {
+                assertThat(instance.getShift(utc), is(0));
+                assertThat(instance.isPositiveLS(utc + 1), is(false));
+                assertThat(instance.strip(utc + 1), is(posix + 2));
+                assertThat(instance.enhance(posix + 2), is(utc + 1));
+            }
+
+            assertThat(instance.getShift(utc + 2), is(0));
+            assertThat(instance.isPositiveLS(utc + 2), is(false));
+            next = event;
+        }
+    }
+
     @Test
     public void getDateOfExpiration() {
         GregorianDate expected = PlainDate.of(2017, 12, 28);
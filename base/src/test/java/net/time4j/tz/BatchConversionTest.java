@@ -0,0 +1,228 @@
+package net.time4j.tz;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianDate;
+import net.time4j.base.WallTime;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BatchConversionTest {
+
+    private static final String[] ZONES = {
+        "Europe/Berlin", "America/New_York", "Pacific/Apia", "Australia/Lord_Howe",
+        "Europe/Dublin", "Asia/Kolkata", "America/Sao_Paulo", "Etc/GMT+5"
+    };
+
+    private static final long START = -2208988800L; // 1900-01-01T00:00Z
+    private static final long END = 4102444800L; // 2100-01-01T00:00Z
+
+    @Test
+    public void sortedToLocalSeconds() {
+        for (String zone : ZONES) {
+            Timezone tz = Timezone.of(zone);
+            long[] posix = sortedValues(tz, false);
+            long[] local = new long[posix.length];
+            tz.toLocalSeconds(posix, 0, local, 0, posix.length);
+            for (int i = 0; i < posix.length; i++) {
+                assertThat(zone + "/" + posix[i], local[i], is(expectedLocal(tz, posix[i])));
+            }
+        }
+    }
+
+    @Test
+    public void unsortedToLocalSeconds() {
+        Random random = new Random(2026L);
+        for (String zone : ZONES) {
+            Timezone tz = Timezone.of(zone);
+            long[] posix = randomValues(random, 20000);
+            long[] local = new long[posix.length];
+            tz.toLocalSeconds(posix, 0, local, 0, posix.length);
+            for (int i = 0; i < posix.length; i++) {
+                assertThat(zone + "/" + posix[i], local[i], is(expectedLocal(tz, posix[i])));
+            }
+        }
+    }
+
+    @Test
+    public void sortedToPosixTimes() {
+        TransitionStrategy[] strategies = {
+            Timezone.DEFAULT_CONFLICT_STRATEGY,
+            GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET),
+            GapResolver.PUSH_FORWARD.and(OverlapResolver.EARLIER_OFFSET),
+            GapResolver.NEXT_VALID_TIME.and(OverlapResolver.LATER_OFFSET)
+        };
+
+        for (String zone : ZONES) {
+            for (TransitionStrategy strategy : strategies) {
+                Timezone tz = Timezone.of(zone).with(strategy);
+                long[] local = sortedValues(tz, true);
+                long[] posix = new long[local.length];
+                tz.toPosixTimes(local, 0, posix, 0, local.length);
+                for (int i = 0; i < local.length; i++) {
+                    assertThat(zone + "/" + strategy + "/" + local[i], posix[i], is(expectedPosix(tz, local[i])));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void unsortedToPosixTimes() {
+        Random random = new Random(2027L);
+        for (String zone : ZONES) {
+            Timezone tz = Timezone.of(zone).with(GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET));
+            long[] local = randomValues(random, 20000);
+            long[] posix = new long[local.length];
+            tz.toPosixTimes(local, 0, posix, 0, local.length);
+            for (int i = 0; i < local.length; i++) {
+                assertThat(zone + "/" + local[i], posix[i], is(expectedPosix(tz, local[i])));
+            }
+        }
+    }
+
+    @Test
+    public void roundTripInPlace() {
+        for (String zone : ZONES) {
+            Timezone tz = Timezone.of(zone);
+            long[] posix = sortedValues(tz, false);
+            long[] local = new long[posix.length];
+            tz.toLocalSeconds(posix, 0, local, 0, posix.length);
+            long[] values = posix.clone();
+            tz.toLocalSeconds(values, 0, values, 0, values.length);
+            assertThat(values, is(local));
+            tz.toPosixTimes(values, 0, values, 0, values.length);
+            tz.toLocalSeconds(values, 0, values, 0, values.length);
+            assertThat(values, is(local));
+        }
+    }
+
+    @Test
+    public void subRange() {
+        Timezone tz = Timezone.of("America/New_York");
+        long[] posix = {0L, 1000000000L, 1500000000L, 2000000000L};
+        long[] local = new long[6];
+        Arrays.fill(local, -1L);
+        tz.toLocalSeconds(posix, 1, local, 2, 2);
+        assertThat(local[0], is(-1L));
+        assertThat(local[1], is(-1L));
+        assertThat(local[2], is(1000000000L - 4 * 3600));
+        assertThat(local[3], is(1500000000L - 4 * 3600));
+        assertThat(local[4], is(-1L));
+    }
+
+    @Test
+    public void fixedOffset() {
+        Timezone tz = Timezone.of(ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30));
+        long[] posix = {START, 0L, END};
+        long[] local = new long[3];
+        tz.toLocalSeconds(posix, 0, local, 0, 3);
+        assertThat(local, is(new long[] {START + 19800, 19800L, END + 19800}));
+        tz.toPosixTimes(local, 0, local, 0, 3);
+        assertThat(local, is(posix));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void gapWithAbort() {
+        Timezone tz = Timezone.of("Europe/Berlin").with(GapResolver.ABORT.and(OverlapResolver.LATER_OFFSET));
+        long gap = PlainTimestamp.of(2017, 3, 26, 2, 30).atUTC().getPosixTime();
+        tz.toPosixTimes(new long[] {0L, gap}, 0, new long[2], 0, 2);
+    }
+
+    @Test
+    public void customStrategy() {
+        TransitionStrategy strategy =
+            new TransitionStrategy() {
+                @Override
+                public long resolve(GregorianDate localDate, WallTime localTime, Timezone timezone) {
+                    return 42L;
+                }
+                @Override
+                public ZonalOffset getOffset(GregorianDate localDate, WallTime localTime, Timezone timezone) {
+                    return ZonalOffset.UTC;
+                }
+            };
+        Timezone tz = Timezone.of("Europe/Berlin").with(strategy);
+        long[] posix = new long[2];
+        tz.toPosixTimes(new long[] {0L, 1000000000L}, 0, posix, 0, 2);
+        assertThat(posix, is(new long[] {42L, 42L}));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void outOfBounds() {
+        Timezone.of("Europe/Berlin").toLocalSeconds(new long[3], 1, new long[3], 0, 3);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void outOfRange() {
+        Timezone.of("Europe/Berlin").toLocalSeconds(new long[] {0L, Long.MAX_VALUE}, 0, new long[2], 0, 2);
+    }
+
+    private static long expectedLocal(
+        Timezone tz,
+        long posix
+    ) {
+        Moment moment = Moment.of(posix, TimeScale.POSIX);
+        return moment.toZonalTimestamp(tz.getOffset(moment)).atUTC().getPosixTime();
+    }
+
+    private static long expectedPosix(
+        Timezone tz,
+        long local
+    ) {
+        return Moment.of(local, TimeScale.POSIX).toZonalTimestamp(ZonalOffset.UTC).in(tz).getPosixTime();
+    }
+
+    // ascending values every few hours and densely around every transition
+    private static long[] sortedValues(
+        Timezone tz,
+        boolean localTimeline
+    ) {
+        List<ZonalTransition> transitions =
+            tz.getHistory().getTransitions(Moment.of(START, TimeScale.POSIX), Moment.of(END, TimeScale.POSIX));
+        long[] values = new long[(int) ((END - START) / 21600) + transitions.size() * 50];
+        int n = 0;
+        int index = 0;
+        long t = START;
+        while (t < END) {
+            long tt = Long.MAX_VALUE;
+            if (index < transitions.size()) {
+                ZonalTransition transition = transitions.get(index);
+                tt = transition.getPosixTime() + (localTimeline ? transition.getPreviousOffset() : 0);
+            }
+            if (tt - 7200 <= t) {
+                for (long x = Math.max(t, tt - 7200); x < tt + 7200; x += 600) {
+                    values[n++] = x;
+                }
+                t = Math.max(t, tt + 7200);
+                index++;
+            } else {
+                values[n++] = t;
+                t += 21600;
+            }
+        }
+        return Arrays.copyOf(values, n);
+    }
+
+    private static long[] randomValues(
+        Random random,
+        int count
+    ) {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = START + (long) (random.nextDouble() * (END - START));
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,83 @@
+package net.time4j.tz;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneCacheTest {
+
+    @Before
+    public void setUp() {
+        Timezone.Cache.setStrongReferences(true);
+        Timezone.Cache.refresh();
+        Timezone.Cache.resetStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        Timezone.Cache.setMaximumCacheSize(Integer.MAX_VALUE);
+        Timezone.Cache.setStrongReferences(false);
+        Timezone.Cache.resetStatistics();
+    }
+
+    @Test
+    public void statistics() {
+        int size = Timezone.Cache.getSize();
+        Timezone tz = Timezone.of("Europe/Berlin");
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz));
+        assertThat(Timezone.Cache.getMissCount(), is(1L));
+        assertThat(Timezone.Cache.getLoadCount(), is(1L));
+        assertThat(Timezone.Cache.getHitCount(), is(2L));
+        assertThat(Timezone.Cache.getSize(), is(size + 1));
+        Timezone.Cache.resetStatistics();
+        assertThat(Timezone.Cache.getHitCount(), is(0L));
+    }
+
+    @Test
+    public void maximumSize() throws InterruptedException {
+        Timezone.Cache.setMaximumCacheSize(100); // enables tracking of access order
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        Thread.sleep(5);
+        Timezone.of("Europe/Paris");
+        Thread.sleep(5);
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin)); // now more recently used than Paris
+        Thread.sleep(5);
+        Timezone.Cache.setMaximumCacheSize(2);
+        assertThat(Timezone.Cache.getSize(), is(2));
+        long evictions = Timezone.Cache.getEvictionCount();
+        Timezone.of("Europe/London");
+        assertThat(Timezone.Cache.getSize(), is(2));
+        assertThat(Timezone.Cache.getEvictionCount(), is(evictions + 1));
+        long loads = Timezone.Cache.getLoadCount();
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+        assertThat(Timezone.Cache.getLoadCount(), is(loads));
+        Timezone.of("Europe/Paris");
+        assertThat(Timezone.Cache.getLoadCount(), is(loads + 1));
+    }
+
+    @Test
+    public void shrinkMaximumSize() {
+        Timezone.of("Europe/Berlin");
+        Timezone.of("Europe/Paris");
+        Timezone.of("Europe/London");
+        int size = Timezone.Cache.getSize();
+        Timezone.Cache.setMaximumCacheSize(1);
+        assertThat(Timezone.Cache.getSize(), is(1));
+        assertThat(Timezone.Cache.getEvictionCount(), is(size - 1L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidMaximumSize() {
+        Timezone.Cache.setMaximumCacheSize(0);
+    }
+
+}
@@ -8,11 +8,13 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses(
     {
+        BatchConversionTest.class,
         DatelineBorderTest.class,
         OffsetTest.class,
         PlatformTimezoneTest.class,
         ProviderRegistrationTest.class,
-        TZIDTest.class
+        TZIDTest.class,
+        ZoneCacheTest.class
     }
 )
 public class ZoneSuite {
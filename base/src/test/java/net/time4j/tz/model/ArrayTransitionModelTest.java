@@ -16,6 +16,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -350,6 +351,40 @@ public class ArrayTransitionModelTest {
             is(Collections.singletonList(SECOND)));
     }
 
+    @Test
+    public void getStartTransitionWithLookupIndex() {
+        List<ZonalTransition> transitions = new ArrayList<>();
+        long start = -20L * 365 * 86400;
+        int previous = 3600;
+        for (int i = 0; i < 400; i++) {
+            // alternating summer and winter time in irregular steps from 1950 to about 2150
+            long posix = start + i * (182L * 86400 + (i % 7) * 3607L);
+            int dst = (i % 2 == 0) ? 3600 : 0;
+            transitions.add(new ZonalTransition(posix, previous, 3600 + dst, dst));
+            previous = 3600 + dst;
+        }
+        TransitionHistory model = new ArrayTransitionModel(transitions);
+        ZonalTransition[] array = transitions.toArray(new ZonalTransition[0]);
+        for (long t = start - 86400L; t < start + 210L * 365 * 86400; t += 86399L + (t % 1000)) {
+            ZonalTransition expectedStart = null;
+            ZonalTransition expectedNext = null;
+            for (ZonalTransition zt : array) {
+                if (zt.getPosixTime() <= t) {
+                    expectedStart = zt;
+                } else {
+                    expectedNext = zt;
+                    break;
+                }
+            }
+            assertThat(model.getStartTransition(new UT(t)), is(expectedStart));
+            assertThat(model.findNextTransition(new UT(t)).orElse(null), is(expectedNext));
+        }
+        for (ZonalTransition zt : array) {
+            assertThat(model.getStartTransition(new UT(zt.getPosixTime())), is(zt));
+            assertThat(model.findNextTransition(new UT(zt.getPosixTime() - 1)).get(), is(zt));
+        }
+    }
+
     @Test
     public void isEmpty() {
         assertThat(MODEL.isEmpty(), is(false));
@@ -0,0 +1,135 @@
+package net.time4j.tz.threeten;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.time.zone.ZoneRulesProvider;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CompiledZoneProviderTest {
+
+    private static Path repository = null;
+    private static ZoneModelProvider zp = null;
+
+    @BeforeClass
+    public static void init() throws IOException {
+        repository = Files.createTempFile("tzdata", ".compiled");
+        ZoneRepositoryCompiler.compile(repository);
+        zp = new CompiledZoneProviderSPI(repository);
+    }
+
+    @AfterClass
+    public static void cleanUp() throws IOException {
+        Files.deleteIfExists(repository);
+    }
+
+    @Test
+    public void getName() {
+        assertThat(zp.getName(), is("TZDB"));
+    }
+
+    @Test
+    public void getVersion() {
+        assertThat(zp.getVersion(), is(new JdkZoneProviderSPI().getVersion()));
+    }
+
+    @Test
+    public void getLocation() {
+        assertThat(zp.getLocation(), is(repository.toString()));
+    }
+
+    @Test
+    public void getAvailableIDs() {
+        assertThat(zp.getAvailableIDs(), is(ZoneRulesProvider.getAvailableZoneIds()));
+    }
+
+    @Test
+    public void loadAllZones() {
+        for (String id : ZoneRulesProvider.getAvailableZoneIds()) {
+            TransitionHistory expected = JdkZoneProviderSPI.load(ZoneId.of(id));
+            assertThat(id, zp.load(id), is(expected));
+        }
+    }
+
+    @Test
+    public void loadUnknownZone() {
+        assertThat(zp.load("Europe/Xyz"), nullValue());
+    }
+
+    @Test
+    public void missingRepository() {
+        ZoneModelProvider empty = new CompiledZoneProviderSPI(Paths.get("not-existing-tzdata.compiled"));
+        assertThat(empty.getVersion(), is(""));
+        assertThat(empty.getAvailableIDs().isEmpty(), is(true));
+    }
+
+    @Test
+    public void brokenRepository() throws IOException {
+        Path tmp = Files.createTempFile("tzdata-broken", ".compiled");
+        try {
+            Files.write(tmp, new byte[] {'n', 'o', 'z', 'i', 'p', 0, 0, 0});
+            ZoneModelProvider empty = new CompiledZoneProviderSPI(tmp);
+            assertThat(empty.getVersion(), is(""));
+            assertThat(empty.getAvailableIDs().isEmpty(), is(true));
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Test
+    public void truncatedRepository() throws IOException {
+        Path tmp = Files.createTempFile("tzdata-truncated", ".compiled");
+        try {
+            ZoneRepositoryCompiler.compile(
+                tmp,
+                "2099z",
+                Collections.singletonList("Europe/Berlin"),
+                Collections.singletonMap("Germany", "Europe/Berlin"));
+            byte[] content = Files.readAllBytes(tmp);
+            Files.write(tmp, Arrays.copyOf(content, 12));
+            ZoneModelProvider empty = new CompiledZoneProviderSPI(tmp);
+            assertThat(empty.getVersion(), is(""));
+            assertThat(empty.getAvailableIDs().isEmpty(), is(true));
+            assertThat(empty.load("Europe/Berlin"), nullValue());
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Test
+    public void aliases() throws IOException {
+        Path tmp = Files.createTempFile("tzdata-alias", ".compiled");
+        try {
+            ZoneRepositoryCompiler.compile(
+                tmp,
+                "2099z",
+                Collections.singletonList("Europe/Berlin"),
+                Collections.singletonMap("Germany", "Europe/Berlin"));
+            ZoneModelProvider provider = new CompiledZoneProviderSPI(tmp);
+            assertThat(provider.getVersion(), is("2099z"));
+            assertThat(provider.getAliases(), is(Collections.singletonMap("Germany", "Europe/Berlin")));
+            assertThat(provider.getAvailableIDs(), is(Collections.singleton("Europe/Berlin")));
+            assertThat(provider.load("Europe/Berlin"), is(JdkZoneProviderSPI.load(ZoneId.of("Europe/Berlin"))));
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+}
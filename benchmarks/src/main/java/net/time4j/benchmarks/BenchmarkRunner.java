@@ -0,0 +1,98 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BenchmarkRunner.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+
+/**
+ * <p>Entry point of the benchmark jar. </p>
+ *
+ * <p>Accepts all standard JMH command line options but changes two defaults: The results
+ * are written in JSON format to the file {@code jmh-result.json} and the GC profiler is
+ * always enabled so that the allocation rate per operation ({@code gc.alloc.rate.norm})
+ * is reported together with the throughput. Example: </p>
+ *
+ * <pre>
+ *  mvn -pl base,benchmarks -am package -DskipTests
+ *  java -jar benchmarks/target/benchmarks.jar Timezone -rff timezone.json
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ */
+public final class BenchmarkRunner {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BenchmarkRunner() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Runs the benchmarks selected by given JMH command line arguments. </p>
+     *
+     * @param   args    JMH command line arguments
+     * @throws  CommandLineOptionException if the arguments are invalid
+     * @throws  RunnerException if the benchmarks cannot be run
+     */
+    public static void main(String[] args)
+        throws CommandLineOptionException, RunnerException {
+
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmd);
+
+        if (!cmd.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+
+        if (!cmd.getResult().hasValue()) {
+            builder.result("jmh-result.json");
+        }
+
+        boolean gc = false;
+
+        for (ProfilerConfig profiler : cmd.getProfilers()) {
+            if (profiler.getKlass().equals(GCProfiler.class.getName()) || profiler.getKlass().equals("gc")) {
+                gc = true;
+                break;
+            }
+        }
+
+        if (!gc) {
+            builder.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(builder.build()).run();
+
+    }
+
+}
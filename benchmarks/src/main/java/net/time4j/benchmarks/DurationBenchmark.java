@@ -0,0 +1,105 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DurationBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.TimeMetric;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Normalization of durations to standard units and duration metrics. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurationBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private TimeMetric<IsoUnit, Duration<IsoUnit>> metric;
+    private Duration<IsoUnit>[] durations;
+    private PlainTimestamp[] timestamps;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+
+        this.metric =
+            Duration.in(
+                CalendarUnit.YEARS, CalendarUnit.MONTHS, CalendarUnit.DAYS, ClockUnit.HOURS, ClockUnit.MINUTES);
+        this.durations = new Duration[1024];
+        this.timestamps = new PlainTimestamp[1025];
+        PlainTimestamp tsp = PlainTimestamp.of(2000, 1, 1, 0, 0);
+
+        for (int i = 0; i < 1024; i++) {
+            this.durations[i] =
+                Duration.ofPositive()
+                    .months(i % 25).days(i % 40).hours(i % 50).minutes(i % 90).seconds(1 + i % 100).build();
+            this.timestamps[i] = tsp;
+            tsp = tsp.plus(i * 1031L, ClockUnit.MINUTES);
+        }
+
+        this.timestamps[1024] = tsp;
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> inStdUnits() {
+
+        return this.durations[(this.index++) & 1023].with(Duration.STD_PERIOD);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> between() {
+
+        int i = (this.index++) & 1023;
+        return this.metric.between(this.timestamps[0], this.timestamps[i + 1]);
+
+    }
+
+}
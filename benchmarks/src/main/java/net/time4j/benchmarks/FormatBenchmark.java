@@ -0,0 +1,122 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Printing and parsing via {@code ChronoFormatter} and {@code Iso8601Format}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ChronoFormatter<Moment> formatter;
+    private Moment[] moments;
+    private String[] texts;
+    private String[] isoDates;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.formatter =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        this.moments = new Moment[1024];
+        this.texts = new String[1024];
+        this.isoDates = new String[1024];
+        Moment start = PlainTimestamp.of(2021, 1, 1, 0, 0).atUTC();
+        PlainDate date = PlainDate.of(2000, 1, 1);
+
+        for (int i = 0; i < 1024; i++) {
+            Moment m = start.plus(i * 30817123L, TimeUnit.MILLISECONDS);
+            this.moments[i] = m;
+            this.texts[i] = this.formatter.print(m);
+            this.isoDates[i] = Iso8601Format.EXTENDED_CALENDAR_DATE.print(date.plus(i * 11L, CalendarUnit.DAYS));
+        }
+
+    }
+
+    @Benchmark
+    public String print() {
+
+        return this.formatter.print(this.moments[(this.index++) & 1023]);
+
+    }
+
+    @Benchmark
+    public Moment parse() throws ParseException {
+
+        return this.formatter.parse(this.texts[(this.index++) & 1023]);
+
+    }
+
+    @Benchmark
+    public Moment parseIsoMoment() throws ParseException {
+
+        String text = this.texts[(this.index++) & 1023];
+        return Iso8601Format.parseMoment(text, 0, text.length());
+
+    }
+
+    @Benchmark
+    public PlainDate parseIsoDate() throws ParseException {
+
+        return Iso8601Format.parseDate(this.isoDates[(this.index++) & 1023]);
+
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalCollectionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IntervalCollection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Set operations of interval collections with partially overlapping intervals. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntervalCollectionBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private IntervalCollection<PlainDate> collection;
+    private IntervalCollection<PlainDate> otherCollection;
+    private List<DateInterval> others;
+    private DateInterval single;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        List<DateInterval> intervals = new ArrayList<>(this.size);
+        this.others = new ArrayList<>(this.size);
+        PlainDate start = PlainDate.of(2000, 1, 1);
+
+        for (int i = 0; i < this.size; i++) {
+            PlainDate d = start.plus(i * 7L, CalendarUnit.DAYS);
+            intervals.add(DateInterval.between(d, d.plus(10 + (i % 5), CalendarUnit.DAYS)));
+            PlainDate e = d.plus(3, CalendarUnit.DAYS);
+            this.others.add(DateInterval.between(e, e.plus(2, CalendarUnit.DAYS)));
+        }
+
+        this.collection = IntervalCollection.onDateAxis().plus(intervals);
+        this.otherCollection = IntervalCollection.onDateAxis().plus(this.others);
+        PlainDate mid = start.plus(this.size * 3L, CalendarUnit.DAYS);
+        this.single = DateInterval.between(mid, mid.plus(100, CalendarUnit.DAYS));
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> plusSingle() {
+
+        return this.collection.plus(this.single);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> plusMany() {
+
+        return this.collection.plus(this.others);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> minusSingle() {
+
+        return this.collection.minus(this.single);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> minusMany() {
+
+        return this.collection.minus(this.others);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> buildMany() {
+
+        return IntervalCollection.onDateAxis().toBuilder().addAll(this.others).build();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> union() {
+
+        return this.collection.union(this.otherCollection);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> intersect() {
+
+        return this.collection.intersect(this.otherCollection);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> xor() {
+
+        return this.collection.xor(this.otherCollection);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withBlocks() {
+
+        return this.collection.withBlocks();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withBlocksInParallel() {
+
+        return this.collection.withBlocks(ForkJoinPool.commonPool());
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withGapsInParallel() {
+
+        return this.collection.withGaps(ForkJoinPool.commonPool());
+
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LeapSecondBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Conversions between the UTC- and the POSIX-scale via the leap second table. </p>
+ *
+ * <p>The recent values are after the last known leap second (the common case)
+ * while the historic values require a search in the leap second table. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeapSecondBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private LeapSeconds leapSeconds;
+    private long recentUTC;
+    private long historicUTC;
+    private long recentPosix;
+    private long historicPosix;
+    private Moment recentMoment;
+    private Moment historicMoment;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.leapSeconds = LeapSeconds.getInstance();
+        this.recentMoment = PlainTimestamp.of(2024, 3, 15, 12, 0).atUTC();
+        this.historicMoment = PlainTimestamp.of(1985, 3, 15, 12, 0).atUTC();
+        this.recentUTC = this.recentMoment.getElapsedTime(TimeScale.UTC);
+        this.historicUTC = this.historicMoment.getElapsedTime(TimeScale.UTC);
+        this.recentPosix = this.recentMoment.getPosixTime();
+        this.historicPosix = this.historicMoment.getPosixTime();
+
+    }
+
+    @Benchmark
+    public Moment momentOfRecentUTC() {
+
+        return Moment.of(this.recentUTC, 500, TimeScale.UTC);
+
+    }
+
+    @Benchmark
+    public Moment momentOfHistoricUTC() {
+
+        return Moment.of(this.historicUTC, 500, TimeScale.UTC);
+
+    }
+
+    @Benchmark
+    public long elapsedRecentUTC() {
+
+        return this.recentMoment.getElapsedTime(TimeScale.UTC);
+
+    }
+
+    @Benchmark
+    public long elapsedHistoricUTC() {
+
+        return this.historicMoment.getElapsedTime(TimeScale.UTC);
+
+    }
+
+    @Benchmark
+    public long enhanceRecent() {
+
+        return this.leapSeconds.enhance(this.recentPosix);
+
+    }
+
+    @Benchmark
+    public long enhanceHistoric() {
+
+        return this.leapSeconds.enhance(this.historicPosix);
+
+    }
+
+    @Benchmark
+    public long stripRecent() {
+
+        return this.leapSeconds.strip(this.recentUTC);
+
+    }
+
+    @Benchmark
+    public long stripHistoric() {
+
+        return this.leapSeconds.strip(this.historicUTC);
+
+    }
+
+}
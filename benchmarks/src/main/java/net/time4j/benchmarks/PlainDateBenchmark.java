@@ -0,0 +1,144 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PlainDateBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.base.GregorianBatch;
+import net.time4j.engine.EpochDays;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Creation and arithmetic of calendar dates. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlainDateBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private int[] years;
+    private int[] months;
+    private int[] days;
+    private PlainDate[] dates;
+    private long[] epochDays;
+    private int[] packedDates;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.years = new int[1024];
+        this.months = new int[1024];
+        this.days = new int[1024];
+        this.dates = new PlainDate[1024];
+        this.epochDays = new long[1024];
+        this.packedDates = new int[1024];
+        PlainDate date = PlainDate.of(1999, 12, 31);
+
+        for (int i = 0; i < 1024; i++) {
+            date = date.plus(37, CalendarUnit.DAYS);
+            this.years[i] = date.getYear();
+            this.months[i] = date.getMonth();
+            this.days[i] = date.getDayOfMonth();
+            this.dates[i] = date;
+            this.epochDays[i] = date.get(EpochDays.UNIX);
+        }
+
+    }
+
+    @Benchmark
+    public PlainDate of() {
+
+        int i = (this.index++) & 1023;
+        return PlainDate.of(this.years[i], this.months[i], this.days[i]);
+
+    }
+
+    @Benchmark
+    public PlainDate plusDays() {
+
+        return this.dates[(this.index++) & 1023].plus(100, CalendarUnit.DAYS);
+
+    }
+
+    @Benchmark
+    public PlainDate plusMonths() {
+
+        return this.dates[(this.index++) & 1023].plus(5, CalendarUnit.MONTHS);
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int[] toPackedDatesSingle() {
+
+        for (int i = 0; i < 1024; i++) {
+            PlainDate date = PlainDate.of(this.epochDays[i], EpochDays.UNIX);
+            this.packedDates[i] = GregorianBatch.packDate(date.getYear(), date.getMonth(), date.getDayOfMonth());
+        }
+
+        return this.packedDates;
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int[] toPackedDatesBatch() {
+
+        GregorianBatch.toPackedDates(this.epochDays, 0, this.packedDates, 0, 1024);
+        return this.packedDates;
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int[] extractIsoWeeksBatch() {
+
+        GregorianBatch.extractIsoWeeks(this.epochDays, 0, this.packedDates, 0, 1024);
+        return this.packedDates;
+
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SolarTimeBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.calendar.astro.SolarTime;
+import net.time4j.calendar.astro.SolarTimeTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Sunrise and sunset of a whole year for many locations, calculated day by day
+ * versus the bulk calculation of {@code SolarTimeTable}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolarTimeBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private List<SolarTime> locations;
+    private PlainDate start;
+    private PlainDate end;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.locations = new ArrayList<>();
+        this.start = PlainDate.of(2025, 1, 1);
+        this.end = PlainDate.of(2025, 12, 31);
+
+        for (int i = 0; i < 50; i++) {
+            this.locations.add(SolarTime.ofLocation(-60.0 + i * 2.5, -175.0 + i * 7.0));
+        }
+
+    }
+
+    @Benchmark
+    public long dayByDay() {
+
+        long sum = 0L;
+
+        for (SolarTime location : this.locations) {
+            for (PlainDate d = this.start; !d.isAfter(this.end); d = d.plus(1, CalendarUnit.DAYS)) {
+                Optional<Moment> sunrise = d.get(location.sunrise());
+                Optional<Moment> sunset = d.get(location.sunset());
+                sum += (sunrise.isPresent() ? sunrise.get().getPosixTime() : 0L);
+                sum += (sunset.isPresent() ? sunset.get().getPosixTime() : 0L);
+            }
+        }
+
+        return sum;
+
+    }
+
+    @Benchmark
+    public List<SolarTimeTable> table() {
+
+        return SolarTimeTable.of(this.locations, this.start, this.end);
+
+    }
+
+}
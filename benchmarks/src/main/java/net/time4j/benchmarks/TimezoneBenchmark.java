@@ -0,0 +1,103 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TimezoneBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * <p>Offset lookup and zonal conversion of moments. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimezoneBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"Europe/London", "America/New_York", "Asia/Kolkata"})
+    public String zoneId;
+
+    private Timezone tz;
+    private Moment[] moments;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.tz = Timezone.of(this.zoneId);
+        this.moments = new Moment[1024];
+        Moment start = PlainTimestamp.of(2021, 1, 1, 0, 0).atUTC();
+
+        for (int i = 0; i < this.moments.length; i++) {
+            // spread over one year with arbitrary seconds
+            this.moments[i] = Moment.of(start.getPosixTime() + i * 30817L, 0, TimeScale.POSIX);
+        }
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffset() {
+
+        return this.tz.getOffset(this.next());
+
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestamp() {
+
+        return this.next().toZonalTimestamp(this.tz.getID());
+
+    }
+
+    private Moment next() {
+
+        return this.moments[(this.index++) & 1023];
+
+    }
+
+}